@@ -10,11 +10,19 @@ import com.canoo.platform.core.http.HttpURLConnectionHandler;
 import com.canoo.platform.core.DolphinRuntimeException;
 import com.google.gson.Gson;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.HttpURLConnection;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+import static com.canoo.dp.impl.platform.core.PlatformConstants.ACCEPT_ENCODING_HEADER;
+import static com.canoo.dp.impl.platform.core.PlatformConstants.CONTENT_ENCODING_HEADER;
+import static com.canoo.dp.impl.platform.core.PlatformConstants.DEFLATE_ENCODING;
+import static com.canoo.dp.impl.platform.core.PlatformConstants.GZIP_ENCODING;
 
 public class HttpRequestImpl implements HttpRequest {
 
@@ -57,15 +65,16 @@ public class HttpRequestImpl implements HttpRequest {
 
     @Override
     public HttpResponse withContent(final byte[] content, final String contentType) {
+        final byte[] data = compressIfRequired(content);
         connection.setRequestProperty( "Content-Type", contentType);
-        connection.setRequestProperty( "Content-Length", content.length + "");
+        connection.setRequestProperty( "Content-Length", data.length + "");
         connection.setUseCaches( false );
 
         connection.setDoOutput(true);
         dataProvider = new ByteArrayProvider() {
             @Override
             public byte[] get() {
-                return content;
+                return data;
             }
         };
         return send();
@@ -101,10 +110,38 @@ public class HttpRequestImpl implements HttpRequest {
             throw new DolphinRuntimeException("Request already sent");
         }
         sent.set(true);
+        if (isCompressionActive()) {
+            connection.setRequestProperty(ACCEPT_ENCODING_HEADER, GZIP_ENCODING + ", " + DEFLATE_ENCODING);
+        }
         for(HttpURLConnectionHandler handler : requestHandlers) {
             handler.handle(connection);
         }
         return new HttpResponseImpl(connection, gson, dataProvider, responseHandlers, configuration);
     }
 
+    private boolean isCompressionActive() {
+        return configuration == null || configuration.getBooleanProperty(ClientConfiguration.HTTP_COMPRESSION_ACTIVE, true);
+    }
+
+    private byte[] compressIfRequired(final byte[] content) {
+        Assert.requireNonNull(content, "content");
+        if (configuration == null || !isCompressionActive()) {
+            return content;
+        }
+        final int threshold = configuration.getIntProperty(ClientConfiguration.HTTP_REQUEST_COMPRESSION_THRESHOLD, -1);
+        if (threshold < 0 || content.length <= threshold) {
+            return content;
+        }
+        try {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(content.length / 4 + 32);
+            try (final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+                gzipOutputStream.write(content);
+            }
+            connection.setRequestProperty(CONTENT_ENCODING_HEADER, GZIP_ENCODING);
+            return outputStream.toByteArray();
+        } catch (IOException e) {
+            throw new DolphinRuntimeException("Compression error", e);
+        }
+    }
+
 }
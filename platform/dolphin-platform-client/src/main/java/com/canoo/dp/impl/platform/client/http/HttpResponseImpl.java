@@ -2,6 +2,7 @@ package com.canoo.dp.impl.platform.client.http;
 
 import com.canoo.dp.impl.platform.core.Assert;
 import com.canoo.platform.client.ClientConfiguration;
+import com.canoo.platform.core.http.BadResponseException;
 import com.canoo.platform.core.http.ByteArrayProvider;
 import com.canoo.platform.core.http.HttpExecutor;
 import com.canoo.platform.core.http.HttpResponse;
@@ -9,22 +10,32 @@ import com.canoo.platform.core.http.HttpURLConnectionHandler;
 import com.canoo.platform.core.DolphinRuntimeException;
 import com.google.gson.Gson;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.Reader;
 import java.net.HttpURLConnection;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
 import static com.canoo.dp.impl.platform.core.PlatformConstants.ACCEPT_CHARSET_HEADER;
 import static com.canoo.dp.impl.platform.core.PlatformConstants.ACCEPT_HEADER;
 import static com.canoo.dp.impl.platform.core.PlatformConstants.CHARSET;
+import static com.canoo.dp.impl.platform.core.PlatformConstants.DEFLATE_ENCODING;
+import static com.canoo.dp.impl.platform.core.PlatformConstants.GZIP_ENCODING;
 import static com.canoo.dp.impl.platform.core.PlatformConstants.JSON_MIME_TYPE;
 
 public class HttpResponseImpl implements HttpResponse {
 
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private static final int MAX_PRESIZED_CONTENT_LENGTH = 64 * 1024 * 1024;
+
     private final HttpURLConnection connection;
 
     private final Gson gson;
@@ -89,11 +100,46 @@ public class HttpResponseImpl implements HttpResponse {
         return new HttpExecutorImpl<>(configuration, new HttpProvider<R>() {
             @Override
             public R get() throws IOException{
-                return gson.fromJson(new String(readBytesImpl(), CHARSET), responseType);
+                try (final Reader reader = new InputStreamReader(readStreamImpl(), CHARSET)) {
+                    return gson.fromJson(reader, responseType);
+                }
+            }
+        });
+    }
+
+    @Override
+    public HttpExecutor<InputStream> readStream() {
+        return new HttpExecutorImpl<>(configuration, new HttpProvider<InputStream>() {
+            @Override
+            public InputStream get() throws IOException{
+                return readStreamImpl();
+            }
+        });
+    }
+
+    @Override
+    public HttpExecutor<InputStream> readStream(final String contentType) {
+        connection.setRequestProperty(ACCEPT_HEADER, contentType);
+        return readStream();
+    }
+
+    @Override
+    public HttpExecutor<Reader> readReader() {
+        connection.setRequestProperty(ACCEPT_CHARSET_HEADER, CHARSET);
+        return new HttpExecutorImpl<>(configuration, new HttpProvider<Reader>() {
+            @Override
+            public Reader get() throws IOException{
+                return new InputStreamReader(readStreamImpl(), CHARSET);
             }
         });
     }
 
+    @Override
+    public HttpExecutor<Reader> readReader(final String contentType) {
+        connection.setRequestProperty(ACCEPT_HEADER, contentType);
+        return readReader();
+    }
+
     @Override
     public HttpExecutor<Void> withoutResult() {
         return new HttpExecutorImpl<>(configuration, new HttpProvider<Void>() {
@@ -108,14 +154,68 @@ public class HttpResponseImpl implements HttpResponse {
     private byte[] readBytesImpl() throws IOException {
         connection.setDoInput(true);
         withoutResultImpl();
-        final InputStream is = connection.getInputStream();
-        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-        int read = is.read();
-        while (read != -1) {
-            byteArrayOutputStream.write(read);
-            read = is.read();
+        try (final InputStream is = getInputStream()) {
+            final long contentLength = connection.getContentEncoding() == null ? connection.getContentLengthLong() : -1;
+            if (contentLength >= 0 && contentLength <= MAX_PRESIZED_CONTENT_LENGTH) {
+                return readFully(is, (int) contentLength);
+            }
+            return readToEnd(is, new byte[BUFFER_SIZE], 0);
+        }
+    }
+
+    private byte[] readFully(final InputStream is, final int contentLength) throws IOException {
+        final byte[] bytes = new byte[contentLength];
+        int offset = 0;
+        while (offset < contentLength) {
+            final int read = is.read(bytes, offset, contentLength - offset);
+            if (read == -1) {
+                return Arrays.copyOf(bytes, offset);
+            }
+            offset += read;
+        }
+        final int next = is.read();
+        if (next == -1) {
+            return bytes;
+        }
+        final byte[] buffer = Arrays.copyOf(bytes, Math.max(contentLength * 2, BUFFER_SIZE));
+        buffer[contentLength] = (byte) next;
+        return readToEnd(is, buffer, contentLength + 1);
+    }
+
+    private byte[] readToEnd(final InputStream is, final byte[] initialBuffer, final int initialCount) throws IOException {
+        byte[] buffer = initialBuffer;
+        int count = initialCount;
+        while (true) {
+            if (count == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            final int read = is.read(buffer, count, buffer.length - count);
+            if (read == -1) {
+                return count == buffer.length ? buffer : Arrays.copyOf(buffer, count);
+            }
+            count += read;
+        }
+    }
+
+    private InputStream readStreamImpl() throws IOException {
+        connection.setDoInput(true);
+        withoutResultImpl();
+        return getInputStream();
+    }
+
+    private InputStream getInputStream() throws IOException {
+        final InputStream inputStream = connection.getInputStream();
+        final String contentEncoding = connection.getContentEncoding();
+        if (contentEncoding == null) {
+            return inputStream;
+        }
+        if (GZIP_ENCODING.equalsIgnoreCase(contentEncoding.trim())) {
+            return new GZIPInputStream(inputStream);
+        }
+        if (DEFLATE_ENCODING.equalsIgnoreCase(contentEncoding.trim())) {
+            return new InflaterInputStream(inputStream);
         }
-        return byteArrayOutputStream.toByteArray();
+        return inputStream;
     }
 
     private void withoutResultImpl() throws IOException {
@@ -133,7 +233,7 @@ public class HttpResponseImpl implements HttpResponse {
 
         int responseCode = connection.getResponseCode();
         if (responseCode != HttpStatus.HTTP_OK) {
-            throw new DolphinRuntimeException("Bad response: " + responseCode);
+            throw new BadResponseException(responseCode);
         }
 
         for(HttpURLConnectionHandler handler : responseHandlers) {
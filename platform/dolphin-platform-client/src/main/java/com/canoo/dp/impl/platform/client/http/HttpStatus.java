@@ -22,4 +22,6 @@ public interface HttpStatus {
     int SC_REQUEST_TIMEOUT = 408;
 
     int SC_MULTIPLE_CHOICES = 300;
+
+    int SC_UNSUPPORTED_MEDIA_TYPE = 415;
 }
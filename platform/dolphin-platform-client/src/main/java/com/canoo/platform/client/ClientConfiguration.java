@@ -22,6 +22,10 @@ public interface ClientConfiguration extends PlatformConfiguration {
 
     String CONNECTION_FACTORY = "platform.http.connectionFactory";
 
+    String HTTP_COMPRESSION_ACTIVE = "platform.http.compressionActive";
+
+    String HTTP_REQUEST_COMPRESSION_THRESHOLD = "platform.http.requestCompressionThreshold";
+
     Executor getUiExecutor();
 
     ExecutorService getBackgroundExecutor();
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.platform.client.http;
+
+import com.canoo.dp.impl.platform.client.DefaultClientConfiguration;
+import com.canoo.platform.core.http.BadResponseException;
+import com.canoo.platform.core.http.HttpURLConnectionHandler;
+import com.google.gson.Gson;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+public class HttpResponseImplTest {
+
+    @Test
+    public void testReadBytesWithContentLength() throws Exception {
+        //given:
+        final byte[] content = createContent(1000);
+        final AtomicBoolean closed = new AtomicBoolean(false);
+        final HttpResponseImpl response = createResponse(new TestConnection(HttpStatus.HTTP_OK, content, content.length, null, content.length, closed));
+
+        //when:
+        final byte[] result = response.readBytes().execute().get().get();
+
+        //then:
+        Assert.assertEquals(result, content);
+        Assert.assertTrue(closed.get());
+    }
+
+    @Test
+    public void testReadBytesInChunksWithoutContentLength() throws Exception {
+        //given:
+        final byte[] content = createContent(20000);
+        final AtomicBoolean closed = new AtomicBoolean(false);
+        final HttpResponseImpl response = createResponse(new TestConnection(HttpStatus.HTTP_OK, content, -1, null, 7, closed));
+
+        //when:
+        final byte[] result = response.readBytes().execute().get().get();
+
+        //then:
+        Assert.assertEquals(result, content);
+        Assert.assertTrue(closed.get());
+    }
+
+    @Test
+    public void testReadBytesWithWrongContentLength() throws Exception {
+        //given:
+        final byte[] content = createContent(5000);
+        final HttpResponseImpl shorterResponse = createResponse(new TestConnection(HttpStatus.HTTP_OK, content, 100, null, 64, new AtomicBoolean(false)));
+        final HttpResponseImpl longerResponse = createResponse(new TestConnection(HttpStatus.HTTP_OK, content, 6000, null, 64, new AtomicBoolean(false)));
+
+        //then:
+        Assert.assertEquals(shorterResponse.readBytes().execute().get().get(), content);
+        Assert.assertEquals(longerResponse.readBytes().execute().get().get(), content);
+    }
+
+    @Test
+    public void testReadCompressedString() throws Exception {
+        //given:
+        final String content = new String(createContent(3000), "UTF-8");
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (final GZIPOutputStream outputStream = new GZIPOutputStream(compressed)) {
+            outputStream.write(content.getBytes("UTF-8"));
+        }
+        final HttpResponseImpl response = createResponse(new TestConnection(HttpStatus.HTTP_OK, compressed.toByteArray(), compressed.size(), "gzip", 16, new AtomicBoolean(false)));
+
+        //when:
+        final String result = response.readString().execute().get();
+
+        //then:
+        Assert.assertEquals(result, content);
+    }
+
+    @Test
+    public void testReadStreamIsClosedByCaller() throws Exception {
+        //given:
+        final byte[] content = createContent(100);
+        final AtomicBoolean closed = new AtomicBoolean(false);
+        final HttpResponseImpl response = createResponse(new TestConnection(HttpStatus.HTTP_OK, content, content.length, null, content.length, closed));
+
+        //when:
+        final InputStream inputStream = response.readStream().execute().get();
+
+        //then:
+        Assert.assertFalse(closed.get());
+        Assert.assertEquals(inputStream.read(), content[0]);
+        inputStream.close();
+        Assert.assertTrue(closed.get());
+    }
+
+    @Test
+    public void testBadResponse() throws Exception {
+        //given:
+        final AtomicBoolean closed = new AtomicBoolean(false);
+        final HttpResponseImpl response = createResponse(new TestConnection(HttpStatus.SC_UNSUPPORTED_MEDIA_TYPE, new byte[0], 0, null, 1, closed));
+
+        //when:
+        try {
+            response.readBytes().execute().get();
+            Assert.fail("Bad response not detected");
+        } catch (ExecutionException e) {
+            //then:
+            Assert.assertTrue(e.getCause() instanceof BadResponseException);
+            Assert.assertEquals(((BadResponseException) e.getCause()).getStatusCode(), HttpStatus.SC_UNSUPPORTED_MEDIA_TYPE);
+        }
+        Assert.assertFalse(closed.get());
+    }
+
+    private HttpResponseImpl createResponse(final HttpURLConnection connection) {
+        return new HttpResponseImpl(connection, new Gson(), new SimpleByteArrayProvider(new byte[0]), Collections.<HttpURLConnectionHandler>emptyList(), new DefaultClientConfiguration());
+    }
+
+    private byte[] createContent(final int length) {
+        final byte[] content = new byte[length];
+        for (int i = 0; i < length; i++) {
+            content[i] = (byte) ('a' + i % 26);
+        }
+        return content;
+    }
+
+    private static class TestConnection extends HttpURLConnection {
+
+        private final int responseCode;
+
+        private final byte[] content;
+
+        private final long contentLength;
+
+        private final String contentEncoding;
+
+        private final int chunkSize;
+
+        private final AtomicBoolean closed;
+
+        private TestConnection(final int responseCode, final byte[] content, final long contentLength, final String contentEncoding, final int chunkSize, final AtomicBoolean closed) throws IOException {
+            super(new URL("http://dummyURL"));
+            this.responseCode = responseCode;
+            this.content = content;
+            this.contentLength = contentLength;
+            this.contentEncoding = contentEncoding;
+            this.chunkSize = chunkSize;
+            this.closed = closed;
+        }
+
+        @Override
+        public void disconnect() {
+
+        }
+
+        @Override
+        public boolean usingProxy() {
+            return false;
+        }
+
+        @Override
+        public void connect() throws IOException {
+
+        }
+
+        @Override
+        public int getResponseCode() throws IOException {
+            return responseCode;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return contentLength;
+        }
+
+        @Override
+        public String getContentEncoding() {
+            return contentEncoding;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new InputStream() {
+
+                private int position = 0;
+
+                @Override
+                public int read() throws IOException {
+                    return position < content.length ? content[position++] & 0xFF : -1;
+                }
+
+                @Override
+                public int read(final byte[] b, final int off, final int len) throws IOException {
+                    if (position == content.length) {
+                        return -1;
+                    }
+                    final int count = Math.min(Math.min(len, chunkSize), content.length - position);
+                    System.arraycopy(content, position, b, off, count);
+                    position += count;
+                    return count;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    closed.set(true);
+                }
+            };
+        }
+    }
+}
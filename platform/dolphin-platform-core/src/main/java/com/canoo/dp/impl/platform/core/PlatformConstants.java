@@ -23,6 +23,11 @@ public interface PlatformConstants {
     String CONTENT_TYPE_HEADER = "Content-Type";
     String ACCEPT_CHARSET_HEADER = "Accept-Charset";
     String ACCEPT_HEADER = "Accept";
+    String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+    String CONTENT_ENCODING_HEADER = "Content-Encoding";
+    String VARY_HEADER = "Vary";
+    String GZIP_ENCODING = "gzip";
+    String DEFLATE_ENCODING = "deflate";
     String COOKIE_HEADER = "Cookie";
     String SET_COOKIE_HEADER = "Set-Cookie";
     String POST_METHOD = "POST";
@@ -22,11 +22,15 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class ReflectionHelper {
 
@@ -143,10 +147,21 @@ public class ReflectionHelper {
 
     public static Class getTypeParameter(final Field field) {
         Assert.requireNonNull(field, "field");
+        return getTypeParameter(field, field.getDeclaringClass());
+    }
+
+    /**
+     * Returns the first type parameter of the given field. If the field is declared in a generic superclass of the
+     * given bean class (like {@code ObservableList<E>}) the type variable is resolved by the type arguments of the
+     * class hierarchy.
+     */
+    public static Class getTypeParameter(final Field field, final Class<?> beanClass) {
+        Assert.requireNonNull(field, "field");
+        Assert.requireNonNull(beanClass, "beanClass");
         try {
             ParameterizedType pType = (ParameterizedType) field.getGenericType();
             if (pType.getActualTypeArguments().length > 0) {
-                return (Class) pType.getActualTypeArguments()[0];
+                return (Class) resolveTypeVariable(pType.getActualTypeArguments()[0], beanClass);
             }
         } catch (ClassCastException ex) {
             LOG.warn("can not extract parameterized type for field: " +field.getName() + ", bean: "+ field.getDeclaringClass().getName());
@@ -154,6 +169,34 @@ public class ReflectionHelper {
         return null;
     }
 
+    private static Type resolveTypeVariable(final Type type, final Class<?> beanClass) {
+        if (!(type instanceof TypeVariable)) {
+            return type;
+        }
+        final Map<TypeVariable<?>, Type> typeArguments = new HashMap<>();
+        Class<?> current = beanClass;
+        while (current != null) {
+            final Type superType = current.getGenericSuperclass();
+            if (superType instanceof ParameterizedType) {
+                final ParameterizedType parameterizedSuperType = (ParameterizedType) superType;
+                final Class<?> rawSuperType = (Class<?>) parameterizedSuperType.getRawType();
+                final TypeVariable<?>[] typeVariables = rawSuperType.getTypeParameters();
+                final Type[] actualTypes = parameterizedSuperType.getActualTypeArguments();
+                for (int i = 0; i < typeVariables.length; i++) {
+                    typeArguments.put(typeVariables[i], actualTypes[i]);
+                }
+                current = rawSuperType;
+            } else {
+                current = current.getSuperclass();
+            }
+        }
+        Type resolved = type;
+        while (resolved instanceof TypeVariable && typeArguments.containsKey(resolved)) {
+            resolved = typeArguments.get(resolved);
+        }
+        return resolved;
+    }
+
     public static boolean isNumber(final Class<?> cls) {
         Assert.requireNonNull(cls, "cls");
         return (Number.class.isAssignableFrom(cls) || isPrimitiveNumber(cls));
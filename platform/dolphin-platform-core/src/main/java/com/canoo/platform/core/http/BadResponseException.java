@@ -0,0 +1,45 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.platform.core.http;
+
+import com.canoo.platform.core.DolphinRuntimeException;
+
+/**
+ * Exception that is thrown if a http call was answered with a status code that does not signal success.
+ */
+public class BadResponseException extends DolphinRuntimeException {
+
+    private final int statusCode;
+
+    /**
+     * Constructor
+     *
+     * @param statusCode the status code of the response
+     */
+    public BadResponseException(final int statusCode) {
+        super("Bad response: " + statusCode);
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * Returns the status code of the response
+     *
+     * @return the status code
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
@@ -1,5 +1,8 @@
 package com.canoo.platform.core.http;
 
+import java.io.InputStream;
+import java.io.Reader;
+
 public interface HttpResponse {
 
     HttpExecutor<ByteArrayProvider> readBytes();
@@ -12,5 +15,23 @@ public interface HttpResponse {
 
     <R> HttpExecutor<R> readObject(Class<R> responseType);
 
+    /**
+     * Provides the content of the response as a stream without reading it into memory. The stream must be closed
+     * by the caller.
+     * @return the executor
+     */
+    HttpExecutor<InputStream> readStream();
+
+    HttpExecutor<InputStream> readStream(String contentType);
+
+    /**
+     * Provides the content of the response as a character stream without reading it into memory. The reader must be
+     * closed by the caller.
+     * @return the executor
+     */
+    HttpExecutor<Reader> readReader();
+
+    HttpExecutor<Reader> readReader(String contentType);
+
     HttpExecutor<Void> withoutResult();
 }
@@ -19,6 +19,7 @@ import com.canoo.dp.impl.platform.core.ReflectionHelper;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.lang.reflect.Field;
 import java.util.Date;
 import java.util.List;
 
@@ -72,4 +73,23 @@ public class ReflectionHelperTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testGetTypeParameterOfGenericSuperclass() throws Exception {
+        final Field field = GenericHolder.class.getDeclaredField("values");
+        Assert.assertEquals(ReflectionHelper.getTypeParameter(field, StringHolder.class), String.class);
+        Assert.assertEquals(ReflectionHelper.getTypeParameter(field, SpecialStringHolder.class), String.class);
+        Assert.assertEquals(ReflectionHelper.getTypeParameter(field, GenericHolder.class), null);
+    }
+
+    private static class GenericHolder<T> {
+
+        private List<T> values;
+    }
+
+    private static class StringHolder extends GenericHolder<String> {
+    }
+
+    private static class SpecialStringHolder extends StringHolder {
+    }
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.client.javafx;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.platform.core.functional.Binding;
+import com.canoo.platform.core.functional.Subscription;
+import com.canoo.platform.remoting.VirtualList;
+import javafx.application.Platform;
+import javafx.collections.ObservableListBase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * A read only JavaFX list that wraps a {@link VirtualList}. The list always has the size of the complete virtual list
+ * but only contains the loaded elements. All other indices contain {@code null}. Since a {@code ListView} or
+ * {@code TableView} only accesses the elements of the visible cells, a window around an index is requested whenever
+ * an element that is not loaded is accessed. By doing so the loaded window is driven by the viewport of the control.
+ * The window is not requested while the element is accessed but by a task that is executed afterwards on the JavaFX
+ * application thread. By doing so all accesses of one layout pass end in one request.
+ * The wrapper observes the virtual list until {@link #unbind()} is called.
+ */
+public class VirtualListWrapper<T> extends ObservableListBase<T> implements Binding {
+
+    private static final int NO_PENDING_REQUEST = -1;
+
+    private final VirtualList<T> virtualList;
+
+    private final int windowSize;
+
+    private final Executor requestExecutor;
+
+    private final List<Subscription> subscriptions = new ArrayList<>();
+
+    private int pendingRequestIndex = NO_PENDING_REQUEST;
+
+    private int size;
+
+    private int loadedStart;
+
+    private List<T> loadedElements;
+
+    public VirtualListWrapper(final VirtualList<T> virtualList, final int windowSize) {
+        this(virtualList, windowSize, Platform::runLater);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param virtualList     the virtual list
+     * @param windowSize      number of elements that are requested around an element that is not loaded
+     * @param requestExecutor executor that executes the requests of new windows
+     */
+    public VirtualListWrapper(final VirtualList<T> virtualList, final int windowSize, final Executor requestExecutor) {
+        this.virtualList = Assert.requireNonNull(virtualList, "virtualList");
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize must be greater than 0");
+        }
+        this.windowSize = windowSize;
+        this.requestExecutor = Assert.requireNonNull(requestExecutor, "requestExecutor");
+        this.size = virtualList.size();
+        this.loadedStart = virtualList.getLoadedStart();
+        this.loadedElements = new ArrayList<>(virtualList.getLoadedElements());
+
+        subscriptions.add(virtualList.getSizeProperty().onChanged(e -> update()));
+        subscriptions.add(virtualList.getLoadedStartProperty().onChanged(e -> update()));
+        subscriptions.add(virtualList.getLoadedElements().onChanged(e -> update()));
+    }
+
+    @Override
+    public T get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (index < loadedStart || index >= loadedStart + loadedElements.size()) {
+            scheduleRequest(index);
+        }
+        return elementAt(loadedElements, loadedStart, index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Stops observing the virtual list. After this call the wrapper will not change anymore and no windows will be
+     * requested.
+     */
+    @Override
+    public void unbind() {
+        for (final Subscription subscription : subscriptions) {
+            subscription.unsubscribe();
+        }
+        subscriptions.clear();
+        pendingRequestIndex = NO_PENDING_REQUEST;
+    }
+
+    private void scheduleRequest(final int index) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        final boolean scheduled = pendingRequestIndex != NO_PENDING_REQUEST;
+        pendingRequestIndex = index;
+        if (!scheduled) {
+            requestExecutor.execute(this::requestPendingWindow);
+        }
+    }
+
+    private void requestPendingWindow() {
+        final int index = pendingRequestIndex;
+        pendingRequestIndex = NO_PENDING_REQUEST;
+        if (index != NO_PENDING_REQUEST && index < size && (index < loadedStart || index >= loadedStart + loadedElements.size())) {
+            requestWindow(index);
+        }
+    }
+
+    private void requestWindow(final int index) {
+        final int windowStart = virtualList.getWindowStart();
+        if (index >= windowStart && index < windowStart + virtualList.getWindowSize()) {
+            // The window has already been requested
+            return;
+        }
+        virtualList.requestWindow(Math.max(0, index - windowSize / 2), windowSize);
+    }
+
+    private void update() {
+        final int newSize = virtualList.size();
+        final int newLoadedStart = virtualList.getLoadedStart();
+        final List<T> newLoadedElements = new ArrayList<>(virtualList.getLoadedElements());
+
+        final int oldSize = size;
+        final int oldLoadedStart = loadedStart;
+        final List<T> oldLoadedElements = loadedElements;
+        size = newSize;
+        loadedStart = newLoadedStart;
+        loadedElements = newLoadedElements;
+
+        beginChange();
+        try {
+            final int from = Math.min(oldLoadedStart, newLoadedStart);
+            final int to = Math.min(Math.max(oldLoadedStart + oldLoadedElements.size(), newLoadedStart + newLoadedElements.size()), Math.min(oldSize, newSize));
+            for (int i = from; i < to; i++) {
+                final T oldElement = elementAt(oldLoadedElements, oldLoadedStart, i);
+                if (oldElement != elementAt(newLoadedElements, newLoadedStart, i)) {
+                    nextSet(i, oldElement);
+                }
+            }
+            if (newSize > oldSize) {
+                nextAdd(oldSize, newSize);
+            } else if (newSize < oldSize) {
+                final List<T> removed = new ArrayList<>(oldSize - newSize);
+                for (int i = newSize; i < oldSize; i++) {
+                    removed.add(elementAt(oldLoadedElements, oldLoadedStart, i));
+                }
+                nextRemove(newSize, Collections.unmodifiableList(removed));
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    private static <T> T elementAt(final List<T> elements, final int start, final int index) {
+        if (index >= start && index < start + elements.size()) {
+            return elements.get(index - start);
+        }
+        return null;
+    }
+}
@@ -15,9 +15,12 @@
  */
 package com.canoo.platform.remoting.client.javafx.binding;
 
+import com.canoo.dp.impl.client.javafx.VirtualListWrapper;
+import com.canoo.platform.core.functional.Binding;
 import com.canoo.platform.remoting.client.javafx.FXBinder;
 import com.canoo.platform.remoting.ListChangeEvent;
 import com.canoo.platform.remoting.Property;
+import com.canoo.platform.remoting.VirtualList;
 import com.canoo.dp.impl.platform.core.Assert;
 import javafx.beans.property.*;
 import javafx.collections.FXCollections;
@@ -175,6 +178,38 @@ public class FXWrapper {
         return list;
     }
 
+    /**
+     * Create a read only JavaFX {@link javafx.collections.ObservableList} wrapper for a dolphin platform virtual list.
+     * The JavaFX list has the size of the complete virtual list. Whenever an element that is not loaded is accessed
+     * a window around the element is requested from the server. By using the wrapper as the items of a
+     * {@code ListView} or {@code TableView} only the rows in the viewport of the control will be loaded.
+     * The returned list observes the virtual list until it is unbound. Since it implements {@link Binding} this can be
+     * done by calling {@link Binding#unbind()} when the list is no longer used by a control.
+     *
+     * @param virtualList the dolphin platform virtual list
+     * @param <T>         type of the list content
+     * @return the JavaFX list
+     */
+    public static <T> ObservableList<T> wrapVirtualList(final VirtualList<T> virtualList) {
+        return wrapVirtualList(virtualList, DEFAULT_VIRTUAL_LIST_WINDOW_SIZE);
+    }
+
+    /**
+     * Create a read only JavaFX {@link javafx.collections.ObservableList} wrapper for a dolphin platform virtual list.
+     *
+     * @param virtualList the dolphin platform virtual list
+     * @param windowSize  number of elements that are requested around an element that is not loaded
+     * @param <T>         type of the list content
+     * @return the JavaFX list
+     * @see #wrapVirtualList(VirtualList)
+     */
+    public static <T> ObservableList<T> wrapVirtualList(final VirtualList<T> virtualList, final int windowSize) {
+        Assert.requireNonNull(virtualList, "virtualList");
+        return new VirtualListWrapper<>(virtualList, windowSize);
+    }
+
+    private static final int DEFAULT_VIRTUAL_LIST_WINDOW_SIZE = 100;
+
     //TODO: HACK
     private static boolean listenToFx = true;
 
@@ -20,6 +20,8 @@ import com.canoo.dp.impl.client.legacy.communication.AbstractClientConnector;
 import com.canoo.dp.impl.platform.client.session.StrictClientSessionResponseHandler;
 import com.canoo.dp.impl.platform.core.Assert;
 import com.canoo.dp.impl.remoting.codec.OptimizedJsonCodec;
+import com.canoo.dp.impl.remoting.codec.StreamingJsonCodec;
+import com.canoo.dp.impl.remoting.legacy.communication.Codec;
 import com.canoo.dp.impl.remoting.legacy.util.Function;
 import com.canoo.platform.client.ClientConfiguration;
 import com.canoo.platform.client.PlatformClient;
@@ -30,6 +32,7 @@ import com.canoo.platform.remoting.DolphinRemotingException;
 import com.canoo.platform.remoting.client.ClientContext;
 import com.canoo.platform.remoting.client.ClientContextFactory;
 import com.canoo.platform.remoting.client.ClientInitializationException;
+import com.canoo.platform.remoting.client.RemotingConfigurationProperties;
 import com.canoo.platform.remoting.client.RemotingExceptionHandler;
 
 import java.net.URL;
@@ -59,10 +62,18 @@ public class ClientContextFactoryImpl implements ClientContextFactory {
         final HttpURLConnectionHandler clientSessionCheckResponseHandler = new StrictClientSessionResponseHandler(endpoint);
         httpClient.addResponseHandler(clientSessionCheckResponseHandler);
 
+        final Codec codec;
+        if (clientConfiguration.getBooleanProperty(RemotingConfigurationProperties.STREAMING_CODEC_ACTIVE, true)) {
+            codec = StreamingJsonCodec.getInstance();
+        } else {
+            codec = OptimizedJsonCodec.getInstance();
+        }
+        final boolean binaryProtocolActive = clientConfiguration.getBooleanProperty(RemotingConfigurationProperties.BINARY_PROTOCOL_ACTIVE, false);
+
         final Function<ClientModelStore, AbstractClientConnector> connectionProvider = new Function<ClientModelStore, AbstractClientConnector>() {
             @Override
             public AbstractClientConnector call(ClientModelStore clientModelStore) {
-                return new DolphinPlatformHttpClientConnector(endpoint, clientConfiguration, clientModelStore, OptimizedJsonCodec.getInstance(), new RemotingExceptionHandler() {
+                return new DolphinPlatformHttpClientConnector(endpoint, clientConfiguration, clientModelStore, codec, binaryProtocolActive, new RemotingExceptionHandler() {
                     @Override
                     public void handle(DolphinRemotingException e) {
 //                        for(RemotingExceptionHandler handler : clientConfiguration.getRemotingExceptionHandlers()) {
@@ -27,14 +27,17 @@ import com.canoo.dp.impl.remoting.ClassRepository;
 import com.canoo.dp.impl.remoting.ClassRepositoryImpl;
 import com.canoo.dp.impl.remoting.Converters;
 import com.canoo.dp.impl.remoting.EventDispatcher;
+import com.canoo.dp.impl.remoting.ListMapper;
 import com.canoo.dp.impl.remoting.PresentationModelBuilderFactory;
 import com.canoo.dp.impl.remoting.collections.ListMapperImpl;
 import com.canoo.dp.impl.remoting.commands.CreateContextCommand;
 import com.canoo.dp.impl.remoting.commands.DestroyContextCommand;
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
 import com.canoo.dp.impl.remoting.legacy.util.Function;
 import com.canoo.dp.impl.remoting.legacy.util.Provider;
 import com.canoo.platform.client.ClientConfiguration;
 import com.canoo.platform.client.session.ClientSessionStore;
+import com.canoo.platform.core.functional.Callback;
 import com.canoo.platform.remoting.BeanManager;
 import com.canoo.platform.remoting.DolphinRemotingException;
 import com.canoo.platform.remoting.client.ClientContext;
@@ -143,7 +146,14 @@ public class ClientContextImpl implements ClientContext {
 
         this.dolphinCommandHandler = new DolphinCommandHandler(clientConnector);
         this.controllerProxyFactory = new ControllerProxyFactory(dolphinCommandHandler, clientConnector, modelStore, beanRepository, dispatcher, converters);
-        this.clientBeanManager = new BeanManagerImpl(beanRepository, new ClientBeanBuilderImpl(classRepository, beanRepository, new ListMapperImpl(modelStore, classRepository, beanRepository, builderFactory, dispatcher), builderFactory, dispatcher));
+        final ListMapper listMapper = new ListMapperImpl(modelStore, classRepository, beanRepository, builderFactory, dispatcher, new Callback<ListSpliceCommand>() {
+            @Override
+            public void call(final ListSpliceCommand listSpliceCommand) {
+                clientConnector.send(listSpliceCommand);
+            }
+        });
+        clientConnector.setListMapper(listMapper);
+        this.clientBeanManager = new BeanManagerImpl(beanRepository, new ClientBeanBuilderImpl(classRepository, beanRepository, listMapper, builderFactory, dispatcher));
 
         final CompletableFuture<Void> result = new CompletableFuture<>();
         clientConnector.connect();
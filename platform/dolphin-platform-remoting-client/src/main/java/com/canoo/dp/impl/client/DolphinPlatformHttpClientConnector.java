@@ -18,25 +18,57 @@ package com.canoo.dp.impl.client;
 import com.canoo.dp.impl.client.legacy.ClientModelStore;
 import com.canoo.dp.impl.client.legacy.communication.AbstractClientConnector;
 import com.canoo.dp.impl.client.legacy.communication.BlindCommandBatcher;
+import com.canoo.dp.impl.platform.client.http.HttpStatus;
 import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.codec.BinaryCodec;
+import com.canoo.dp.impl.remoting.commands.CreateContextCommand;
 import com.canoo.dp.impl.remoting.commands.DestroyContextCommand;
 import com.canoo.dp.impl.remoting.legacy.communication.Codec;
 import com.canoo.dp.impl.remoting.legacy.communication.Command;
+import com.canoo.dp.impl.remoting.push.ServerSentEvent;
+import com.canoo.dp.impl.remoting.push.ServerSentEventReader;
 import com.canoo.platform.client.ClientConfiguration;
+import com.canoo.platform.core.http.BadResponseException;
 import com.canoo.platform.core.http.HttpClient;
 import com.canoo.platform.core.http.RequestMethod;
 import com.canoo.platform.remoting.DolphinRemotingException;
+import com.canoo.platform.remoting.client.RemotingConfigurationProperties;
 import com.canoo.platform.remoting.client.RemotingExceptionHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.canoo.dp.impl.remoting.codec.binary.BinaryConstants.BINARY_MIME_TYPE;
+import static com.canoo.dp.impl.remoting.push.PushConstants.CONNECTED_EVENT;
+import static com.canoo.dp.impl.remoting.push.PushConstants.EVENT_STREAM_MIME_TYPE;
+import static com.canoo.dp.impl.remoting.push.PushConstants.PUSH_EVENT;
+import static com.canoo.dp.impl.remoting.push.PushConstants.RESPONSE_EVENT;
+import static com.canoo.dp.impl.remoting.push.PushConstants.RESPONSE_ID_PARAM;
 
 /**
- * This class is used to sync the unique client scope id of the current dolphin
+ * This class is used to sync the unique client scope id of the current dolphin.
+ *
+ * If the server supports it the connector opens a server push channel (server-sent events) after the context was
+ * created and uses it instead of long polling. While the channel is open all commands of the server (pushed commands
+ * and the responses of requests) are received in order by the channel. Each request that can be answered by the
+ * channel defines a response id and the connector waits for the response event with that id. If the server answers
+ * such a request by the response body instead (for example since its channel was closed in the meantime) the body is
+ * used. If the channel can not be opened the connector falls back to long polling.
+ *
+ * If the binary protocol is active but the server answers with {@code 415 Unsupported Media Type} the connector
+ * resends the commands as JSON and uses JSON for all further requests.
  */
 public class DolphinPlatformHttpClientConnector extends AbstractClientConnector {
 
@@ -46,15 +78,40 @@ public class DolphinPlatformHttpClientConnector extends AbstractClientConnector
 
     private final Codec codec;
 
+    private volatile boolean binaryProtocolActive;
+
     private final HttpClient client;
 
     private final AtomicBoolean disconnecting = new AtomicBoolean(false);
 
+    private final boolean pushActive;
+
+    private final Executor uiExecutor;
+
+    private final Executor backgroundExecutor;
+
+    //Marks the end of the push channel in the queue of received response ids
+    private static final String PUSH_CHANNEL_CLOSED = "";
+
+    private final BlockingQueue<String> pushResponses = new LinkedBlockingQueue<>();
+
+    private final AtomicLong responseCounter = new AtomicLong();
+
+    private volatile ServerSentEventReader pushReader;
+
     public DolphinPlatformHttpClientConnector(final URL servletUrl, final ClientConfiguration configuration, final ClientModelStore clientModelStore, final Codec codec, final RemotingExceptionHandler onException, final HttpClient client) {
+        this(servletUrl, configuration, clientModelStore, codec, false, onException, client);
+    }
+
+    public DolphinPlatformHttpClientConnector(final URL servletUrl, final ClientConfiguration configuration, final ClientModelStore clientModelStore, final Codec codec, final boolean binaryProtocolActive, final RemotingExceptionHandler onException, final HttpClient client) {
         super(clientModelStore, Assert.requireNonNull(configuration, "configuration").getUiExecutor(), new BlindCommandBatcher(), onException, configuration.getBackgroundExecutor());
         this.servletUrl = Assert.requireNonNull(servletUrl, "servletUrl");
         this.codec = Assert.requireNonNull(codec, "codec");
+        this.binaryProtocolActive = binaryProtocolActive;
         this.client = Assert.requireNonNull(client, "client");
+        this.pushActive = !binaryProtocolActive && configuration.getBooleanProperty(RemotingConfigurationProperties.PUSH_ACTIVE, true);
+        this.uiExecutor = configuration.getUiExecutor();
+        this.backgroundExecutor = configuration.getBackgroundExecutor();
     }
 
     public List<Command> transmit(final List<Command> commands) throws DolphinRemotingException {
@@ -73,12 +130,147 @@ public class DolphinPlatformHttpClientConnector extends AbstractClientConnector
         }
 
         try {
+            if (binaryProtocolActive) {
+                final BinaryCodec binaryCodec = BinaryCodec.getInstance();
+                final byte[] data = binaryCodec.encode(commands);
+                try {
+                    final byte[] receivedContent = client.request(servletUrl, RequestMethod.POST).withContent(data, BINARY_MIME_TYPE).readBytes(BINARY_MIME_TYPE).execute().get().get();
+                    return binaryCodec.decode(receivedContent);
+                } catch (ExecutionException e) {
+                    if (!isUnsupportedMediaType(e)) {
+                        throw e;
+                    }
+                    //The server rejects the request before any command is handled, so the commands can be resent
+                    LOG.warn("Binary protocol is not supported by the server, falling back to JSON");
+                    binaryProtocolActive = false;
+                }
+            }
+            final boolean lifecycleRequest = containsLifecycleCommand(commands);
+            final String responseId = pushReader != null && !lifecycleRequest ? Long.toString(responseCounter.incrementAndGet()) : null;
+            final URL requestUrl = responseId != null ? getPushResponseUrl(responseId) : servletUrl;
             String data = codec.encode(commands);
-            String receivedContent = client.request(servletUrl, RequestMethod.POST).withContent(data, "application/json;charset=utf-8").readString().execute().get();
-            return codec.decode(receivedContent);
+            String receivedContent = client.request(requestUrl, RequestMethod.POST).withContent(data, "application/json;charset=utf-8").readString().execute().get();
+            if (responseId != null && receivedContent.isEmpty()) {
+                awaitPushResponse(responseId);
+                return Collections.emptyList();
+            }
+            final List<Command> results = codec.decode(receivedContent);
+            if (pushActive && lifecycleRequest && !disconnecting.get() && pushReader == null) {
+                openPushChannel();
+            }
+            return results;
         } catch (Exception e) {
             throw new DolphinRemotingException("Error in remoting layer", e);
+        } finally {
+            if (disconnecting.get()) {
+                pushReader = null;
+            }
+        }
+    }
+
+    private URL getPushResponseUrl(final String responseId) throws MalformedURLException {
+        final String separator = servletUrl.getQuery() == null ? "?" : "&";
+        return new URL(servletUrl.toExternalForm() + separator + RESPONSE_ID_PARAM + "=" + responseId);
+    }
+
+    private void awaitPushResponse(final String responseId) throws DolphinRemotingException, InterruptedException {
+        String receivedId;
+        while (!responseId.equals(receivedId = pushResponses.take())) {
+            if (PUSH_CHANNEL_CLOSED.equals(receivedId)) {
+                throw new DolphinRemotingException("Server push channel is closed");
+            }
+            LOG.warn("Ignoring response {} of the server push channel while waiting for response {}", receivedId, responseId);
+        }
+    }
+
+    private void openPushChannel() {
+        final ServerSentEventReader eventReader;
+        try {
+            final Reader reader = client.request(servletUrl, RequestMethod.GET).withoutContent().readReader(EVENT_STREAM_MIME_TYPE).execute().get();
+            eventReader = new ServerSentEventReader(reader);
+            final ServerSentEvent event = eventReader.readEvent();
+            if (event == null || !CONNECTED_EVENT.equals(event.getName())) {
+                eventReader.close();
+                LOG.debug("Server push channel not established, using long polling");
+                return;
+            }
+        } catch (Exception e) {
+            LOG.debug("Server push channel not supported, using long polling", e);
+            return;
+        }
+
+        pushResponses.clear();
+        pushReader = eventReader;
+        backgroundExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                readPushEvents(eventReader);
+            }
+        });
+        LOG.debug("Server push channel established");
+    }
+
+    private void readPushEvents(final ServerSentEventReader eventReader) {
+        Exception error = null;
+        try {
+            ServerSentEvent event;
+            while (pushReader == eventReader && (event = eventReader.readEvent()) != null) {
+                final boolean response = RESPONSE_EVENT.equals(event.getName());
+                if (response || PUSH_EVENT.equals(event.getName())) {
+                    final List<Command> commands = codec.decode(event.getData());
+                    LOG.trace("Received {} commands by server push channel", commands.size());
+                    uiExecutor.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            for (Command command : commands) {
+                                dispatchHandle(command);
+                            }
+                        }
+                    });
+                    if (response && event.getId() != null) {
+                        pushResponses.offer(event.getId());
+                    }
+                }
+            }
+        } catch (Exception e) {
+            error = e;
+        } finally {
+            try {
+                eventReader.close();
+            } catch (IOException e) {
+                LOG.debug("Can not close server push channel", e);
+            }
+        }
+
+        if (pushReader == eventReader) {
+            pushReader = null;
+            pushResponses.offer(PUSH_CHANNEL_CLOSED);
+            if (connectedFlag.get() && !disconnecting.get()) {
+                handleError(new DolphinRemotingException("Server push channel closed", error));
+            }
+        }
+    }
+
+    private boolean isUnsupportedMediaType(final ExecutionException e) {
+        final Throwable cause = e.getCause();
+        return cause instanceof BadResponseException && ((BadResponseException) cause).getStatusCode() == HttpStatus.SC_UNSUPPORTED_MEDIA_TYPE;
+    }
+
+    private boolean containsLifecycleCommand(final List<Command> commands) {
+        for (Command command : commands) {
+            if (command instanceof CreateContextCommand || command instanceof DestroyContextCommand) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void listen() {
+        if (pushReader != null) {
+            return;
         }
+        super.listen();
     }
 
     @Override
@@ -89,6 +281,7 @@ public class DolphinPlatformHttpClientConnector extends AbstractClientConnector
 
     @Override
     public void disconnect() {
+        pushReader = null;
         super.disconnect();
         disconnecting.set(false);
     }
@@ -16,6 +16,7 @@
 package com.canoo.dp.impl.client.legacy.communication;
 
 import com.canoo.dp.impl.client.legacy.ClientModelStore;
+import com.canoo.dp.impl.remoting.ListMapper;
 import com.canoo.dp.impl.remoting.legacy.commands.InterruptLongPollCommand;
 import com.canoo.dp.impl.remoting.legacy.commands.StartLongPollCommand;
 import com.canoo.dp.impl.remoting.legacy.communication.Command;
@@ -71,7 +72,7 @@ public abstract class AbstractClientConnector {
         this.releaseCommand = new InterruptLongPollCommand();
     }
 
-    private void handleError(final Exception exception) {
+    protected void handleError(final Exception exception) {
         Objects.requireNonNull(exception);
 
         disconnect();
@@ -195,6 +196,10 @@ public abstract class AbstractClientConnector {
         responseHandler.dispatchHandle(command);
     }
 
+    public void setListMapper(final ListMapper listMapper) {
+        responseHandler.setListMapper(listMapper);
+    }
+
     /**
      * listens for the pushListener to return. The pushListener must be set and pushEnabled must be true.
      */
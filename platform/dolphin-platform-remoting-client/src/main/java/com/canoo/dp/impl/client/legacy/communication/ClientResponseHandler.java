@@ -18,6 +18,8 @@ package com.canoo.dp.impl.client.legacy.communication;
 import com.canoo.dp.impl.client.legacy.ClientAttribute;
 import com.canoo.dp.impl.client.legacy.ClientModelStore;
 import com.canoo.dp.impl.client.legacy.ClientPresentationModel;
+import com.canoo.dp.impl.remoting.ListMapper;
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
 import com.canoo.dp.impl.remoting.legacy.communication.AttributeMetadataChangedCommand;
 import com.canoo.dp.impl.remoting.legacy.communication.Command;
 import com.canoo.dp.impl.remoting.legacy.communication.CreatePresentationModelCommand;
@@ -38,10 +40,16 @@ public class ClientResponseHandler {
 
     private final ClientModelStore clientModelStore;
 
+    private volatile ListMapper listMapper;
+
     public ClientResponseHandler(final ClientModelStore clientModelStore) {
         this.clientModelStore = Objects.requireNonNull(clientModelStore);
     }
 
+    public void setListMapper(final ListMapper listMapper) {
+        this.listMapper = listMapper;
+    }
+
     public void dispatchHandle(final Command command) {
         if (command instanceof DeletePresentationModelCommand) {
             handleDeletePresentationModelCommand((DeletePresentationModelCommand) command);
@@ -51,6 +59,8 @@ public class ClientResponseHandler {
             handleValueChangedCommand((ValueChangedCommand) command);
         } else if (command instanceof AttributeMetadataChangedCommand) {
             handleAttributeMetadataChangedCommand((AttributeMetadataChangedCommand) command);
+        } else if (command instanceof ListSpliceCommand) {
+            handleListSpliceCommand((ListSpliceCommand) command);
         } else {
             LOG.error("C: cannot withoutResult unknown command '{}'", command );
         }
@@ -112,6 +122,14 @@ public class ClientResponseHandler {
         return;
     }
 
+    private void handleListSpliceCommand(final ListSpliceCommand serverCommand) {
+        if (listMapper == null) {
+            LOG.warn("C: no list mapper defined, cannot splice list '{}' of bean '{}'", serverCommand.getAttributeName(), serverCommand.getSourceId());
+            return;
+        }
+        listMapper.onListSplice(serverCommand);
+    }
+
     private void handleAttributeMetadataChangedCommand(final AttributeMetadataChangedCommand serverCommand) {
         ClientAttribute attribute = clientModelStore.findAttributeById(serverCommand.getAttributeId());
         if (attribute == null) {
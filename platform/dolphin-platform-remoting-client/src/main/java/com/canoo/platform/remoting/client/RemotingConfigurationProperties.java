@@ -3,4 +3,10 @@ package com.canoo.platform.remoting.client;
 public interface RemotingConfigurationProperties {
 
     String CONNECTION_TIMEOUT = "platform.remoting.connectionTimeout";
+
+    String STREAMING_CODEC_ACTIVE = "platform.remoting.streamingCodecActive";
+
+    String BINARY_PROTOCOL_ACTIVE = "platform.remoting.binaryProtocolActive";
+
+    String PUSH_ACTIVE = "platform.remoting.pushActive";
 }
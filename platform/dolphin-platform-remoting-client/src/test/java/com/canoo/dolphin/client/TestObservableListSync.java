@@ -22,7 +22,9 @@ import com.canoo.dp.impl.client.legacy.ClientAttribute;
 import com.canoo.dp.impl.client.legacy.ClientModelStore;
 import com.canoo.dp.impl.client.legacy.ClientPresentationModel;
 import com.canoo.dp.impl.client.legacy.communication.AbstractClientConnector;
+import com.canoo.dp.impl.remoting.MappingException;
 import com.canoo.dp.impl.remoting.PlatformRemotingConstants;
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
 import com.canoo.dp.impl.remoting.converters.DolphinBeanConverterFactory;
 import com.canoo.dp.impl.remoting.legacy.RemotingConstants;
 import com.canoo.dp.impl.remoting.legacy.core.PresentationModel;
@@ -87,16 +89,16 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         model.getObjectList().add(object);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) objectModel.getId())));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), allOf(instanceOf(String.class), is((Object) objectModel.getId())));
     }
 
     @Test
@@ -112,16 +114,16 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         model.getObjectList().add(null);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), nullValue());
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), nullValue());
     }
 
     @Test
@@ -138,16 +140,16 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         model.getPrimitiveList().add(value);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) value)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), allOf(instanceOf(String.class), is((Object) value)));
     }
 
     @Test
@@ -163,16 +165,16 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         model.getPrimitiveList().add(null);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), nullValue());
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), nullValue());
     }
 
     @Test
@@ -186,21 +188,21 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final SimpleTestModel object = manager.create(SimpleTestModel.class);
 
         model.getObjectList().add(object);
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         model.getObjectList().remove(0);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     @Test
@@ -213,21 +215,21 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getObjectList().add(null);
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         model.getObjectList().remove(0);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     @Test
@@ -240,21 +242,21 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().add("Hello");
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         model.getPrimitiveList().remove(0);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     @Test
@@ -267,21 +269,21 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().add(null);
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         model.getPrimitiveList().remove(0);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     @Test
@@ -297,22 +299,22 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final SimpleTestModel oldObject = manager.create(SimpleTestModel.class);
 
         model.getObjectList().add(oldObject);
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         model.getObjectList().set(0, newObject);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newObjectModel.getId())));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), allOf(instanceOf(String.class), is((Object) newObjectModel.getId())));
     }
 
     @Test
@@ -326,22 +328,22 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final SimpleTestModel oldObject = manager.create(SimpleTestModel.class);
 
         model.getObjectList().add(oldObject);
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         model.getObjectList().set(0, null);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), nullValue());
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), nullValue());
     }
 
     @Test
@@ -356,22 +358,22 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel newObjectModel = clientModelStore.findAllPresentationModelsByType(SimpleTestModel.class.getName()).get(0);
 
         model.getObjectList().add(null);
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         model.getObjectList().set(0, newObject);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newObjectModel.getId())));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), allOf(instanceOf(String.class), is((Object) newObjectModel.getId())));
     }
 
     @Test
@@ -385,22 +387,22 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newValue = "Goodbye World";
 
         model.getPrimitiveList().add("Hello World");
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         model.getPrimitiveList().set(0, newValue);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newValue)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), allOf(instanceOf(String.class), is((Object) newValue)));
     }
 
     @Test
@@ -413,22 +415,22 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().add("Hello World");
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         model.getPrimitiveList().set(0, null);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), nullValue());
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), nullValue());
     }
 
     @Test
@@ -442,22 +444,22 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newValue = "Goodbye World";
 
         model.getPrimitiveList().add(null);
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         model.getPrimitiveList().set(0, newValue);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newValue)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), allOf(instanceOf(String.class), is((Object) newValue)));
     }
 
 
@@ -478,18 +480,18 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         model.getPrimitiveList().addAll(0, Arrays.asList(newElement));
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) "42"));
-        assertThat(change.getAttribute("1").getValue(), is((Object) "4711"));
-        assertThat(change.getAttribute("2").getValue(), is((Object) "Hello World"));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(change.getValues().get(0), is((Object) "42"));
+        assertThat(change.getValues().get(1), is((Object) "4711"));
+        assertThat(change.getValues().get(2), is((Object) "Hello World"));
     }
 
     @Test
@@ -503,22 +505,22 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newElement = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         model.getPrimitiveList().add(0, newElement);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) newElement));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), is((Object) newElement));
     }
 
     @Test
@@ -532,24 +534,24 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String[] newElement = new String[]{"42", "4711", "Hello World"};
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         model.getPrimitiveList().addAll(0, Arrays.asList(newElement));
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) "42"));
-        assertThat(change.getAttribute("1").getValue(), is((Object) "4711"));
-        assertThat(change.getAttribute("2").getValue(), is((Object) "Hello World"));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(change.getValues().get(0), is((Object) "42"));
+        assertThat(change.getValues().get(1), is((Object) "4711"));
+        assertThat(change.getValues().get(2), is((Object) "Hello World"));
     }
 
     @Test
@@ -563,22 +565,22 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newElement = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         model.getPrimitiveList().add(1, newElement);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) newElement));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), is((Object) newElement));
     }
 
     @Test
@@ -592,24 +594,24 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String[] newElement = new String[]{"42", "4711", "Hello World"};
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         model.getPrimitiveList().addAll(1, Arrays.asList(newElement));
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) "42"));
-        assertThat(change.getAttribute("1").getValue(), is((Object) "4711"));
-        assertThat(change.getAttribute("2").getValue(), is((Object) "Hello World"));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(change.getValues().get(0), is((Object) "42"));
+        assertThat(change.getValues().get(1), is((Object) "4711"));
+        assertThat(change.getValues().get(2), is((Object) "Hello World"));
     }
 
     @Test
@@ -623,22 +625,22 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newElement = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         model.getPrimitiveList().add(newElement);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) newElement));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), is((Object) newElement));
     }
 
     @Test
@@ -652,24 +654,24 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String[] newElement = new String[]{"42", "4711", "Hello World"};
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         model.getPrimitiveList().addAll(Arrays.asList(newElement));
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) "42"));
-        assertThat(change.getAttribute("1").getValue(), is((Object) "4711"));
-        assertThat(change.getAttribute("2").getValue(), is((Object) "Hello World"));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(change.getValues().get(0), is((Object) "42"));
+        assertThat(change.getValues().get(1), is((Object) "4711"));
+        assertThat(change.getValues().get(2), is((Object) "Hello World"));
     }
 
 
@@ -686,21 +688,21 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         model.getPrimitiveList().remove(0);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     // TODO: Enable once ObservableArrayList.sublist() was implemented completely
@@ -714,21 +716,21 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4", "5", "6"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         model.getPrimitiveList().subList(0, 3).clear();
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     @Test
@@ -741,21 +743,21 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         model.getPrimitiveList().remove(1);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 2)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 2)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     // TODO: Enable once ObservableArrayList.sublist() was implemented completely
@@ -769,21 +771,21 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4", "5", "6"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         model.getPrimitiveList().subList(1, 4).clear();
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 4)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 4)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     @Test
@@ -796,21 +798,21 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         model.getPrimitiveList().remove(2);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 2)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 2)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     // TODO: Enable once ObservableArrayList.sublist() was implemented completely
@@ -824,21 +826,21 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4", "5", "6"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         model.getPrimitiveList().subList(3, 6).clear();
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 6)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 6)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
 
@@ -856,22 +858,22 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newValue = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         model.getPrimitiveList().set(0, newValue);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newValue)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), allOf(instanceOf(String.class), is((Object) newValue)));
     }
 
     @Test
@@ -885,22 +887,22 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newValue = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         model.getPrimitiveList().set(1, newValue);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 2)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newValue)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 2)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), allOf(instanceOf(String.class), is((Object) newValue)));
     }
 
     @Test
@@ -914,22 +916,22 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newValue = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         model.getPrimitiveList().set(2, newValue);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(clientModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 2)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newValue)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 2)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), allOf(instanceOf(String.class), is((Object) newValue)));
     }
 
 
@@ -1039,6 +1041,80 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         assertThat(clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE), empty());
     }
 
+    @Test
+    public void addingObjectElementWithListSpliceCommand_shouldAddElement(@Mocked AbstractClientConnector connector) {
+        // given :
+        final ClientModelStore clientModelStore = createClientModelStore(connector);
+        final BeanManager manager = createBeanManager(clientModelStore);
+
+        final ListReferenceModel model = manager.create(ListReferenceModel.class);
+        final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
+        final PresentationModel classDescription = clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.DOLPHIN_BEAN).get(0);
+        classDescription.getAttribute("objectList").setValue(DolphinBeanConverterFactory.FIELD_TYPE_DOLPHIN_BEAN);
+        final SimpleTestModel object = manager.create(SimpleTestModel.class);
+        final PresentationModel objectModel = clientModelStore.findAllPresentationModelsByType(SimpleTestModel.class.getName()).get(0);
+
+        final ListSpliceCommand command = new ListSpliceCommand();
+        command.setSourceId(sourceModel.getId());
+        command.setAttributeName("objectList");
+        command.setFrom(0);
+        command.setTo(0);
+        command.addValue(objectModel.getId());
+
+        // when :
+        getListMapper(clientModelStore).onListSplice(command);
+
+        // then :
+        assertThat(model.getObjectList(), is(Collections.singletonList(object)));
+        assertThat(getListSpliceCommands(clientModelStore), empty());
+    }
+
+    @Test(expectedExceptions = MappingException.class)
+    public void invalidListSpliceCommand_shouldThrowMappingException(@Mocked AbstractClientConnector connector) {
+        // given :
+        final ClientModelStore clientModelStore = createClientModelStore(connector);
+        final BeanManager manager = createBeanManager(clientModelStore);
+
+        manager.create(ListReferenceModel.class);
+        final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
+
+        final ListSpliceCommand command = new ListSpliceCommand();
+        command.setSourceId(sourceModel.getId());
+        command.setAttributeName("unknownList");
+        command.setFrom(0);
+        command.setTo(0);
+        command.addValue("42");
+
+        // when :
+        getListMapper(clientModelStore).onListSplice(command);
+    }
+
+    @Test
+    public void replacingPrimitiveElementsWithListSpliceCommand_shouldReplaceElements(@Mocked AbstractClientConnector connector) {
+        // given :
+        final ClientModelStore clientModelStore = createClientModelStore(connector);
+        final BeanManager manager = createBeanManager(clientModelStore);
+
+        final ListReferenceModel model = manager.create(ListReferenceModel.class);
+        final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
+        model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4"));
+        clearListSpliceCommands(clientModelStore);
+
+        final ListSpliceCommand command = new ListSpliceCommand();
+        command.setSourceId(sourceModel.getId());
+        command.setAttributeName("primitiveList");
+        command.setFrom(1);
+        command.setTo(3);
+        command.addValue("42");
+
+        // when :
+        getListMapper(clientModelStore).onListSplice(command);
+
+        // then :
+        assertThat(model.getPrimitiveList(), is(Arrays.asList("1", "42", "4")));
+        assertThat(getListSpliceCommands(clientModelStore), empty());
+    }
+
     @Test
     public void deletingObjectElementFromDolphin_shouldDeleteElement(@Mocked AbstractClientConnector connector) {
         // given :
@@ -1439,7 +1515,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newElement = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         new PresentationModelBuilder(clientModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1466,7 +1542,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         new PresentationModelBuilder(clientModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1496,7 +1572,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newElement = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         new PresentationModelBuilder(clientModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1523,7 +1599,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         new PresentationModelBuilder(clientModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1553,7 +1629,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newElement = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         new PresentationModelBuilder(clientModelStore, PlatformRemotingConstants.LIST_SPLICE)
                 .withAttribute("source", sourceModel.getId())
@@ -1578,7 +1654,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         new PresentationModelBuilder(clientModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1611,7 +1687,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         new PresentationModelBuilder(clientModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1637,7 +1713,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4", "5", "6"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         new PresentationModelBuilder(clientModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1663,7 +1739,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         new PresentationModelBuilder(clientModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1689,7 +1765,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4", "5", "6"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         new PresentationModelBuilder(clientModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1715,7 +1791,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         new PresentationModelBuilder(clientModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1741,7 +1817,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4", "5", "6"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         new PresentationModelBuilder(clientModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1757,13 +1833,6 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         assertThat(clientModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE), empty());
     }
 
-    private void deleteAllPresentationModelsOfType(ClientModelStore clientModelStore, String listSplice) {
-        List<ClientPresentationModel> toDelete = new ArrayList<>(clientModelStore.findAllPresentationModelsByType(listSplice));
-        for (ClientPresentationModel model : toDelete) {
-            clientModelStore.delete(model);
-        }
-    }
-
 
     //////////////////////////////////////////////////////////////
     // Replacing elements from different positions from dolphin
@@ -1779,7 +1848,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newValue = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         new PresentationModelBuilder(clientModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1805,7 +1874,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         new PresentationModelBuilder(clientModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1834,7 +1903,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newValue = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         new PresentationModelBuilder(clientModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1861,7 +1930,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         new PresentationModelBuilder(clientModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1890,7 +1959,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newValue = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         new PresentationModelBuilder(clientModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1918,7 +1987,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4"));
-        deleteAllPresentationModelsOfType(clientModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(clientModelStore);
 
         // when :
         new PresentationModelBuilder(clientModelStore, PlatformRemotingConstants.LIST_SPLICE)
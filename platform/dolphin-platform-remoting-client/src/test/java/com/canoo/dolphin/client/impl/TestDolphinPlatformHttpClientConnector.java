@@ -23,11 +23,13 @@ import com.canoo.dp.impl.client.legacy.communication.SimpleExceptionHandler;
 import com.canoo.dp.impl.platform.client.http.HttpClientImpl;
 import com.canoo.dp.impl.platform.client.http.HttpStatus;
 import com.canoo.dp.impl.platform.core.PlatformConstants;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryConstants;
 import com.canoo.dp.impl.remoting.commands.CreateContextCommand;
 import com.canoo.dp.impl.remoting.legacy.communication.Command;
 import com.canoo.dp.impl.remoting.legacy.communication.CreatePresentationModelCommand;
 import com.canoo.dp.impl.remoting.legacy.communication.JsonCodec;
 import com.canoo.dp.impl.remoting.legacy.util.Provider;
+import com.canoo.dp.impl.remoting.push.PushConstants;
 import com.canoo.platform.client.HeadlessToolkit;
 import com.canoo.platform.client.PlatformClient;
 import com.canoo.platform.core.http.HttpClient;
@@ -41,13 +43,19 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class TestDolphinPlatformHttpClientConnector {
 
@@ -163,6 +171,276 @@ public class TestDolphinPlatformHttpClientConnector {
         connector.transmit(commands);
     }
 
+    @Test
+    public void testBinaryProtocolFallsBackToJson() throws DolphinRemotingException {
+        final AtomicInteger binaryRequests = new AtomicInteger();
+        final AtomicInteger jsonRequests = new AtomicInteger();
+        PlatformClient.init(new HeadlessToolkit());
+        PlatformClient.getClientConfiguration().setHttpURLConnectionFactory(new HttpURLConnectionFactory() {
+            @Override
+            public HttpURLConnection create(URL url) throws IOException {
+                return new HttpURLConnection(url) {
+                    @Override
+                    public void disconnect() {
+
+                    }
+
+                    @Override
+                    public boolean usingProxy() {
+                        return false;
+                    }
+
+                    @Override
+                    public void connect() throws IOException {
+
+                    }
+
+                    @Override
+                    public int getResponseCode() throws IOException {
+                        final String contentType = getRequestProperty(PlatformConstants.CONTENT_TYPE_HEADER);
+                        if (contentType != null && contentType.startsWith(BinaryConstants.BINARY_MIME_TYPE)) {
+                            binaryRequests.incrementAndGet();
+                            return HttpStatus.SC_UNSUPPORTED_MEDIA_TYPE;
+                        }
+                        jsonRequests.incrementAndGet();
+                        return HttpStatus.HTTP_OK;
+                    }
+
+                    @Override
+                    public OutputStream getOutputStream() throws IOException {
+                        return new ByteArrayOutputStream();
+                    }
+
+                    @Override
+                    public InputStream getInputStream() throws IOException {
+                        String response = "[{\"pmId\":\"p1\",\"clientSideOnly\":false,\"id\":\"CreatePresentationModel\",\"attributes\":[],\"pmType\":null,\"className\":\"com.canoo.dp.impl.remoting.legacy.communication.CreatePresentationModelCommand\"}]";
+                        return new ByteArrayInputStream(response.getBytes("UTF-8"));
+                    }
+                };
+            }
+        });
+
+        final ClientModelStore clientModelStore = new ClientModelStore(new DefaultModelSynchronizer(new Provider<AbstractClientConnector>() {
+            @Override
+            public AbstractClientConnector get() {
+                return null;
+            }
+        }));
+        final DolphinPlatformHttpClientConnector connector = new DolphinPlatformHttpClientConnector(getDummyURL(), PlatformClient.getClientConfiguration(), clientModelStore, new JsonCodec(), true, new SimpleExceptionHandler(), PlatformClient.getService(HttpClient.class));
+
+        final CreatePresentationModelCommand command = new CreatePresentationModelCommand();
+        command.setPmId("p1");
+        final List<Command> result = connector.transmit(Collections.<Command>singletonList(command));
+
+        Assert.assertEquals(result.size(), 1);
+        Assert.assertEquals(((CreatePresentationModelCommand) result.get(0)).getPmId(), "p1");
+        Assert.assertEquals(binaryRequests.get(), 1);
+        Assert.assertEquals(jsonRequests.get(), 1);
+
+        connector.transmit(Collections.<Command>singletonList(command));
+        Assert.assertEquals(binaryRequests.get(), 1);
+        Assert.assertEquals(jsonRequests.get(), 2);
+    }
+
+    @Test(timeOut = 10000)
+    public void testPushResponseFallsBackToResponseBody() throws DolphinRemotingException {
+        final EventStream events = new EventStream();
+        final List<String> postQueries = new ArrayList<>();
+        PlatformClient.init(new HeadlessToolkit());
+        PlatformClient.getClientConfiguration().setHttpURLConnectionFactory(createPushConnectionFactory(events, new PostHandler() {
+            @Override
+            public String handle(final URL url) {
+                postQueries.add(url.getQuery());
+                //the server does not route the response through its push channel, for example since it was closed
+                return "[{\"pmId\":\"p1\",\"clientSideOnly\":false,\"id\":\"CreatePresentationModel\",\"attributes\":[],\"pmType\":null,\"className\":\"com.canoo.dp.impl.remoting.legacy.communication.CreatePresentationModelCommand\"}]";
+            }
+        }));
+        final DolphinPlatformHttpClientConnector connector = createPushConnector();
+        try {
+            connector.transmit(Collections.<Command>singletonList(new CreateContextCommand()));
+
+            final CreatePresentationModelCommand command = new CreatePresentationModelCommand();
+            command.setPmId("p1");
+            final List<Command> result = connector.transmit(Collections.<Command>singletonList(command));
+
+            Assert.assertEquals(result.size(), 1);
+            Assert.assertEquals(((CreatePresentationModelCommand) result.get(0)).getPmId(), "p1");
+            Assert.assertEquals(postQueries.size(), 2);
+            Assert.assertNull(postQueries.get(0));
+            Assert.assertEquals(postQueries.get(1), PushConstants.RESPONSE_ID_PARAM + "=1");
+        } finally {
+            events.close();
+        }
+    }
+
+    @Test(timeOut = 10000)
+    public void testPushResponseIsAssignedById() throws DolphinRemotingException {
+        final EventStream events = new EventStream();
+        final AtomicBoolean matchingResponseSent = new AtomicBoolean(false);
+        PlatformClient.init(new HeadlessToolkit());
+        PlatformClient.getClientConfiguration().setHttpURLConnectionFactory(createPushConnectionFactory(events, new PostHandler() {
+            @Override
+            public String handle(final URL url) {
+                if (url.getQuery() == null) {
+                    return "[]";
+                }
+                events.send("event: response\nid: 0\ndata: []\n\n");
+                new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            Thread.sleep(200);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        matchingResponseSent.set(true);
+                        events.send("event: response\nid: 1\ndata: []\n\n");
+                    }
+                }).start();
+                return "";
+            }
+        }));
+        final DolphinPlatformHttpClientConnector connector = createPushConnector();
+        try {
+            connector.transmit(Collections.<Command>singletonList(new CreateContextCommand()));
+
+            final List<Command> result = connector.transmit(Collections.<Command>singletonList(new CreatePresentationModelCommand()));
+
+            Assert.assertTrue(result.isEmpty());
+            Assert.assertTrue(matchingResponseSent.get());
+        } finally {
+            events.close();
+        }
+    }
+
+    private DolphinPlatformHttpClientConnector createPushConnector() {
+        final ClientModelStore clientModelStore = new ClientModelStore(new DefaultModelSynchronizer(new Provider<AbstractClientConnector>() {
+            @Override
+            public AbstractClientConnector get() {
+                return null;
+            }
+        }));
+        return new DolphinPlatformHttpClientConnector(getDummyURL(), PlatformClient.getClientConfiguration(), clientModelStore, new JsonCodec(), new SimpleExceptionHandler(), PlatformClient.getService(HttpClient.class));
+    }
+
+    private HttpURLConnectionFactory createPushConnectionFactory(final EventStream events, final PostHandler postHandler) {
+        return new HttpURLConnectionFactory() {
+            @Override
+            public HttpURLConnection create(URL url) throws IOException {
+                return new HttpURLConnection(url) {
+                    @Override
+                    public void disconnect() {
+
+                    }
+
+                    @Override
+                    public boolean usingProxy() {
+                        return false;
+                    }
+
+                    @Override
+                    public void connect() throws IOException {
+
+                    }
+
+                    @Override
+                    public int getResponseCode() throws IOException {
+                        return HttpStatus.HTTP_OK;
+                    }
+
+                    @Override
+                    public OutputStream getOutputStream() throws IOException {
+                        return new ByteArrayOutputStream();
+                    }
+
+                    @Override
+                    public InputStream getInputStream() throws IOException {
+                        if ("GET".equals(getRequestMethod())) {
+                            events.send("event: connected\ndata: \n\n");
+                            return events;
+                        }
+                        return new ByteArrayInputStream(postHandler.handle(getURL()).getBytes("UTF-8"));
+                    }
+
+                    @Override
+                    public String getHeaderField(String name) {
+                        if (PlatformConstants.CLIENT_ID_HTTP_HEADER_NAME.equals(name)) {
+                            return "TEST-ID";
+                        }
+                        return super.getHeaderField(name);
+                    }
+                };
+            }
+        };
+    }
+
+    private interface PostHandler {
+
+        String handle(URL url);
+    }
+
+    /**
+     * Server push channel of the mocked server that stays open until it is closed by the test.
+     */
+    private static class EventStream extends InputStream {
+
+        private static final int END = -1;
+
+        private final BlockingQueue<Integer> bytes = new LinkedBlockingQueue<>();
+
+        void send(final String data) {
+            try {
+                for (byte b : data.getBytes("UTF-8")) {
+                    bytes.add(b & 0xFF);
+                }
+            } catch (UnsupportedEncodingException e) {
+                throw new RuntimeException("UTF-8 not supported", e);
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                final int b = bytes.take();
+                if (b == END) {
+                    bytes.add(END);
+                }
+                return b;
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            }
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            int b = read();
+            if (b == END) {
+                return END;
+            }
+            int count = 0;
+            do {
+                buffer[offset + count++] = (byte) b;
+            } while (count < length && (b = nextAvailable()) != END);
+            return count;
+        }
+
+        private int nextAvailable() {
+            final Integer b = bytes.peek();
+            if (b == null || b == END) {
+                return END;
+            }
+            return bytes.poll();
+        }
+
+        @Override
+        public void close() {
+            bytes.add(END);
+        }
+    }
+
     private URL getDummyURL() {
         try {
             return new URL("http://dummyURL");
@@ -33,17 +33,26 @@ import com.canoo.dp.impl.remoting.EventDispatcher;
 import com.canoo.dp.impl.remoting.ListMapper;
 import com.canoo.dp.impl.remoting.PresentationModelBuilderFactory;
 import com.canoo.dp.impl.remoting.collections.ListMapperImpl;
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
 import com.canoo.dp.impl.remoting.legacy.communication.Command;
 import com.canoo.dp.impl.remoting.legacy.util.DirectExecutor;
 import com.canoo.dp.impl.remoting.legacy.util.Provider;
 import com.canoo.dp.impl.server.legacy.ServerConnector;
 import com.canoo.dp.impl.server.legacy.ServerModelStore;
+import com.canoo.platform.core.functional.Callback;
 import com.canoo.platform.remoting.BeanManager;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 public abstract class AbstractDolphinBasedTest {
 
+    private final Map<ClientModelStore, List<ListSpliceCommand>> sentListSpliceCommands = new IdentityHashMap<>();
+
+    private final Map<ClientModelStore, ListMapper> listMappers = new IdentityHashMap<>();
+
     public class DolphinTestConfiguration {
 
         private final ClientModelStore clientModelStore;
@@ -110,11 +119,36 @@ public abstract class AbstractDolphinBasedTest {
         return beanRepository;
     }
 
+    protected ListMapper createListMapper(final ClientModelStore clientModelStore, final ClassRepository classRepository, final BeanRepository beanRepository, final PresentationModelBuilderFactory builderFactory, final EventDispatcher dispatcher) {
+        final List<ListSpliceCommand> listSpliceCommands = new ArrayList<>();
+        sentListSpliceCommands.put(clientModelStore, listSpliceCommands);
+        final ListMapper listMapper = new ListMapperImpl(clientModelStore, classRepository, beanRepository, builderFactory, dispatcher, new Callback<ListSpliceCommand>() {
+            @Override
+            public void call(final ListSpliceCommand listSpliceCommand) {
+                listSpliceCommands.add(listSpliceCommand);
+            }
+        });
+        listMappers.put(clientModelStore, listMapper);
+        return listMapper;
+    }
+
+    protected ListMapper getListMapper(final ClientModelStore clientModelStore) {
+        return listMappers.get(clientModelStore);
+    }
+
+    protected List<ListSpliceCommand> getListSpliceCommands(final ClientModelStore clientModelStore) {
+        return new ArrayList<>(sentListSpliceCommands.get(clientModelStore));
+    }
+
+    protected void clearListSpliceCommands(final ClientModelStore clientModelStore) {
+        sentListSpliceCommands.get(clientModelStore).clear();
+    }
+
     protected BeanManager createBeanManager(final ClientModelStore clientModelStore, final BeanRepository beanRepository, final EventDispatcher dispatcher) {
         final Converters converters = new Converters(beanRepository);
         final PresentationModelBuilderFactory builderFactory = new ClientPresentationModelBuilderFactory(clientModelStore);
         final ClassRepository classRepository = new ClassRepositoryImpl(clientModelStore, converters, builderFactory);
-        final ListMapper listMapper = new ListMapperImpl(clientModelStore, classRepository, beanRepository, builderFactory, dispatcher);
+        final ListMapper listMapper = createListMapper(clientModelStore, classRepository, beanRepository, builderFactory, dispatcher);
         final BeanBuilder beanBuilder = new ClientBeanBuilderImpl(classRepository, beanRepository, listMapper, builderFactory, dispatcher);
         return new BeanManagerImpl(beanRepository, beanBuilder);
     }
@@ -16,6 +16,7 @@
 package com.canoo.dp.impl.remoting;
 
 import com.canoo.platform.remoting.ObservableList;
+import com.canoo.dp.impl.remoting.info.BeanMetadata;
 import com.canoo.dp.impl.remoting.info.ClassInfo;
 import com.canoo.dp.impl.remoting.info.PropertyInfo;
 import com.canoo.platform.remoting.Property;
@@ -68,7 +69,7 @@ public abstract class AbstractBeanBuilder implements BeanBuilder {
     private <T> T createInstanceForClass(final ClassInfo classInfo, final Class<T> beanClass, final PresentationModel model, final UpdateSource source) {
         Assert.requireNonNull(beanClass, "beanClass");
         try {
-            final T bean = beanClass.newInstance();
+            final T bean = BeanMetadata.of(beanClass).newInstance();
 
             setupProperties(classInfo, bean, model);
             setupObservableLists(classInfo, bean, model);
@@ -76,7 +77,7 @@ public abstract class AbstractBeanBuilder implements BeanBuilder {
             beanRepository.registerBean(bean, model, source);
             return bean;
 
-        } catch (InstantiationException | IllegalAccessException e) {
+        } catch (IllegalStateException e) {
             throw new RuntimeException("Cannot create bean", e);
         }
     }
@@ -105,7 +106,7 @@ public abstract class AbstractBeanBuilder implements BeanBuilder {
             public void call(final PropertyInfo propertyInfo) {
                 Assert.requireNonNull(propertyInfo, "propertyInfo");
                 final Attribute attribute = model.getAttribute(propertyInfo.getAttributeName());
-                final Property property = create(attribute, propertyInfo);
+                final Property property = createProperty(attribute, propertyInfo);
                 propertyInfo.setPriviliged(bean, property);
             }
         });
@@ -123,6 +124,20 @@ public abstract class AbstractBeanBuilder implements BeanBuilder {
         });
     }
 
+    /**
+     * Properties of the types {@code Integer}, {@code Long}, {@code Double} and {@code Boolean} are created as
+     * {@link AbstractPrimitiveProperty} that hold their values unboxed. Since such a property can never reference a
+     * bean no builder specific handling is needed. For all other types {@link #create(Attribute, PropertyInfo)} is
+     * called.
+     */
+    private Property createProperty(final Attribute attribute, final PropertyInfo propertyInfo) {
+        final Class<?> type = propertyInfo.getTypeParameter();
+        if (AbstractPrimitiveProperty.isSupported(type)) {
+            return AbstractPrimitiveProperty.create(attribute, type);
+        }
+        return create(attribute, propertyInfo);
+    }
+
     protected abstract <T> ObservableList<T> create(final PropertyInfo observableListInfo, final PresentationModel model, final ListMapper listMapper);
 
 
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.legacy.core.Attribute;
+import com.canoo.platform.remoting.Property;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+
+/**
+ * Base class of the {@link Property} implementations that are specialized for {@code int}, {@code long},
+ * {@code double} and {@code boolean} values. Such a property holds its value unboxed. The value of the attribute is
+ * only read when the attribute changes and no converter is used. Setting a value that is equal to the current value
+ * neither boxes the value nor touches the attribute. For all other types {@link PropertyImpl} is used.
+ *
+ * @param <T> the boxed type of the property
+ */
+public abstract class AbstractPrimitiveProperty<T> extends AbstractProperty<T> {
+
+    private final Attribute attribute;
+
+    private final Class<T> type;
+
+    private boolean nullValue;
+
+    private T boxedValue;
+
+    protected AbstractPrimitiveProperty(final Attribute attribute, final Class<T> type) {
+        this.attribute = Assert.requireNonNull(attribute, "attribute");
+        this.type = Assert.requireNonNull(type, "type");
+        this.nullValue = attribute.getValue() == null;
+        attribute.addPropertyChangeListener(Attribute.VALUE_NAME, new PropertyChangeListener() {
+            @Override
+            public void propertyChange(final PropertyChangeEvent evt) {
+                Assert.requireNonNull(evt, "evt");
+                try {
+                    onAttributeValueChanged(evt.getNewValue());
+                } catch (Exception e) {
+                    throw new MappingException("Error in property change handling for property: " + attribute.getPropertyName() + " and Id: " + attribute.getId(), e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Stores the given attribute value unboxed. For {@code null} the default value of the primitive type is stored.
+     *
+     * @param attributeValue the value of the attribute, can be {@code null}
+     */
+    protected abstract void storeValue(Object attributeValue);
+
+    /**
+     * Returns true if the given attribute value is equal to the stored value.
+     *
+     * @param attributeValue the value of the attribute, never {@code null}
+     * @return true if the value is equal to the stored value
+     */
+    protected abstract boolean isStoredValue(Object attributeValue);
+
+    /**
+     * Boxes the stored value
+     *
+     * @return the boxed value
+     */
+    protected abstract T box();
+
+    /**
+     * Returns true if the value of the property is {@code null}
+     *
+     * @return true if the value is {@code null}
+     */
+    public boolean isNull() {
+        return nullValue;
+    }
+
+    @Override
+    public void set(final T newValue) {
+        if (newValue != null) {
+            if (nullValue || !isStoredValue(newValue)) {
+                attribute.setValue(newValue);
+            }
+        } else if (!nullValue) {
+            attribute.setValue(null);
+        }
+    }
+
+    @Override
+    public T get() {
+        if (nullValue) {
+            return null;
+        }
+        if (boxedValue == null) {
+            boxedValue = box();
+        }
+        return boxedValue;
+    }
+
+    private void onAttributeValueChanged(final Object attributeValue) {
+        final boolean newNullValue = attributeValue == null;
+        if (newNullValue == nullValue && (nullValue || isStoredValue(attributeValue))) {
+            return;
+        }
+        final T oldValue = get();
+        storeValue(attributeValue);
+        this.nullValue = newNullValue;
+        this.boxedValue = type.isInstance(attributeValue) ? type.cast(attributeValue) : null;
+        firePropertyChanged(oldValue, get());
+    }
+
+    protected final Object getAttributeValue() {
+        return attribute.getValue();
+    }
+
+    protected final void setAttributeValue(final Object value) {
+        attribute.setValue(value);
+    }
+
+    /**
+     * Returns true if a specialized property implementation exists for the given type
+     *
+     * @param type the type of the property
+     * @return true if a specialized property implementation exists
+     */
+    public static boolean isSupported(final Class<?> type) {
+        return Integer.class.equals(type) || Long.class.equals(type) || Double.class.equals(type) || Boolean.class.equals(type);
+    }
+
+    /**
+     * Creates the specialized property implementation for the given type
+     *
+     * @param attribute the attribute that is wrapped by the property
+     * @param type the type of the property
+     * @return the property
+     * @throws IllegalArgumentException if no specialized property implementation exists for the given type
+     * @see #isSupported(Class)
+     */
+    public static AbstractPrimitiveProperty<?> create(final Attribute attribute, final Class<?> type) {
+        Assert.requireNonNull(type, "type");
+        if (Integer.class.equals(type)) {
+            return new IntegerPropertyImpl(attribute);
+        }
+        if (Long.class.equals(type)) {
+            return new LongPropertyImpl(attribute);
+        }
+        if (Double.class.equals(type)) {
+            return new DoublePropertyImpl(attribute);
+        }
+        if (Boolean.class.equals(type)) {
+            return new BooleanPropertyImpl(attribute);
+        }
+        throw new IllegalArgumentException("No primitive property for type " + type);
+    }
+}
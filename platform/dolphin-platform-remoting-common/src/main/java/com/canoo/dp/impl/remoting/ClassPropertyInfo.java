@@ -16,28 +16,31 @@
 package com.canoo.dp.impl.remoting;
 
 import com.canoo.platform.remoting.spi.converter.Converter;
-import com.canoo.dp.impl.platform.core.ReflectionHelper;
+import com.canoo.dp.impl.remoting.info.FieldMetadata;
 import com.canoo.dp.impl.remoting.info.PropertyInfo;
 
-import java.lang.reflect.Field;
-
 public class ClassPropertyInfo extends PropertyInfo {
 
-    private final Field field;
+    private final FieldMetadata fieldMetadata;
 
-    public ClassPropertyInfo(String attributeName, Converter converter, Field field) {
+    public ClassPropertyInfo(String attributeName, Converter converter, FieldMetadata fieldMetadata) {
         super(attributeName, converter);
-        this.field = field;
+        this.fieldMetadata = fieldMetadata;
+    }
+
+    @Override
+    public Class<?> getTypeParameter() {
+        return fieldMetadata.getTypeParameter();
     }
 
     @Override
     public Object getPrivileged(Object bean) {
-        return ReflectionHelper.getPrivileged(field, bean);
+        return fieldMetadata.get(bean);
     }
 
     @Override
     public void setPriviliged(Object bean, Object value) {
-        ReflectionHelper.setPrivileged(field, bean, value);
+        fieldMetadata.set(bean, value);
     }
 
 }
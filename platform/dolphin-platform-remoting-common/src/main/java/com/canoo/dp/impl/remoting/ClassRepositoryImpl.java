@@ -17,11 +17,12 @@ package com.canoo.dp.impl.remoting;
 
 import com.canoo.platform.remoting.ObservableList;
 import com.canoo.platform.remoting.spi.converter.Converter;
+import com.canoo.dp.impl.remoting.info.BeanMetadata;
 import com.canoo.dp.impl.remoting.info.ClassInfo;
+import com.canoo.dp.impl.remoting.info.FieldMetadata;
 import com.canoo.dp.impl.remoting.info.PropertyInfo;
 import com.canoo.platform.remoting.Property;
 import com.canoo.dp.impl.platform.core.Assert;
-import com.canoo.dp.impl.platform.core.ReflectionHelper;
 import com.canoo.dp.impl.remoting.legacy.core.ModelStore;
 import com.canoo.dp.impl.remoting.legacy.core.ModelStoreEvent;
 import com.canoo.dp.impl.remoting.legacy.core.ModelStoreListener;
@@ -95,48 +96,32 @@ public class ClassRepositoryImpl implements ClassRepository {
                 .withType(PlatformRemotingConstants.DOLPHIN_BEAN)
                 .withAttribute(PlatformRemotingConstants.JAVA_CLASS, beanClass.getName());
 
-        for (final Field field : ReflectionHelper.getInheritedDeclaredFields(beanClass)) {
-            if (Property.class.isAssignableFrom(field.getType()) || ObservableList.class.isAssignableFrom(field.getType())) {
-                final String attributeName = DolphinUtils.getDolphinAttributePropertyNameForField(field);
-                final Class<?> clazz = ReflectionHelper.getTypeParameter(field);
-                if(clazz == null) {
-                    throw new MappingException("Can't define generic type for field " + attributeName + " in bean " + beanClass);
-                }
-                final int type = converters.getFieldType(clazz);
-                builder.withAttribute(attributeName, type);
+        for (final FieldMetadata fieldMetadata : BeanMetadata.of(beanClass).getFields()) {
+            final String attributeName = fieldMetadata.getAttributeName();
+            final Class<?> clazz = fieldMetadata.getTypeParameter();
+            if(clazz == null) {
+                throw new MappingException("Can't define generic type for field " + attributeName + " in bean " + beanClass);
             }
+            final int type = converters.getFieldType(clazz);
+            builder.withAttribute(attributeName, type);
         }
-
         builder.create();
     }
 
     private ClassInfo createClassInfoForClass(final Class<?> beanClass) {
-        final List<PropertyInfo> propertyInfos = new ArrayList<>();
-        final List<PropertyInfo> observableListInfos = new ArrayList<>();
-
-        for (Field field : ReflectionHelper.getInheritedDeclaredFields(beanClass)) {
-            PropertyType type = null;
-            if (Property.class.isAssignableFrom(field.getType())) {
-                type = PropertyType.PROPERTY;
-            } else if (ObservableList.class.isAssignableFrom(field.getType())) {
-                type = PropertyType.OBSERVABLE_LIST;
-            }
-            final Class<?> parameterType = ReflectionHelper.getTypeParameter(field);
+        final BeanMetadata beanMetadata = BeanMetadata.of(beanClass);
+        return new ClassInfo(beanClass, createPropertyInfos(beanMetadata.getProperties()), createPropertyInfos(beanMetadata.getObservableLists()));
+    }
 
-            if (type != null && parameterType != null) {
-                final String attributeName = DolphinUtils.getDolphinAttributePropertyNameForField(field);
+    private List<PropertyInfo> createPropertyInfos(final List<FieldMetadata> fields) {
+        final List<PropertyInfo> propertyInfos = new ArrayList<>();
+        for (final FieldMetadata fieldMetadata : fields) {
+            final Class<?> parameterType = fieldMetadata.getTypeParameter();
+            if (parameterType != null) {
                 final Converter converter = converters.getConverter(parameterType);
-                final PropertyInfo propertyInfo = new ClassPropertyInfo(attributeName, converter, field);
-                if (type == PropertyType.PROPERTY) {
-                    propertyInfos.add(propertyInfo);
-                } else {
-                    observableListInfos.add(propertyInfo);
-                }
+                propertyInfos.add(new ClassPropertyInfo(fieldMetadata.getAttributeName(), converter, fieldMetadata));
             }
         }
-
-        return new ClassInfo(beanClass, propertyInfos, observableListInfos);
+        return propertyInfos;
     }
-
-    private enum PropertyType {PROPERTY, OBSERVABLE_LIST}
 }
@@ -22,26 +22,37 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * The class {@code Converters} contains all {@link Converter} that are used in the Dolphin Platform.
+ * The {@link ConverterFactory} implementations are discovered by a {@link ServiceLoader} only once per classloader.
+ * Since a factory will be initialized with the bean repository of a context each {@code Converters} instance holds its
+ * own factory instances. The factory and converter for a type are resolved only once and cached afterwards.
  */
 public class Converters {
 
     private static final Logger LOG = LoggerFactory.getLogger(Converters.class);
 
+    private static final Map<ClassLoader, List<String>> FACTORY_CLASS_NAMES = new WeakHashMap<>();
+
     private final List<ConverterFactory> converterFactories;
 
+    private final ConcurrentMap<Class<?>, ConverterFactory> factoryCache = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Class<?>, Converter> converterCache = new ConcurrentHashMap<>();
+
     public Converters(final BeanRepository beanRepository) {
         converterFactories = new ArrayList<>();
-        ServiceLoader<ConverterFactory> loader = ServiceLoader.load(ConverterFactory.class);
-        loader.reload();
-        Iterator<ConverterFactory> iterator = loader.iterator();
-        while (iterator.hasNext()) {
-            ConverterFactory factory = iterator.next();
+        final ClassLoader classLoader = getClassLoader();
+        for (final String factoryClassName : getFactoryClassNames(classLoader)) {
+            final ConverterFactory factory = createFactory(factoryClassName, classLoader);
             LOG.trace("Found converter factory {} with type identifier {}", factory.getClass(), factory.getTypeIdentifier());
             factory.init(beanRepository);
             converterFactories.add(factory);
@@ -53,23 +64,70 @@ public class Converters {
     }
 
     public Converter getConverter(Class<?> clazz) {
-        return getFactory(clazz).getConverterForType(clazz);
+        Assert.requireNonNull(clazz, "clazz");
+        final Converter cachedConverter = converterCache.get(clazz);
+        if (cachedConverter != null) {
+            return cachedConverter;
+        }
+        final Converter converter = getFactory(clazz).getConverterForType(clazz);
+        if (converter == null) {
+            return null;
+        }
+        final Converter existingConverter = converterCache.putIfAbsent(clazz, converter);
+        return existingConverter != null ? existingConverter : converter;
     }
 
     private ConverterFactory getFactory(Class<?> clazz) {
         Assert.requireNonNull(clazz, "clazz");
-        List<ConverterFactory> foundConverters = new ArrayList<>();
+        final ConverterFactory cachedFactory = factoryCache.get(clazz);
+        if (cachedFactory != null) {
+            return cachedFactory;
+        }
+        ConverterFactory foundFactory = null;
         for (ConverterFactory factory : converterFactories) {
             if (factory.supportsType(clazz)) {
-                foundConverters.add(factory);
+                if (foundFactory != null) {
+                    throw new RuntimeException("More than 1 converter instance found to convert " + clazz);
+                }
+                foundFactory = factory;
             }
         }
-        if (foundConverters.size() > 1) {
-            throw new RuntimeException("More than 1 converter instance found to convert " + clazz);
-        }
-        if (foundConverters.isEmpty()) {
+        if (foundFactory == null) {
             throw new RuntimeException("No converter instance found to convert " + clazz);
         }
-        return foundConverters.get(0);
+        factoryCache.putIfAbsent(clazz, foundFactory);
+        return foundFactory;
+    }
+
+    private static ClassLoader getClassLoader() {
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        return contextClassLoader != null ? contextClassLoader : ClassLoader.getSystemClassLoader();
+    }
+
+    /**
+     * Only the names of the factory classes are cached. By doing so the cache never holds a reference to a class of
+     * the classloader that is used as key.
+     */
+    private static List<String> getFactoryClassNames(final ClassLoader classLoader) {
+        synchronized (FACTORY_CLASS_NAMES) {
+            List<String> classNames = FACTORY_CLASS_NAMES.get(classLoader);
+            if (classNames == null) {
+                final List<String> foundClassNames = new ArrayList<>();
+                for (final ConverterFactory factory : ServiceLoader.load(ConverterFactory.class, classLoader)) {
+                    foundClassNames.add(factory.getClass().getName());
+                }
+                classNames = Collections.unmodifiableList(foundClassNames);
+                FACTORY_CLASS_NAMES.put(classLoader, classNames);
+            }
+            return classNames;
+        }
+    }
+
+    private static ConverterFactory createFactory(final String className, final ClassLoader classLoader) {
+        try {
+            return Class.forName(className, true, classLoader).asSubclass(ConverterFactory.class).getDeclaredConstructor().newInstance();
+        } catch (final Exception e) {
+            throw new IllegalStateException("Can not create converter factory " + className, e);
+        }
     }
 }
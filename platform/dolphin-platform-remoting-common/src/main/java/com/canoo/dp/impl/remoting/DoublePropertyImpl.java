@@ -0,0 +1,67 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting;
+
+import com.canoo.dp.impl.remoting.legacy.core.Attribute;
+
+/**
+ * A {@link com.canoo.platform.remoting.Property} for {@link Double} values that stores its value as {@code double}.
+ *
+ * @see AbstractPrimitiveProperty
+ */
+public class DoublePropertyImpl extends AbstractPrimitiveProperty<Double> {
+
+    private double value;
+
+    public DoublePropertyImpl(final Attribute attribute) {
+        super(attribute, Double.class);
+        this.value = toDouble(getAttributeValue());
+    }
+
+    /**
+     * Returns the value without boxing it. If the value of the property is {@code null}, {@code 0.0} is returned.
+     *
+     * @return the value
+     */
+    public double getAsDouble() {
+        return value;
+    }
+
+    public void set(final double newValue) {
+        if (isNull() || Double.doubleToLongBits(value) != Double.doubleToLongBits(newValue)) {
+            setAttributeValue(newValue);
+        }
+    }
+
+    @Override
+    protected void storeValue(final Object attributeValue) {
+        this.value = toDouble(attributeValue);
+    }
+
+    @Override
+    protected boolean isStoredValue(final Object attributeValue) {
+        return Double.doubleToLongBits(value) == Double.doubleToLongBits(toDouble(attributeValue));
+    }
+
+    @Override
+    protected Double box() {
+        return value;
+    }
+
+    private static double toDouble(final Object attributeValue) {
+        return attributeValue == null ? 0.0 : ((Number) attributeValue).doubleValue();
+    }
+}
@@ -15,10 +15,18 @@
  */
 package com.canoo.dp.impl.remoting;
 
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
 import com.canoo.platform.remoting.ListChangeEvent;
 import com.canoo.dp.impl.remoting.info.PropertyInfo;
 
 public interface ListMapper {
 
     void processEvent(PropertyInfo observableListInfo, String sourceId, ListChangeEvent<?> event);
+
+    /**
+     * Applies a list change that was received from the other side.
+     * @param command the command that describes the change
+     * @throws MappingException if the change can not be applied, since the lists of both sides are out of sync
+     */
+    void onListSplice(ListSpliceCommand command);
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.codec;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryInput;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryOutput;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryProtocolException;
+import com.canoo.dp.impl.remoting.codec.encoders.AbstractCommandTranscoder;
+import com.canoo.dp.impl.remoting.codec.encoders.BinaryCommandTranscoder;
+import com.canoo.dp.impl.remoting.legacy.communication.Command;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.canoo.dp.impl.remoting.codec.binary.BinaryConstants.*;
+import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.*;
+
+/**
+ * Codec that transfers commands in a compact binary format. Each command is written as a varint type tag
+ * followed by its fields in a fixed order, strings are interned per message and values are tagged by type.
+ * The codec is an alternative to the JSON based codecs and is negotiated by the
+ * {@link com.canoo.dp.impl.remoting.codec.binary.BinaryConstants#BINARY_MIME_TYPE} content type.
+ */
+public final class BinaryCodec {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BinaryCodec.class);
+
+    private static final BinaryCodec INSTANCE = new BinaryCodec();
+
+    private final Map<String, Integer> tags = new HashMap<>();
+
+    private final Map<Integer, BinaryCommandTranscoder<?>> transcoders = new HashMap<>();
+
+    private BinaryCodec() {
+        CommandTranscoders.registerAll(new CommandTranscoders.Registry() {
+            @Override
+            public <C extends Command> void add(final AbstractCommandTranscoder<C> transcoder, final String commandId, final int tag) {
+                addTranscoder(transcoder, commandId, tag);
+            }
+        });
+    }
+
+    private <C extends Command> void addTranscoder(final AbstractCommandTranscoder<C> transcoder, final String commandId, final int tag) {
+        Assert.requireNonNull(transcoder, "transcoder");
+        Assert.requireNonNull(commandId, "commandId");
+
+        if(tags.containsKey(commandId) || transcoders.containsKey(tag)) {
+            throw new IllegalStateException("Transcoder for " + commandId + " already defined!");
+        }
+        tags.put(commandId, tag);
+        transcoders.put(tag, transcoder);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void encode(final List<? extends Command> commands, final OutputStream outputStream) throws IOException {
+        Assert.requireNonNull(commands, "commands");
+        Assert.requireNonNull(outputStream, "outputStream");
+        LOG.debug("Encoding command list with {} commands", commands.size());
+        final BinaryOutput output = new BinaryOutput(outputStream);
+        output.writeByte(PROTOCOL_VERSION);
+        output.writeVarInt(commands.size());
+        for (final Command command : commands) {
+            if (command == null) {
+                throw new IllegalArgumentException("Command list contains a null command: " + command);
+            }
+            LOG.trace("Encoding command of type {}", command.getClass());
+            final Integer tag = tags.get(command.getId());
+            if (tag == null) {
+                throw new RuntimeException("No encoder for command type " + command.getClass() + " found");
+            }
+            output.writeVarInt(tag);
+            ((BinaryCommandTranscoder) transcoders.get(tag)).encode(command, output);
+        }
+        output.flush();
+    }
+
+    public byte[] encode(final List<? extends Command> commands) {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            encode(commands, outputStream);
+        } catch (IOException e) {
+            throw new IllegalStateException("Can not encode commands", e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    public List<Command> decode(final InputStream inputStream) throws IOException {
+        Assert.requireNonNull(inputStream, "inputStream");
+        final BinaryInput input = new BinaryInput(inputStream);
+        final int version = input.readByte();
+        if (version != PROTOCOL_VERSION) {
+            throw new BinaryProtocolException("Unsupported protocol version " + version);
+        }
+        final int count = input.readVarInt();
+        if (count < 0) {
+            throw new BinaryProtocolException("Illegal command count " + count);
+        }
+        final List<Command> commands = new ArrayList<>(Math.min(count, 64));
+        for (int i = 0; i < count; i++) {
+            final int tag = input.readVarInt();
+            final BinaryCommandTranscoder<?> transcoder = transcoders.get(tag);
+            if (transcoder == null) {
+                throw new BinaryProtocolException("Can not decode command with tag " + tag + ". No matching decoder found!");
+            }
+            final Command command = transcoder.decode(input);
+            Assert.requireNonNull(command, "command");
+            commands.add(command);
+        }
+        if (inputStream.read() != -1) {
+            throw new BinaryProtocolException("Unexpected content after last command");
+        }
+        LOG.debug("Decoded command list with {} commands", commands.size());
+        return commands;
+    }
+
+    public List<Command> decode(final byte[] transmitted) {
+        Assert.requireNonNull(transmitted, "transmitted");
+        try {
+            return decode(new ByteArrayInputStream(transmitted));
+        } catch (IOException e) {
+            throw new BinaryProtocolException("Can not decode commands", e);
+        }
+    }
+
+    public static BinaryCodec getInstance() {
+        return INSTANCE;
+    }
+}
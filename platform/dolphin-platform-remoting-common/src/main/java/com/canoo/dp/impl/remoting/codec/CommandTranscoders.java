@@ -0,0 +1,73 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.codec;
+
+import com.canoo.dp.impl.remoting.codec.encoders.AbstractCommandTranscoder;
+import com.canoo.dp.impl.remoting.codec.encoders.AttributeMetadataChangedCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.CallActionCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.ChangeAttributeMetadataCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.CreateContextCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.CreateControllerCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.CreatePresentationModelCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.DeletePresentationModelCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.DestroyContextCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.DestroyControllerCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.EmptyCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.InterruptLongPollCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.ListSpliceCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.PresentationModelDeletedCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.StartLongPollCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.ValueChangedCommandEncoder;
+import com.canoo.dp.impl.remoting.legacy.communication.Command;
+
+import static com.canoo.dp.impl.remoting.codec.binary.BinaryConstants.*;
+import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.*;
+
+/**
+ * Defines the transcoders of all commands that are supported by the {@link StreamingJsonCodec} and the
+ * {@link BinaryCodec}. A command is registered with its id and with its tag in the binary format. The JSON based
+ * codec ignores the tag.
+ */
+final class CommandTranscoders {
+
+    interface Registry {
+
+        <C extends Command> void add(AbstractCommandTranscoder<C> transcoder, String commandId, int tag);
+    }
+
+    private CommandTranscoders() {
+    }
+
+    //Some legacy commands are deprecated but they are still sent by older clients and servers
+    @SuppressWarnings("deprecation")
+    static void registerAll(final Registry registry) {
+        registry.add(new StartLongPollCommandEncoder(), START_LONG_POLL_COMMAND_ID, START_LONG_POLL_COMMAND_TAG);
+        registry.add(new InterruptLongPollCommandEncoder(), INTERRUPT_LONG_POLL_COMMAND_ID, INTERRUPT_LONG_POLL_COMMAND_TAG);
+        registry.add(new CreatePresentationModelCommandEncoder(), CREATE_PRESENTATION_MODEL_COMMAND_ID, CREATE_PRESENTATION_MODEL_COMMAND_TAG);
+        registry.add(new DeletePresentationModelCommandEncoder(), DELETE_PRESENTATION_MODEL_COMMAND_ID, DELETE_PRESENTATION_MODEL_COMMAND_TAG);
+        registry.add(new PresentationModelDeletedCommandEncoder(), PRESENTATION_MODEL_DELETED_COMMAND_ID, PRESENTATION_MODEL_DELETED_COMMAND_TAG);
+        registry.add(new ValueChangedCommandEncoder(), VALUE_CHANGED_COMMAND_ID, VALUE_CHANGED_COMMAND_TAG);
+        registry.add(new ChangeAttributeMetadataCommandEncoder(), CHANGE_ATTRIBUTE_METADATA_COMMAND_ID, CHANGE_ATTRIBUTE_METADATA_COMMAND_TAG);
+        registry.add(new AttributeMetadataChangedCommandEncoder(), ATTRIBUTE_METADATA_CHANGED_COMMAND_ID, ATTRIBUTE_METADATA_CHANGED_COMMAND_TAG);
+        registry.add(new EmptyCommandEncoder(), EMPTY_COMMAND_ID, EMPTY_COMMAND_TAG);
+        registry.add(new CreateContextCommandEncoder(), CREATE_CONTEXT_COMMAND_ID, CREATE_CONTEXT_COMMAND_TAG);
+        registry.add(new DestroyContextCommandEncoder(), DESTROY_CONTEXT_COMMAND_ID, DESTROY_CONTEXT_COMMAND_TAG);
+        registry.add(new CreateControllerCommandEncoder(), CREATE_CONTROLLER_COMMAND_ID, CREATE_CONTROLLER_COMMAND_TAG);
+        registry.add(new DestroyControllerCommandEncoder(), DESTROY_CONTROLLER_COMMAND_ID, DESTROY_CONTROLLER_COMMAND_TAG);
+        registry.add(new CallActionCommandEncoder(), CALL_ACTION_COMMAND_ID, CALL_ACTION_COMMAND_TAG);
+        registry.add(new ListSpliceCommandEncoder(), LIST_SPLICE_COMMAND_ID, LIST_SPLICE_COMMAND_TAG);
+    }
+}
@@ -29,6 +29,7 @@ import com.canoo.dp.impl.remoting.codec.encoders.DestroyContextCommandEncoder;
 import com.canoo.dp.impl.remoting.codec.encoders.DestroyControllerCommandEncoder;
 import com.canoo.dp.impl.remoting.codec.encoders.EmptyCommandEncoder;
 import com.canoo.dp.impl.remoting.codec.encoders.InterruptLongPollCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.ListSpliceCommandEncoder;
 import com.canoo.dp.impl.remoting.codec.encoders.PresentationModelDeletedCommandEncoder;
 import com.canoo.dp.impl.remoting.codec.encoders.StartLongPollCommandEncoder;
 import com.canoo.dp.impl.remoting.codec.encoders.ValueChangedCommandEncoder;
@@ -79,6 +80,7 @@ public final class OptimizedJsonCodec implements Codec {
         addTranscoder(new CreateControllerCommandEncoder(), CREATE_CONTROLLER_COMMAND_ID);
         addTranscoder(new DestroyControllerCommandEncoder(), DESTROY_CONTROLLER_COMMAND_ID);
         addTranscoder(new CallActionCommandEncoder(), CALL_ACTION_COMMAND_ID);
+        addTranscoder(new ListSpliceCommandEncoder(), LIST_SPLICE_COMMAND_ID);
     }
 
     private <C extends Command> void addTranscoder(final AbstractCommandTranscoder<C> transcoder, final String commandId) {
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.codec;
+
+import com.canoo.dp.impl.remoting.legacy.communication.Codec;
+import com.canoo.dp.impl.remoting.legacy.communication.Command;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * A {@link Codec} that can write commands directly to a {@link Writer} and read commands directly from a
+ * {@link Reader} without creating the complete transmitted content as a {@link String}.
+ */
+public interface StreamingCodec extends Codec {
+
+    /**
+     * Encodes the given commands and writes them to the given writer. The writer will not be closed.
+     *
+     * @param commands the commands
+     * @param writer the writer
+     * @throws IOException if the commands can not be written
+     */
+    void encode(List<? extends Command> commands, Writer writer) throws IOException;
+
+    /**
+     * Reads and decodes all commands from the given reader. The reader will not be closed.
+     *
+     * @param reader the reader
+     * @return the decoded commands
+     * @throws IOException if the content can not be read
+     */
+    List<Command> decode(Reader reader) throws IOException;
+
+}
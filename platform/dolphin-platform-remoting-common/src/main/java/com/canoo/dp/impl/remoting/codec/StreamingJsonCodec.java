@@ -0,0 +1,191 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.codec;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.codec.encoders.AbstractCommandTranscoder;
+import com.canoo.dp.impl.remoting.codec.encoders.StreamingCommandTranscoder;
+import com.canoo.dp.impl.remoting.legacy.communication.Command;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.*;
+
+/**
+ * A {@link StreamingCodec} that creates the same JSON format as the {@link OptimizedJsonCodec} but reads and writes
+ * all commands token by token. By doing so no {@link JsonObject} tree is created for a command.
+ *
+ * All commands are written with the id as first field. Commands that are read and do not start with the id (like the
+ * commands that are created by the {@link OptimizedJsonCodec}) are buffered and decoded as a {@link JsonObject}.
+ */
+public final class StreamingJsonCodec implements StreamingCodec {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StreamingJsonCodec.class);
+
+    private static final StreamingJsonCodec INSTANCE = new StreamingJsonCodec();
+
+    private final Map<String, StreamingCommandTranscoder<?>> transcoders = new HashMap<>();
+
+    private StreamingJsonCodec() {
+        CommandTranscoders.registerAll(new CommandTranscoders.Registry() {
+            @Override
+            public <C extends Command> void add(final AbstractCommandTranscoder<C> transcoder, final String commandId, final int tag) {
+                addTranscoder(transcoder, commandId);
+            }
+        });
+    }
+
+    private <C extends Command> void addTranscoder(final StreamingCommandTranscoder<C> transcoder, final String commandId) {
+        Assert.requireNonNull(transcoder, "transcoder");
+        Assert.requireNonNull(commandId, "commandId");
+
+        if(transcoders.containsKey(commandId)) {
+            throw new IllegalStateException("Transcoder for " + commandId + " already defined!");
+        }
+        transcoders.put(commandId, transcoder);
+    }
+
+    @Override
+    public String encode(final List<? extends Command> commands) {
+        final StringWriter writer = new StringWriter();
+        try {
+            encode(commands, writer);
+        } catch (IOException e) {
+            throw new IllegalStateException("Can not write to a StringWriter", e);
+        }
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Encoded message: {}", writer.toString());
+        }
+        return writer.toString();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void encode(final List<? extends Command> commands, final Writer writer) throws IOException {
+        Assert.requireNonNull(commands, "commands");
+        Assert.requireNonNull(writer, "writer");
+        LOG.debug("Encoding command list with {} commands", commands.size());
+        final JsonWriter jsonWriter = new JsonWriter(writer);
+        jsonWriter.setLenient(true);
+        jsonWriter.beginArray();
+        for (final Command command : commands) {
+            if (command == null) {
+                throw new IllegalArgumentException("Command list contains a null command: " + command);
+            }
+            LOG.trace("Encoding command of type {}", command.getClass());
+            final StreamingCommandTranscoder encoder = transcoders.get(command.getId());
+            if (encoder == null) {
+                throw new RuntimeException("No encoder for command type " + command.getClass() + " found");
+            }
+            encoder.encode(command, jsonWriter);
+        }
+        jsonWriter.endArray();
+        jsonWriter.flush();
+    }
+
+    @Override
+    public List<Command> decode(final String transmitted) {
+        Assert.requireNonNull(transmitted, "transmitted");
+        LOG.trace("Decoding message: {}", transmitted);
+        try {
+            return decode(new StringReader(transmitted));
+        } catch (IOException ex) {
+            throw new JsonParseException("Illegal JSON detected", ex);
+        }
+    }
+
+    @Override
+    public List<Command> decode(final Reader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        try {
+            final JsonReader jsonReader = new JsonReader(reader);
+            jsonReader.setLenient(true);
+            final List<Command> commands = new ArrayList<>();
+            jsonReader.beginArray();
+            while (jsonReader.hasNext()) {
+                commands.add(decodeCommand(jsonReader));
+            }
+            jsonReader.endArray();
+            if (jsonReader.peek() != JsonToken.END_DOCUMENT) {
+                throw new JsonParseException("Did not consume the entire document.");
+            }
+            LOG.debug("Decoded command list with {} commands", commands.size());
+            return commands;
+        } catch (MalformedJsonException | RuntimeException ex) {
+            throw new JsonParseException("Illegal JSON detected", ex);
+        }
+    }
+
+    private Command decodeCommand(final JsonReader reader) throws IOException {
+        reader.beginObject();
+        if (!reader.hasNext()) {
+            throw new RuntimeException("Can not encode command without id!");
+        }
+        final String firstName = reader.nextName();
+        final Command command;
+        if (ID.equals(firstName)) {
+            final String id = reader.nextString();
+            LOG.trace("Decoding command: {}", id);
+            command = getTranscoder(id).decode(reader);
+        } else {
+            final JsonObject jsonObject = new JsonObject();
+            final JsonParser parser = new JsonParser();
+            jsonObject.add(firstName, parser.parse(reader));
+            while (reader.hasNext()) {
+                jsonObject.add(reader.nextName(), parser.parse(reader));
+            }
+            final JsonPrimitive idElement = jsonObject.getAsJsonPrimitive(ID);
+            if (idElement == null) {
+                throw new RuntimeException("Can not encode command without id!");
+            }
+            final String id = idElement.getAsString();
+            LOG.trace("Decoding buffered command: {}", id);
+            command = getTranscoder(id).decode(jsonObject);
+        }
+        reader.endObject();
+        return Assert.requireNonNull(command, "command");
+    }
+
+    private StreamingCommandTranscoder<?> getTranscoder(final String id) {
+        final StreamingCommandTranscoder<?> transcoder = transcoders.get(id);
+        if (transcoder == null) {
+            throw new RuntimeException("Can not encode command of type " + id + ". No matching encoder found!");
+        }
+        return transcoder;
+    }
+
+    public static StreamingJsonCodec getInstance() {
+        return INSTANCE;
+    }
+}
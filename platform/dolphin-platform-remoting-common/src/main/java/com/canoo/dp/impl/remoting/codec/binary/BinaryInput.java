@@ -0,0 +1,168 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.codec.binary;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.google.gson.internal.LazilyParsedNumber;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.canoo.dp.impl.remoting.codec.binary.BinaryConstants.*;
+
+/**
+ * Reads the primitives of the binary remoting protocol that were written by a {@link BinaryOutput}.
+ */
+public final class BinaryInput {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final int READ_CHUNK_SIZE = 8192;
+
+    private final DataInputStream in;
+
+    private final int maxStringLength;
+
+    private final List<String> internedStrings = new ArrayList<>();
+
+    public BinaryInput(final InputStream inputStream) {
+        this(inputStream, MAX_STRING_LENGTH);
+    }
+
+    /**
+     * Creates a new input that rejects strings with an encoded length greater than {@code maxStringLength} bytes.
+     * @param inputStream the stream to read from
+     * @param maxStringLength the maximum length in bytes of a single string
+     */
+    public BinaryInput(final InputStream inputStream, final int maxStringLength) {
+        this.in = new DataInputStream(Assert.requireNonNull(inputStream, "inputStream"));
+        if (maxStringLength < 0) {
+            throw new IllegalArgumentException("maxStringLength must not be negative");
+        }
+        this.maxStringLength = maxStringLength;
+    }
+
+    public int readVarInt() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            final int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new BinaryProtocolException("Malformed varint");
+    }
+
+    public long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new BinaryProtocolException("Malformed varint");
+    }
+
+    public int readByte() throws IOException {
+        return in.readUnsignedByte();
+    }
+
+    public String readString() throws IOException {
+        final int reference = readVarInt();
+        if (reference == STRING_NULL) {
+            return null;
+        }
+        if (reference == STRING_LITERAL) {
+            final String value = readUtf8();
+            internedStrings.add(value);
+            return value;
+        }
+        final int index = reference - STRING_REFERENCE_OFFSET;
+        if (index < 0 || index >= internedStrings.size()) {
+            throw new BinaryProtocolException("Unknown string reference " + reference);
+        }
+        return internedStrings.get(index);
+    }
+
+    public Object readValue() throws IOException {
+        final int type = in.readUnsignedByte();
+        switch (type) {
+            case VALUE_NULL:
+                return null;
+            case VALUE_FALSE:
+                return false;
+            case VALUE_TRUE:
+                return true;
+            case VALUE_INT:
+                return unZigZag(readVarInt());
+            case VALUE_LONG:
+                return unZigZag(readVarLong());
+            case VALUE_FLOAT:
+                return in.readFloat();
+            case VALUE_DOUBLE:
+                return in.readDouble();
+            case VALUE_STRING:
+                return readUtf8();
+            case VALUE_NUMBER:
+                return new LazilyParsedNumber(readUtf8());
+            default:
+                throw new BinaryProtocolException("Unknown value type " + type);
+        }
+    }
+
+    private String readUtf8() throws IOException {
+        final int length = readVarInt();
+        if (length < 0 || length > maxStringLength) {
+            throw new BinaryProtocolException("Illegal string length " + length);
+        }
+        if (length <= READ_CHUNK_SIZE) {
+            final byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            return new String(bytes, UTF_8);
+        }
+
+        //The length is sent by the other side, so memory is only allocated for content that was really received
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(READ_CHUNK_SIZE);
+        final byte[] chunk = new byte[READ_CHUNK_SIZE];
+        int remaining = length;
+        while (remaining > 0) {
+            final int read = in.read(chunk, 0, Math.min(remaining, chunk.length));
+            if (read < 0) {
+                throw new EOFException("Expected " + remaining + " more bytes of string content");
+            }
+            bytes.write(chunk, 0, read);
+            remaining -= read;
+        }
+        return new String(bytes.toByteArray(), UTF_8);
+    }
+
+    private static int unZigZag(final int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long unZigZag(final long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.codec.binary;
+
+import com.canoo.dp.impl.platform.core.Assert;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.canoo.dp.impl.remoting.codec.binary.BinaryConstants.*;
+
+/**
+ * Writes the primitives of the binary remoting protocol. Integers are written as varints, strings that are used as
+ * ids or names are interned for the lifetime of the output: a string is only transmitted the first time it is
+ * written and referenced by its index afterwards.
+ */
+public final class BinaryOutput {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final DataOutputStream out;
+
+    private final Map<String, Integer> internedStrings = new HashMap<>();
+
+    public BinaryOutput(final OutputStream outputStream) {
+        this.out = new DataOutputStream(Assert.requireNonNull(outputStream, "outputStream"));
+    }
+
+    public void writeVarInt(final int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    public void writeVarLong(final long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.writeByte((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.writeByte((int) remaining);
+    }
+
+    public void writeByte(final int value) throws IOException {
+        out.writeByte(value);
+    }
+
+    /**
+     * Writes a string that is used as id or name. Such strings are interned and can be {@code null}.
+     */
+    public void writeString(final String value) throws IOException {
+        if (value == null) {
+            writeVarInt(STRING_NULL);
+            return;
+        }
+        final Integer index = internedStrings.get(value);
+        if (index != null) {
+            writeVarInt(index + STRING_REFERENCE_OFFSET);
+            return;
+        }
+        internedStrings.put(value, internedStrings.size());
+        writeVarInt(STRING_LITERAL);
+        writeUtf8(value);
+    }
+
+    /**
+     * Writes a value of an attribute, a param or a metadata entry. Only {@code null}, {@link String}, {@link Boolean}
+     * and {@link Number} values are supported.
+     */
+    public void writeValue(final Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(VALUE_NULL);
+        } else if (value instanceof String) {
+            out.writeByte(VALUE_STRING);
+            writeUtf8((String) value);
+        } else if (value instanceof Boolean) {
+            writeBooleanValue((Boolean) value);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            writeIntValue(((Number) value).intValue());
+        } else if (value instanceof Long) {
+            writeLongValue((Long) value);
+        } else if (value instanceof Float) {
+            out.writeByte(VALUE_FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            writeDoubleValue((Double) value);
+        } else if (value instanceof Number) {
+            out.writeByte(VALUE_NUMBER);
+            writeUtf8(value.toString());
+        } else {
+            throw new IllegalArgumentException("Only String, Number, and Boolean are allowed currently");
+        }
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private void writeIntValue(final int value) throws IOException {
+        out.writeByte(VALUE_INT);
+        writeVarInt(zigZag(value));
+    }
+
+    private void writeLongValue(final long value) throws IOException {
+        out.writeByte(VALUE_LONG);
+        writeVarLong(zigZag(value));
+    }
+
+    private void writeDoubleValue(final double value) throws IOException {
+        out.writeByte(VALUE_DOUBLE);
+        out.writeDouble(value);
+    }
+
+    private void writeBooleanValue(final boolean value) throws IOException {
+        out.writeByte(value ? VALUE_TRUE : VALUE_FALSE);
+    }
+
+    private void writeUtf8(final String value) throws IOException {
+        final byte[] bytes = value.getBytes(UTF_8);
+        writeVarInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static int zigZag(final int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static long zigZag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+}
@@ -1,8 +1,14 @@
 package com.canoo.dp.impl.remoting.codec.encoders;
 
 import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryInput;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryOutput;
 import com.canoo.dp.impl.remoting.legacy.communication.AttributeMetadataChangedCommand;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.ATTRIBUTE_ID;
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.ATTRIBUTE_METADATA_CHANGED_COMMAND_ID;
@@ -32,4 +38,61 @@ public class AttributeMetadataChangedCommandEncoder extends AbstractCommandTrans
         command.setValue(ValueEncoder.decodeValue(jsonObject.get(VALUE)));
         return command;
     }
+
+    @Override
+    public void encode(final AttributeMetadataChangedCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.beginObject();
+        writer.name(ID).value(ATTRIBUTE_METADATA_CHANGED_COMMAND_ID);
+        writer.name(ATTRIBUTE_ID).value(command.getAttributeId());
+        writer.name(NAME).value(command.getMetadataName());
+        writer.name(VALUE);
+        ValueEncoder.writeValue(writer, command.getValue());
+        writer.endObject();
+    }
+
+    @Override
+    public AttributeMetadataChangedCommand decode(final JsonReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final AttributeMetadataChangedCommand command = new AttributeMetadataChangedCommand();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            switch (name) {
+                case ATTRIBUTE_ID:
+                    command.setAttributeId(reader.nextString());
+                    break;
+                case NAME:
+                    command.setMetadataName(reader.nextString());
+                    break;
+                case VALUE:
+                    command.setValue(ValueEncoder.readValue(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        requireElement(command.getAttributeId(), ATTRIBUTE_ID);
+        requireElement(command.getMetadataName(), NAME);
+        return command;
+    }
+
+    @Override
+    public void encode(final AttributeMetadataChangedCommand command, final BinaryOutput output) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(output, "output");
+        output.writeString(command.getAttributeId());
+        output.writeString(command.getMetadataName());
+        output.writeValue(command.getValue());
+    }
+
+    @Override
+    public AttributeMetadataChangedCommand decode(final BinaryInput input) throws IOException {
+        Assert.requireNonNull(input, "input");
+        final AttributeMetadataChangedCommand command = new AttributeMetadataChangedCommand();
+        command.setAttributeId(input.readString());
+        command.setMetadataName(input.readString());
+        command.setValue(input.readValue());
+        return command;
+    }
 }
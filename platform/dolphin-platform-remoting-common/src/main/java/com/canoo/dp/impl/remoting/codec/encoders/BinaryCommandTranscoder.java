@@ -0,0 +1,36 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.codec.encoders;
+
+import com.canoo.dp.impl.remoting.codec.binary.BinaryInput;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryOutput;
+import com.canoo.dp.impl.remoting.legacy.communication.Command;
+
+import java.io.IOException;
+
+/**
+ * Transcoder that writes and reads the fields of a command in the binary remoting protocol. The type tag of the
+ * command is written and read by the codec.
+ *
+ * @param <C> type of the command
+ */
+public interface BinaryCommandTranscoder<C extends Command> {
+
+    void encode(C command, BinaryOutput output) throws IOException;
+
+    C decode(BinaryInput input) throws IOException;
+
+}
@@ -16,12 +16,18 @@
 package com.canoo.dp.impl.remoting.codec.encoders;
 
 import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryInput;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryOutput;
 import com.canoo.dp.impl.remoting.commands.CallActionCommand;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.util.Map;
 
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.CALL_ACTION_COMMAND_ID;
@@ -73,4 +79,101 @@ public class CallActionCommandEncoder extends AbstractCommandTranscoder<CallActi
             throw new JsonParseException("Illegal JSON detected", ex);
         }
     }
+
+    @Override
+    public void encode(final CallActionCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.beginObject();
+        writer.name(ID).value(CALL_ACTION_COMMAND_ID);
+        writer.name(CONTROLLER_ID).value(command.getControllerId());
+        writer.name(NAME).value(command.getActionName());
+        writer.name(PARAMS).beginArray();
+        for(Map.Entry<String, Object> paramEntry : command.getParams().entrySet()) {
+            writer.beginObject();
+            writer.name(NAME).value(paramEntry.getKey());
+            writer.name(VALUE);
+            ValueEncoder.writeValue(writer, paramEntry.getValue());
+            writer.endObject();
+        }
+        writer.endArray();
+        writer.endObject();
+    }
+
+    @Override
+    public CallActionCommand decode(final JsonReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final CallActionCommand command = new CallActionCommand();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            switch (name) {
+                case CONTROLLER_ID:
+                    command.setControllerId(reader.nextString());
+                    break;
+                case NAME:
+                    command.setActionName(reader.nextString());
+                    break;
+                case PARAMS:
+                    readParams(reader, command);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        requireElement(command.getControllerId(), CONTROLLER_ID);
+        requireElement(command.getActionName(), NAME);
+        return command;
+    }
+
+    private void readParams(final JsonReader reader, final CallActionCommand command) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return;
+        }
+        reader.beginArray();
+        while (reader.hasNext()) {
+            String paramName = null;
+            Object paramValue = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                final String name = reader.nextName();
+                if (NAME.equals(name)) {
+                    paramName = reader.nextString();
+                } else if (VALUE.equals(name)) {
+                    paramValue = ValueEncoder.readValue(reader);
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            command.addParam(requireElement(paramName, NAME), paramValue);
+        }
+        reader.endArray();
+    }
+
+    @Override
+    public void encode(final CallActionCommand command, final BinaryOutput output) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(output, "output");
+        output.writeString(command.getControllerId());
+        output.writeString(command.getActionName());
+        output.writeVarInt(command.getParams().size());
+        for(Map.Entry<String, Object> paramEntry : command.getParams().entrySet()) {
+            output.writeString(paramEntry.getKey());
+            output.writeValue(paramEntry.getValue());
+        }
+    }
+
+    @Override
+    public CallActionCommand decode(final BinaryInput input) throws IOException {
+        Assert.requireNonNull(input, "input");
+        final CallActionCommand command = new CallActionCommand();
+        command.setControllerId(input.readString());
+        command.setActionName(input.readString());
+        final int paramCount = input.readVarInt();
+        for (int i = 0; i < paramCount; i++) {
+            command.addParam(input.readString(), input.readValue());
+        }
+        return command;
+    }
 }
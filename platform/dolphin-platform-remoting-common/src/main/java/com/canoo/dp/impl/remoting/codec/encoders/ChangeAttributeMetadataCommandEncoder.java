@@ -1,8 +1,14 @@
 package com.canoo.dp.impl.remoting.codec.encoders;
 
 import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryInput;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryOutput;
 import com.canoo.dp.impl.remoting.legacy.communication.ChangeAttributeMetadataCommand;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.ATTRIBUTE_ID;
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.CHANGE_ATTRIBUTE_METADATA_COMMAND_ID;
@@ -31,4 +37,61 @@ public class ChangeAttributeMetadataCommandEncoder extends AbstractCommandTransc
         command.setValue(ValueEncoder.decodeValue(jsonObject.get(VALUE)));
         return command;
     }
+
+    @Override
+    public void encode(final ChangeAttributeMetadataCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.beginObject();
+        writer.name(ID).value(CHANGE_ATTRIBUTE_METADATA_COMMAND_ID);
+        writer.name(ATTRIBUTE_ID).value(command.getAttributeId());
+        writer.name(NAME).value(command.getMetadataName());
+        writer.name(VALUE);
+        ValueEncoder.writeValue(writer, command.getValue());
+        writer.endObject();
+    }
+
+    @Override
+    public ChangeAttributeMetadataCommand decode(final JsonReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final ChangeAttributeMetadataCommand command = new ChangeAttributeMetadataCommand();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            switch (name) {
+                case ATTRIBUTE_ID:
+                    command.setAttributeId(reader.nextString());
+                    break;
+                case NAME:
+                    command.setMetadataName(reader.nextString());
+                    break;
+                case VALUE:
+                    command.setValue(ValueEncoder.readValue(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        requireElement(command.getAttributeId(), ATTRIBUTE_ID);
+        requireElement(command.getMetadataName(), NAME);
+        return command;
+    }
+
+    @Override
+    public void encode(final ChangeAttributeMetadataCommand command, final BinaryOutput output) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(output, "output");
+        output.writeString(command.getAttributeId());
+        output.writeString(command.getMetadataName());
+        output.writeValue(command.getValue());
+    }
+
+    @Override
+    public ChangeAttributeMetadataCommand decode(final BinaryInput input) throws IOException {
+        Assert.requireNonNull(input, "input");
+        final ChangeAttributeMetadataCommand command = new ChangeAttributeMetadataCommand();
+        command.setAttributeId(input.readString());
+        command.setMetadataName(input.readString());
+        command.setValue(input.readValue());
+        return command;
+    }
 }
@@ -16,9 +16,15 @@
 package com.canoo.dp.impl.remoting.codec.encoders;
 
 import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryInput;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryOutput;
 import com.canoo.dp.impl.remoting.commands.CreateControllerCommand;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.CONTROLLER_ID;
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.CREATE_CONTROLLER_COMMAND_ID;
@@ -51,4 +57,50 @@ public class CreateControllerCommandEncoder extends AbstractCommandTranscoder<Cr
             throw new JsonParseException("Illegal JSON detected", ex);
         }
     }
+
+    @Override
+    public void encode(final CreateControllerCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.beginObject();
+        writer.name(ID).value(CREATE_CONTROLLER_COMMAND_ID);
+        writer.name(CONTROLLER_ID).value(command.getParentControllerId());
+        writer.name(NAME).value(command.getControllerName());
+        writer.endObject();
+    }
+
+    @Override
+    public CreateControllerCommand decode(final JsonReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final CreateControllerCommand command = new CreateControllerCommand();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (CONTROLLER_ID.equals(name)) {
+                command.setParentControllerId(nextStringOrNull(reader));
+            } else if (NAME.equals(name)) {
+                command.setControllerName(reader.nextString());
+            } else {
+                reader.skipValue();
+            }
+        }
+        requireElement(command.getControllerName(), NAME);
+        return command;
+    }
+
+    @Override
+    public void encode(final CreateControllerCommand command, final BinaryOutput output) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(output, "output");
+        output.writeString(command.getParentControllerId());
+        output.writeString(command.getControllerName());
+    }
+
+    @Override
+    public CreateControllerCommand decode(final BinaryInput input) throws IOException {
+        Assert.requireNonNull(input, "input");
+        final CreateControllerCommand command = new CreateControllerCommand();
+        command.setParentControllerId(input.readString());
+        command.setControllerName(input.readString());
+        return command;
+    }
 }
@@ -16,13 +16,19 @@
 package com.canoo.dp.impl.remoting.codec.encoders;
 
 import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryInput;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryOutput;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryProtocolException;
 import com.canoo.dp.impl.remoting.legacy.communication.CreatePresentationModelCommand;
 import com.canoo.dp.impl.remoting.legacy.core.Attribute;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -91,4 +97,128 @@ public class CreatePresentationModelCommandEncoder extends AbstractCommandTransc
             throw new JsonParseException("Illegal JSON detected", ex);
         }
     }
+
+    @Override
+    public void encode(final CreatePresentationModelCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.beginObject();
+        writer.name(ID).value(CREATE_PRESENTATION_MODEL_COMMAND_ID);
+        writer.name(PM_ID).value(command.getPmId());
+        writer.name(PM_TYPE).value(command.getPmType());
+        writer.name(PM_ATTRIBUTES).beginArray();
+        for (final Map<String, Object> attribute : command.getAttributes()) {
+            writer.beginObject();
+            writer.name(NAME).value(String.valueOf(attribute.get(Attribute.PROPERTY_NAME)));
+            writer.name(ATTRIBUTE_ID).value(String.valueOf(attribute.get(Attribute.ID)));
+            writer.name(VALUE);
+            ValueEncoder.writeValue(writer, attribute.get(Attribute.VALUE_NAME));
+            writer.endObject();
+        }
+        writer.endArray();
+        writer.endObject();
+    }
+
+    @Override
+    public CreatePresentationModelCommand decode(final JsonReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final CreatePresentationModelCommand command = createServerSideCommand();
+        List<Map<String, Object>> attributes = null;
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            switch (name) {
+                case PM_ID:
+                    command.setPmId(reader.nextString());
+                    break;
+                case PM_TYPE:
+                    command.setPmType(reader.nextString());
+                    break;
+                case PM_ATTRIBUTES:
+                    attributes = readAttributes(reader);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        requireElement(command.getPmId(), PM_ID);
+        requireElement(command.getPmType(), PM_TYPE);
+        command.setAttributes(requireElement(attributes, PM_ATTRIBUTES));
+        return command;
+    }
+
+    private List<Map<String, Object>> readAttributes(final JsonReader reader) throws IOException {
+        final List<Map<String, Object>> attributes = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            final HashMap<String, Object> map = new HashMap<>();
+            map.put(Attribute.VALUE_NAME, null);
+            reader.beginObject();
+            while (reader.hasNext()) {
+                final String name = reader.nextName();
+                switch (name) {
+                    case NAME:
+                        map.put(Attribute.PROPERTY_NAME, reader.nextString());
+                        break;
+                    case ATTRIBUTE_ID:
+                        map.put(Attribute.ID, reader.nextString());
+                        break;
+                    case VALUE:
+                        map.put(Attribute.VALUE_NAME, ValueEncoder.readValue(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+            requireElement(map.get(Attribute.PROPERTY_NAME), NAME);
+            requireElement(map.get(Attribute.ID), ATTRIBUTE_ID);
+            attributes.add(map);
+        }
+        reader.endArray();
+        return attributes;
+    }
+
+    @Override
+    public void encode(final CreatePresentationModelCommand command, final BinaryOutput output) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(output, "output");
+        output.writeString(command.getPmId());
+        output.writeString(command.getPmType());
+        output.writeVarInt(command.getAttributes().size());
+        for (final Map<String, Object> attribute : command.getAttributes()) {
+            output.writeString(String.valueOf(attribute.get(Attribute.PROPERTY_NAME)));
+            output.writeString(String.valueOf(attribute.get(Attribute.ID)));
+            output.writeValue(attribute.get(Attribute.VALUE_NAME));
+        }
+    }
+
+    @Override
+    public CreatePresentationModelCommand decode(final BinaryInput input) throws IOException {
+        Assert.requireNonNull(input, "input");
+        final CreatePresentationModelCommand command = createServerSideCommand();
+        command.setPmId(input.readString());
+        command.setPmType(input.readString());
+        final int attributeCount = input.readVarInt();
+        if (attributeCount < 0) {
+            throw new BinaryProtocolException("Illegal attribute count " + attributeCount);
+        }
+        final List<Map<String, Object>> attributes = new ArrayList<>(Math.min(attributeCount, 16));
+        for (int i = 0; i < attributeCount; i++) {
+            final HashMap<String, Object> map = new HashMap<>();
+            map.put(Attribute.PROPERTY_NAME, input.readString());
+            map.put(Attribute.ID, input.readString());
+            map.put(Attribute.VALUE_NAME, input.readValue());
+            attributes.add(map);
+        }
+        command.setAttributes(attributes);
+        return command;
+    }
+
+    //A decoded model is never client side only, the flag is deprecated but still read by the ClientResponseHandler
+    @SuppressWarnings("deprecation")
+    private static CreatePresentationModelCommand createServerSideCommand() {
+        final CreatePresentationModelCommand command = new CreatePresentationModelCommand();
+        command.setClientSideOnly(false);
+        return command;
+    }
 }
@@ -1,8 +1,14 @@
 package com.canoo.dp.impl.remoting.codec.encoders;
 
 import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryInput;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryOutput;
 import com.canoo.dp.impl.remoting.legacy.communication.DeletePresentationModelCommand;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.DELETE_PRESENTATION_MODEL_COMMAND_ID;
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.ID;
@@ -25,4 +31,45 @@ public class DeletePresentationModelCommandEncoder extends AbstractCommandTransc
         command.setPmId(getStringElement(jsonObject, PM_ID));
         return command;
     }
+
+    @Override
+    public void encode(final DeletePresentationModelCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.beginObject();
+        writer.name(ID).value(DELETE_PRESENTATION_MODEL_COMMAND_ID);
+        writer.name(PM_ID).value(command.getPmId());
+        writer.endObject();
+    }
+
+    @Override
+    public DeletePresentationModelCommand decode(final JsonReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final DeletePresentationModelCommand command = new DeletePresentationModelCommand();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (PM_ID.equals(name)) {
+                command.setPmId(reader.nextString());
+            } else {
+                reader.skipValue();
+            }
+        }
+        requireElement(command.getPmId(), PM_ID);
+        return command;
+    }
+
+    @Override
+    public void encode(final DeletePresentationModelCommand command, final BinaryOutput output) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(output, "output");
+        output.writeString(command.getPmId());
+    }
+
+    @Override
+    public DeletePresentationModelCommand decode(final BinaryInput input) throws IOException {
+        Assert.requireNonNull(input, "input");
+        final DeletePresentationModelCommand command = new DeletePresentationModelCommand();
+        command.setPmId(input.readString());
+        return command;
+    }
 }
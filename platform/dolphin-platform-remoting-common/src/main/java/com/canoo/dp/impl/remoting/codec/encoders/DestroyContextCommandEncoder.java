@@ -1,8 +1,14 @@
 package com.canoo.dp.impl.remoting.codec.encoders;
 
 import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryInput;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryOutput;
 import com.canoo.dp.impl.remoting.commands.DestroyContextCommand;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.DESTROY_CONTEXT_COMMAND_ID;
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.ID;
@@ -20,4 +26,29 @@ public class DestroyContextCommandEncoder extends AbstractCommandTranscoder<Dest
     public DestroyContextCommand decode(JsonObject jsonObject) {
         return new DestroyContextCommand();
     }
+
+    @Override
+    public void encode(final DestroyContextCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.beginObject();
+        writer.name(ID).value(DESTROY_CONTEXT_COMMAND_ID);
+        writer.endObject();
+    }
+
+    @Override
+    public DestroyContextCommand decode(final JsonReader reader) throws IOException {
+        skipRemainingElements(reader);
+        return new DestroyContextCommand();
+    }
+
+    @Override
+    public void encode(final DestroyContextCommand command, final BinaryOutput output) throws IOException {
+        Assert.requireNonNull(command, "command");
+    }
+
+    @Override
+    public DestroyContextCommand decode(final BinaryInput input) throws IOException {
+        return new DestroyContextCommand();
+    }
 }
@@ -16,9 +16,15 @@
 package com.canoo.dp.impl.remoting.codec.encoders;
 
 import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryInput;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryOutput;
 import com.canoo.dp.impl.remoting.commands.DestroyControllerCommand;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.CONTROLLER_ID;
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.DESTROY_CONTROLLER_COMMAND_ID;
@@ -46,4 +52,45 @@ public class DestroyControllerCommandEncoder extends AbstractCommandTranscoder<D
             throw new JsonParseException("Illegal JSON detected", ex);
         }
     }
+
+    @Override
+    public void encode(final DestroyControllerCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.beginObject();
+        writer.name(ID).value(DESTROY_CONTROLLER_COMMAND_ID);
+        writer.name(CONTROLLER_ID).value(command.getControllerId());
+        writer.endObject();
+    }
+
+    @Override
+    public DestroyControllerCommand decode(final JsonReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final DestroyControllerCommand command = new DestroyControllerCommand();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (CONTROLLER_ID.equals(name)) {
+                command.setControllerId(reader.nextString());
+            } else {
+                reader.skipValue();
+            }
+        }
+        requireElement(command.getControllerId(), CONTROLLER_ID);
+        return command;
+    }
+
+    @Override
+    public void encode(final DestroyControllerCommand command, final BinaryOutput output) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(output, "output");
+        output.writeString(command.getControllerId());
+    }
+
+    @Override
+    public DestroyControllerCommand decode(final BinaryInput input) throws IOException {
+        Assert.requireNonNull(input, "input");
+        final DestroyControllerCommand command = new DestroyControllerCommand();
+        command.setControllerId(input.readString());
+        return command;
+    }
 }
@@ -1,9 +1,15 @@
 package com.canoo.dp.impl.remoting.codec.encoders;
 
 import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryInput;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryOutput;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import com.canoo.dp.impl.remoting.legacy.communication.EmptyCommand;
 
+import java.io.IOException;
+
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.EMPTY_COMMAND_ID;
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.ID;
 
@@ -21,4 +27,29 @@ public class EmptyCommandEncoder extends AbstractCommandTranscoder<EmptyCommand>
     public EmptyCommand decode(JsonObject jsonObject) {
         return new EmptyCommand();
     }
+
+    @Override
+    public void encode(final EmptyCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.beginObject();
+        writer.name(ID).value(EMPTY_COMMAND_ID);
+        writer.endObject();
+    }
+
+    @Override
+    public EmptyCommand decode(final JsonReader reader) throws IOException {
+        skipRemainingElements(reader);
+        return new EmptyCommand();
+    }
+
+    @Override
+    public void encode(final EmptyCommand command, final BinaryOutput output) throws IOException {
+        Assert.requireNonNull(command, "command");
+    }
+
+    @Override
+    public EmptyCommand decode(final BinaryInput input) throws IOException {
+        return new EmptyCommand();
+    }
 }
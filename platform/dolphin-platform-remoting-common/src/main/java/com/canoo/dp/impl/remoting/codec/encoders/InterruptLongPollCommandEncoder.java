@@ -2,7 +2,13 @@ package com.canoo.dp.impl.remoting.codec.encoders;
 
 import com.canoo.dp.impl.remoting.legacy.commands.InterruptLongPollCommand;
 import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryInput;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryOutput;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.ID;
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.INTERRUPT_LONG_POLL_COMMAND_ID;
@@ -22,4 +28,29 @@ public class InterruptLongPollCommandEncoder extends AbstractCommandTranscoder<I
     public InterruptLongPollCommand decode(JsonObject jsonObject) {
         return new InterruptLongPollCommand();
     }
+
+    @Override
+    public void encode(final InterruptLongPollCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.beginObject();
+        writer.name(ID).value(INTERRUPT_LONG_POLL_COMMAND_ID);
+        writer.endObject();
+    }
+
+    @Override
+    public InterruptLongPollCommand decode(final JsonReader reader) throws IOException {
+        skipRemainingElements(reader);
+        return new InterruptLongPollCommand();
+    }
+
+    @Override
+    public void encode(final InterruptLongPollCommand command, final BinaryOutput output) throws IOException {
+        Assert.requireNonNull(command, "command");
+    }
+
+    @Override
+    public InterruptLongPollCommand decode(final BinaryInput input) throws IOException {
+        return new InterruptLongPollCommand();
+    }
 }
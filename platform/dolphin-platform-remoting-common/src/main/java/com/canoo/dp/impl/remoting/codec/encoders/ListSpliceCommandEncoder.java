@@ -0,0 +1,176 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.codec.encoders;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryInput;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryOutput;
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.FROM;
+import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.ID;
+import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.LIST_SPLICE_COMMAND_ID;
+import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.NAME;
+import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.SOURCE_ID;
+import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.TO;
+import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.VALUES;
+
+public class ListSpliceCommandEncoder extends AbstractCommandTranscoder<ListSpliceCommand> {
+
+    @Override
+    public JsonObject encode(final ListSpliceCommand command) {
+        Assert.requireNonNull(command, "command");
+        final JsonObject jsonCommand = new JsonObject();
+        jsonCommand.addProperty(SOURCE_ID, command.getSourceId());
+        jsonCommand.addProperty(NAME, command.getAttributeName());
+        jsonCommand.addProperty(FROM, command.getFrom());
+        jsonCommand.addProperty(TO, command.getTo());
+
+        final JsonArray valueArray = new JsonArray();
+        for (final Object value : command.getValues()) {
+            valueArray.add(ValueEncoder.encodeValue(value));
+        }
+        jsonCommand.add(VALUES, valueArray);
+
+        jsonCommand.addProperty(ID, LIST_SPLICE_COMMAND_ID);
+        return jsonCommand;
+    }
+
+    @Override
+    public ListSpliceCommand decode(final JsonObject jsonObject) {
+        Assert.requireNonNull(jsonObject, "jsonObject");
+        try {
+            final ListSpliceCommand command = new ListSpliceCommand();
+            command.setSourceId(getStringElement(jsonObject, SOURCE_ID));
+            command.setAttributeName(getStringElement(jsonObject, NAME));
+            command.setFrom(jsonObject.getAsJsonPrimitive(FROM).getAsInt());
+            command.setTo(jsonObject.getAsJsonPrimitive(TO).getAsInt());
+
+            final JsonArray jsonArray = jsonObject.getAsJsonArray(VALUES);
+            if (jsonArray != null) {
+                for (final JsonElement jsonElement : jsonArray) {
+                    command.addValue(ValueEncoder.decodeValue(jsonElement));
+                }
+            }
+            return command;
+        } catch (Exception ex) {
+            throw new JsonParseException("Illegal JSON detected", ex);
+        }
+    }
+
+    @Override
+    public void encode(final ListSpliceCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.beginObject();
+        writer.name(ID).value(LIST_SPLICE_COMMAND_ID);
+        writer.name(SOURCE_ID).value(command.getSourceId());
+        writer.name(NAME).value(command.getAttributeName());
+        writer.name(FROM).value(command.getFrom());
+        writer.name(TO).value(command.getTo());
+        writer.name(VALUES).beginArray();
+        for (final Object value : command.getValues()) {
+            ValueEncoder.writeValue(writer, value);
+        }
+        writer.endArray();
+        writer.endObject();
+    }
+
+    @Override
+    public ListSpliceCommand decode(final JsonReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final ListSpliceCommand command = new ListSpliceCommand();
+        Integer from = null;
+        Integer to = null;
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            switch (name) {
+                case SOURCE_ID:
+                    command.setSourceId(reader.nextString());
+                    break;
+                case NAME:
+                    command.setAttributeName(reader.nextString());
+                    break;
+                case FROM:
+                    from = reader.nextInt();
+                    break;
+                case TO:
+                    to = reader.nextInt();
+                    break;
+                case VALUES:
+                    readValues(reader, command);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        requireElement(command.getSourceId(), SOURCE_ID);
+        requireElement(command.getAttributeName(), NAME);
+        command.setFrom(requireElement(from, FROM));
+        command.setTo(requireElement(to, TO));
+        return command;
+    }
+
+    private void readValues(final JsonReader reader, final ListSpliceCommand command) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return;
+        }
+        reader.beginArray();
+        while (reader.hasNext()) {
+            command.addValue(ValueEncoder.readValue(reader));
+        }
+        reader.endArray();
+    }
+
+    @Override
+    public void encode(final ListSpliceCommand command, final BinaryOutput output) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(output, "output");
+        output.writeString(command.getSourceId());
+        output.writeString(command.getAttributeName());
+        output.writeVarInt(command.getFrom());
+        output.writeVarInt(command.getTo());
+        output.writeVarInt(command.getValues().size());
+        for (final Object value : command.getValues()) {
+            output.writeValue(value);
+        }
+    }
+
+    @Override
+    public ListSpliceCommand decode(final BinaryInput input) throws IOException {
+        Assert.requireNonNull(input, "input");
+        final ListSpliceCommand command = new ListSpliceCommand();
+        command.setSourceId(input.readString());
+        command.setAttributeName(input.readString());
+        command.setFrom(input.readVarInt());
+        command.setTo(input.readVarInt());
+        final int valueCount = input.readVarInt();
+        for (int i = 0; i < valueCount; i++) {
+            command.addValue(input.readValue());
+        }
+        return command;
+    }
+}
@@ -2,7 +2,13 @@ package com.canoo.dp.impl.remoting.codec.encoders;
 
 import com.canoo.dp.impl.remoting.legacy.commands.StartLongPollCommand;
 import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryInput;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryOutput;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.ID;
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.START_LONG_POLL_COMMAND_ID;
@@ -21,4 +27,29 @@ public class StartLongPollCommandEncoder extends AbstractCommandTranscoder<Start
     public StartLongPollCommand decode(JsonObject jsonObject) {
         return new StartLongPollCommand();
     }
+
+    @Override
+    public void encode(final StartLongPollCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.beginObject();
+        writer.name(ID).value(START_LONG_POLL_COMMAND_ID);
+        writer.endObject();
+    }
+
+    @Override
+    public StartLongPollCommand decode(final JsonReader reader) throws IOException {
+        skipRemainingElements(reader);
+        return new StartLongPollCommand();
+    }
+
+    @Override
+    public void encode(final StartLongPollCommand command, final BinaryOutput output) throws IOException {
+        Assert.requireNonNull(command, "command");
+    }
+
+    @Override
+    public StartLongPollCommand decode(final BinaryInput input) throws IOException {
+        return new StartLongPollCommand();
+    }
 }
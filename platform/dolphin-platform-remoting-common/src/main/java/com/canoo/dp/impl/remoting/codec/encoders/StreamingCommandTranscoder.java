@@ -0,0 +1,51 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.codec.encoders;
+
+import com.canoo.dp.impl.remoting.legacy.communication.Command;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * A {@link CommandTranscoder} that can read and write a command directly from / to a JSON token stream without
+ * creating a {@link com.google.gson.JsonObject} tree.
+ *
+ * @param <C> type of the command
+ */
+public interface StreamingCommandTranscoder<C extends Command> extends CommandTranscoder<C> {
+
+    /**
+     * Writes the given command as a JSON object. The id of the command is always written as first field of the object.
+     *
+     * @param command the command
+     * @param writer the writer
+     * @throws IOException if the command can not be written
+     */
+    void encode(C command, JsonWriter writer) throws IOException;
+
+    /**
+     * Reads the command from the given reader. The reader is positioned inside of the JSON object of the command and
+     * the id field has already been consumed. The method reads all remaining fields but not the end of the object.
+     *
+     * @param reader the reader
+     * @return the command
+     * @throws IOException if the command can not be read
+     */
+    C decode(JsonReader reader) throws IOException;
+
+}
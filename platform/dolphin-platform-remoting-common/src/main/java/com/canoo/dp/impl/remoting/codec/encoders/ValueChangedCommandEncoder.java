@@ -16,9 +16,15 @@
 package com.canoo.dp.impl.remoting.codec.encoders;
 
 import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryInput;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryOutput;
 import com.canoo.dp.impl.remoting.legacy.communication.ValueChangedCommand;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.ATTRIBUTE_ID;
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.ID;
@@ -51,4 +57,53 @@ public class ValueChangedCommandEncoder extends AbstractCommandTranscoder<ValueC
             throw new JsonParseException("Illegal JSON detected", ex);
         }
     }
+
+    @Override
+    public void encode(final ValueChangedCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.beginObject();
+        writer.name(ID).value(VALUE_CHANGED_COMMAND_ID);
+        writer.name(ATTRIBUTE_ID).value(command.getAttributeId());
+        if (command.getNewValue() != null) {
+            writer.name(VALUE);
+            ValueEncoder.writeValue(writer, command.getNewValue());
+        }
+        writer.endObject();
+    }
+
+    @Override
+    public ValueChangedCommand decode(final JsonReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final ValueChangedCommand command = new ValueChangedCommand();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (ATTRIBUTE_ID.equals(name)) {
+                command.setAttributeId(reader.nextString());
+            } else if (VALUE.equals(name)) {
+                command.setNewValue(ValueEncoder.readValue(reader));
+            } else {
+                reader.skipValue();
+            }
+        }
+        requireElement(command.getAttributeId(), ATTRIBUTE_ID);
+        return command;
+    }
+
+    @Override
+    public void encode(final ValueChangedCommand command, final BinaryOutput output) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(output, "output");
+        output.writeString(command.getAttributeId());
+        output.writeValue(command.getNewValue());
+    }
+
+    @Override
+    public ValueChangedCommand decode(final BinaryInput input) throws IOException {
+        Assert.requireNonNull(input, "input");
+        final ValueChangedCommand command = new ValueChangedCommand();
+        command.setAttributeId(input.readString());
+        command.setNewValue(input.readValue());
+        return command;
+    }
 }
@@ -19,6 +19,11 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonPrimitive;
+import com.google.gson.internal.LazilyParsedNumber;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 
 public class ValueEncoder {
 
@@ -58,4 +63,38 @@ public class ValueEncoder {
         }
         throw new JsonParseException("Currently only String, Boolean, or Number are allowed as primitives");
     }
+
+    public static void writeValue(final JsonWriter writer, final Object value) throws IOException {
+        if (value == null) {
+            writer.nullValue();
+        } else if (value instanceof String) {
+            writer.value((String) value);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            writer.value(((Number) value).longValue());
+        } else if (value instanceof Double) {
+            writer.value(((Double) value).doubleValue());
+        } else if (value instanceof Number) {
+            writer.value((Number) value);
+        } else if (value instanceof Boolean) {
+            writer.value(((Boolean) value).booleanValue());
+        } else {
+            throw new JsonParseException("Only String, Number, and Boolean are allowed currently");
+        }
+    }
+
+    public static Object readValue(final JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case NULL:
+                reader.nextNull();
+                return null;
+            case STRING:
+                return reader.nextString();
+            case BOOLEAN:
+                return reader.nextBoolean();
+            case NUMBER:
+                return new LazilyParsedNumber(reader.nextString());
+            default:
+                throw new JsonParseException("Currently only String, Boolean, or Number are allowed as primitives");
+        }
+    }
 }
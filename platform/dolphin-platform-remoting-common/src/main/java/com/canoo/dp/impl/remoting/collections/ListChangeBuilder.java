@@ -0,0 +1,145 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.collections;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.platform.remoting.ListChangeEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Collects the mutations of an {@link ObservableArrayList} while a batch is running and merges them into a minimal
+ * set of changes. The changes are sorted, do not overlap and are not adjacent. Like for any other
+ * {@link ListChangeEvent} the indices of the changes are based on the final content of the list and the changes
+ * can be applied one after another.
+ *
+ * @param <E> type of elements in the list
+ */
+class ListChangeBuilder<E> {
+
+    private final List<E> list;
+
+    private final List<Range<E>> ranges = new ArrayList<>();
+
+    ListChangeBuilder(final List<E> list) {
+        this.list = Assert.requireNonNull(list, "list");
+    }
+
+    /**
+     * Adds a mutation that has already been applied to the list: the elements between {@code from} (inclusive) and
+     * {@code to} (exclusive) of the list have replaced the given removed elements.
+     */
+    void add(final int from, final int to, final List<E> removedElements) {
+        Assert.requireNonNull(removedElements, "removedElements");
+        final int removedCount = removedElements.size();
+        final int delta = (to - from) - removedCount;
+
+        int firstIndex = 0;
+        while (firstIndex < ranges.size() && ranges.get(firstIndex).to < from) {
+            firstIndex++;
+        }
+        int lastIndex = firstIndex;
+        while (lastIndex < ranges.size() && ranges.get(lastIndex).from <= from + removedCount) {
+            lastIndex++;
+        }
+
+        final Range<E> merged;
+        if (firstIndex == lastIndex) {
+            merged = new Range<>(from, to, new ArrayList<>(removedElements));
+        } else {
+            // Indices of the merged range based on the content of the list before this mutation
+            final int start = Math.min(from, ranges.get(firstIndex).from);
+            final int end = Math.max(from + removedCount, ranges.get(lastIndex - 1).to);
+
+            final List<E> originalElements = new ArrayList<>();
+            int position = start;
+            for (final Range<E> range : ranges.subList(firstIndex, lastIndex)) {
+                addUnchangedElements(originalElements, position, range.from, from, removedElements, delta);
+                originalElements.addAll(range.removedElements);
+                position = range.to;
+            }
+            addUnchangedElements(originalElements, position, end, from, removedElements, delta);
+            merged = new Range<>(start, end + delta, originalElements);
+        }
+
+        final List<Range<E>> affectedRanges = ranges.subList(firstIndex, lastIndex);
+        affectedRanges.clear();
+        for (final Range<E> range : ranges.subList(firstIndex, ranges.size())) {
+            range.from += delta;
+            range.to += delta;
+        }
+        if (merged.from < merged.to || !merged.removedElements.isEmpty()) {
+            ranges.add(firstIndex, merged);
+        }
+    }
+
+    private void addUnchangedElements(final List<E> target, final int start, final int end, final int from, final List<E> removedElements, final int delta) {
+        for (int i = start; i < end; i++) {
+            if (i < from) {
+                target.add(list.get(i));
+            } else if (i < from + removedElements.size()) {
+                target.add(removedElements.get(i - from));
+            } else {
+                target.add(list.get(i + delta));
+            }
+        }
+    }
+
+    /**
+     * Returns the merged changes and resets the builder. Elements that have been removed and added again at the same
+     * position are not part of the changes.
+     */
+    List<ListChangeEvent.Change<E>> build() {
+        final List<ListChangeEvent.Change<E>> changes = new ArrayList<>(ranges.size());
+        for (final Range<E> range : ranges) {
+            int from = range.from;
+            int to = range.to;
+            int removedFrom = 0;
+            int removedTo = range.removedElements.size();
+            while (from < to && removedFrom < removedTo && Objects.equals(list.get(from), range.removedElements.get(removedFrom))) {
+                from++;
+                removedFrom++;
+            }
+            while (from < to && removedFrom < removedTo && Objects.equals(list.get(to - 1), range.removedElements.get(removedTo - 1))) {
+                to--;
+                removedTo--;
+            }
+            if (from < to || removedFrom < removedTo) {
+                changes.add(new ListChangeEventImpl.ChangeImpl<>(from, to, Collections.unmodifiableList(range.removedElements.subList(removedFrom, removedTo))));
+            }
+        }
+        ranges.clear();
+        return changes;
+    }
+
+    private static class Range<E> {
+
+        private int from;
+
+        private int to;
+
+        private final List<E> removedElements;
+
+        private Range(final int from, final int to, final List<E> removedElements) {
+            this.from = from;
+            this.to = to;
+            this.removedElements = removedElements;
+        }
+    }
+}
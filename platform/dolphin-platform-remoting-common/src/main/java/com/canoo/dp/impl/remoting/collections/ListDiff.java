@@ -0,0 +1,236 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.collections;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.platform.core.functional.Function;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Computes a minimal edit script that transforms one list into another one. The implementation is based on the
+ * linear space variant of the O(ND) difference algorithm by Eugene W. Myers where N is the sum of the sizes of both
+ * lists and D is the size of the edit script. Since only a few elements change in most cases the diff is much cheaper
+ * than replacing and resynchronizing the complete content of a list.
+ * <p>
+ * Elements are compared by the keys that are provided by an optional key extractor. If no key extractor is defined
+ * the elements are compared by {@link Object#equals(Object)}.
+ */
+final class ListDiff {
+
+    private final Object[] oldKeys;
+
+    private final Object[] newKeys;
+
+    private final List<Hunk> hunks = new ArrayList<>();
+
+    private ListDiff(final Object[] oldKeys, final Object[] newKeys) {
+        this.oldKeys = oldKeys;
+        this.newKeys = newKeys;
+    }
+
+    /**
+     * Returns the sorted hunks of the minimal edit script that transforms the old list into the new list. All elements
+     * that are not part of a hunk are matched by their keys.
+     */
+    static <E> List<Hunk> diff(final List<? extends E> oldList, final List<? extends E> newList, final Function<? super E, ?> keyExtractor) {
+        Assert.requireNonNull(oldList, "oldList");
+        Assert.requireNonNull(newList, "newList");
+        final ListDiff diff = new ListDiff(keys(oldList, keyExtractor), keys(newList, keyExtractor));
+        diff.diff(0, oldList.size(), 0, newList.size());
+        return diff.hunks;
+    }
+
+    private static <E> Object[] keys(final List<? extends E> list, final Function<? super E, ?> keyExtractor) {
+        final Object[] keys = new Object[list.size()];
+        int index = 0;
+        for (final E element : list) {
+            keys[index++] = keyExtractor == null ? element : keyExtractor.call(element);
+        }
+        return keys;
+    }
+
+    private boolean matches(final int oldIndex, final int newIndex) {
+        return Objects.equals(oldKeys[oldIndex], newKeys[newIndex]);
+    }
+
+    private void diff(int oldFrom, int oldTo, int newFrom, int newTo) {
+        while (oldFrom < oldTo && newFrom < newTo && matches(oldFrom, newFrom)) {
+            oldFrom++;
+            newFrom++;
+        }
+        while (oldFrom < oldTo && newFrom < newTo && matches(oldTo - 1, newTo - 1)) {
+            oldTo--;
+            newTo--;
+        }
+        if (oldFrom == oldTo || newFrom == newTo) {
+            addHunk(oldFrom, oldTo, newFrom, newTo);
+        } else {
+            bisect(oldFrom, oldTo, newFrom, newTo);
+        }
+    }
+
+    /**
+     * Finds the middle snake of the edit graph and splits the problem at this point into two parts that are diffed
+     * recursively.
+     */
+    private void bisect(final int oldFrom, final int oldTo, final int newFrom, final int newTo) {
+        final int oldLength = oldTo - oldFrom;
+        final int newLength = newTo - newFrom;
+        final int maxD = (oldLength + newLength + 1) / 2;
+        final int offset = maxD;
+        final int length = 2 * maxD + 2;
+        final int[] forward = new int[length];
+        final int[] reverse = new int[length];
+        Arrays.fill(forward, -1);
+        Arrays.fill(reverse, -1);
+        forward[offset + 1] = 0;
+        reverse[offset + 1] = 0;
+
+        final int delta = oldLength - newLength;
+        // If the delta is odd the forward path will overlap with the reverse path, otherwise the reverse path will
+        final boolean checkForward = (delta % 2 != 0);
+        int forwardStart = 0;
+        int forwardEnd = 0;
+        int reverseStart = 0;
+        int reverseEnd = 0;
+
+        for (int d = 0; d < maxD; d++) {
+            for (int k = -d + forwardStart; k <= d - forwardEnd; k += 2) {
+                final int kOffset = offset + k;
+                int x;
+                if (k == -d || (k != d && forward[kOffset - 1] < forward[kOffset + 1])) {
+                    x = forward[kOffset + 1];
+                } else {
+                    x = forward[kOffset - 1] + 1;
+                }
+                int y = x - k;
+                while (x < oldLength && y < newLength && matches(oldFrom + x, newFrom + y)) {
+                    x++;
+                    y++;
+                }
+                forward[kOffset] = x;
+                if (x > oldLength) {
+                    forwardEnd += 2;
+                } else if (y > newLength) {
+                    forwardStart += 2;
+                } else if (checkForward) {
+                    final int reverseOffset = offset + delta - k;
+                    if (reverseOffset >= 0 && reverseOffset < length && reverse[reverseOffset] != -1) {
+                        if (x >= oldLength - reverse[reverseOffset]) {
+                            split(oldFrom, oldTo, newFrom, newTo, x, y);
+                            return;
+                        }
+                    }
+                }
+            }
+
+            for (int k = -d + reverseStart; k <= d - reverseEnd; k += 2) {
+                final int kOffset = offset + k;
+                int x;
+                if (k == -d || (k != d && reverse[kOffset - 1] < reverse[kOffset + 1])) {
+                    x = reverse[kOffset + 1];
+                } else {
+                    x = reverse[kOffset - 1] + 1;
+                }
+                int y = x - k;
+                while (x < oldLength && y < newLength && matches(oldTo - x - 1, newTo - y - 1)) {
+                    x++;
+                    y++;
+                }
+                reverse[kOffset] = x;
+                if (x > oldLength) {
+                    reverseEnd += 2;
+                } else if (y > newLength) {
+                    reverseStart += 2;
+                } else if (!checkForward) {
+                    final int forwardOffset = offset + delta - k;
+                    if (forwardOffset >= 0 && forwardOffset < length && forward[forwardOffset] != -1) {
+                        final int forwardX = forward[forwardOffset];
+                        final int forwardY = offset + forwardX - forwardOffset;
+                        if (forwardX >= oldLength - x) {
+                            split(oldFrom, oldTo, newFrom, newTo, forwardX, forwardY);
+                            return;
+                        }
+                    }
+                }
+            }
+        }
+        // No common elements
+        addHunk(oldFrom, oldTo, newFrom, newTo);
+    }
+
+    private void split(final int oldFrom, final int oldTo, final int newFrom, final int newTo, final int x, final int y) {
+        diff(oldFrom, oldFrom + x, newFrom, newFrom + y);
+        diff(oldFrom + x, oldTo, newFrom + y, newTo);
+    }
+
+    private void addHunk(final int oldFrom, final int oldTo, final int newFrom, final int newTo) {
+        if (oldFrom == oldTo && newFrom == newTo) {
+            return;
+        }
+        if (!hunks.isEmpty()) {
+            final Hunk last = hunks.get(hunks.size() - 1);
+            if (last.oldTo == oldFrom && last.newTo == newFrom) {
+                hunks.set(hunks.size() - 1, new Hunk(last.oldFrom, oldTo, last.newFrom, newTo));
+                return;
+            }
+        }
+        hunks.add(new Hunk(oldFrom, oldTo, newFrom, newTo));
+    }
+
+    /**
+     * A part of the edit script: the elements between {@code oldFrom} (inclusive) and {@code oldTo} (exclusive) of
+     * the old list are replaced by the elements between {@code newFrom} (inclusive) and {@code newTo} (exclusive) of
+     * the new list.
+     */
+    static final class Hunk {
+
+        private final int oldFrom;
+
+        private final int oldTo;
+
+        private final int newFrom;
+
+        private final int newTo;
+
+        Hunk(final int oldFrom, final int oldTo, final int newFrom, final int newTo) {
+            this.oldFrom = oldFrom;
+            this.oldTo = oldTo;
+            this.newFrom = newFrom;
+            this.newTo = newTo;
+        }
+
+        int getOldFrom() {
+            return oldFrom;
+        }
+
+        int getOldTo() {
+            return oldTo;
+        }
+
+        int getNewFrom() {
+            return newFrom;
+        }
+
+        int getNewTo() {
+            return newTo;
+        }
+    }
+}
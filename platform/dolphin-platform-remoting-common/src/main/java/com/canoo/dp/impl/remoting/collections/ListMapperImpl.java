@@ -15,13 +15,15 @@
  */
 package com.canoo.dp.impl.remoting.collections;
 
+import com.canoo.dp.impl.platform.core.Assert;
 import com.canoo.dp.impl.remoting.BeanRepository;
 import com.canoo.dp.impl.remoting.ClassRepository;
 import com.canoo.dp.impl.remoting.DolphinEventHandler;
 import com.canoo.dp.impl.remoting.EventDispatcher;
-import com.canoo.dp.impl.remoting.PresentationModelBuilder;
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
+import com.canoo.platform.core.functional.Callback;
 import com.canoo.platform.remoting.ListChangeEvent;
-import com.canoo.dp.impl.remoting.PlatformRemotingConstants;
+import com.canoo.platform.remoting.spi.converter.ValueConverterException;
 import com.canoo.dp.impl.remoting.PresentationModelBuilderFactory;
 import com.canoo.dp.impl.remoting.ListMapper;
 import com.canoo.dp.impl.remoting.info.ClassInfo;
@@ -42,12 +44,15 @@ public class ListMapperImpl implements ListMapper {
     private final BeanRepository beanRepository;
     private final ClassRepository classRepository;
     protected final PresentationModelBuilderFactory builderFactory;
+    private final Callback<ListSpliceCommand> commandSender;
 
-    public ListMapperImpl(final ModelStore modelStore, ClassRepository classRepository, BeanRepository beanRepository, PresentationModelBuilderFactory builderFactory, EventDispatcher dispatcher) {
+    public ListMapperImpl(final ModelStore modelStore, ClassRepository classRepository, BeanRepository beanRepository, PresentationModelBuilderFactory builderFactory, EventDispatcher dispatcher, final Callback<ListSpliceCommand> commandSender) {
         this.beanRepository = beanRepository;
         this.classRepository = classRepository;
         this.builderFactory = builderFactory;
+        this.commandSender = Assert.requireNonNull(commandSender, "commandSender");
 
+        // Older clients still transmit list changes as LIST_SPLICE presentation models
         dispatcher.addListSpliceHandler(new DolphinEventHandler() {
             @Override
             @SuppressWarnings("unchecked")
@@ -55,25 +60,16 @@ public class ListMapperImpl implements ListMapper {
                 try {
                     final String sourceId = model.getAttribute("source").getValue().toString();
                     final String attributeName = model.getAttribute("attribute").getValue().toString();
-
-                    final Object bean = ListMapperImpl.this.beanRepository.getBean(sourceId);
-                    final ClassInfo classInfo = ListMapperImpl.this.classRepository.getOrCreateClassInfo(bean.getClass());
-                    final PropertyInfo observableListInfo = classInfo.getObservableListInfo(attributeName);
-
-                    final ObservableArrayList list = (ObservableArrayList) observableListInfo.getPrivileged(bean);
-
                     final int from = ((Number) model.getAttribute("from").getValue()).intValue();
                     final int to = ((Number) model.getAttribute("to").getValue()).intValue();
                     final int count = ((Number) model.getAttribute("count").getValue()).intValue();
 
-                    final List<Object> newElements = new ArrayList<Object>(count);
+                    final List<Object> dolphinValues = new ArrayList<Object>(count);
                     for (int i = 0; i < count; i++) {
-                        final Object dolphinValue = model.getAttribute(Integer.toString(i)).getValue();
-                        final Object value = observableListInfo.convertFromDolphin(dolphinValue);
-                        newElements.add(value);
+                        dolphinValues.add(model.getAttribute(Integer.toString(i)).getValue());
                     }
 
-                    list.internalSplice(from, to, newElements);
+                    splice(sourceId, attributeName, from, to, dolphinValues);
                 } catch (Exception ex) {
                     //TODO: This exception must be handled!
                     LOG.error("Invalid LIST_SPLICE command received: " + model, ex);
@@ -96,26 +92,48 @@ public class ListMapperImpl implements ListMapper {
             final int from = change.getFrom();
             final int to = from + change.getRemovedElements().size();
             final List<?> newElements = event.getSource().subList(from, change.getTo());
-            final int count = newElements.size();
 
-            final PresentationModelBuilder builder = builderFactory.createBuilder();
-            builder.withType(PlatformRemotingConstants.LIST_SPLICE)
-                    .withAttribute("source", sourceId)
-                    .withAttribute("attribute", attributeName)
-                    .withAttribute("from", from)
-                    .withAttribute("to", to)
-                    .withAttribute("count", count);
+            final ListSpliceCommand command = new ListSpliceCommand();
+            command.setSourceId(sourceId);
+            command.setAttributeName(attributeName);
+            command.setFrom(from);
+            command.setTo(to);
 
-            int i = 0;
             for (final Object current : newElements) {
                 try {
-                    builder.withAttribute(Integer.toString(i++), observableListInfo.convertToDolphin(current));
+                    command.addValue(observableListInfo.convertToDolphin(current));
                 }catch (Exception e) {
                     throw new MappingException("Error in event processing!", e);
                 }
             }
 
-            builder.create();
+            commandSender.call(command);
+        }
+    }
+
+    @Override
+    public void onListSplice(final ListSpliceCommand command) {
+        Assert.requireNonNull(command, "command");
+        try {
+            splice(command.getSourceId(), command.getAttributeName(), command.getFrom(), command.getTo(), command.getValues());
+        } catch (Exception ex) {
+            throw new MappingException("Invalid list splice command received: " + command, ex);
         }
     }
+
+    @SuppressWarnings("unchecked")
+    private void splice(final String sourceId, final String attributeName, final int from, final int to, final List<?> dolphinValues) throws ValueConverterException {
+        final Object bean = beanRepository.getBean(sourceId);
+        final ClassInfo classInfo = classRepository.getOrCreateClassInfo(bean.getClass());
+        final PropertyInfo observableListInfo = classInfo.getObservableListInfo(attributeName);
+
+        final ObservableArrayList list = (ObservableArrayList) observableListInfo.getPrivileged(bean);
+
+        final List<Object> newElements = new ArrayList<Object>(dolphinValues.size());
+        for (final Object dolphinValue : dolphinValues) {
+            newElements.add(observableListInfo.convertFromDolphin(dolphinValue));
+        }
+
+        list.internalSplice(from, to, newElements);
+    }
 }
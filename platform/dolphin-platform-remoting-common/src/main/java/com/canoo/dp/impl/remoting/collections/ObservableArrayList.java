@@ -15,6 +15,9 @@
  */
 package com.canoo.dp.impl.remoting.collections;
 
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.platform.core.functional.Callback;
+import com.canoo.platform.core.functional.Function;
 import com.canoo.platform.remoting.ListChangeEvent;
 import com.canoo.platform.remoting.ListChangeListener;
 import com.canoo.platform.remoting.ObservableList;
@@ -27,23 +30,29 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 public class ObservableArrayList<E> implements ObservableList<E> {
 
     private final ArrayList<E> list;
     private final List<ListChangeListener<? super E>> listeners = new CopyOnWriteArrayList<>();
+    private final ListChangeBuilder<E> changeBuilder;
+    private int batchDepth = 0;
 
     public ObservableArrayList() {
         list = new ArrayList<>();
+        changeBuilder = new ListChangeBuilder<>(list);
     }
 
     public ObservableArrayList(int initialCapacity) {
         list = new ArrayList<>(initialCapacity);
+        changeBuilder = new ListChangeBuilder<>(list);
     }
 
     public ObservableArrayList(Collection<? extends E> c) {
         list = new ArrayList<>(c);
+        changeBuilder = new ListChangeBuilder<>(list);
     }
 
     @SafeVarargs
@@ -56,6 +65,34 @@ public class ObservableArrayList<E> implements ObservableList<E> {
         notifyExternalListeners(event);
     }
 
+    private void fireListChanged(int from, int to, List<E> removedElements) {
+        if (batchDepth > 0) {
+            changeBuilder.add(from, to, removedElements);
+        } else {
+            fireListChanged(new ListChangeEventImpl<>(this, from, to, removedElements));
+        }
+    }
+
+    @Override
+    public void batch(final Callback<? super ObservableList<E>> mutator) {
+        Assert.requireNonNull(mutator, "mutator");
+        batchDepth++;
+        try {
+            mutator.call(this);
+        } finally {
+            endBatch();
+        }
+    }
+
+    private void endBatch() {
+        batchDepth--;
+        if (batchDepth == 0) {
+            final List<ListChangeEvent.Change<E>> changes = changeBuilder.build();
+            if (!changes.isEmpty()) {
+                fireListChanged(new ListChangeEventImpl<>(this, changes));
+            }
+        }
+    }
 
 
     protected void notifyInternalListeners(ListChangeEvent<E> event) {
@@ -164,7 +201,7 @@ public class ObservableArrayList<E> implements ObservableList<E> {
             return false;
         }
         list.addAll(index, c);
-        fireListChanged(new ListChangeEventImpl<>(this, index, index + c.size(), Collections.<E>emptyList()));
+        fireListChanged(index, index + c.size(), Collections.<E>emptyList());
         return true;
     }
 
@@ -178,30 +215,22 @@ public class ObservableArrayList<E> implements ObservableList<E> {
         return batchRemove(c, false);
     }
 
-    private boolean batchRemove(final Collection<?> c, boolean isRemove){
+    private boolean batchRemove(final Collection<?> c, final boolean isRemove){
         if (null != c && c.isEmpty()) {
             return false;
         }
-        final List<ListChangeEvent.Change<E>> changedList = new ArrayList<>();
-        final List<E> listElement =  new ArrayList<>();
-        for (Iterator<?> iterator = c.iterator(); iterator.hasNext();) {
-            final E element = (E) iterator.next();
-            if(list.contains(element)){
-                listElement.add(element);
-                final ListChangeEvent.Change<E> changed = new ListChangeEventImpl.ChangeImpl<>(list.indexOf(element), list.indexOf(element),  Collections.singletonList(element));
-                changedList.add(changed);
-            }
-        }
-        if(!changedList.isEmpty()){
-            if(isRemove){
-                list.removeAll(listElement);
-            }else{
-                list.retainAll(listElement);
+        final int oldSize = list.size();
+        batch(new Callback<ObservableList<E>>() {
+            @Override
+            public void call(final ObservableList<E> observableList) {
+                for (int i = list.size() - 1; i >= 0; i--) {
+                    if (c.contains(list.get(i)) == isRemove) {
+                        remove(i);
+                    }
+                }
             }
-            fireListChanged(new ListChangeEventImpl<>(this, changedList));
-            return true;
-        }
-        return false;
+        });
+        return list.size() != oldSize;
     }
 
     @Override
@@ -211,7 +240,7 @@ public class ObservableArrayList<E> implements ObservableList<E> {
         }
         final ArrayList<E> removed = new ArrayList<>(list);
         list.clear();
-        fireListChanged(new ListChangeEventImpl<>(this, 0, 0, removed));
+        fireListChanged(0, 0, removed);
     }
 
     @Override
@@ -222,20 +251,20 @@ public class ObservableArrayList<E> implements ObservableList<E> {
     @Override
     public E set(int index, E element) {
         final E oldElement = list.set(index, element);
-        fireListChanged(new ListChangeEventImpl<>(this, index, index + 1, Collections.singletonList(oldElement)));
+        fireListChanged(index, index + 1, Collections.singletonList(oldElement));
         return oldElement;
     }
 
     @Override
     public void add(int index, E element) {
         list.add(index, element);
-        fireListChanged(new ListChangeEventImpl<>(this, index, index + 1, Collections.<E>emptyList()));
+        fireListChanged(index, index + 1, Collections.<E>emptyList());
     }
 
     @Override
     public E remove(int index) {
         final E oldElement = list.remove(index);
-        fireListChanged(new ListChangeEventImpl<>(this, index, index, Collections.singletonList(oldElement)));
+        fireListChanged(index, index, Collections.singletonList(oldElement));
         return oldElement;
     }
 
@@ -323,9 +352,60 @@ public class ObservableArrayList<E> implements ObservableList<E> {
     }
 
     @Override
-    public boolean setAll(Collection<? extends E> col) {
-        clear();
-        return addAll(col);
+    public boolean setAll(final Collection<? extends E> col) {
+        replaceWith(col, null);
+        return !col.isEmpty();
+    }
+
+    @Override
+    public boolean replaceWith(final Collection<? extends E> col, final Function<? super E, ?> keyExtractor) {
+        Assert.requireNonNull(col, "col");
+        final List<E> newElements = new ArrayList<>(col);
+        final List<ListDiff.Hunk> hunks = ListDiff.diff(list, newElements, keyExtractor);
+        batchDepth++;
+        try {
+            // Hunks are applied from the end of the list so the indices of all hunks that are not applied yet stay valid
+            boolean changed = false;
+            int oldEnd = list.size();
+            for (int i = hunks.size() - 1; i >= 0; i--) {
+                final ListDiff.Hunk hunk = hunks.get(i);
+                if (keyExtractor != null) {
+                    changed |= updateMatchedElements(hunk.getOldTo(), oldEnd, hunk.getNewTo(), newElements);
+                }
+                splice(hunk.getOldFrom(), hunk.getOldTo(), newElements.subList(hunk.getNewFrom(), hunk.getNewTo()));
+                changed = true;
+                oldEnd = hunk.getOldFrom();
+            }
+            if (keyExtractor != null) {
+                changed |= updateMatchedElements(0, oldEnd, 0, newElements);
+            }
+            return changed;
+        } finally {
+            endBatch();
+        }
+    }
+
+    /**
+     * Elements that are matched by their key might still differ and will be replaced by the new element in that case.
+     */
+    private boolean updateMatchedElements(final int oldFrom, final int oldTo, final int newFrom, final List<E> newElements) {
+        boolean changed = false;
+        for (int i = oldFrom; i < oldTo; i++) {
+            final E newElement = newElements.get(newFrom + i - oldFrom);
+            if (!Objects.equals(list.get(i), newElement)) {
+                set(i, newElement);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private void splice(final int from, final int to, final List<E> newElements) {
+        final List<E> slice = list.subList(from, to);
+        final List<E> removedElements = new ArrayList<>(slice);
+        slice.clear();
+        list.addAll(from, newElements);
+        fireListChanged(from, from + newElements.size(), removedElements);
     }
 
     @Override
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.commands;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.legacy.communication.Command;
+import com.canoo.dp.impl.remoting.legacy.communication.CommandConstants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes a change of an observable list: the elements between {@code from} (inclusive) and {@code to} (exclusive)
+ * of the list {@code attributeName} of the bean {@code sourceId} are replaced by the given values.
+ */
+public final class ListSpliceCommand extends Command {
+
+    private String sourceId;
+
+    private String attributeName;
+
+    private int from;
+
+    private int to;
+
+    private final List<Object> values = new ArrayList<>();
+
+    public ListSpliceCommand() {
+        super(CommandConstants.LIST_SPLICE_COMMAND_ID);
+    }
+
+    public String getSourceId() {
+        return sourceId;
+    }
+
+    public void setSourceId(final String sourceId) {
+        Assert.requireNonBlank(sourceId, "sourceId");
+        this.sourceId = sourceId;
+    }
+
+    public String getAttributeName() {
+        return attributeName;
+    }
+
+    public void setAttributeName(final String attributeName) {
+        Assert.requireNonBlank(attributeName, "attributeName");
+        this.attributeName = attributeName;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public void setFrom(final int from) {
+        this.from = from;
+    }
+
+    public int getTo() {
+        return to;
+    }
+
+    public void setTo(final int to) {
+        this.to = to;
+    }
+
+    public List<Object> getValues() {
+        return Collections.unmodifiableList(values);
+    }
+
+    public void addValue(final Object value) {
+        values.add(value);
+    }
+}
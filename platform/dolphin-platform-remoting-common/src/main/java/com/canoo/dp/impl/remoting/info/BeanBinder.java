@@ -0,0 +1,140 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.info;
+
+import com.canoo.dp.impl.platform.core.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Base class of the binders that are generated at compile time for Dolphin Platform bean classes by the annotation
+ * processor of the {@code dolphin-platform-remoting-processor} module. A binder describes all properties and
+ * observable lists of a bean class and provides direct (non reflective) access to them. If a generated binder is
+ * available on the classpath it will be used by {@link BeanMetadata} instead of reflection. For fields that can not
+ * be accessed by generated code (like private fields) no {@link FieldAccessor} is defined and the field will be
+ * accessed by a {@link java.lang.invoke.MethodHandle}.
+ *
+ * @param <T> type of the bean
+ */
+public abstract class BeanBinder<T> {
+
+    /**
+     * Suffix of the name of a generated binder class
+     */
+    public static final String BINDER_SUFFIX = "_DolphinBinder";
+
+    private final Class<T> beanClass;
+
+    private final boolean instantiable;
+
+    private final List<FieldBinding> fields = new ArrayList<>();
+
+    /**
+     * Constructor
+     *
+     * @param beanClass the bean class
+     * @param instantiable true if the binder overrides {@link #newInstance()}
+     */
+    protected BeanBinder(final Class<T> beanClass, final boolean instantiable) {
+        this.beanClass = Assert.requireNonNull(beanClass, "beanClass");
+        this.instantiable = instantiable;
+    }
+
+    protected final void addProperty(final String name, final Class<?> typeParameter, final FieldAccessor accessor) {
+        fields.add(new FieldBinding(name, typeParameter, true, accessor));
+    }
+
+    protected final void addObservableList(final String name, final Class<?> typeParameter, final FieldAccessor accessor) {
+        fields.add(new FieldBinding(name, typeParameter, false, accessor));
+    }
+
+    public Class<T> getBeanClass() {
+        return beanClass;
+    }
+
+    public boolean isInstantiable() {
+        return instantiable;
+    }
+
+    /**
+     * Creates a new instance of the bean. A binder of a bean class that can not be instantiated by generated code
+     * (see {@link #isInstantiable()}) returns {@code null}. In that case the instance is created by reflection.
+     *
+     * @return the new instance or {@code null} if the binder can not create instances
+     */
+    public abstract T newInstance();
+
+    List<FieldBinding> getFields() {
+        return Collections.unmodifiableList(fields);
+    }
+
+    /**
+     * Returns the name of the generated binder class for the given bean class
+     *
+     * @param beanClass the bean class
+     * @return the name of the binder class
+     */
+    public static String getBinderClassName(final Class<?> beanClass) {
+        Assert.requireNonNull(beanClass, "beanClass");
+        return beanClass.getName().replace('$', '_') + BINDER_SUFFIX;
+    }
+
+    /**
+     * Provides access to a field of a bean
+     */
+    public interface FieldAccessor {
+
+        Object get(Object bean);
+
+        void set(Object bean, Object value);
+    }
+
+    static final class FieldBinding {
+
+        private final String name;
+
+        private final Class<?> typeParameter;
+
+        private final boolean property;
+
+        private final FieldAccessor accessor;
+
+        private FieldBinding(final String name, final Class<?> typeParameter, final boolean property, final FieldAccessor accessor) {
+            this.name = Assert.requireNonBlank(name, "name");
+            this.typeParameter = typeParameter;
+            this.property = property;
+            this.accessor = accessor;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        Class<?> getTypeParameter() {
+            return typeParameter;
+        }
+
+        boolean isProperty() {
+            return property;
+        }
+
+        FieldAccessor getAccessor() {
+            return accessor;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.info;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.platform.core.ReflectionHelper;
+import com.canoo.dp.impl.remoting.DolphinUtils;
+import com.canoo.platform.remoting.ObservableList;
+import com.canoo.platform.remoting.Property;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Metadata of a Dolphin Platform bean class that only depends on the class itself and can therefore be shared by all
+ * contexts of the JVM. If a {@link BeanBinder} has been generated for the class at compile time the binder is used to
+ * describe and access the fields. Otherwise the fields of the class are only scanned once and all fields and the
+ * constructor are accessed by pre-resolved {@link MethodHandle}s instead of reflection calls. The metadata is stored
+ * in a {@link ClassValue} and will not prevent the class from being unloaded.
+ */
+public final class BeanMetadata {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BeanMetadata.class);
+
+    private static final ClassValue<BeanMetadata> METADATA = new ClassValue<BeanMetadata>() {
+        @Override
+        protected BeanMetadata computeValue(final Class<?> type) {
+            return new BeanMetadata(type);
+        }
+    };
+
+    private final Class<?> beanClass;
+
+    private final BeanBinder<?> binder;
+
+    private final MethodHandle constructor;
+
+    private final List<FieldMetadata> fields;
+
+    private final List<FieldMetadata> properties;
+
+    private final List<FieldMetadata> observableLists;
+
+    private final List<FieldMetadata> beanReferenceProperties;
+
+    private final List<FieldMetadata> beanReferenceObservableLists;
+
+    private BeanMetadata(final Class<?> beanClass) {
+        this.beanClass = Assert.requireNonNull(beanClass, "beanClass");
+        this.binder = findBinder(beanClass);
+        this.constructor = binder != null && binder.isInstantiable() ? null : findConstructor(beanClass);
+
+        final List<FieldMetadata> localFields = binder != null ? createFields(binder) : createFields(beanClass);
+        final List<FieldMetadata> localProperties = new ArrayList<>();
+        final List<FieldMetadata> localObservableLists = new ArrayList<>();
+        for (final FieldMetadata fieldMetadata : localFields) {
+            if (fieldMetadata.isProperty()) {
+                localProperties.add(fieldMetadata);
+            } else {
+                localObservableLists.add(fieldMetadata);
+            }
+        }
+        this.fields = Collections.unmodifiableList(localFields);
+        this.properties = Collections.unmodifiableList(localProperties);
+        this.observableLists = Collections.unmodifiableList(localObservableLists);
+        this.beanReferenceProperties = filterBeanReferences(localProperties);
+        this.beanReferenceObservableLists = filterBeanReferences(localObservableLists);
+    }
+
+    private static List<FieldMetadata> filterBeanReferences(final List<FieldMetadata> fields) {
+        final List<FieldMetadata> beanReferences = new ArrayList<>();
+        for (final FieldMetadata fieldMetadata : fields) {
+            if (fieldMetadata.isBeanReference()) {
+                beanReferences.add(fieldMetadata);
+            }
+        }
+        return Collections.unmodifiableList(beanReferences);
+    }
+
+    private static List<FieldMetadata> createFields(final Class<?> beanClass) {
+        final List<FieldMetadata> fields = new ArrayList<>();
+        for (final Field field : ReflectionHelper.getInheritedDeclaredFields(beanClass)) {
+            final boolean isProperty = Property.class.isAssignableFrom(field.getType());
+            if (!Modifier.isStatic(field.getModifiers()) && (isProperty || ObservableList.class.isAssignableFrom(field.getType()))) {
+                fields.add(new FieldMetadata(DolphinUtils.getDolphinAttributePropertyNameForField(field), ReflectionHelper.getTypeParameter(field, beanClass), isProperty, FieldMetadata.createAccessor(field)));
+            }
+        }
+        return fields;
+    }
+
+    private static List<FieldMetadata> createFields(final BeanBinder<?> binder) {
+        final List<FieldMetadata> fields = new ArrayList<>();
+        for (final BeanBinder.FieldBinding fieldBinding : binder.getFields()) {
+            BeanBinder.FieldAccessor accessor = fieldBinding.getAccessor();
+            if (accessor == null) {
+                accessor = FieldMetadata.createAccessor(findField(binder.getBeanClass(), fieldBinding.getName()));
+            }
+            fields.add(new FieldMetadata(fieldBinding.getName(), fieldBinding.getTypeParameter(), fieldBinding.isProperty(), accessor));
+        }
+        return fields;
+    }
+
+    private static Field findField(final Class<?> beanClass, final String name) {
+        for (final Field field : ReflectionHelper.getInheritedDeclaredFields(beanClass)) {
+            if (field.getName().equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalStateException("Can not find field " + name + " in " + beanClass.getName());
+    }
+
+    private static BeanBinder<?> findBinder(final Class<?> beanClass) {
+        final String binderClassName = BeanBinder.getBinderClassName(beanClass);
+        try {
+            final Class<?> binderClass = Class.forName(binderClassName, true, beanClass.getClassLoader());
+            final BeanBinder<?> binder = (BeanBinder<?>) binderClass.getDeclaredConstructor().newInstance();
+            if (beanClass.equals(binder.getBeanClass())) {
+                return binder;
+            }
+            LOG.warn("Generated binder {} does not match bean class {}", binderClassName, beanClass.getName());
+        } catch (ClassNotFoundException e) {
+            LOG.trace("No generated binder found for bean class {}", beanClass.getName());
+        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException | ClassCastException e) {
+            LOG.warn("Can not use generated binder " + binderClassName, e);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the metadata of the given class
+     *
+     * @param beanClass the class
+     * @return the metadata
+     */
+    public static BeanMetadata of(final Class<?> beanClass) {
+        Assert.requireNonNull(beanClass, "beanClass");
+        return METADATA.get(beanClass);
+    }
+
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     * Returns all {@link Property} and {@link ObservableList} fields of the class in declaration order
+     *
+     * @return the fields
+     */
+    public List<FieldMetadata> getFields() {
+        return fields;
+    }
+
+    public List<FieldMetadata> getProperties() {
+        return properties;
+    }
+
+    public List<FieldMetadata> getObservableLists() {
+        return observableLists;
+    }
+
+    /**
+     * Returns all {@link Property} fields of the class that can contain a Dolphin bean (see
+     * {@link FieldMetadata#isBeanReference()})
+     *
+     * @return the properties
+     */
+    public List<FieldMetadata> getBeanReferenceProperties() {
+        return beanReferenceProperties;
+    }
+
+    /**
+     * Returns all {@link ObservableList} fields of the class that can contain a Dolphin bean (see
+     * {@link FieldMetadata#isBeanReference()})
+     *
+     * @return the lists
+     */
+    public List<FieldMetadata> getBeanReferenceObservableLists() {
+        return beanReferenceObservableLists;
+    }
+
+    /**
+     * Creates a new instance of the class by calling the default constructor
+     *
+     * @param <T> type of the bean
+     * @return the new instance
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T newInstance() {
+        if (constructor == null) {
+            if (binder != null && binder.isInstantiable()) {
+                return (T) binder.newInstance();
+            }
+            throw new IllegalStateException("Bean class " + beanClass.getName() + " does not provide a default constructor");
+        }
+        try {
+            return (T) constructor.invoke();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot create instance of " + beanClass.getName(), e);
+        }
+    }
+
+    /**
+     * Returns true if the metadata is based on a binder that has been generated at compile time
+     *
+     * @return true if a generated binder is used
+     */
+    public boolean isGenerated() {
+        return binder != null;
+    }
+
+    private static MethodHandle findConstructor(final Class<?> beanClass) {
+        try {
+            final Constructor<?> constructor = beanClass.getDeclaredConstructor();
+            makeAccessible(constructor);
+            return MethodHandles.lookup().unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    //AccessController is deprecated in newer JDKs but still needed while the modules support a security manager
+    @SuppressWarnings({"deprecation", "removal"})
+    static void makeAccessible(final AccessibleObject accessibleObject) {
+        AccessController.doPrivileged(new PrivilegedAction<Void>() {
+            @Override
+            public Void run() {
+                accessibleObject.setAccessible(true);
+                return null;
+            }
+        });
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.info;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.DolphinUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Metadata of a {@link com.canoo.platform.remoting.Property} or {@link com.canoo.platform.remoting.ObservableList}
+ * field of a bean class.
+ *
+ * @see BeanMetadata
+ */
+public final class FieldMetadata {
+
+    private final String attributeName;
+
+    private final Class<?> typeParameter;
+
+    private final boolean property;
+
+    private final boolean beanReference;
+
+    private final BeanBinder.FieldAccessor accessor;
+
+    FieldMetadata(final String attributeName, final Class<?> typeParameter, final boolean property, final BeanBinder.FieldAccessor accessor) {
+        this.attributeName = Assert.requireNonBlank(attributeName, "attributeName");
+        this.typeParameter = typeParameter;
+        this.property = property;
+        this.beanReference = canReferenceBean(typeParameter);
+        this.accessor = Assert.requireNonNull(accessor, "accessor");
+    }
+
+    public String getAttributeName() {
+        return attributeName;
+    }
+
+    /**
+     * Returns the generic type of the property or list or {@code null} if the type can not be defined
+     *
+     * @return the generic type
+     */
+    public Class<?> getTypeParameter() {
+        return typeParameter;
+    }
+
+    public boolean isProperty() {
+        return property;
+    }
+
+    public boolean isObservableList() {
+        return !property;
+    }
+
+    /**
+     * Returns true if the property or list can contain a Dolphin bean. This is false if the generic type is a basic
+     * type, an enum or a final class that is not a Dolphin bean.
+     *
+     * @return true if the property or list can contain a Dolphin bean
+     */
+    public boolean isBeanReference() {
+        return beanReference;
+    }
+
+    public Object get(final Object bean) {
+        return accessor.get(bean);
+    }
+
+    public void set(final Object bean, final Object value) {
+        accessor.set(bean, value);
+    }
+
+    static BeanBinder.FieldAccessor createAccessor(final Field field) {
+        Assert.requireNonNull(field, "field");
+        BeanMetadata.makeAccessible(field);
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final MethodHandle getter = lookup.unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+            final MethodHandle setter = lookup.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class));
+            return new MethodHandleAccessor(field, getter, setter);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access field: " + field, e);
+        }
+    }
+
+    private static boolean canReferenceBean(final Class<?> typeParameter) {
+        if (typeParameter == null) {
+            return true;
+        }
+        if (DolphinUtils.isBasicType(typeParameter) || DolphinUtils.isEnumType(typeParameter)) {
+            return false;
+        }
+        return !Modifier.isFinal(typeParameter.getModifiers()) || DolphinUtils.isDolphinBean(typeParameter);
+    }
+
+    private static class MethodHandleAccessor implements BeanBinder.FieldAccessor {
+
+        private final Field field;
+
+        private final MethodHandle getter;
+
+        private final MethodHandle setter;
+
+        private MethodHandleAccessor(final Field field, final MethodHandle getter, final MethodHandle setter) {
+            this.field = field;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public Object get(final Object bean) {
+            try {
+                return getter.invokeExact(bean);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Cannot get field: " + field, e);
+            }
+        }
+
+        @Override
+        public void set(final Object bean, final Object value) {
+            try {
+                setter.invokeExact(bean, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Cannot set field: " + field, e);
+            }
+        }
+    }
+}
@@ -32,6 +32,13 @@ public abstract class PropertyInfo {
         return attributeName;
     }
 
+    /**
+     * Returns the generic type of the property or list or {@code null} if the type is not known
+     *
+     * @return the generic type
+     */
+    public abstract Class<?> getTypeParameter();
+
     public abstract Object getPrivileged(Object bean);
 
     public abstract void setPriviliged(Object bean, Object value);
@@ -15,58 +15,194 @@
  */
 package com.canoo.dp.impl.remoting.legacy.core;
 
+import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
-import java.beans.PropertyChangeSupport;
+import java.beans.PropertyChangeListenerProxy;
+import java.util.Arrays;
 
+/**
+ * Base class for observable objects like attributes and presentation models. Instead of a
+ * {@link java.beans.PropertyChangeSupport} this class holds the listeners in copy-on-write arrays that are only
+ * created once a listener is added. An event is only created if at least one listener is registered for the changed
+ * property. Like {@link java.beans.PropertyChangeSupport} the listeners that are registered for all properties are
+ * called before the listeners that are registered for the changed property.
+ */
 public class AbstractObservable implements Observable {
 
-    private final PropertyChangeSupport pcs;
+    private static final PropertyChangeListener[] NO_LISTENERS = new PropertyChangeListener[0];
 
-    public AbstractObservable() {
-        pcs = new PropertyChangeSupport(this);
-    }
+    private volatile PropertyChangeListener[] listeners = NO_LISTENERS;
+
+    private volatile NamedListeners[] namedListeners = null;
 
     @Override
     public void addPropertyChangeListener(PropertyChangeListener listener) {
-        if (listener == null || containsListener(listener, getPropertyChangeListeners())) return;
-        pcs.addPropertyChangeListener(listener);
+        if (listener == null) return;
+        if (listener instanceof PropertyChangeListenerProxy) {
+            final PropertyChangeListenerProxy proxy = (PropertyChangeListenerProxy) listener;
+            addPropertyChangeListener(proxy.getPropertyName(), proxy.getListener());
+            return;
+        }
+        synchronized (this) {
+            listeners = add(listeners, listener);
+        }
     }
 
     @Override
     public void addPropertyChangeListener(String propertyName, PropertyChangeListener listener) {
-        if (listener == null || containsListener(listener, getPropertyChangeListeners(propertyName))) return;
-        pcs.addPropertyChangeListener(propertyName, listener);
+        if (listener == null || propertyName == null) return;
+        synchronized (this) {
+            final NamedListeners[] current = namedListeners;
+            if (current != null) {
+                for (int i = 0; i < current.length; i++) {
+                    if (current[i].propertyName.equals(propertyName)) {
+                        final PropertyChangeListener[] updated = add(current[i].listeners, listener);
+                        if (updated != current[i].listeners) {
+                            final NamedListeners[] copy = current.clone();
+                            copy[i] = new NamedListeners(propertyName, updated);
+                            namedListeners = copy;
+                        }
+                        return;
+                    }
+                }
+            }
+            final NamedListeners entry = new NamedListeners(propertyName, new PropertyChangeListener[]{listener});
+            if (current == null) {
+                namedListeners = new NamedListeners[]{entry};
+            } else {
+                final NamedListeners[] copy = Arrays.copyOf(current, current.length + 1);
+                copy[current.length] = entry;
+                namedListeners = copy;
+            }
+        }
     }
 
     @Override
     public void removePropertyChangeListener(PropertyChangeListener listener) {
-        pcs.removePropertyChangeListener(listener);
+        if (listener == null) return;
+        if (listener instanceof PropertyChangeListenerProxy) {
+            final PropertyChangeListenerProxy proxy = (PropertyChangeListenerProxy) listener;
+            removePropertyChangeListener(proxy.getPropertyName(), proxy.getListener());
+            return;
+        }
+        synchronized (this) {
+            listeners = remove(listeners, listener);
+        }
     }
 
     @Override
     public void removePropertyChangeListener(String propertyName, PropertyChangeListener listener) {
-        pcs.removePropertyChangeListener(propertyName, listener);
+        if (listener == null || propertyName == null) return;
+        synchronized (this) {
+            final NamedListeners[] current = namedListeners;
+            if (current == null) return;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i].propertyName.equals(propertyName)) {
+                    final PropertyChangeListener[] updated = remove(current[i].listeners, listener);
+                    if (updated != current[i].listeners) {
+                        final NamedListeners[] copy = current.clone();
+                        copy[i] = new NamedListeners(propertyName, updated);
+                        namedListeners = copy;
+                    }
+                    return;
+                }
+            }
+        }
     }
 
+    /**
+     * Returns all listeners. Listeners that are registered for a specific property are wrapped in a
+     * {@link PropertyChangeListenerProxy}.
+     */
     @Override
     public PropertyChangeListener[] getPropertyChangeListeners() {
-        return pcs.getPropertyChangeListeners();
+        final PropertyChangeListener[] currentListeners = listeners;
+        final NamedListeners[] currentNamedListeners = namedListeners;
+        if (currentNamedListeners == null) {
+            return currentListeners.clone();
+        }
+        PropertyChangeListener[] result = currentListeners.clone();
+        for (NamedListeners entry : currentNamedListeners) {
+            final int offset = result.length;
+            result = Arrays.copyOf(result, offset + entry.listeners.length);
+            for (int i = 0; i < entry.listeners.length; i++) {
+                result[offset + i] = new PropertyChangeListenerProxy(entry.propertyName, entry.listeners[i]);
+            }
+        }
+        return result;
     }
 
     @Override
     public PropertyChangeListener[] getPropertyChangeListeners(String propertyName) {
-        return pcs.getPropertyChangeListeners(propertyName);
+        return getNamedListeners(propertyName).clone();
+    }
+
+    /**
+     * Returns true if at least one listener will be notified about changes of the given property
+     */
+    protected boolean hasListeners(String propertyName) {
+        return listeners.length > 0 || getNamedListeners(propertyName).length > 0;
     }
 
     protected void firePropertyChange(String propertyName, Object oldValue, Object newValue) {
         if (oldValue == newValue) return;
-        pcs.firePropertyChange(propertyName, oldValue, newValue);
+        if (oldValue != null && newValue != null && oldValue.equals(newValue)) return;
+        final PropertyChangeListener[] currentListeners = listeners;
+        final PropertyChangeListener[] currentNamedListeners = getNamedListeners(propertyName);
+        if (currentListeners.length == 0 && currentNamedListeners.length == 0) return;
+
+        final PropertyChangeEvent event = new PropertyChangeEvent(this, propertyName, oldValue, newValue);
+        for (PropertyChangeListener listener : currentListeners) {
+            listener.propertyChange(event);
+        }
+        for (PropertyChangeListener listener : currentNamedListeners) {
+            listener.propertyChange(event);
+        }
+    }
+
+    private PropertyChangeListener[] getNamedListeners(String propertyName) {
+        final NamedListeners[] current = namedListeners;
+        if (current != null && propertyName != null) {
+            for (NamedListeners entry : current) {
+                if (entry.propertyName.equals(propertyName)) {
+                    return entry.listeners;
+                }
+            }
+        }
+        return NO_LISTENERS;
+    }
+
+    private static PropertyChangeListener[] add(PropertyChangeListener[] current, PropertyChangeListener listener) {
+        for (PropertyChangeListener subject : current) {
+            if (subject == listener) return current;
+        }
+        final PropertyChangeListener[] result = Arrays.copyOf(current, current.length + 1);
+        result[current.length] = listener;
+        return result;
+    }
+
+    private static PropertyChangeListener[] remove(PropertyChangeListener[] current, PropertyChangeListener listener) {
+        for (int i = 0; i < current.length; i++) {
+            if (current[i].equals(listener)) {
+                if (current.length == 1) return NO_LISTENERS;
+                final PropertyChangeListener[] result = new PropertyChangeListener[current.length - 1];
+                System.arraycopy(current, 0, result, 0, i);
+                System.arraycopy(current, i + 1, result, i, current.length - i - 1);
+                return result;
+            }
+        }
+        return current;
     }
 
-    private boolean containsListener(PropertyChangeListener listener, PropertyChangeListener[] listeners) {
-        for (PropertyChangeListener subject : listeners) {
-            if (subject == listener) return true;
+    private static final class NamedListeners {
+
+        private final String propertyName;
+
+        private final PropertyChangeListener[] listeners;
+
+        private NamedListeners(String propertyName, PropertyChangeListener[] listeners) {
+            this.propertyName = propertyName;
+            this.listeners = listeners;
         }
-        return false;
     }
-}
\ No newline at end of file
+}
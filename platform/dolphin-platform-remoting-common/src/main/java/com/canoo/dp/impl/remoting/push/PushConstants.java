@@ -0,0 +1,49 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.push;
+
+/**
+ * Constants of the server push channel. The server push channel is a server-sent events stream that is opened by a
+ * GET request to the remoting endpoint and replaces the long poll of the client.
+ */
+public interface PushConstants {
+
+    String EVENT_STREAM_MIME_TYPE = "text/event-stream";
+
+    /**
+     * Event that is sent once when the push channel is established
+     */
+    String CONNECTED_EVENT = "connected";
+
+    /**
+     * Event that contains commands that are pushed by the server (the result of a long poll in the polling transport)
+     */
+    String PUSH_EVENT = "push";
+
+    /**
+     * Event that contains the response commands of a request that was sent by the client while the push channel was
+     * open. By doing so all commands that are sent by the server are received by the client in one ordered stream.
+     * The id of the event is the {@link #RESPONSE_ID_PARAM} of the request.
+     */
+    String RESPONSE_EVENT = "response";
+
+    /**
+     * Query parameter of a request that marks the response as receivable by the push channel of the client. Only if
+     * the parameter is defined the server sends the response commands as {@link #RESPONSE_EVENT} and answers the
+     * request itself with an empty body. In all other cases the response commands are part of the response body.
+     */
+    String RESPONSE_ID_PARAM = "responseId";
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.push;
+
+import com.canoo.dp.impl.platform.core.Assert;
+
+/**
+ * A single event of a server-sent events stream.
+ */
+public final class ServerSentEvent {
+
+    private final String name;
+
+    private final String data;
+
+    private final String id;
+
+    public ServerSentEvent(final String name, final String data) {
+        this(name, data, null);
+    }
+
+    public ServerSentEvent(final String name, final String data, final String id) {
+        this.name = Assert.requireNonBlank(name, "name");
+        this.data = Assert.requireNonNull(data, "data");
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getData() {
+        return data;
+    }
+
+    /**
+     * Returns the id of the event.
+     * @return the id or {@code null} if the event has no id
+     */
+    public String getId() {
+        return id;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.push;
+
+import com.canoo.dp.impl.platform.core.Assert;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads events in the server-sent events format. Comments and unknown fields are ignored. Events without an event
+ * name are reported with the default name "message". Other than in a browser the id of an event is not kept as last
+ * event id for the following events.
+ */
+public final class ServerSentEventReader implements Closeable {
+
+    private static final String DEFAULT_EVENT_NAME = "message";
+
+    private final BufferedReader reader;
+
+    public ServerSentEventReader(final Reader reader) {
+        Assert.requireNonNull(reader, "reader");
+        if (reader instanceof BufferedReader) {
+            this.reader = (BufferedReader) reader;
+        } else {
+            this.reader = new BufferedReader(reader);
+        }
+    }
+
+    /**
+     * Blocks until the next event is received.
+     * @return the event or {@code null} if the end of the stream is reached
+     * @throws IOException if the stream can not be read
+     */
+    public ServerSentEvent readEvent() throws IOException {
+        String name = null;
+        String id = null;
+        StringBuilder data = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                if (data != null) {
+                    return new ServerSentEvent(name != null ? name : DEFAULT_EVENT_NAME, data.toString(), id);
+                }
+                name = null;
+                id = null;
+                continue;
+            }
+            if (line.charAt(0) == ':') {
+                continue;
+            }
+            final int colon = line.indexOf(':');
+            final String field = colon == -1 ? line : line.substring(0, colon);
+            String value = colon == -1 ? "" : line.substring(colon + 1);
+            if (value.startsWith(" ")) {
+                value = value.substring(1);
+            }
+            if ("event".equals(field)) {
+                name = value;
+            } else if ("id".equals(field)) {
+                id = value;
+            } else if ("data".equals(field)) {
+                if (data == null) {
+                    data = new StringBuilder(value);
+                } else {
+                    data.append('\n').append(value);
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
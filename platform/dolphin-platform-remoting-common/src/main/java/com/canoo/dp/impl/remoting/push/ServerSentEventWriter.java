@@ -0,0 +1,89 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.push;
+
+import com.canoo.dp.impl.platform.core.Assert;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes events in the server-sent events format. Each event is flushed directly since a stream of server-sent events
+ * is long living and the client should receive an event as soon as it is written.
+ */
+public final class ServerSentEventWriter implements Flushable, Closeable {
+
+    private final Writer writer;
+
+    public ServerSentEventWriter(final Writer writer) {
+        this.writer = Assert.requireNonNull(writer, "writer");
+    }
+
+    public void writeEvent(final ServerSentEvent event) throws IOException {
+        Assert.requireNonNull(event, "event");
+        writer.write("event: ");
+        writer.write(event.getName());
+        writer.write('\n');
+        if (event.getId() != null) {
+            writer.write("id: ");
+            writer.write(event.getId());
+            writer.write('\n');
+        }
+
+        final String data = event.getData();
+        int start = 0;
+        int end;
+        while ((end = data.indexOf('\n', start)) != -1) {
+            writeDataLine(data, start, end);
+            start = end + 1;
+        }
+        writeDataLine(data, start, data.length());
+        writer.write('\n');
+        writer.flush();
+    }
+
+    /**
+     * Writes a comment that is ignored by the client. Comments are used as heartbeat to keep the connection alive
+     * and to detect closed connections on the server.
+     * @throws IOException if the comment can not be written
+     */
+    public void writeHeartbeat() throws IOException {
+        writer.write(":\n\n");
+        writer.flush();
+    }
+
+    private void writeDataLine(final String data, final int start, final int end) throws IOException {
+        int lineEnd = end;
+        if (lineEnd > start && data.charAt(lineEnd - 1) == '\r') {
+            lineEnd--;
+        }
+        writer.write("data: ");
+        writer.write(data, start, lineEnd - start);
+        writer.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
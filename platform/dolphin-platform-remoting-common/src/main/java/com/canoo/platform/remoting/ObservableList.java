@@ -15,6 +15,8 @@
  */
 package com.canoo.platform.remoting;
 
+import com.canoo.platform.core.functional.Callback;
+import com.canoo.platform.core.functional.Function;
 import com.canoo.platform.core.functional.Subscription;
 
 import java.util.Collection;
@@ -55,14 +57,33 @@ import java.util.List;
 public interface ObservableList<E> extends List<E> {
 
     /**
-     * Clears the ObservableList and add all elements from the collection.
+     * Clears the ObservableList and add all elements from the collection. Only the minimal set of changes that is
+     * needed to transform the current content into the new content is applied to the list and fired as a single
+     * {@link ListChangeEvent}. Elements are compared by {@link Object#equals(Object)}.
      *
      * @param col the collection with elements that will be added to this observableArrayList
      * @return true (as specified by Collection.add(E))
      * @throws NullPointerException if the specified collection contains one or more null elements
+     * @see #replaceWith(Collection, Function)
      */
     boolean setAll(Collection<? extends E> col);
 
+    /**
+     * Replaces the content of the list by the elements of the given collection. Like {@link #setAll(Collection)} this
+     * method only applies the minimal set of changes and fires them as a single {@link ListChangeEvent}. Elements of
+     * the list and the collection are matched by the keys that are provided by the given key extractor. If a matched
+     * element of the list is not equal to the new element it will be replaced. If no key extractor is defined the
+     * elements are compared by {@link Object#equals(Object)}.
+     * <p>
+     * This should be used to refresh the content of a list (like the rows of a table) since only the elements that
+     * changed will be synchronized with the client.
+     *
+     * @param col the collection with the new content of the list
+     * @param keyExtractor function that provides the key of an element, can be {@code null}
+     * @return <tt>true</tt> if the list changed as a result of the call
+     */
+    boolean replaceWith(Collection<? extends E> col, Function<? super E, ?> keyExtractor);
+
     /**
      * Adds a change lister to the list that will be fired whenever the content of the list changes. This
      * will happen if an element is added or removed to the list, for example.
@@ -72,6 +93,19 @@ public interface ObservableList<E> extends List<E> {
      */
     Subscription onChanged(ListChangeListener<? super E> listener);
 
+    /**
+     * Executes all mutations that are done by the given mutator as one batch. While the mutator is executed no
+     * change events are fired. After the mutator has been executed all mutations are merged and a single
+     * {@link ListChangeEvent} is fired that only contains the resulting changes. If the content of the list did not
+     * change no event is fired. Batches can be nested and the event is fired when the outermost batch ends.
+     * <p>
+     * This should be used whenever many elements of a list are mutated at once (like refreshing the content of a table)
+     * since the changes of a batch are synchronized with a minimal number of commands.
+     *
+     * @param mutator the mutator that is called with this list
+     */
+    void batch(Callback<? super ObservableList<E>> mutator);
+
     /**
      * Appends all elements to the end of this list
      *
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.platform.remoting;
+
+/**
+ * A virtual list can be used to define a huge list in a Dolphin Platform model without synchronizing all elements
+ * between server and client. The server provides the content of the list and the client only requests the window
+ * that is currently visible (like the visible rows of a table). Only the elements of the requested window are loaded
+ * and synchronized with the client.
+ * <p>
+ * To use a virtual list in a model a concrete subclass that defines the type of the elements must be created:
+ * <p>
+ * <blockquote>
+ * <pre>
+ *     {@code public class PersonList extends VirtualList<PersonBean> {}}
+ *
+ *     {@literal @}DolphinBean
+ *     public class MyModel {
+ *
+ *         private Property<PersonList> persons;
+ *
+ *         {@code public Property<PersonList> getPersonsProperty() {
+ *              return persons;
+ *          }
+ *         }
+ *     }
+ * </pre>
+ * </blockquote>
+ * <p>
+ * On the server the content of a virtual list is provided by a data source that is bound to the list. On the client
+ * the window of the list is requested by calling {@link #requestWindow(int, int)}. Normally this is done by a UI
+ * toolkit specific wrapper that is driven by the viewport of a list or table.
+ *
+ * @param <E> type of elements in the list
+ */
+@DolphinBean
+public abstract class VirtualList<E> {
+
+    private Property<Integer> size;
+
+    private Property<Integer> windowStart;
+
+    private Property<Integer> windowSize;
+
+    private Property<Integer> windowRequest;
+
+    private Property<Integer> loadedStart;
+
+    private ObservableList<E> loadedElements;
+
+    /**
+     * Property that contains the size of the complete list. The value is defined by the server.
+     *
+     * @return the size property
+     */
+    public Property<Integer> getSizeProperty() {
+        return size;
+    }
+
+    /**
+     * Property that contains the index of the first element of the window that is requested by the client.
+     *
+     * @return the window start property
+     */
+    public Property<Integer> getWindowStartProperty() {
+        return windowStart;
+    }
+
+    /**
+     * Property that contains the number of elements of the window that is requested by the client.
+     *
+     * @return the window size property
+     */
+    public Property<Integer> getWindowSizeProperty() {
+        return windowSize;
+    }
+
+    /**
+     * Property that is incremented by {@link #requestWindow(int, int)} after the start and the size of the window
+     * have been defined. The server only loads the window when this value changes and therefore loads a moved window
+     * only once.
+     *
+     * @return the window request property
+     */
+    public Property<Integer> getWindowRequestProperty() {
+        return windowRequest;
+    }
+
+    /**
+     * Property that contains the index of the first element in {@link #getLoadedElements()}. The value is defined by
+     * the server.
+     *
+     * @return the loaded start property
+     */
+    public Property<Integer> getLoadedStartProperty() {
+        return loadedStart;
+    }
+
+    /**
+     * Returns the elements that are currently loaded. The server always loads complete pages that contain the
+     * requested window.
+     *
+     * @return the loaded elements
+     */
+    public ObservableList<E> getLoadedElements() {
+        return loadedElements;
+    }
+
+    /**
+     * Returns the size of the complete list.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return intValue(size);
+    }
+
+    /**
+     * Returns the index of the first element of the requested window.
+     *
+     * @return the index of the first element of the requested window
+     */
+    public int getWindowStart() {
+        return intValue(windowStart);
+    }
+
+    /**
+     * Returns the number of elements of the requested window.
+     *
+     * @return the number of elements of the requested window
+     */
+    public int getWindowSize() {
+        return intValue(windowSize);
+    }
+
+    /**
+     * Returns the index of the first loaded element.
+     *
+     * @return the index of the first loaded element
+     */
+    public int getLoadedStart() {
+        return intValue(loadedStart);
+    }
+
+    /**
+     * Returns the index after the last loaded element.
+     *
+     * @return the index after the last loaded element
+     */
+    public int getLoadedEnd() {
+        return getLoadedStart() + loadedElements.size();
+    }
+
+    /**
+     * Checks if the element at the given index is loaded.
+     *
+     * @param index the index
+     * @return true if the element is loaded
+     */
+    public boolean isLoaded(final int index) {
+        return index >= getLoadedStart() && index < getLoadedEnd();
+    }
+
+    /**
+     * Returns the element at the given index or {@code null} if the element is not loaded.
+     *
+     * @param index the index
+     * @return the element or {@code null}
+     */
+    public E get(final int index) {
+        if (isLoaded(index)) {
+            return loadedElements.get(index - getLoadedStart());
+        }
+        return null;
+    }
+
+    /**
+     * Requests the window of the list that should be loaded. The server will load all elements of the window and
+     * synchronize them with the client.
+     *
+     * @param start index of the first element of the window
+     * @param count number of elements in the window
+     */
+    public void requestWindow(final int start, final int count) {
+        if (start < 0) {
+            throw new IllegalArgumentException("start must not be negative");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative");
+        }
+        if (getWindowStart() == start && getWindowSize() == count) {
+            return;
+        }
+        windowStart.set(start);
+        windowSize.set(count);
+        windowRequest.set(intValue(windowRequest) + 1);
+    }
+
+    private static int intValue(final Property<Integer> property) {
+        final Integer value = property.get();
+        return value == null ? 0 : value;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dolphin.impl;
+
+import com.canoo.dp.impl.remoting.MockedProperty;
+import com.canoo.dp.impl.remoting.collections.ObservableArrayList;
+import com.canoo.dp.impl.remoting.info.BeanMetadata;
+import com.canoo.dp.impl.remoting.info.FieldMetadata;
+import com.canoo.platform.remoting.DolphinBean;
+import com.canoo.platform.remoting.ObservableList;
+import com.canoo.platform.remoting.Property;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+public class BeanMetadataTest {
+
+    @Test
+    public void testMetadataIsShared() {
+        Assert.assertSame(BeanMetadata.of(ChildBean.class), BeanMetadata.of(ChildBean.class));
+    }
+
+    @Test
+    public void testFields() {
+        final BeanMetadata metadata = BeanMetadata.of(ChildBean.class);
+        Assert.assertEquals(metadata.getBeanClass(), ChildBean.class);
+
+        final List<FieldMetadata> properties = metadata.getProperties();
+        Assert.assertEquals(properties.size(), 2);
+        Assert.assertEquals(properties.get(0).getAttributeName(), "name");
+        Assert.assertEquals(properties.get(0).getTypeParameter(), String.class);
+        Assert.assertTrue(properties.get(0).isProperty());
+        Assert.assertEquals(properties.get(1).getAttributeName(), "age");
+        Assert.assertEquals(properties.get(1).getTypeParameter(), Integer.class);
+
+        final List<FieldMetadata> lists = metadata.getObservableLists();
+        Assert.assertEquals(lists.size(), 1);
+        Assert.assertEquals(lists.get(0).getAttributeName(), "values");
+        Assert.assertEquals(lists.get(0).getTypeParameter(), Double.class);
+        Assert.assertTrue(lists.get(0).isObservableList());
+
+        Assert.assertEquals(metadata.getFields().size(), 3);
+    }
+
+    @Test
+    public void testAccessors() {
+        final BeanMetadata metadata = BeanMetadata.of(ChildBean.class);
+        final ChildBean bean = metadata.newInstance();
+        Assert.assertNotNull(bean);
+
+        final MockedProperty<String> property = new MockedProperty<>();
+        final FieldMetadata nameMetadata = metadata.getProperties().get(0);
+        nameMetadata.set(bean, property);
+        Assert.assertSame(bean.getNameProperty(), property);
+        Assert.assertSame(nameMetadata.get(bean), property);
+
+        final ObservableArrayList<Double> list = new ObservableArrayList<>();
+        metadata.getObservableLists().get(0).set(bean, list);
+        Assert.assertSame(bean.getValues(), list);
+    }
+
+    @Test
+    public void testBeanReferenceFields() {
+        Assert.assertTrue(BeanMetadata.of(ChildBean.class).getBeanReferenceProperties().isEmpty());
+        Assert.assertTrue(BeanMetadata.of(ChildBean.class).getBeanReferenceObservableLists().isEmpty());
+
+        final BeanMetadata metadata = BeanMetadata.of(BeanWithReferences.class);
+        Assert.assertEquals(metadata.getProperties().size(), 4);
+        final List<FieldMetadata> properties = metadata.getBeanReferenceProperties();
+        Assert.assertEquals(properties.size(), 2);
+        Assert.assertEquals(properties.get(0).getAttributeName(), "child");
+        Assert.assertEquals(properties.get(1).getAttributeName(), "value");
+
+        final List<FieldMetadata> lists = metadata.getBeanReferenceObservableLists();
+        Assert.assertEquals(lists.size(), 1);
+        Assert.assertEquals(lists.get(0).getAttributeName(), "children");
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testNewInstanceWithoutDefaultConstructor() {
+        BeanMetadata.of(BeanWithoutDefaultConstructor.class).newInstance();
+    }
+
+    @DolphinBean
+    private static class ChildBean extends ParentBean {
+
+        private Property<String> name;
+
+        private ObservableList<Double> values;
+
+        private String ignored;
+
+        private ChildBean() {
+        }
+
+        private Property<String> getNameProperty() {
+            return name;
+        }
+
+        private ObservableList<Double> getValues() {
+            return values;
+        }
+    }
+
+    private static class ParentBean {
+
+        private Property<Integer> age;
+    }
+
+    @DolphinBean
+    private static class BeanWithReferences {
+
+        private Property<ChildBean> child;
+
+        private Property<Object> value;
+
+        private Property<Thread.State> state;
+
+        private Property<Class> type;
+
+        private ObservableList<ChildBean> children;
+
+        private ObservableList<Long> ids;
+    }
+
+    @DolphinBean
+    private static class BeanWithoutDefaultConstructor {
+
+        private BeanWithoutDefaultConstructor(final String value) {
+        }
+    }
+}
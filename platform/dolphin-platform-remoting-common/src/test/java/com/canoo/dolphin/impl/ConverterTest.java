@@ -23,6 +23,8 @@ import org.testng.annotations.Test;
 import java.util.Date;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.fail;
 
 public class ConverterTest {
@@ -70,6 +72,26 @@ public class ConverterTest {
         checkConversion(converter, Double.MIN_VALUE);
     }
 
+    @Test
+    public void testConverterIsCached() {
+        Converters converters = new Converters(null);
+        assertSame(converters.getConverter(DataType.class), converters.getConverter(DataType.class));
+        assertSame(converters.getConverter(String.class), converters.getConverter(String.class));
+        assertEquals(converters.getFieldType(String.class), converters.getFieldType(String.class));
+    }
+
+    @Test
+    public void testFactoriesAreNotShared() {
+        Converters converters1 = new Converters(null);
+        Converters converters2 = new Converters(null);
+        assertNotSame(converters1.getConverter(DataType.class), converters2.getConverter(DataType.class));
+    }
+
+    @Test(expectedExceptions = RuntimeException.class)
+    public void testUnsupportedType() {
+        new Converters(null).getConverter(Thread.class);
+    }
+
     private void checkConversion(Converter converter, Object val) {
         try {
             Object converted = converter.convertToDolphin(val);
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dolphin.impl.codec;
+
+import com.canoo.dp.impl.remoting.codec.BinaryCodec;
+import com.canoo.dp.impl.remoting.codec.OptimizedJsonCodec;
+import com.canoo.dp.impl.remoting.codec.binary.BinaryProtocolException;
+import com.canoo.dp.impl.remoting.commands.CallActionCommand;
+import com.canoo.dp.impl.remoting.commands.CreateContextCommand;
+import com.canoo.dp.impl.remoting.commands.CreateControllerCommand;
+import com.canoo.dp.impl.remoting.commands.DestroyContextCommand;
+import com.canoo.dp.impl.remoting.commands.DestroyControllerCommand;
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
+import com.canoo.dp.impl.remoting.legacy.commands.InterruptLongPollCommand;
+import com.canoo.dp.impl.remoting.legacy.commands.StartLongPollCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.AttributeMetadataChangedCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.ChangeAttributeMetadataCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.Command;
+import com.canoo.dp.impl.remoting.legacy.communication.CreatePresentationModelCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.DeletePresentationModelCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.EmptyCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.PresentationModelDeletedCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.ValueChangedCommand;
+import com.canoo.dp.impl.remoting.legacy.core.Attribute;
+import org.hamcrest.Matchers;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+
+public class TestBinaryCodec {
+
+    @Test
+    public void shouldRoundTripEmptyList() {
+        final byte[] encoded = BinaryCodec.getInstance().encode(Collections.<Command>emptyList());
+        assertThat(encoded.length, is(2));
+        assertThat(BinaryCodec.getInstance().decode(encoded), Matchers.<Command>empty());
+    }
+
+    @Test
+    public void shouldRoundTripAllCommandTypes() {
+        final List<Command> commands = new ArrayList<>();
+        commands.add(new StartLongPollCommand());
+        commands.add(new InterruptLongPollCommand());
+        commands.add(new CreateContextCommand());
+        commands.add(new DestroyContextCommand());
+        commands.add(new EmptyCommand());
+        commands.add(new DeletePresentationModelCommand("pm1"));
+        commands.add(new PresentationModelDeletedCommand("pm2"));
+        commands.add(new ChangeAttributeMetadataCommand("a1", "tag", "value"));
+        commands.add(new AttributeMetadataChangedCommand("a2", "tag", 17));
+        final CreateControllerCommand createControllerCommand = new CreateControllerCommand();
+        createControllerCommand.setControllerName("MyController");
+        commands.add(createControllerCommand);
+        final DestroyControllerCommand destroyControllerCommand = new DestroyControllerCommand();
+        destroyControllerCommand.setControllerId("c1");
+        commands.add(destroyControllerCommand);
+
+        final List<Command> decoded = BinaryCodec.getInstance().decode(BinaryCodec.getInstance().encode(commands));
+
+        assertThat(decoded, hasSize(commands.size()));
+        for (int i = 0; i < commands.size(); i++) {
+            assertThat(decoded.get(i), instanceOf(commands.get(i).getClass()));
+        }
+        assertThat(((DeletePresentationModelCommand) decoded.get(5)).getPmId(), is("pm1"));
+        assertThat(((PresentationModelDeletedCommand) decoded.get(6)).getPmId(), is("pm2"));
+        final ChangeAttributeMetadataCommand changeCommand = (ChangeAttributeMetadataCommand) decoded.get(7);
+        assertThat(changeCommand.getAttributeId(), is("a1"));
+        assertThat(changeCommand.getMetadataName(), is("tag"));
+        assertThat(changeCommand.getValue(), Matchers.<Object>is("value"));
+        final AttributeMetadataChangedCommand changedCommand = (AttributeMetadataChangedCommand) decoded.get(8);
+        assertThat(changedCommand.getAttributeId(), is("a2"));
+        assertThat(changedCommand.getValue(), Matchers.<Object>is(17));
+        final CreateControllerCommand decodedCreateController = (CreateControllerCommand) decoded.get(9);
+        assertThat(decodedCreateController.getParentControllerId(), nullValue());
+        assertThat(decodedCreateController.getControllerName(), is("MyController"));
+        assertThat(((DestroyControllerCommand) decoded.get(10)).getControllerId(), is("c1"));
+    }
+
+    @Test
+    public void shouldRoundTripValues() {
+        final CallActionCommand command = new CallActionCommand();
+        command.setControllerId("4711");
+        command.setActionName("action");
+        command.addParam("int", -42);
+        command.addParam("long", Long.MAX_VALUE);
+        command.addParam("float", 1.5f);
+        command.addParam("double", 7.6);
+        command.addParam("bigDecimal", new BigDecimal("12345678901234567890.5"));
+        command.addParam("true", true);
+        command.addParam("false", false);
+        command.addParam("null", null);
+        command.addParam("string", "Hällo");
+
+        final List<Command> decoded = BinaryCodec.getInstance().decode(BinaryCodec.getInstance().encode(Collections.<Command>singletonList(command)));
+
+        assertThat(decoded, hasSize(1));
+        final Map<String, Object> params = ((CallActionCommand) decoded.get(0)).getParams();
+        assertThat(params.get("int"), Matchers.<Object>is(-42));
+        assertThat(params.get("long"), Matchers.<Object>is(Long.MAX_VALUE));
+        assertThat(params.get("float"), Matchers.<Object>is(1.5f));
+        assertThat(params.get("double"), Matchers.<Object>is(7.6));
+        assertThat(params.get("bigDecimal").toString(), is("12345678901234567890.5"));
+        assertThat(params.get("true"), Matchers.<Object>is(true));
+        assertThat(params.get("false"), Matchers.<Object>is(false));
+        assertThat(params.containsKey("null"), is(true));
+        assertThat(params.get("null"), nullValue());
+        assertThat(params.get("string"), Matchers.<Object>is("Hällo"));
+    }
+
+    @Test
+    public void shouldRoundTripListSpliceCommand() {
+        final ListSpliceCommand command = new ListSpliceCommand();
+        command.setSourceId("4711");
+        command.setAttributeName("items");
+        command.setFrom(2);
+        command.setTo(300);
+        command.addValue("A");
+        command.addValue(null);
+        command.addValue(42);
+
+        final List<Command> decoded = BinaryCodec.getInstance().decode(BinaryCodec.getInstance().encode(Collections.<Command>singletonList(command)));
+
+        assertThat(decoded, hasSize(1));
+        final ListSpliceCommand decodedCommand = (ListSpliceCommand) decoded.get(0);
+        assertThat(decodedCommand.getSourceId(), is("4711"));
+        assertThat(decodedCommand.getAttributeName(), is("items"));
+        assertThat(decodedCommand.getFrom(), is(2));
+        assertThat(decodedCommand.getTo(), is(300));
+        assertThat(decodedCommand.getValues(), Matchers.<Object>contains("A", null, 42));
+    }
+
+    @Test
+    public void shouldRoundTripCreatePresentationModelCommand() throws Exception {
+        final CreatePresentationModelCommand command = new CreatePresentationModelCommand();
+        command.setPmId("p1");
+        command.setPmType("Person");
+        final Map<String, Object> attribute = new HashMap<>();
+        attribute.put(Attribute.PROPERTY_NAME, "name");
+        attribute.put(Attribute.ID, "a1");
+        attribute.put(Attribute.VALUE_NAME, "Hugo");
+        command.getAttributes().add(attribute);
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        BinaryCodec.getInstance().encode(Collections.<Command>singletonList(command), outputStream);
+        final List<Command> decoded = BinaryCodec.getInstance().decode(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        assertThat(decoded, hasSize(1));
+        final CreatePresentationModelCommand decodedCommand = (CreatePresentationModelCommand) decoded.get(0);
+        assertThat(decodedCommand.getPmId(), is("p1"));
+        assertThat(decodedCommand.getPmType(), is("Person"));
+        assertThat(decodedCommand.isClientSideOnly(), is(false));
+        assertThat(decodedCommand.getAttributes(), hasSize(1));
+        assertThat(decodedCommand.getAttributes().get(0).get(Attribute.PROPERTY_NAME), Matchers.<Object>is("name"));
+        assertThat(decodedCommand.getAttributes().get(0).get(Attribute.ID), Matchers.<Object>is("a1"));
+        assertThat(decodedCommand.getAttributes().get(0).get(Attribute.VALUE_NAME), Matchers.<Object>is("Hugo"));
+    }
+
+    @Test
+    public void shouldBeSmallerThanJson() {
+        final List<Command> commands = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final ValueChangedCommand command = new ValueChangedCommand();
+            command.setAttributeId(i % 2 == 0 ? "1234S" : "1235S");
+            command.setNewValue(i);
+            commands.add(command);
+        }
+        final int binarySize = BinaryCodec.getInstance().encode(commands).length;
+        final int jsonSize = OptimizedJsonCodec.getInstance().encode(commands).getBytes(Charset.forName("UTF-8")).length;
+        assertThat(binarySize, lessThan(jsonSize / 4));
+    }
+
+    @Test(expectedExceptions = BinaryProtocolException.class)
+    public void shouldFailOnUnknownVersion() {
+        BinaryCodec.getInstance().decode(new byte[]{42, 0});
+    }
+
+    @Test(expectedExceptions = BinaryProtocolException.class)
+    public void shouldFailOnUnknownCommandTag() {
+        BinaryCodec.getInstance().decode(new byte[]{1, 1, 99});
+    }
+
+    @Test(expectedExceptions = BinaryProtocolException.class)
+    public void shouldFailOnTruncatedContent() {
+        final byte[] encoded = BinaryCodec.getInstance().encode(Arrays.<Command>asList(new DeletePresentationModelCommand("pm1")));
+        BinaryCodec.getInstance().decode(Arrays.copyOf(encoded, encoded.length - 1));
+    }
+
+    @Test(expectedExceptions = BinaryProtocolException.class)
+    public void shouldFailOnTrailingContent() {
+        BinaryCodec.getInstance().decode(new byte[]{1, 0, 0});
+    }
+
+    @Test(expectedExceptions = BinaryProtocolException.class)
+    public void shouldFailOnStringLengthAboveLimit() {
+        //DeletePresentationModelCommand with a pm id that declares Integer.MAX_VALUE bytes
+        BinaryCodec.getInstance().decode(new byte[]{1, 1, 4, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07});
+    }
+
+    @Test(expectedExceptions = BinaryProtocolException.class)
+    public void shouldFailOnStringLengthAboveRemainingContent() {
+        //DeletePresentationModelCommand with a pm id that declares 1 MB but only contains 2 bytes
+        BinaryCodec.getInstance().decode(new byte[]{1, 1, 4, 1, (byte) 0x80, (byte) 0x80, 0x40, 'p', 'm'});
+    }
+}
@@ -17,6 +17,7 @@ package com.canoo.dolphin.impl.codec;
 
 import com.canoo.dp.impl.remoting.codec.OptimizedJsonCodec;
 import com.canoo.dp.impl.remoting.commands.CallActionCommand;
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
 import org.hamcrest.Matchers;
 import com.canoo.dp.impl.remoting.legacy.core.Attribute;
 import com.canoo.dp.impl.remoting.legacy.communication.Command;
@@ -73,6 +74,20 @@ public class TestOptimizedJsonCodec {
         assertThat(actual, is("[{\"c_id\":\"4711\",\"n\":\"action\",\"p\":[{\"n\":\"A\",\"v\":1},{\"n\":\"B\",\"v\":7.6},{\"n\":\"C\",\"v\":true},{\"n\":\"D\",\"v\":null},{\"n\":\"E\",\"v\":\"Hello\"}],\"id\":\"CallAction\"}]"));
     }
 
+    @Test
+    public void shouldEncodeListSpliceCommand() {
+        final ListSpliceCommand command = new ListSpliceCommand();
+        command.setSourceId("4711");
+        command.setAttributeName("items");
+        command.setFrom(2);
+        command.setTo(3);
+        command.addValue("A");
+        command.addValue(null);
+        command.addValue(42);
+        final String actual = OptimizedJsonCodec.getInstance().encode(Collections.<Command>singletonList(command));
+        assertThat(actual, is("[{\"s\":\"4711\",\"n\":\"items\",\"f\":2,\"to\":3,\"vs\":[\"A\",null,42],\"id\":\"ListSplice\"}]"));
+    }
+
     @Test
     public void shouldEncodeValueChangedCommandWithNulls() {
         final ValueChangedCommand command = new ValueChangedCommand();
@@ -187,6 +202,22 @@ public class TestOptimizedJsonCodec {
         assertThat(commands, Matchers.<Command>empty());
     }
 
+    @Test
+    public void shouldDecodeListSpliceCommand() {
+        final List<Command> commands = OptimizedJsonCodec.getInstance().decode("[{\"s\":\"4711\",\"n\":\"items\",\"f\":2,\"to\":3,\"vs\":[\"A\",null,42],\"id\":\"ListSplice\"}]");
+
+        assertThat(commands, hasSize(1));
+        final ListSpliceCommand command = (ListSpliceCommand) commands.get(0);
+        assertThat(command.getSourceId(), is("4711"));
+        assertThat(command.getAttributeName(), is("items"));
+        assertThat(command.getFrom(), is(2));
+        assertThat(command.getTo(), is(3));
+        assertThat(command.getValues(), hasSize(3));
+        assertThat(command.getValues().get(0), Matchers.<Object>is("A"));
+        assertThat(command.getValues().get(1), nullValue());
+        assertThat(((Number) command.getValues().get(2)).intValue(), is(42));
+    }
+
     @Test
     public void shouldDecodeValueChangedCommandWithNulls() {
         final List<Command> commands = OptimizedJsonCodec.getInstance().decode("[{\"a_id\":\"3357S\",\"id\":\"ValueChanged\"}]");
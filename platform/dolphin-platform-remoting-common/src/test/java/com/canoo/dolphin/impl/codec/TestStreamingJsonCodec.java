@@ -0,0 +1,254 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dolphin.impl.codec;
+
+import com.canoo.dp.impl.remoting.codec.OptimizedJsonCodec;
+import com.canoo.dp.impl.remoting.codec.StreamingJsonCodec;
+import com.canoo.dp.impl.remoting.commands.CallActionCommand;
+import com.canoo.dp.impl.remoting.commands.CreateControllerCommand;
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.ChangeAttributeMetadataCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.Command;
+import com.canoo.dp.impl.remoting.legacy.communication.CreatePresentationModelCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.EmptyCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.ValueChangedCommand;
+import com.canoo.dp.impl.remoting.legacy.core.Attribute;
+import com.google.gson.JsonParseException;
+import org.hamcrest.Matchers;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+public class TestStreamingJsonCodec {
+
+    @Test
+    public void shouldEncodeEmptyList() {
+        final String actual = StreamingJsonCodec.getInstance().encode(Collections.<Command>emptyList());
+        assertThat(actual, is("[]"));
+    }
+
+    @Test
+    public void shouldEncodeValueChangedCommandWithNulls() {
+        final ValueChangedCommand command = new ValueChangedCommand();
+        command.setNewValue(null);
+        command.setAttributeId("3357S");
+        final String actual = StreamingJsonCodec.getInstance().encode(Collections.<Command>singletonList(command));
+        assertThat(actual, is("[{\"id\":\"ValueChanged\",\"a_id\":\"3357S\"}]"));
+    }
+
+    @Test
+    public void shouldEncodeValueChangedCommandWithNumbers() {
+        final ValueChangedCommand intCommand = new ValueChangedCommand();
+        intCommand.setNewValue(42);
+        intCommand.setAttributeId("3357S");
+        final ValueChangedCommand doubleCommand = new ValueChangedCommand();
+        doubleCommand.setNewValue(2.7182);
+        doubleCommand.setAttributeId("3358S");
+        final String actual = StreamingJsonCodec.getInstance().encode(Arrays.<Command>asList(intCommand, doubleCommand));
+        assertThat(actual, is("[{\"id\":\"ValueChanged\",\"a_id\":\"3357S\",\"v\":42},{\"id\":\"ValueChanged\",\"a_id\":\"3358S\",\"v\":2.7182}]"));
+    }
+
+    @Test
+    public void shouldEncodeCallActionWithParamsCommand() {
+        final CallActionCommand command = new CallActionCommand();
+        command.setControllerId("4711");
+        command.setActionName("action");
+        command.addParam("A", 1);
+        command.addParam("B", 7.6);
+        command.addParam("C", true);
+        command.addParam("D", null);
+        command.addParam("E", "Hello");
+        final String actual = StreamingJsonCodec.getInstance().encode(Collections.<Command>singletonList(command));
+        assertThat(actual, is("[{\"id\":\"CallAction\",\"c_id\":\"4711\",\"n\":\"action\",\"p\":[{\"n\":\"A\",\"v\":1},{\"n\":\"B\",\"v\":7.6},{\"n\":\"C\",\"v\":true},{\"n\":\"D\",\"v\":null},{\"n\":\"E\",\"v\":\"Hello\"}]}]"));
+    }
+
+    @Test
+    public void shouldEncodeListSpliceCommand() {
+        final ListSpliceCommand command = new ListSpliceCommand();
+        command.setSourceId("4711");
+        command.setAttributeName("items");
+        command.setFrom(2);
+        command.setTo(3);
+        command.addValue("A");
+        command.addValue(null);
+        final String actual = StreamingJsonCodec.getInstance().encode(Collections.<Command>singletonList(command));
+        assertThat(actual, is("[{\"id\":\"ListSplice\",\"s\":\"4711\",\"n\":\"items\",\"f\":2,\"to\":3,\"vs\":[\"A\",null]}]"));
+
+        final ListSpliceCommand decoded = (ListSpliceCommand) StreamingJsonCodec.getInstance().decode(actual).get(0);
+        assertThat(decoded.getSourceId(), is("4711"));
+        assertThat(decoded.getAttributeName(), is("items"));
+        assertThat(decoded.getFrom(), is(2));
+        assertThat(decoded.getTo(), is(3));
+        assertThat(decoded.getValues(), Matchers.<Object>contains("A", null));
+    }
+
+    @Test
+    public void shouldEncodeToWriter() throws Exception {
+        final StringWriter writer = new StringWriter();
+        StreamingJsonCodec.getInstance().encode(Collections.<Command>singletonList(new EmptyCommand()), writer);
+        assertThat(writer.toString(), is("[{\"id\":\"Empty\"}]"));
+    }
+
+    @Test
+    public void shouldDecodeEmptyList() {
+        final List<Command> commands = StreamingJsonCodec.getInstance().decode("[]");
+        assertThat(commands, Matchers.<Command>empty());
+    }
+
+    @Test
+    public void shouldDecodeCommandsWithIdAsLastElement() {
+        final String json = "[{\"a_id\":\"3357S\",\"v\":\"Good Bye\",\"id\":\"ValueChanged\"},{\"c_id\":\"4711\",\"n\":\"action\",\"p\":[{\"n\":\"A\",\"v\":1}],\"id\":\"CallAction\"}]";
+        final List<Command> commands = StreamingJsonCodec.getInstance().decode(json);
+
+        assertThat(commands, hasSize(2));
+        final ValueChangedCommand valueChangedCommand = (ValueChangedCommand) commands.get(0);
+        assertThat(valueChangedCommand.getAttributeId(), is("3357S"));
+        assertThat(valueChangedCommand.getNewValue(), Matchers.<Object>is("Good Bye"));
+        final CallActionCommand callActionCommand = (CallActionCommand) commands.get(1);
+        assertThat(callActionCommand.getControllerId(), is("4711"));
+        assertThat(callActionCommand.getActionName(), is("action"));
+        assertThat(((Number) callActionCommand.getParams().get("A")).intValue(), is(1));
+    }
+
+    @Test
+    public void shouldDecodeFromReader() throws Exception {
+        final List<Command> commands = StreamingJsonCodec.getInstance().decode(new StringReader("[{\"id\":\"CreateController\",\"c_id\":null,\"n\":\"MyController\"}]"));
+
+        assertThat(commands, hasSize(1));
+        final CreateControllerCommand command = (CreateControllerCommand) commands.get(0);
+        Assert.assertNull(command.getParentControllerId());
+        assertThat(command.getControllerName(), is("MyController"));
+    }
+
+    @Test
+    public void shouldDecodeWhatOptimizedJsonCodecEncodes() {
+        final List<Command> commands = Arrays.<Command>asList(createCPMCommand(), createCallActionCommand(), createMetadataCommand());
+        final String json = OptimizedJsonCodec.getInstance().encode(commands);
+
+        final List<Command> decoded = StreamingJsonCodec.getInstance().decode(json);
+
+        assertDecodedCommands(decoded);
+    }
+
+    @Test
+    public void shouldBeDecodableByOptimizedJsonCodec() {
+        final List<Command> commands = Arrays.<Command>asList(createCPMCommand(), createCallActionCommand(), createMetadataCommand());
+        final String json = StreamingJsonCodec.getInstance().encode(commands);
+
+        final List<Command> decoded = OptimizedJsonCodec.getInstance().decode(json);
+
+        assertDecodedCommands(decoded);
+    }
+
+    @Test
+    public void shouldDecodeWhatItEncodes() {
+        final List<Command> commands = Arrays.<Command>asList(createCPMCommand(), createCallActionCommand(), createMetadataCommand());
+        final String json = StreamingJsonCodec.getInstance().encode(commands);
+
+        final List<Command> decoded = StreamingJsonCodec.getInstance().decode(json);
+
+        assertDecodedCommands(decoded);
+    }
+
+    @Test(expectedExceptions = JsonParseException.class)
+    public void shouldFailForUnknownCommand() {
+        StreamingJsonCodec.getInstance().decode("[{\"id\":\"Unknown\"}]");
+    }
+
+    @Test(expectedExceptions = JsonParseException.class)
+    public void shouldFailForMissingElement() {
+        StreamingJsonCodec.getInstance().decode("[{\"id\":\"ValueChanged\",\"v\":1}]");
+    }
+
+    @Test(expectedExceptions = JsonParseException.class)
+    public void shouldFailForIllegalJson() {
+        StreamingJsonCodec.getInstance().decode("[{\"id\":\"ValueChanged\",\"a_id\":");
+    }
+
+    private static void assertDecodedCommands(final List<Command> decoded) {
+        assertThat(decoded, hasSize(3));
+
+        final CreatePresentationModelCommand cpmCommand = (CreatePresentationModelCommand) decoded.get(0);
+        assertThat(cpmCommand.getPmId(), is("05ee43b7-a884-4d42-9fc5-00b083664eed"));
+        assertThat(cpmCommand.getPmType(), is("com.canoo.icos.casemanager.model.casedetails.CaseInfoBean"));
+        assertThat(cpmCommand.getAttributes(), hasSize(2));
+        assertThat(cpmCommand.getAttributes().get(0).get(Attribute.PROPERTY_NAME), Matchers.<Object>is("@@@ SOURCE_SYSTEM @@@"));
+        assertThat(cpmCommand.getAttributes().get(0).get(Attribute.ID), Matchers.<Object>is("3204S"));
+        assertThat(cpmCommand.getAttributes().get(0).get(Attribute.VALUE_NAME), Matchers.<Object>is("server"));
+        assertThat(cpmCommand.getAttributes().get(1).get(Attribute.PROPERTY_NAME), Matchers.<Object>is("count"));
+        assertThat(((Number) cpmCommand.getAttributes().get(1).get(Attribute.VALUE_NAME)).longValue(), is(987654321234567890L));
+
+        final CallActionCommand callActionCommand = (CallActionCommand) decoded.get(1);
+        assertThat(callActionCommand.getControllerId(), is("4711"));
+        assertThat(callActionCommand.getActionName(), is("action"));
+        assertThat(callActionCommand.getParams().size(), is(2));
+        assertThat(callActionCommand.getParams().get("A"), Matchers.<Object>is(true));
+        Assert.assertTrue(callActionCommand.getParams().containsKey("B"));
+        Assert.assertNull(callActionCommand.getParams().get("B"));
+
+        final ChangeAttributeMetadataCommand metadataCommand = (ChangeAttributeMetadataCommand) decoded.get(2);
+        assertThat(metadataCommand.getAttributeId(), is("79S"));
+        assertThat(metadataCommand.getMetadataName(), is("qualifier"));
+        assertThat(metadataCommand.getValue(), Matchers.<Object>is("237fb6b9"));
+    }
+
+    private static CreatePresentationModelCommand createCPMCommand() {
+        final CreatePresentationModelCommand command = new CreatePresentationModelCommand();
+        command.setPmId("05ee43b7-a884-4d42-9fc5-00b083664eed");
+        command.setPmType("com.canoo.icos.casemanager.model.casedetails.CaseInfoBean");
+
+        final Map<String, Object> sourceSystem = new HashMap<>();
+        sourceSystem.put(Attribute.PROPERTY_NAME, "@@@ SOURCE_SYSTEM @@@");
+        sourceSystem.put(Attribute.ID, "3204S");
+        sourceSystem.put(Attribute.VALUE_NAME, "server");
+
+        final Map<String, Object> count = new HashMap<>();
+        count.put(Attribute.PROPERTY_NAME, "count");
+        count.put(Attribute.ID, "3205S");
+        count.put(Attribute.VALUE_NAME, 987654321234567890L);
+
+        command.setAttributes(Arrays.asList(sourceSystem, count));
+        return command;
+    }
+
+    private static CallActionCommand createCallActionCommand() {
+        final CallActionCommand command = new CallActionCommand();
+        command.setControllerId("4711");
+        command.setActionName("action");
+        command.addParam("A", true);
+        command.addParam("B", null);
+        return command;
+    }
+
+    private static ChangeAttributeMetadataCommand createMetadataCommand() {
+        final ChangeAttributeMetadataCommand command = new ChangeAttributeMetadataCommand();
+        command.setAttributeId("79S");
+        command.setMetadataName("qualifier");
+        command.setValue("237fb6b9");
+        return command;
+    }
+}
@@ -16,13 +16,19 @@
 package com.canoo.dolphin.impl.collections;
 
 import com.canoo.dp.impl.remoting.collections.ObservableArrayList;
+import com.canoo.platform.core.functional.Callback;
+import com.canoo.platform.core.functional.Function;
 import com.canoo.platform.remoting.ListChangeEvent;
 import com.canoo.platform.remoting.ListChangeListener;
+import com.canoo.platform.remoting.ObservableList;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 public class TestObservableArrayList {
 
@@ -163,6 +169,272 @@ public class TestObservableArrayList {
 
     }
 
+    @Test
+    public void testBatchFiresSingleEvent() {
+        final ObservableArrayList<String> list = new ObservableArrayList<>("1", "2", "3");
+        final List<ListChangeEvent<? extends String>> events = new ArrayList<>();
+        list.onChanged(new RecordingListener<>(events));
+
+        list.batch(new Callback<ObservableList<String>>() {
+            @Override
+            public void call(final ObservableList<String> batchList) {
+                batchList.add("4");
+                batchList.add("5");
+                batchList.add("6");
+            }
+        });
+
+        Assert.assertEquals(events.size(), 1);
+        Assert.assertEquals(events.get(0).getChanges().size(), 1);
+        final ListChangeEvent.Change<? extends String> change = events.get(0).getChanges().get(0);
+        Assert.assertEquals(change.getFrom(), 3);
+        Assert.assertEquals(change.getTo(), 6);
+        Assert.assertTrue(change.isAdded());
+        Assert.assertEquals(list, Arrays.asList("1", "2", "3", "4", "5", "6"));
+    }
+
+    @Test
+    public void testBatchWithoutResultingChangeFiresNoEvent() {
+        final ObservableArrayList<String> list = new ObservableArrayList<>("1", "2", "3");
+        final List<ListChangeEvent<? extends String>> events = new ArrayList<>();
+        list.onChanged(new RecordingListener<>(events));
+
+        list.batch(new Callback<ObservableList<String>>() {
+            @Override
+            public void call(final ObservableList<String> batchList) {
+                batchList.add(1, "A");
+                batchList.remove(1);
+                batchList.set(2, "B");
+                batchList.set(2, "3");
+            }
+        });
+
+        Assert.assertTrue(events.isEmpty());
+        Assert.assertEquals(list, Arrays.asList("1", "2", "3"));
+    }
+
+    @Test
+    public void testNestedBatchFiresSingleEvent() {
+        final ObservableArrayList<String> list = new ObservableArrayList<>("1", "2", "3", "4", "5");
+        final List<ListChangeEvent<? extends String>> events = new ArrayList<>();
+        list.onChanged(new RecordingListener<>(events));
+
+        list.batch(new Callback<ObservableList<String>>() {
+            @Override
+            public void call(final ObservableList<String> batchList) {
+                batchList.remove(0);
+                batchList.batch(new Callback<ObservableList<String>>() {
+                    @Override
+                    public void call(final ObservableList<String> innerList) {
+                        innerList.add("6");
+                    }
+                });
+                Assert.assertTrue(events.isEmpty());
+            }
+        });
+
+        Assert.assertEquals(events.size(), 1);
+        final List<? extends ListChangeEvent.Change<? extends String>> changes = events.get(0).getChanges();
+        Assert.assertEquals(changes.size(), 2);
+        Assert.assertTrue(changes.get(0).isRemoved());
+        Assert.assertEquals(changes.get(0).getFrom(), 0);
+        Assert.assertEquals(changes.get(0).getRemovedElements(), Collections.singletonList("1"));
+        Assert.assertTrue(changes.get(1).isAdded());
+        Assert.assertEquals(changes.get(1).getFrom(), 4);
+        Assert.assertEquals(changes.get(1).getTo(), 5);
+    }
+
+    @Test
+    public void testRemoveAllFiresSingleEvent() {
+        final ObservableArrayList<String> list = new ObservableArrayList<>("1", "2", "3", "4", "5", "6");
+        final List<String> original = new ArrayList<>(list);
+        final List<ListChangeEvent<? extends String>> events = new ArrayList<>();
+        list.onChanged(new RecordingListener<>(events));
+
+        Assert.assertTrue(list.removeAll(Arrays.asList("2", "3", "5")));
+
+        Assert.assertEquals(list, Arrays.asList("1", "4", "6"));
+        Assert.assertEquals(events.size(), 1);
+        Assert.assertEquals(events.get(0).getChanges().size(), 2);
+        Assert.assertEquals(applyChanges(original, events.get(0)), list);
+    }
+
+    @Test
+    public void testBatchChangesCanBeApplied() {
+        final Random random = new Random(4711);
+        for (int run = 0; run < 200; run++) {
+            final ObservableArrayList<Integer> list = new ObservableArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                list.add(random.nextInt(10));
+            }
+            final List<Integer> original = new ArrayList<>(list);
+            final List<ListChangeEvent<? extends Integer>> events = new ArrayList<>();
+            list.onChanged(new RecordingListener<>(events));
+
+            list.batch(new Callback<ObservableList<Integer>>() {
+                @Override
+                public void call(final ObservableList<Integer> batchList) {
+                    for (int i = 0; i < 10; i++) {
+                        final int operation = random.nextInt(3);
+                        if (operation == 0 || batchList.isEmpty()) {
+                            batchList.add(random.nextInt(batchList.size() + 1), random.nextInt(10));
+                        } else if (operation == 1) {
+                            batchList.remove(random.nextInt(batchList.size()));
+                        } else {
+                            batchList.set(random.nextInt(batchList.size()), random.nextInt(10));
+                        }
+                    }
+                }
+            });
+
+            if (original.equals(list)) {
+                Assert.assertTrue(events.isEmpty());
+            } else {
+                Assert.assertEquals(events.size(), 1);
+                Assert.assertEquals(applyChanges(original, events.get(0)), list);
+            }
+        }
+    }
+
+    @Test
+    public void testSetAllOnlyFiresRequiredChanges() {
+        final ObservableArrayList<String> list = new ObservableArrayList<>("1", "2", "3", "4", "5", "6");
+        final List<ListChangeEvent<? extends String>> events = new ArrayList<>();
+        list.onChanged(new RecordingListener<>(events));
+
+        list.setAll("1", "3", "4", "42", "5", "6", "7");
+
+        assertSameContent(list, Arrays.asList("1", "3", "4", "42", "5", "6", "7"));
+        Assert.assertEquals(events.size(), 1);
+        final List<? extends ListChangeEvent.Change<? extends String>> changes = events.get(0).getChanges();
+        Assert.assertEquals(changes.size(), 3);
+        Assert.assertEquals(changes.get(0).getFrom(), 1);
+        Assert.assertEquals(changes.get(0).getTo(), 1);
+        Assert.assertEquals(changes.get(0).getRemovedElements(), Collections.singletonList("2"));
+        Assert.assertEquals(changes.get(1).getFrom(), 3);
+        Assert.assertEquals(changes.get(1).getTo(), 4);
+        Assert.assertTrue(changes.get(1).getRemovedElements().isEmpty());
+        Assert.assertEquals(changes.get(2).getFrom(), 6);
+        Assert.assertEquals(changes.get(2).getTo(), 7);
+        Assert.assertTrue(changes.get(2).getRemovedElements().isEmpty());
+    }
+
+    @Test
+    public void testSetAllWithSameContentFiresNoEvent() {
+        final ObservableArrayList<String> list = new ObservableArrayList<>("1", "2", "3");
+        final List<ListChangeEvent<? extends String>> events = new ArrayList<>();
+        list.onChanged(new RecordingListener<>(events));
+
+        list.setAll("1", "2", "3");
+
+        assertSameContent(list, Arrays.asList("1", "2", "3"));
+        Assert.assertTrue(events.isEmpty());
+    }
+
+    @Test
+    public void testReplaceWithKeyExtractor() {
+        final ObservableArrayList<String> list = new ObservableArrayList<>("a1", "b1", "c1", "d1");
+        final List<ListChangeEvent<? extends String>> events = new ArrayList<>();
+        list.onChanged(new RecordingListener<>(events));
+        final Function<String, Character> keyExtractor = new Function<String, Character>() {
+            @Override
+            public Character call(final String value) {
+                return value.charAt(0);
+            }
+        };
+
+        Assert.assertTrue(list.replaceWith(Arrays.asList("a1", "b2", "d1", "e1"), keyExtractor));
+
+        assertSameContent(list, Arrays.asList("a1", "b2", "d1", "e1"));
+        Assert.assertEquals(events.size(), 1);
+        final List<? extends ListChangeEvent.Change<? extends String>> changes = events.get(0).getChanges();
+        Assert.assertEquals(changes.size(), 2);
+        Assert.assertEquals(changes.get(0).getFrom(), 1);
+        Assert.assertEquals(changes.get(0).getTo(), 2);
+        Assert.assertEquals(changes.get(0).getRemovedElements(), Arrays.asList("b1", "c1"));
+        Assert.assertEquals(changes.get(1).getFrom(), 3);
+        Assert.assertEquals(changes.get(1).getTo(), 4);
+        Assert.assertTrue(changes.get(1).getRemovedElements().isEmpty());
+
+        Assert.assertFalse(list.replaceWith(Arrays.asList("a1", "b2", "d1", "e1"), keyExtractor));
+        Assert.assertEquals(events.size(), 1);
+    }
+
+    @Test
+    public void testSetAllChangesAreMinimal() {
+        final Random random = new Random(4711);
+        for (int run = 0; run < 500; run++) {
+            final ObservableArrayList<Integer> list = new ObservableArrayList<>();
+            final int oldSize = random.nextInt(30);
+            for (int i = 0; i < oldSize; i++) {
+                list.add(random.nextInt(6));
+            }
+            final List<Integer> original = new ArrayList<>(list);
+            final List<Integer> newContent = new ArrayList<>();
+            final int newSize = random.nextInt(30);
+            for (int i = 0; i < newSize; i++) {
+                newContent.add(random.nextInt(6));
+            }
+            final List<ListChangeEvent<? extends Integer>> events = new ArrayList<>();
+            list.onChanged(new RecordingListener<>(events));
+
+            list.setAll(newContent);
+
+            Assert.assertEquals(list, newContent);
+            if (original.equals(newContent)) {
+                Assert.assertTrue(events.isEmpty());
+            } else {
+                Assert.assertEquals(events.size(), 1);
+                Assert.assertEquals(applyChanges(original, events.get(0)), newContent);
+                int editCount = 0;
+                for (final ListChangeEvent.Change<? extends Integer> change : events.get(0).getChanges()) {
+                    editCount += change.getRemovedElements().size() + change.getTo() - change.getFrom();
+                }
+                Assert.assertEquals(editCount, original.size() + newContent.size() - 2 * lcsLength(original, newContent));
+            }
+        }
+    }
+
+    private int lcsLength(final List<Integer> a, final List<Integer> b) {
+        final int[][] lengths = new int[a.size() + 1][b.size() + 1];
+        for (int i = a.size() - 1; i >= 0; i--) {
+            for (int j = b.size() - 1; j >= 0; j--) {
+                if (a.get(i).equals(b.get(j))) {
+                    lengths[i][j] = lengths[i + 1][j + 1] + 1;
+                } else {
+                    lengths[i][j] = Math.max(lengths[i + 1][j], lengths[i][j + 1]);
+                }
+            }
+        }
+        return lengths[0][0];
+    }
+
+    private <T> List<T> applyChanges(final List<T> original, final ListChangeEvent<? extends T> event) {
+        final List<T> result = new ArrayList<>(original);
+        int lastTo = -1;
+        for (final ListChangeEvent.Change<? extends T> change : event.getChanges()) {
+            Assert.assertTrue(change.getFrom() > lastTo, "changes must be sorted and must not be adjacent");
+            lastTo = change.getTo();
+            result.subList(change.getFrom(), change.getFrom() + change.getRemovedElements().size()).clear();
+            result.addAll(change.getFrom(), event.getSource().subList(change.getFrom(), change.getTo()));
+        }
+        return result;
+    }
+
+    private static class RecordingListener<T> implements ListChangeListener<T> {
+
+        private final List<ListChangeEvent<? extends T>> events;
+
+        private RecordingListener(final List<ListChangeEvent<? extends T>> events) {
+            this.events = events;
+        }
+
+        @Override
+        public void listChanged(final ListChangeEvent<? extends T> event) {
+            events.add(event);
+        }
+    }
+
     private <T> void assertSameContent(List<T> a, List<T> b) {
         Assert.assertTrue(a.size() == b.size());
         for(T t : a) {
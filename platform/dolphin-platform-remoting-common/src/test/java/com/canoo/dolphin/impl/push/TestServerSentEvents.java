@@ -0,0 +1,97 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dolphin.impl.push;
+
+import com.canoo.dp.impl.remoting.push.ServerSentEvent;
+import com.canoo.dp.impl.remoting.push.ServerSentEventReader;
+import com.canoo.dp.impl.remoting.push.ServerSentEventWriter;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class TestServerSentEvents {
+
+    @Test
+    public void testWriteEvent() throws Exception {
+        final StringWriter writer = new StringWriter();
+        final ServerSentEventWriter eventWriter = new ServerSentEventWriter(writer);
+
+        eventWriter.writeEvent(new ServerSentEvent("push", "[{\"id\":\"1\"}]"));
+        eventWriter.writeHeartbeat();
+        eventWriter.writeEvent(new ServerSentEvent("response", "a\nb"));
+
+        assertThat(writer.toString(), is("event: push\ndata: [{\"id\":\"1\"}]\n\n:\n\nevent: response\ndata: a\ndata: b\n\n"));
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        final StringWriter writer = new StringWriter();
+        final ServerSentEventWriter eventWriter = new ServerSentEventWriter(writer);
+        eventWriter.writeEvent(new ServerSentEvent("connected", ""));
+        eventWriter.writeHeartbeat();
+        eventWriter.writeEvent(new ServerSentEvent("push", "line1\nline2"));
+
+        final ServerSentEventReader eventReader = new ServerSentEventReader(new StringReader(writer.toString()));
+
+        ServerSentEvent event = eventReader.readEvent();
+        assertThat(event.getName(), is("connected"));
+        assertThat(event.getData(), is(""));
+
+        event = eventReader.readEvent();
+        assertThat(event.getName(), is("push"));
+        assertThat(event.getData(), is("line1\nline2"));
+
+        assertThat(eventReader.readEvent(), nullValue());
+    }
+
+    @Test
+    public void testEventId() throws Exception {
+        final StringWriter writer = new StringWriter();
+        final ServerSentEventWriter eventWriter = new ServerSentEventWriter(writer);
+        eventWriter.writeEvent(new ServerSentEvent("response", "[]", "42"));
+        eventWriter.writeEvent(new ServerSentEvent("push", "[]"));
+
+        assertThat(writer.toString(), is("event: response\nid: 42\ndata: []\n\nevent: push\ndata: []\n\n"));
+
+        final ServerSentEventReader eventReader = new ServerSentEventReader(new StringReader(writer.toString()));
+
+        ServerSentEvent event = eventReader.readEvent();
+        assertThat(event.getName(), is("response"));
+        assertThat(event.getId(), is("42"));
+
+        event = eventReader.readEvent();
+        assertThat(event.getName(), is("push"));
+        assertThat(event.getId(), nullValue());
+    }
+
+    @Test
+    public void testReadIgnoresCommentsAndUnknownFields() throws Exception {
+        final String stream = ": comment\n\nid: 1\nretry: 100\ndata:value\r\n\nevent: push\n\ndata: x\n";
+        final ServerSentEventReader eventReader = new ServerSentEventReader(new StringReader(stream));
+
+        final ServerSentEvent event = eventReader.readEvent();
+        assertThat(event.getName(), is("message"));
+        assertThat(event.getData(), is("value"));
+
+        //an event that is not terminated by an empty line is not dispatched
+        assertThat(eventReader.readEvent(), nullValue());
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dolphin.legacy;
+
+import com.canoo.dp.impl.remoting.legacy.core.AbstractObservable;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeListenerProxy;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AbstractObservableTest {
+
+    @Test
+    public void testGlobalListenersAreCalledFirst() {
+        final TestObservable observable = new TestObservable();
+        final List<String> calls = new ArrayList<>();
+        observable.addPropertyChangeListener("value", new RecordingListener("named", calls));
+        observable.addPropertyChangeListener(new RecordingListener("global", calls));
+
+        observable.fire("value", "a", "b");
+        Assert.assertEquals(calls.size(), 2);
+        Assert.assertEquals(calls.get(0), "global:value:a:b");
+        Assert.assertEquals(calls.get(1), "named:value:a:b");
+
+        calls.clear();
+        observable.fire("qualifier", "a", "b");
+        Assert.assertEquals(calls.size(), 1);
+        Assert.assertEquals(calls.get(0), "global:qualifier:a:b");
+    }
+
+    @Test
+    public void testNoEventForEqualValues() {
+        final TestObservable observable = new TestObservable();
+        final List<String> calls = new ArrayList<>();
+        observable.addPropertyChangeListener(new RecordingListener("global", calls));
+
+        observable.fire("value", null, null);
+        observable.fire("value", "a", new String("a"));
+        Assert.assertTrue(calls.isEmpty());
+
+        observable.fire("value", null, "a");
+        observable.fire("value", "a", null);
+        Assert.assertEquals(calls.size(), 2);
+    }
+
+    @Test
+    public void testListenerIsOnlyAddedOnce() {
+        final TestObservable observable = new TestObservable();
+        final List<String> calls = new ArrayList<>();
+        final RecordingListener listener = new RecordingListener("named", calls);
+        observable.addPropertyChangeListener("value", listener);
+        observable.addPropertyChangeListener("value", listener);
+        Assert.assertEquals(observable.getPropertyChangeListeners("value").length, 1);
+
+        observable.fire("value", "a", "b");
+        Assert.assertEquals(calls.size(), 1);
+    }
+
+    @Test
+    public void testRemoveListener() {
+        final TestObservable observable = new TestObservable();
+        final List<String> calls = new ArrayList<>();
+        final RecordingListener globalListener = new RecordingListener("global", calls);
+        final RecordingListener namedListener = new RecordingListener("named", calls);
+        observable.addPropertyChangeListener(globalListener);
+        observable.addPropertyChangeListener("value", namedListener);
+
+        observable.removePropertyChangeListener("qualifier", namedListener);
+        observable.removePropertyChangeListener("value", namedListener);
+        observable.removePropertyChangeListener(globalListener);
+        Assert.assertEquals(observable.getPropertyChangeListeners().length, 0);
+        Assert.assertFalse(observable.hasListenersFor("value"));
+
+        observable.fire("value", "a", "b");
+        Assert.assertTrue(calls.isEmpty());
+    }
+
+    @Test
+    public void testProxies() {
+        final TestObservable observable = new TestObservable();
+        final List<String> calls = new ArrayList<>();
+        final RecordingListener listener = new RecordingListener("named", calls);
+        observable.addPropertyChangeListener(new PropertyChangeListenerProxy("value", listener));
+        Assert.assertEquals(observable.getPropertyChangeListeners("value").length, 1);
+
+        final PropertyChangeListener[] allListeners = observable.getPropertyChangeListeners();
+        Assert.assertEquals(allListeners.length, 1);
+        Assert.assertTrue(allListeners[0] instanceof PropertyChangeListenerProxy);
+        Assert.assertEquals(((PropertyChangeListenerProxy) allListeners[0]).getPropertyName(), "value");
+        Assert.assertSame(((PropertyChangeListenerProxy) allListeners[0]).getListener(), listener);
+
+        observable.removePropertyChangeListener(allListeners[0]);
+        Assert.assertEquals(observable.getPropertyChangeListeners("value").length, 0);
+    }
+
+    private static class TestObservable extends AbstractObservable {
+
+        private void fire(final String propertyName, final Object oldValue, final Object newValue) {
+            firePropertyChange(propertyName, oldValue, newValue);
+        }
+
+        private boolean hasListenersFor(final String propertyName) {
+            return hasListeners(propertyName);
+        }
+    }
+
+    private static class RecordingListener implements PropertyChangeListener {
+
+        private final String name;
+
+        private final List<String> calls;
+
+        private RecordingListener(final String name, final List<String> calls) {
+            this.name = name;
+            this.calls = calls;
+        }
+
+        @Override
+        public void propertyChange(final PropertyChangeEvent evt) {
+            calls.add(name + ":" + evt.getPropertyName() + ":" + evt.getOldValue() + ":" + evt.getNewValue());
+        }
+    }
+}
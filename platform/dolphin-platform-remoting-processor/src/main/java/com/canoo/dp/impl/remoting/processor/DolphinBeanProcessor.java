@@ -0,0 +1,246 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.processor;
+
+import com.canoo.dp.impl.remoting.info.BeanBinder;
+import com.canoo.platform.remoting.DolphinBean;
+import com.canoo.platform.remoting.ObservableList;
+import com.canoo.platform.remoting.Property;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Annotation processor that generates a {@link BeanBinder} for each class that is annotated with {@link DolphinBean}.
+ * The generated binder describes all properties and observable lists of the bean and provides direct access to all
+ * fields that are visible in the package of the bean. By doing so the bean metadata can be created without scanning
+ * the class by reflection at runtime. The processor is optional: if no binder is found at runtime reflection is used.
+ */
+@SupportedAnnotationTypes("com.canoo.platform.remoting.DolphinBean")
+public class DolphinBeanProcessor extends AbstractProcessor {
+
+    private static final String FIELD_ACCESSOR_TYPE = BeanBinder.class.getCanonicalName() + ".FieldAccessor";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        final TypeElement dolphinBean = processingEnv.getElementUtils().getTypeElement(DolphinBean.class.getName());
+        if (dolphinBean == null) {
+            return false;
+        }
+        for (final Element element : roundEnv.getElementsAnnotatedWith(dolphinBean)) {
+            if (element.getKind() == ElementKind.CLASS && isSupported((TypeElement) element)) {
+                try {
+                    generateBinder((TypeElement) element);
+                } catch (IOException e) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Can not generate binder: " + e.getMessage(), element);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Binders can only be generated for beans that can be referenced from the package of the bean and that are not
+     * generic. Abstract beans do not need a binder since only concrete classes are used at runtime.
+     */
+    private boolean isSupported(final TypeElement bean) {
+        if (bean.getModifiers().contains(Modifier.ABSTRACT) || !bean.getTypeParameters().isEmpty()) {
+            return false;
+        }
+        Element current = bean;
+        while (current instanceof TypeElement) {
+            final TypeElement type = (TypeElement) current;
+            if (type.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+            current = type.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private void generateBinder(final TypeElement bean) throws IOException {
+        final PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(bean);
+        final String packageName = packageElement.getQualifiedName().toString();
+        final String binderName = getBinderSimpleName(bean);
+        final String beanType = bean.getQualifiedName().toString();
+
+        final JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(packageName.isEmpty() ? binderName : packageName + "." + binderName, bean);
+        try (final Writer writer = sourceFile.openWriter(); final PrintWriter out = new PrintWriter(writer)) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("/**");
+            out.println(" * Binder for {@link " + beanType + "}. Generated by " + DolphinBeanProcessor.class.getName() + ".");
+            out.println(" */");
+            out.println("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+            out.println("public final class " + binderName + " extends " + BeanBinder.class.getName() + "<" + beanType + "> {");
+            out.println();
+            out.println("    public " + binderName + "() {");
+            out.println("        super(" + beanType + ".class, " + isInstantiable(bean) + ");");
+            for (final VariableElement field : getFields(bean)) {
+                writeField(out, bean, packageElement, field);
+            }
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public " + beanType + " newInstance() {");
+            if (isInstantiable(bean)) {
+                out.println("        return new " + beanType + "();");
+            } else {
+                out.println("        return null;");
+            }
+            out.println("    }");
+            out.println("}");
+        }
+    }
+
+    private void writeField(final PrintWriter out, final TypeElement bean, final PackageElement packageElement, final VariableElement field) {
+        final boolean isProperty = isAssignable(field.asType(), Property.class);
+        final String method = isProperty ? "addProperty" : "addObservableList";
+        final String name = field.getSimpleName().toString();
+        final String typeParameter = getTypeParameter(bean, field);
+
+        if (!isAccessible(field, packageElement)) {
+            out.println("        " + method + "(\"" + name + "\", " + typeParameter + ", null);");
+            return;
+        }
+        final String declaringType = ((TypeElement) field.getEnclosingElement()).getQualifiedName().toString();
+        final String fieldType = processingEnv.getTypeUtils().erasure(field.asType()).toString();
+        out.println("        " + method + "(\"" + name + "\", " + typeParameter + ", new " + FIELD_ACCESSOR_TYPE + "() {");
+        out.println("            @Override");
+        out.println("            public Object get(final Object bean) {");
+        out.println("                return ((" + declaringType + ") bean)." + name + ";");
+        out.println("            }");
+        out.println();
+        out.println("            @Override");
+        out.println("            public void set(final Object bean, final Object value) {");
+        out.println("                ((" + declaringType + ") bean)." + name + " = (" + fieldType + ") value;");
+        out.println("            }");
+        out.println("        });");
+    }
+
+    /**
+     * Returns all property and list fields of the bean and its superclasses in the same order as they are returned by
+     * reflection.
+     */
+    private List<VariableElement> getFields(final TypeElement bean) {
+        final List<VariableElement> fields = new ArrayList<>();
+        TypeElement current = bean;
+        while (current != null && !Object.class.getName().equals(current.getQualifiedName().toString())) {
+            for (final VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC) && (isAssignable(field.asType(), Property.class) || isAssignable(field.asType(), ObservableList.class))) {
+                    fields.add(field);
+                }
+            }
+            final TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+        return fields;
+    }
+
+    private boolean isAssignable(final TypeMirror type, final Class<?> target) {
+        final TypeElement targetElement = processingEnv.getElementUtils().getTypeElement(target.getName());
+        if (targetElement == null) {
+            return false;
+        }
+        return processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(type), processingEnv.getTypeUtils().erasure(targetElement.asType()));
+    }
+
+    /**
+     * Returns the class literal of the generic type of the field (resolved for the given bean) or {@code null} if the
+     * type is not a plain class. This is the same behavior as the reflection based implementation.
+     */
+    private String getTypeParameter(final TypeElement bean, final VariableElement field) {
+        final TypeMirror memberType = processingEnv.getTypeUtils().asMemberOf((DeclaredType) bean.asType(), field);
+        if (memberType.getKind() != TypeKind.DECLARED) {
+            return "null";
+        }
+        final List<? extends TypeMirror> typeArguments = ((DeclaredType) memberType).getTypeArguments();
+        if (typeArguments.isEmpty()) {
+            return "null";
+        }
+        final TypeMirror typeArgument = typeArguments.get(0);
+        if (typeArgument.getKind() == TypeKind.DECLARED && ((DeclaredType) typeArgument).getTypeArguments().isEmpty()) {
+            return ((TypeElement) ((DeclaredType) typeArgument).asElement()).getQualifiedName() + ".class";
+        }
+        if (typeArgument.getKind() == TypeKind.ARRAY) {
+            return processingEnv.getTypeUtils().erasure(typeArgument) + ".class";
+        }
+        return "null";
+    }
+
+    private boolean isAccessible(final VariableElement field, final PackageElement packageElement) {
+        if (field.getModifiers().contains(Modifier.PRIVATE) || field.getModifiers().contains(Modifier.FINAL)) {
+            return false;
+        }
+        final TypeElement declaringType = (TypeElement) field.getEnclosingElement();
+        return declaringType.getNestingKind() == NestingKind.TOP_LEVEL
+                && processingEnv.getElementUtils().getPackageOf(declaringType).equals(packageElement);
+    }
+
+    private boolean isInstantiable(final TypeElement bean) {
+        for (final ExecutableElement constructor : ElementFilter.constructorsIn(bean.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty()) {
+                return !constructor.getModifiers().contains(Modifier.PRIVATE);
+            }
+        }
+        return false;
+    }
+
+    private String getBinderSimpleName(final TypeElement bean) {
+        final StringBuilder name = new StringBuilder(bean.getSimpleName());
+        Element current = bean.getEnclosingElement();
+        while (current instanceof TypeElement) {
+            name.insert(0, current.getSimpleName() + "_");
+            current = current.getEnclosingElement();
+        }
+        return name.append(BeanBinder.BINDER_SUFFIX).toString();
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.processor;
+
+import com.canoo.dp.impl.remoting.info.BeanBinder;
+import com.canoo.dp.impl.remoting.info.BeanMetadata;
+import com.canoo.dp.impl.remoting.info.FieldMetadata;
+import com.canoo.platform.remoting.Property;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class DolphinBeanProcessorTest {
+
+    private ClassLoader classLoader;
+
+    @BeforeClass
+    public void compileBeans() throws IOException {
+        final Path sourceDir = Files.createTempDirectory("dolphin-processor-src");
+        final Path outputDir = Files.createTempDirectory("dolphin-processor-out");
+
+        final List<String> arguments = new ArrayList<>(Arrays.asList("-processor", DolphinBeanProcessor.class.getName(),
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", outputDir.toString()));
+        arguments.add(writeSource(sourceDir, "test/beans/BaseBean.java",
+                "package test.beans;\n" +
+                "public class BaseBean {\n" +
+                "    com.canoo.platform.remoting.Property<Long> id;\n" +
+                "}\n"));
+        arguments.add(writeSource(sourceDir, "test/beans/PersonBean.java",
+                "package test.beans;\n" +
+                "@com.canoo.platform.remoting.DolphinBean\n" +
+                "public class PersonBean extends BaseBean {\n" +
+                "    com.canoo.platform.remoting.Property<String> name;\n" +
+                "    private com.canoo.platform.remoting.ObservableList<Integer> values;\n" +
+                "    private static com.canoo.platform.remoting.Property<String> ignored;\n" +
+                "    public com.canoo.platform.remoting.Property<String> getNameProperty() { return name; }\n" +
+                "    public com.canoo.platform.remoting.ObservableList<Integer> getValues() { return values; }\n" +
+                "}\n"));
+        arguments.add(writeSource(sourceDir, "test/beans/Outer.java",
+                "package test.beans;\n" +
+                "public class Outer {\n" +
+                "    @com.canoo.platform.remoting.DolphinBean\n" +
+                "    public static class InnerBean {\n" +
+                "        com.canoo.platform.remoting.Property<String[]> values;\n" +
+                "        private InnerBean() {}\n" +
+                "    }\n" +
+                "    @com.canoo.platform.remoting.DolphinBean\n" +
+                "    public static abstract class AbstractBean {\n" +
+                "    }\n" +
+                "}\n"));
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Assert.assertEquals(compiler.run(null, null, null, arguments.toArray(new String[arguments.size()])), 0);
+        classLoader = new URLClassLoader(new URL[]{outputDir.toUri().toURL()}, DolphinBeanProcessorTest.class.getClassLoader());
+    }
+
+    @Test
+    public void testBinderIsGenerated() throws Exception {
+        final Class<?> beanClass = classLoader.loadClass("test.beans.PersonBean");
+        final Class<?> binderClass = classLoader.loadClass(BeanBinder.getBinderClassName(beanClass));
+        Assert.assertTrue(BeanBinder.class.isAssignableFrom(binderClass));
+        Assert.assertTrue(BeanMetadata.of(beanClass).isGenerated());
+    }
+
+    @Test
+    public void testFields() throws Exception {
+        final BeanMetadata metadata = BeanMetadata.of(classLoader.loadClass("test.beans.PersonBean"));
+
+        final List<FieldMetadata> properties = metadata.getProperties();
+        Assert.assertEquals(properties.size(), 2);
+        Assert.assertEquals(properties.get(0).getAttributeName(), "name");
+        Assert.assertEquals(properties.get(0).getTypeParameter(), String.class);
+        Assert.assertEquals(properties.get(1).getAttributeName(), "id");
+        Assert.assertEquals(properties.get(1).getTypeParameter(), Long.class);
+
+        final List<FieldMetadata> lists = metadata.getObservableLists();
+        Assert.assertEquals(lists.size(), 1);
+        Assert.assertEquals(lists.get(0).getAttributeName(), "values");
+        Assert.assertEquals(lists.get(0).getTypeParameter(), Integer.class);
+    }
+
+    @Test
+    public void testAccessors() throws Exception {
+        final BeanMetadata metadata = BeanMetadata.of(classLoader.loadClass("test.beans.PersonBean"));
+        final Object bean = metadata.newInstance();
+        Assert.assertNotNull(bean);
+
+        final Property<?> property = createProperty();
+        final FieldMetadata nameMetadata = metadata.getProperties().get(0);
+        nameMetadata.set(bean, property);
+        Assert.assertSame(nameMetadata.get(bean), property);
+        Assert.assertSame(bean.getClass().getMethod("getNameProperty").invoke(bean), property);
+
+        final FieldMetadata idMetadata = metadata.getProperties().get(1);
+        idMetadata.set(bean, property);
+        Assert.assertSame(idMetadata.get(bean), property);
+    }
+
+    @Test
+    public void testNestedBean() throws Exception {
+        final BeanMetadata metadata = BeanMetadata.of(classLoader.loadClass("test.beans.Outer$InnerBean"));
+        Assert.assertTrue(metadata.isGenerated());
+        Assert.assertEquals(metadata.getProperties().size(), 1);
+        Assert.assertEquals(metadata.getProperties().get(0).getTypeParameter(), String[].class);
+        Assert.assertNotNull(metadata.newInstance());
+
+        final Class<?> beanClass = classLoader.loadClass("test.beans.Outer$InnerBean");
+        final BeanBinder<?> binder = (BeanBinder<?>) classLoader.loadClass(BeanBinder.getBinderClassName(beanClass)).getDeclaredConstructor().newInstance();
+        Assert.assertFalse(binder.isInstantiable());
+        Assert.assertNull(binder.newInstance());
+    }
+
+    @Test
+    public void testNoBinderForAbstractBean() throws Exception {
+        Assert.assertFalse(BeanMetadata.of(classLoader.loadClass("test.beans.Outer$AbstractBean")).isGenerated());
+    }
+
+    private static String writeSource(final Path sourceDir, final String name, final String content) throws IOException {
+        final Path file = sourceDir.resolve(name.replace('/', File.separatorChar));
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file.toString();
+    }
+
+    private static Property<?> createProperty() {
+        return (Property<?>) Proxy.newProxyInstance(DolphinBeanProcessorTest.class.getClassLoader(), new Class[]{Property.class}, new InvocationHandler() {
+            @Override
+            public Object invoke(final Object proxy, final Method method, final Object[] args) {
+                return null;
+            }
+        });
+    }
+}
@@ -24,6 +24,7 @@ import com.canoo.dp.impl.server.event.LazyEventBusInvocationHandler;
 import com.canoo.platform.remoting.BeanManager;
 import com.canoo.platform.remoting.server.RemotingContext;
 import com.canoo.platform.remoting.server.binding.PropertyBinder;
+import com.canoo.platform.remoting.server.binding.VirtualListBinder;
 import com.canoo.platform.remoting.server.event.DolphinEventBus;
 import com.canoo.platform.server.javaee.ClientScoped;
 
@@ -72,4 +73,11 @@ public class RemotingCdiBeanFactory {
         Assert.requireNonNull(remotingContext, "remotingContext");
         return remotingContext.getBinder();
     }
+
+    @Produces
+    @ClientScoped
+    public VirtualListBinder createVirtualListBinder(RemotingContext remotingContext) {
+        Assert.requireNonNull(remotingContext, "remotingContext");
+        return remotingContext.getVirtualListBinder();
+    }
 }
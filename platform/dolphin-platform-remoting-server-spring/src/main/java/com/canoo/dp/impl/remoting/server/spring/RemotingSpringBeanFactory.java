@@ -25,6 +25,7 @@ import com.canoo.dp.impl.server.context.RemotingContextImpl;
 import com.canoo.dp.impl.server.event.LazyEventBusInvocationHandler;
 import com.canoo.platform.remoting.server.RemotingContext;
 import com.canoo.platform.remoting.server.binding.PropertyBinder;
+import com.canoo.platform.remoting.server.binding.VirtualListBinder;
 import com.canoo.platform.remoting.server.event.DolphinEventBus;
 import com.canoo.platform.server.spring.ClientScope;
 import com.canoo.platform.server.spring.SingletonScope;
@@ -82,4 +83,11 @@ public class RemotingSpringBeanFactory {
         Assert.requireNonNull(remotingContext, "remotingContext");
         return remotingContext.getBinder();
     }
+
+    @Bean(name = "virtualListBinder")
+    @ClientScope
+    protected VirtualListBinder createVirtualListBinder(RemotingContext remotingContext) {
+        Assert.requireNonNull(remotingContext, "remotingContext");
+        return remotingContext.getVirtualListBinder();
+    }
 }
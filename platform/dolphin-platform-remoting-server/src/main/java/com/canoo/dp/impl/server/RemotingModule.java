@@ -42,6 +42,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.servlet.ServletContext;
+import javax.servlet.ServletRegistration;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -76,7 +77,7 @@ public class RemotingModule implements ServerModule {
             final RemotingConfiguration configuration = new RemotingConfiguration(coreComponents.getConfiguration());
             final ClientSessionProvider sessionProvider = coreComponents.getInstance(ClientSessionProvider.class);
             final DolphinContextFactory dolphinContextFactory = new DefaultDolphinContextFactory(configuration, sessionProvider, beanFactory, classpathScanner);
-            final DolphinContextCommunicationHandler communicationHandler = new DolphinContextCommunicationHandler(sessionProvider, dolphinContextFactory);
+            final DolphinContextCommunicationHandler communicationHandler = new DolphinContextCommunicationHandler(configuration, sessionProvider, dolphinContextFactory);
             final DolphinContextProvider contextProvider = new DolphinContextProvider() {
                 @Override
                 public DolphinContext getContext(final ClientSession clientSession) {
@@ -97,7 +98,9 @@ public class RemotingModule implements ServerModule {
 
             final ClientSessionLifecycleHandler lifecycleHandler = coreComponents.getInstance(ClientSessionLifecycleHandler.class);
 
-            servletContext.addServlet(DOLPHIN_SERVLET_NAME, new DolphinPlatformServlet(communicationHandler)).addMapping(configuration.getDolphinPlatformServletMapping());
+            final ServletRegistration.Dynamic servletRegistration = servletContext.addServlet(DOLPHIN_SERVLET_NAME, new DolphinPlatformServlet(communicationHandler));
+            servletRegistration.setAsyncSupported(true);
+            servletRegistration.addMapping(configuration.getDolphinPlatformServletMapping());
 
             servletContext.addServlet(INTERRUPT_SERVLET_NAME, new InterruptServlet(contextProvider)).addMapping(configuration.getDolphinPlatformInterruptServletMapping());
 
@@ -16,6 +16,7 @@
 package com.canoo.dp.impl.server.binding;
 
 import com.canoo.platform.core.functional.Binding;
+import com.canoo.dp.impl.remoting.AbstractPrimitiveProperty;
 import com.canoo.dp.impl.remoting.BindingException;
 import com.canoo.dp.impl.remoting.PropertyImpl;
 import com.canoo.platform.remoting.Property;
@@ -33,12 +34,11 @@ public class PropertyBinderImpl implements PropertyBinder {
         Assert.requireNonNull(property, "property");
         Assert.requireNonNull(qualifier, "qualifier");
 
-        if(property instanceof PropertyImpl) {
+        if(property instanceof PropertyImpl || property instanceof AbstractPrimitiveProperty) {
             try {
-                final PropertyImpl p = (PropertyImpl) property;
-
-                final Field attributeField = ReflectionHelper.getInheritedDeclaredField(PropertyImpl.class, "attribute");
-                final ServerAttribute attribute = (ServerAttribute) ReflectionHelper.getPrivileged(attributeField, p);
+                final Class<?> propertyClass = property instanceof PropertyImpl ? PropertyImpl.class : AbstractPrimitiveProperty.class;
+                final Field attributeField = ReflectionHelper.getInheritedDeclaredField(propertyClass, "attribute");
+                final ServerAttribute attribute = (ServerAttribute) ReflectionHelper.getPrivileged(attributeField, property);
                 if(attribute == null) {
                     throw new NullPointerException("attribute == null");
                 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.binding;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.platform.remoting.VirtualList;
+import com.canoo.platform.remoting.server.binding.VirtualListBinder;
+import com.canoo.platform.remoting.server.binding.VirtualListBinding;
+import com.canoo.platform.remoting.server.binding.VirtualListDataSource;
+
+public class VirtualListBinderImpl implements VirtualListBinder {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    @Override
+    public <T> VirtualListBinding bind(final VirtualList<T> list, final VirtualListDataSource<T> dataSource) {
+        return bind(list, dataSource, DEFAULT_PAGE_SIZE);
+    }
+
+    @Override
+    public <T> VirtualListBinding bind(final VirtualList<T> list, final VirtualListDataSource<T> dataSource, final int pageSize) {
+        Assert.requireNonNull(list, "list");
+        Assert.requireNonNull(dataSource, "dataSource");
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be greater than 0");
+        }
+        final VirtualListBindingImpl<T> binding = new VirtualListBindingImpl<>(list, dataSource, pageSize);
+        binding.refresh();
+        return binding;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.binding;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.platform.core.functional.Subscription;
+import com.canoo.platform.remoting.ValueChangeEvent;
+import com.canoo.platform.remoting.ValueChangeListener;
+import com.canoo.platform.remoting.VirtualList;
+import com.canoo.platform.remoting.server.binding.VirtualListBinding;
+import com.canoo.platform.remoting.server.binding.VirtualListDataSource;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Loads the pages of a {@link VirtualList} that contain the window that is requested by the client. Since the loaded
+ * elements are updated by {@link com.canoo.platform.remoting.ObservableList#setAll(java.util.Collection)} only the
+ * elements that changed are synchronized with the client when the window is moved or the list is refreshed.
+ */
+class VirtualListBindingImpl<T> implements VirtualListBinding {
+
+    private final VirtualList<T> list;
+
+    private final VirtualListDataSource<T> dataSource;
+
+    private final int pageSize;
+
+    private final Subscription windowRequestSubscription;
+
+    VirtualListBindingImpl(final VirtualList<T> list, final VirtualListDataSource<T> dataSource, final int pageSize) {
+        this.list = Assert.requireNonNull(list, "list");
+        this.dataSource = Assert.requireNonNull(dataSource, "dataSource");
+        this.pageSize = pageSize;
+
+        // Start and size of the window are defined before the request is incremented (see VirtualList.requestWindow)
+        windowRequestSubscription = list.getWindowRequestProperty().onChanged(new ValueChangeListener<Integer>() {
+            @Override
+            public void valueChanged(final ValueChangeEvent<? extends Integer> evt) {
+                loadWindow(false);
+            }
+        });
+    }
+
+    @Override
+    public void refresh() {
+        updateSize();
+        loadWindow(true);
+    }
+
+    @Override
+    public void refresh(final int from, final int to) {
+        final boolean sizeChanged = updateSize();
+        final boolean loadedElementsChanged = from < list.getLoadedEnd() && to > list.getLoadedStart();
+        loadWindow(sizeChanged || loadedElementsChanged);
+    }
+
+    @Override
+    public void unbind() {
+        windowRequestSubscription.unsubscribe();
+    }
+
+    private boolean updateSize() {
+        final int size = dataSource.size();
+        if (size < 0) {
+            throw new IllegalStateException("Size of data source must not be negative");
+        }
+        if (list.getSizeProperty().get() == null || list.size() != size) {
+            list.getSizeProperty().set(size);
+            return true;
+        }
+        return false;
+    }
+
+    private void loadWindow(final boolean reload) {
+        final int size = list.size();
+        final int windowStart = Math.min(list.getWindowStart(), size);
+        final int windowEnd = Math.min(windowStart + list.getWindowSize(), size);
+        final int from = (windowStart / pageSize) * pageSize;
+        final int to = windowEnd > windowStart ? Math.min(size, ((windowEnd + pageSize - 1) / pageSize) * pageSize) : from;
+
+        if (!reload && from == list.getLoadedStart() && to == list.getLoadedEnd()) {
+            return;
+        }
+
+        final List<T> elements = from < to ? dataSource.load(from, to) : Collections.<T>emptyList();
+        Assert.requireNonNull(elements, "elements");
+        if (elements.size() != to - from) {
+            throw new IllegalStateException("Data source returned " + elements.size() + " elements for range [" + from + ", " + to + ")");
+        }
+        // The start is synchronized first, the client must never map new elements to an old start
+        if (list.getLoadedStartProperty().get() == null || list.getLoadedStart() != from) {
+            list.getLoadedStartProperty().set(from);
+        }
+        list.getLoadedElements().setAll(elements);
+    }
+}
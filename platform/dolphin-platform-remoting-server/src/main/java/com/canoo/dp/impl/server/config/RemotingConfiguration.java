@@ -16,6 +16,7 @@
 package com.canoo.dp.impl.server.config;
 
 import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.server.context.TaskQueueOverflowPolicy;
 import com.canoo.dp.impl.server.event.DefaultEventBusProvider;
 import com.canoo.platform.core.PlatformConfiguration;
 
@@ -35,10 +36,32 @@ public class RemotingConfiguration implements Serializable {
 
     public static final String GARBAGE_COLLECTION_ACTIVE = "garbageCollectionActive";
 
+    public static final String GARBAGE_COLLECTION_CANDIDATE_THRESHOLD = "garbageCollectionCandidateThreshold";
+
+    public static final String GARBAGE_COLLECTION_MIN_INTERVAL = "garbageCollectionMinInterval";
+
+    public static final String GARBAGE_COLLECTION_MAX_RUN_TIME = "garbageCollectionMaxRunTime";
+
     public static final String MAX_POLL_TIME = "maxPollTime";
 
     public static final String EVENTBUS_TYPE = "eventbusType";
 
+    public static final String STREAMING_CODEC_ACTIVE = "streamingCodecActive";
+
+    public static final String BINARY_PROTOCOL_ACTIVE = "binaryProtocolActive";
+
+    public static final String COMPRESSION_ACTIVE = "compressionActive";
+
+    public static final String COMPRESSION_THRESHOLD = "compressionThreshold";
+
+    public static final String ASYNC_LONG_POLL_ACTIVE = "asyncLongPollActive";
+
+    public static final String PUSH_ACTIVE = "pushActive";
+
+    public static final String TASK_QUEUE_CAPACITY = "taskQueueCapacity";
+
+    public static final String TASK_QUEUE_OVERFLOW_POLICY = "taskQueueOverflowPolicy";
+
     public static final boolean ACTIVE_DEFAULT_VALUE = true;
 
     public final static String DOLPHIN_PLATFORM_SERVLET_MAPPING_DEFAULT_VALUE = "/dolphin";
@@ -51,6 +74,28 @@ public class RemotingConfiguration implements Serializable {
 
     public final static boolean USE_GC_DEFAULT_VALUE = true;
 
+    public final static int GARBAGE_COLLECTION_CANDIDATE_THRESHOLD_DEFAULT_VALUE = 1;
+
+    public final static long GARBAGE_COLLECTION_MIN_INTERVAL_DEFAULT_VALUE = 0;
+
+    public final static long GARBAGE_COLLECTION_MAX_RUN_TIME_DEFAULT_VALUE = 0;
+
+    public final static boolean STREAMING_CODEC_ACTIVE_DEFAULT_VALUE = true;
+
+    public final static boolean BINARY_PROTOCOL_ACTIVE_DEFAULT_VALUE = true;
+
+    public final static boolean COMPRESSION_ACTIVE_DEFAULT_VALUE = true;
+
+    public final static int COMPRESSION_THRESHOLD_DEFAULT_VALUE = 1024;
+
+    public final static boolean ASYNC_LONG_POLL_ACTIVE_DEFAULT_VALUE = true;
+
+    public final static boolean PUSH_ACTIVE_DEFAULT_VALUE = true;
+
+    public final static int TASK_QUEUE_CAPACITY_DEFAULT_VALUE = 10000;
+
+    public final static String TASK_QUEUE_OVERFLOW_POLICY_DEFAULT_VALUE = TaskQueueOverflowPolicy.REJECT.name();
+
     private final PlatformConfiguration configuration;
 
     public RemotingConfiguration() {
@@ -77,6 +122,55 @@ public class RemotingConfiguration implements Serializable {
         return configuration.getBooleanProperty(GARBAGE_COLLECTION_ACTIVE, USE_GC_DEFAULT_VALUE);
     }
 
+    public int getGarbageCollectionCandidateThreshold() {
+        return configuration.getIntProperty(GARBAGE_COLLECTION_CANDIDATE_THRESHOLD, GARBAGE_COLLECTION_CANDIDATE_THRESHOLD_DEFAULT_VALUE);
+    }
+
+    public long getGarbageCollectionMinInterval() {
+        return configuration.getLongProperty(GARBAGE_COLLECTION_MIN_INTERVAL, GARBAGE_COLLECTION_MIN_INTERVAL_DEFAULT_VALUE);
+    }
+
+    public long getGarbageCollectionMaxRunTime() {
+        return configuration.getLongProperty(GARBAGE_COLLECTION_MAX_RUN_TIME, GARBAGE_COLLECTION_MAX_RUN_TIME_DEFAULT_VALUE);
+    }
+
+    public boolean isStreamingCodecActive() {
+        return configuration.getBooleanProperty(STREAMING_CODEC_ACTIVE, STREAMING_CODEC_ACTIVE_DEFAULT_VALUE);
+    }
+
+    public boolean isBinaryProtocolActive() {
+        return configuration.getBooleanProperty(BINARY_PROTOCOL_ACTIVE, BINARY_PROTOCOL_ACTIVE_DEFAULT_VALUE);
+    }
+
+    public boolean isCompressionActive() {
+        return configuration.getBooleanProperty(COMPRESSION_ACTIVE, COMPRESSION_ACTIVE_DEFAULT_VALUE);
+    }
+
+    public int getCompressionThreshold() {
+        return configuration.getIntProperty(COMPRESSION_THRESHOLD, COMPRESSION_THRESHOLD_DEFAULT_VALUE);
+    }
+
+    public boolean isAsyncLongPollActive() {
+        return configuration.getBooleanProperty(ASYNC_LONG_POLL_ACTIVE, ASYNC_LONG_POLL_ACTIVE_DEFAULT_VALUE);
+    }
+
+    public boolean isPushActive() {
+        return configuration.getBooleanProperty(PUSH_ACTIVE, PUSH_ACTIVE_DEFAULT_VALUE);
+    }
+
+    public int getTaskQueueCapacity() {
+        return configuration.getIntProperty(TASK_QUEUE_CAPACITY, TASK_QUEUE_CAPACITY_DEFAULT_VALUE);
+    }
+
+    public TaskQueueOverflowPolicy getTaskQueueOverflowPolicy() {
+        final String policy = configuration.getProperty(TASK_QUEUE_OVERFLOW_POLICY, TASK_QUEUE_OVERFLOW_POLICY_DEFAULT_VALUE);
+        try {
+            return TaskQueueOverflowPolicy.valueOf(policy.trim().toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown task queue overflow policy: " + policy, e);
+        }
+    }
+
     public String getEventbusType() {
         return configuration.getProperty(EVENTBUS_TYPE, EVENTBUS_TYPE_DEFAULT_VALUE);
     }
@@ -17,7 +17,6 @@ package com.canoo.dp.impl.server.config;
 
 import com.canoo.platform.server.spi.ConfigurationProviderAdapter;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -30,16 +29,40 @@ public class RemotingDefaultValueProvider extends ConfigurationProviderAdapter {
         ret.put(RemotingConfiguration.DOLPHIN_PLATFORM_SERVLET_MAPPING, RemotingConfiguration.DOLPHIN_PLATFORM_SERVLET_MAPPING_DEFAULT_VALUE);
         ret.put(RemotingConfiguration.DOLPHIN_PLATFORM_INTERRUPT_SERVLET_MAPPING, RemotingConfiguration.DOLPHIN_PLATFORM_INTERRUPT_SERVLET_MAPPING_DEFAULT_VALUE);
         ret.put(RemotingConfiguration.EVENTBUS_TYPE, RemotingConfiguration.EVENTBUS_TYPE_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.TASK_QUEUE_OVERFLOW_POLICY, RemotingConfiguration.TASK_QUEUE_OVERFLOW_POLICY_DEFAULT_VALUE);
+        return ret;
+    }
+
+    @Override
+    public Map<String, Integer> getIntegerProperties() {
+        HashMap<String, Integer> ret = new HashMap<>();
+
+        ret.put(RemotingConfiguration.COMPRESSION_THRESHOLD, RemotingConfiguration.COMPRESSION_THRESHOLD_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.TASK_QUEUE_CAPACITY, RemotingConfiguration.TASK_QUEUE_CAPACITY_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.GARBAGE_COLLECTION_CANDIDATE_THRESHOLD, RemotingConfiguration.GARBAGE_COLLECTION_CANDIDATE_THRESHOLD_DEFAULT_VALUE);
         return ret;
     }
 
     @Override
     public Map<String, Long> getLongProperties() {
-        return Collections.singletonMap(RemotingConfiguration.MAX_POLL_TIME, RemotingConfiguration.MAX_POLL_TIME_DEFAULT_VALUE);
+        HashMap<String, Long> ret = new HashMap<>();
+
+        ret.put(RemotingConfiguration.MAX_POLL_TIME, RemotingConfiguration.MAX_POLL_TIME_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.GARBAGE_COLLECTION_MIN_INTERVAL, RemotingConfiguration.GARBAGE_COLLECTION_MIN_INTERVAL_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.GARBAGE_COLLECTION_MAX_RUN_TIME, RemotingConfiguration.GARBAGE_COLLECTION_MAX_RUN_TIME_DEFAULT_VALUE);
+        return ret;
     }
 
     @Override
     public Map<String, Boolean> getBooleanProperties() {
-        return Collections.singletonMap(RemotingConfiguration.GARBAGE_COLLECTION_ACTIVE, RemotingConfiguration.USE_GC_DEFAULT_VALUE);
+        HashMap<String, Boolean> ret = new HashMap<>();
+
+        ret.put(RemotingConfiguration.GARBAGE_COLLECTION_ACTIVE, RemotingConfiguration.USE_GC_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.STREAMING_CODEC_ACTIVE, RemotingConfiguration.STREAMING_CODEC_ACTIVE_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.BINARY_PROTOCOL_ACTIVE, RemotingConfiguration.BINARY_PROTOCOL_ACTIVE_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.COMPRESSION_ACTIVE, RemotingConfiguration.COMPRESSION_ACTIVE_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.ASYNC_LONG_POLL_ACTIVE, RemotingConfiguration.ASYNC_LONG_POLL_ACTIVE_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.PUSH_ACTIVE, RemotingConfiguration.PUSH_ACTIVE_DEFAULT_VALUE);
+        return ret;
     }
 }
@@ -27,8 +27,21 @@ public class ClientSessionExecutorImpl implements ClientSessionExecutor {
 
     private final Executor runLaterExecutor;
 
+    private final KeyedExecutor keyedExecutor;
+
     public ClientSessionExecutorImpl(final Executor runLaterExecutor) {
+        this(runLaterExecutor, null);
+    }
+
+    /**
+     * Constructor
+     * @param runLaterExecutor the executor for tasks
+     * @param keyedExecutor the executor for tasks that are defined by a key. If {@code null} keyed tasks will be
+     *                      executed by the runLaterExecutor without replacing pending tasks.
+     */
+    public ClientSessionExecutorImpl(final Executor runLaterExecutor, final KeyedExecutor keyedExecutor) {
         this.runLaterExecutor = Assert.requireNonNull(runLaterExecutor, "runLaterExecutor");
+        this.keyedExecutor = keyedExecutor;
     }
 
     @Override
@@ -60,4 +73,26 @@ public class ClientSessionExecutorImpl implements ClientSessionExecutor {
         });
         return future;
     }
+
+    @Override
+    public Future<Void> runLaterInClientSession(final Object key, final Runnable task) {
+        Assert.requireNonNull(task, "task");
+        return callLaterInClientSession(key, new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                task.run();
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public <T> Future<T> callLaterInClientSession(final Object key, final Callable<T> task) {
+        Assert.requireNonNull(key, "key");
+        Assert.requireNonNull(task, "task");
+        if (keyedExecutor == null) {
+            return callLaterInClientSession(task);
+        }
+        return keyedExecutor.execute(key, task);
+    }
 }
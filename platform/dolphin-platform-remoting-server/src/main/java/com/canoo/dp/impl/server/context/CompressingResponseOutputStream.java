@@ -0,0 +1,177 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.context;
+
+import com.canoo.dp.impl.platform.core.Assert;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static com.canoo.dp.impl.platform.core.PlatformConstants.CONTENT_ENCODING_HEADER;
+import static com.canoo.dp.impl.platform.core.PlatformConstants.DEFLATE_ENCODING;
+import static com.canoo.dp.impl.platform.core.PlatformConstants.GZIP_ENCODING;
+
+/**
+ * {@link OutputStream} that writes the body of a {@link HttpServletResponse}. The content is buffered in a pooled
+ * buffer until the given threshold is reached. A threshold bigger than the buffers of the pool is reduced to the
+ * buffer size. Only if the content is bigger than the threshold the {@code Content-Encoding} header is set and the
+ * content is compressed. Closing the stream finishes the response body. The {@code Vary} header must be set by the
+ * caller for each response that could have been compressed.
+ */
+final class CompressingResponseOutputStream extends OutputStream {
+
+    private final HttpServletResponse response;
+
+    private final String encoding;
+
+    private final int threshold;
+
+    private final IoBufferPool pool;
+
+    private byte[] buffer;
+
+    private int count = 0;
+
+    private OutputStream target;
+
+    private boolean closed = false;
+
+    CompressingResponseOutputStream(final HttpServletResponse response, final String encoding, final int threshold, final IoBufferPool pool) {
+        this.response = Assert.requireNonNull(response, "response");
+        this.encoding = Assert.requireNonBlank(encoding, "encoding");
+        this.pool = Assert.requireNonNull(pool, "pool");
+        this.threshold = Math.min(Math.max(0, threshold), pool.getBufferSize());
+        this.buffer = pool.acquireByteBuffer();
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        ensureOpen();
+        if (target == null) {
+            if (count < threshold) {
+                buffer[count++] = (byte) b;
+                return;
+            }
+            startCompression();
+        }
+        target.write(b);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        ensureOpen();
+        if (target == null) {
+            if (count + len <= threshold) {
+                System.arraycopy(b, off, buffer, count, len);
+                count += len;
+                return;
+            }
+            startCompression();
+        }
+        target.write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        if (target != null) {
+            target.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (target == null) {
+                final OutputStream outputStream = response.getOutputStream();
+                outputStream.write(buffer, 0, count);
+                outputStream.flush();
+            } else {
+                target.close();
+            }
+        } finally {
+            pool.releaseByteBuffer(buffer);
+            buffer = null;
+        }
+    }
+
+    private void startCompression() throws IOException {
+        response.setHeader(CONTENT_ENCODING_HEADER, encoding);
+        if (GZIP_ENCODING.equals(encoding)) {
+            target = new GZIPOutputStream(response.getOutputStream(), pool.getBufferSize());
+        } else if (DEFLATE_ENCODING.equals(encoding)) {
+            target = new DeflaterOutputStream(response.getOutputStream());
+        } else {
+            throw new IllegalStateException("Unsupported content encoding " + encoding);
+        }
+        target.write(buffer, 0, count);
+        count = 0;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream already closed");
+        }
+    }
+
+    /**
+     * Returns the content encoding that should be used for a response based on the given {@code Accept-Encoding}
+     * header of the request. If the client accepts gzip and deflate gzip is preferred.
+     * @param acceptEncoding the value of the {@code Accept-Encoding} header, can be {@code null}
+     * @return the encoding or {@code null} if the client does not accept a supported encoding
+     */
+    static String selectEncoding(final String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+        boolean deflateAccepted = false;
+        for (final String part : acceptEncoding.split(",")) {
+            final String[] tokens = part.split(";");
+            final String coding = tokens[0].trim().toLowerCase();
+            if (!isAccepted(tokens)) {
+                continue;
+            }
+            if (GZIP_ENCODING.equals(coding) || "x-gzip".equals(coding)) {
+                return GZIP_ENCODING;
+            }
+            if (DEFLATE_ENCODING.equals(coding)) {
+                deflateAccepted = true;
+            }
+        }
+        return deflateAccepted ? DEFLATE_ENCODING : null;
+    }
+
+    private static boolean isAccepted(final String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            final String parameter = tokens[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) > 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -31,6 +31,7 @@ import com.canoo.dp.impl.remoting.commands.CreateContextCommand;
 import com.canoo.dp.impl.remoting.commands.CreateControllerCommand;
 import com.canoo.dp.impl.remoting.commands.DestroyContextCommand;
 import com.canoo.dp.impl.remoting.commands.DestroyControllerCommand;
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
 import com.canoo.dp.impl.remoting.legacy.commands.InterruptLongPollCommand;
 import com.canoo.dp.impl.remoting.legacy.commands.StartLongPollCommand;
 import com.canoo.dp.impl.remoting.legacy.communication.Command;
@@ -63,6 +64,7 @@ import com.canoo.platform.server.client.ClientSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -95,6 +97,8 @@ public class DolphinContext {
 
     private final EventDispatcher dispatcher;
 
+    private final ListMapper listMapper;
+
     private ServerPlatformBeanRepository platformBeanRepository;
 
     private final DolphinContextMBeanRegistry mBeanRegistry;
@@ -111,6 +115,8 @@ public class DolphinContext {
 
     private boolean hasResponseCommands = false;
 
+    private volatile PushChannel pushChannel;
+
     public DolphinContext(final RemotingConfiguration configuration, ClientSession clientSession, ClientSessionProvider clientSessionProvider, ManagedBeanFactory beanFactory, ControllerRepository controllerRepository, Callback<DolphinContext> onDestroyCallback) {
         this.configuration = Assert.requireNonNull(configuration, "configuration");
         Assert.requireNonNull(beanFactory, "beanFactory");
@@ -143,7 +149,7 @@ public class DolphinContext {
                 return hasResponseCommands || serverModelStore.hasResponseCommands();
             }
         };
-        taskQueue = new DolphinContextTaskQueue(clientSession.getId(), clientSessionProvider, manager, configuration.getMaxPollTime(), TimeUnit.MILLISECONDS);
+        taskQueue = new DolphinContextTaskQueue(clientSession.getId(), clientSessionProvider, manager, configuration.getMaxPollTime(), TimeUnit.MILLISECONDS, configuration.getTaskQueueCapacity(), configuration.getTaskQueueOverflowPolicy());
 
         //Init BeanRepository
         dispatcher = new ServerEventDispatcher(serverModelStore);
@@ -153,7 +159,12 @@ public class DolphinContext {
         //Init BeanManager
         final PresentationModelBuilderFactory builderFactory = new ServerPresentationModelBuilderFactory(serverModelStore);
         final ClassRepository classRepository = new ClassRepositoryImpl(serverModelStore, converters, builderFactory);
-        final ListMapper listMapper = new ListMapperImpl(serverModelStore, classRepository, beanRepository, builderFactory, dispatcher);
+        listMapper = new ListMapperImpl(serverModelStore, classRepository, beanRepository, builderFactory, dispatcher, new Callback<ListSpliceCommand>() {
+            @Override
+            public void call(final ListSpliceCommand listSpliceCommand) {
+                serverModelStore.addResponseCommand(listSpliceCommand);
+            }
+        });
         final ServerBeanBuilder beanBuilder = new ServerBeanBuilderImpl(classRepository, beanRepository, listMapper, builderFactory, dispatcher, garbageCollector);
         beanManager = new BeanManagerImpl(beanRepository, beanBuilder);
 
@@ -165,7 +176,7 @@ public class DolphinContext {
 
         //Register commands
         registerDolphinPlatformDefaultCommands();
-        mBeanSubscription = mBeanRegistry.registerDolphinContext(clientSession, garbageCollector);
+        mBeanSubscription = mBeanRegistry.registerDolphinContext(clientSession, garbageCollector, taskQueue);
     }
 
     private <T extends Command> void registerCommand(final ActionRegistry registry, final Class<T> commandClass, final Callback<T> handler) {
@@ -226,14 +237,25 @@ public class DolphinContext {
                     }
                 });
 
+                registerCommand(registry, ListSpliceCommand.class, new Callback<ListSpliceCommand>() {
+                    @Override
+                    public void call(final ListSpliceCommand listSpliceCommand) {
+                        Assert.requireNonNull(listSpliceCommand, "listSpliceCommand");
+                        listMapper.onListSplice(listSpliceCommand);
+                    }
+                });
+
                 registerCommand(registry, StartLongPollCommand.class, new Callback<StartLongPollCommand>() {
                     @Override
                     public void call(final StartLongPollCommand startLongPollCommand) {
-                        if (configuration.isUseGc()) {
-                            LOG.trace("Handling GarbageCollection for DolphinContext {}", getId());
-                            onGarbageCollection();
-                        }
-                        onPollEventBus();
+                        onLongPoll(true);
+                    }
+                });
+
+                registerCommand(registry, ResumedLongPollCommand.class, new Callback<ResumedLongPollCommand>() {
+                    @Override
+                    public void call(final ResumedLongPollCommand resumedLongPollCommand) {
+                        onLongPoll(false);
                     }
                 });
 
@@ -257,6 +279,8 @@ public class DolphinContext {
     }
 
     public void destroy() {
+        setPushChannel(null);
+
         controllerHandler.destroyAllControllers();
 
         if (mBeanSubscription != null) {
@@ -316,12 +340,64 @@ public class DolphinContext {
         taskQueue.interrupt();
     }
 
-    private void onPollEventBus() {
-        taskQueue.executeTasks();
+    private void onLongPoll(final boolean waitForTasks) {
+        if (configuration.isUseGc()) {
+            LOG.trace("Handling GarbageCollection for DolphinContext {}", getId());
+            onGarbageCollection();
+        }
+        taskQueue.executeTasks(waitForTasks);
+    }
+
+    /**
+     * Parks a long poll of the client without blocking a thread (see {@link DolphinContextTaskQueue#park(Runnable)}).
+     * @param onWakeUp called once as soon as a task is added or the long poll is interrupted
+     * @return true if the long poll was parked
+     */
+    public boolean parkLongPoll(final Runnable onWakeUp) {
+        return taskQueue.park(onWakeUp);
+    }
+
+    public void unparkLongPoll() {
+        taskQueue.unpark();
+    }
+
+    /**
+     * Handles the commands of a long poll that was parked before. Since the client already waited for the poll the
+     * available tasks are executed without waiting for new tasks.
+     * @param commands the commands
+     * @return the response commands
+     */
+    public List<Command> handleResumedLongPoll(final List<Command> commands) {
+        Assert.requireNonNull(commands, "commands");
+        final List<Command> resumedCommands = new ArrayList<>(commands.size());
+        for (final Command command : commands) {
+            if (command instanceof StartLongPollCommand) {
+                resumedCommands.add(new ResumedLongPollCommand());
+            } else {
+                resumedCommands.add(command);
+            }
+        }
+        return handle(resumedCommands);
+    }
+
+    public PushChannel getPushChannel() {
+        return pushChannel;
+    }
+
+    /**
+     * Defines the push channel of the context. A previously defined channel will be closed.
+     * @param pushChannel the channel or {@code null}
+     */
+    public void setPushChannel(final PushChannel pushChannel) {
+        final PushChannel oldChannel = this.pushChannel;
+        this.pushChannel = pushChannel;
+        if (oldChannel != null && oldChannel != pushChannel) {
+            oldChannel.close();
+        }
     }
 
     private void onGarbageCollection() {
-        garbageCollector.gc();
+        garbageCollector.gcIfRequired();
     }
 
     public ServerModelStore getServerModelStore() {
@@ -375,4 +451,28 @@ public class DolphinContext {
     public <T> Future<T> callLater(final Callable<T> callable) {
         return taskQueue.addTask(callable);
     }
+
+    /**
+     * Executes the given task later in this context. A pending task with the same key will be replaced by the given
+     * task (see {@link DolphinContextTaskQueue#addTask(Object, Callable)}).
+     * @param key the key of the task
+     * @param runnable the task
+     * @return the future of the task
+     */
+    public Future<Void> runLater(final Object key, final Runnable runnable) {
+        Assert.requireNonNull(key, "key");
+        Assert.requireNonNull(runnable, "runnable");
+        return callLater(key, new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                runnable.run();
+                return null;
+            }
+        });
+    }
+
+    public <T> Future<T> callLater(final Object key, final Callable<T> callable) {
+        Assert.requireNonNull(key, "key");
+        return taskQueue.addTask(key, callable);
+    }
 }
@@ -15,25 +15,57 @@
  */
 package com.canoo.dp.impl.server.context;
 
+import com.canoo.dp.impl.remoting.codec.BinaryCodec;
 import com.canoo.dp.impl.remoting.codec.OptimizedJsonCodec;
+import com.canoo.dp.impl.remoting.codec.StreamingCodec;
+import com.canoo.dp.impl.remoting.codec.StreamingJsonCodec;
 import com.canoo.dp.impl.remoting.commands.CreateContextCommand;
+import com.canoo.dp.impl.remoting.commands.DestroyContextCommand;
+import com.canoo.dp.impl.remoting.legacy.commands.StartLongPollCommand;
 import com.canoo.dp.impl.platform.core.Assert;
 import com.canoo.platform.core.functional.Callback;
 import com.canoo.dp.impl.server.client.ClientSessionProvider;
+import com.canoo.dp.impl.server.config.RemotingConfiguration;
 import com.canoo.platform.server.client.ClientSession;
 import com.canoo.dp.impl.remoting.legacy.communication.Codec;
 import com.canoo.dp.impl.remoting.legacy.communication.Command;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.DispatcherType;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
 import java.lang.ref.WeakReference;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static com.canoo.dp.impl.platform.core.PlatformConstants.ACCEPT_ENCODING_HEADER;
+import static com.canoo.dp.impl.platform.core.PlatformConstants.CONTENT_ENCODING_HEADER;
+import static com.canoo.dp.impl.platform.core.PlatformConstants.DEFLATE_ENCODING;
+import static com.canoo.dp.impl.platform.core.PlatformConstants.DOLPHIN_PLATFORM_PREFIX;
+import static com.canoo.dp.impl.platform.core.PlatformConstants.GZIP_ENCODING;
+import static com.canoo.dp.impl.platform.core.PlatformConstants.VARY_HEADER;
+import static com.canoo.dp.impl.remoting.codec.binary.BinaryConstants.BINARY_MIME_TYPE;
+import static com.canoo.dp.impl.remoting.push.PushConstants.CONNECTED_EVENT;
+import static com.canoo.dp.impl.remoting.push.PushConstants.EVENT_STREAM_MIME_TYPE;
+import static com.canoo.dp.impl.remoting.push.PushConstants.PUSH_EVENT;
+import static com.canoo.dp.impl.remoting.push.PushConstants.RESPONSE_ID_PARAM;
 
 public class DolphinContextCommunicationHandler {
 
@@ -41,17 +73,49 @@ public class DolphinContextCommunicationHandler {
 
     private final static String DOLPHIN_CONTEXT_ATTRIBUTE_NAME = "DolphinContext";
 
+    private final static Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final static String PARKED_LONG_POLL_ATTRIBUTE = DOLPHIN_PLATFORM_PREFIX + "parkedLongPoll";
+
+    private final static String PUSH_CHANNEL_ATTRIBUTE = DOLPHIN_PLATFORM_PREFIX + "pushChannel";
+
     private final ClientSessionProvider sessionProvider;
 
-    private final Codec codec = OptimizedJsonCodec.getInstance();
+    private final Codec codec;
+
+    private final boolean binaryProtocolActive;
+
+    private final boolean compressionActive;
+
+    private final int compressionThreshold;
+
+    private final boolean asyncLongPollActive;
+
+    private final long maxPollTime;
+
+    private final boolean pushActive;
+
+    private final IoBufferPool bufferPool = IoBufferPool.getInstance();
 
     private final DolphinContextFactory contextFactory;
 
     private static final HashMap<String, WeakReference<DolphinContext>> weakContextMap = new HashMap<>();
 
-    public DolphinContextCommunicationHandler(final ClientSessionProvider sessionProvider, DolphinContextFactory contextFactory) {
+    public DolphinContextCommunicationHandler(final RemotingConfiguration configuration, final ClientSessionProvider sessionProvider, DolphinContextFactory contextFactory) {
+        Assert.requireNonNull(configuration, "configuration");
         this.sessionProvider = Assert.requireNonNull(sessionProvider, "sessionProvider");
         this.contextFactory = contextFactory;
+        if (configuration.isStreamingCodecActive()) {
+            this.codec = StreamingJsonCodec.getInstance();
+        } else {
+            this.codec = OptimizedJsonCodec.getInstance();
+        }
+        this.binaryProtocolActive = configuration.isBinaryProtocolActive();
+        this.compressionActive = configuration.isCompressionActive();
+        this.compressionThreshold = configuration.getCompressionThreshold();
+        this.asyncLongPollActive = configuration.isAsyncLongPollActive();
+        this.maxPollTime = configuration.getMaxPollTime();
+        this.pushActive = configuration.isPushActive();
     }
 
     public void handle(final HttpServletRequest request, final HttpServletResponse response) {
@@ -70,9 +134,23 @@ public class DolphinContextCommunicationHandler {
         final String userAgent = request.getHeader("user-agent");
         LOG.trace("receiving RPM request for client session {} in http session {} from client with user-agent {}", clientSession.getId(), httpSession.getId(), userAgent);
 
+        final boolean binary = isBinaryRequest(request);
+        if (binary && !binaryProtocolActive) {
+            response.setStatus(HttpServletResponse.SC_UNSUPPORTED_MEDIA_TYPE);
+            LOG.error("Binary protocol is not active but requested by client session {}", clientSession.getId());
+            return;
+        }
+
+        final List<Command> parkedCommands = getParkedCommands(request);
+        final boolean resumedLongPoll = parkedCommands != null && request.getDispatcherType() == DispatcherType.ASYNC;
         final List<Command> commands = new ArrayList<>();
         try {
-            commands.addAll(readCommands(request));
+            if (resumedLongPoll) {
+                request.removeAttribute(PARKED_LONG_POLL_ATTRIBUTE);
+                commands.addAll(parkedCommands);
+            } else {
+                commands.addAll(readCommands(request, binary));
+            }
         } catch (Exception e) {
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             LOG.error("Can not parse request! (DolphinContext " + clientSession.getId() + ")", e);
@@ -83,9 +161,24 @@ public class DolphinContextCommunicationHandler {
         try {
             DolphinContext context = getOrCreateContext(clientSession, commands);
 
+            if (!resumedLongPoll && isParkable(request, commands)) {
+                parkLongPoll(request, response, context, commands);
+                return;
+            }
+
+            final PushChannel pushChannel = context.getPushChannel();
+            if (!resumedLongPoll && pushChannel != null) {
+                handleWithPushChannel(request, response, context, pushChannel, commands, binary);
+                return;
+            }
+
             final List<Command> results = new ArrayList<>();
             try {
-                results.addAll(handle(context, commands));
+                if (resumedLongPoll) {
+                    results.addAll(context.handleResumedLongPoll(commands));
+                } else {
+                    results.addAll(handle(context, commands));
+                }
             } catch (Exception e) {
                 response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
                 LOG.error("Can not withoutResult the the received commands (DolphinContext " + context.getId() + ")", e);
@@ -96,7 +189,7 @@ public class DolphinContextCommunicationHandler {
             LOG.trace("RPM response for client session {} in http session {} contains {} commands", context.getId(), httpSession.getId(), results.size());
 
             try {
-                writeCommands(results, response);
+                writeCommands(results, request, response, binary);
             } catch (Exception e) {
                 response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
                 LOG.error("Can not write response!", e);
@@ -109,6 +202,48 @@ public class DolphinContextCommunicationHandler {
         }
     }
 
+    /**
+     * Handles a request that opens a server push channel or a dispatch of a parked push channel. The push channel is
+     * a stream of server-sent events that is kept open by parking the request as an asynchronous servlet request. The
+     * commands that would be the result of a long poll are sent as {@link com.canoo.dp.impl.remoting.push.PushConstants#PUSH_EVENT}
+     * and the response commands of requests that are received while the channel is open and that define a
+     * {@link com.canoo.dp.impl.remoting.push.PushConstants#RESPONSE_ID_PARAM} are sent as
+     * {@link com.canoo.dp.impl.remoting.push.PushConstants#RESPONSE_EVENT}.
+     * @param request the request
+     * @param response the response
+     */
+    public void handlePush(final HttpServletRequest request, final HttpServletResponse response) {
+        Assert.requireNonNull(request, "request");
+        Assert.requireNonNull(response, "response");
+
+        if (!pushActive || !request.isAsyncSupported()) {
+            response.setStatus(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+            LOG.debug("Server push channel is not supported");
+            return;
+        }
+
+        final ClientSession clientSession = sessionProvider.getCurrentClientSession();
+        if (clientSession == null) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            LOG.error("No client session provided for push channel request");
+            return;
+        }
+
+        final DolphinContext context = getContext(clientSession);
+        if (context == null) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            LOG.error("No DolphinContext defined for push channel of client session {}", clientSession.getId());
+            return;
+        }
+
+        final PushChannel parkedChannel = (PushChannel) request.getAttribute(PUSH_CHANNEL_ATTRIBUTE);
+        if (parkedChannel != null && request.getDispatcherType() == DispatcherType.ASYNC) {
+            resumePushChannel(request, response, context, parkedChannel);
+        } else {
+            openPushChannel(request, response, context);
+        }
+    }
+
     public DolphinContext getContext(final ClientSession clientSession) {
         Assert.requireNonNull(clientSession, "clientSession");
         return clientSession.getAttribute(DOLPHIN_CONTEXT_ATTRIBUTE_NAME);
@@ -153,6 +288,175 @@ public class DolphinContextCommunicationHandler {
         throw new IllegalStateException("No dolphin context is defined and no init command is send.");
     }
 
+    @SuppressWarnings("unchecked")
+    private List<Command> getParkedCommands(final HttpServletRequest request) {
+        return (List<Command>) request.getAttribute(PARKED_LONG_POLL_ATTRIBUTE);
+    }
+
+    private boolean isParkable(final HttpServletRequest request, final List<Command> commands) {
+        return asyncLongPollActive && request.isAsyncSupported() && commands.size() == 1 && commands.get(0) instanceof StartLongPollCommand;
+    }
+
+    private void parkLongPoll(final HttpServletRequest request, final HttpServletResponse response, final DolphinContext context, final List<Command> commands) {
+        request.setAttribute(PARKED_LONG_POLL_ATTRIBUTE, commands);
+        final Runnable resume = startParkedRequest(request, response, context, null);
+        if (!context.parkLongPoll(resume)) {
+            resume.run();
+        }
+    }
+
+    private void openPushChannel(final HttpServletRequest request, final HttpServletResponse response, final DolphinContext context) {
+        final PushChannel pushChannel;
+        try {
+            response.setContentType(EVENT_STREAM_MIME_TYPE);
+            response.setCharacterEncoding("UTF-8");
+            response.setHeader("Cache-Control", "no-cache");
+            pushChannel = new PushChannel(new OutputStreamWriter(response.getOutputStream(), UTF_8), codec);
+        } catch (Exception e) {
+            response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            LOG.error("Can not open push channel of DolphinContext " + context.getId(), e);
+            return;
+        }
+
+        pushChannel.lock();
+        try {
+            context.setPushChannel(pushChannel);
+            pushChannel.sendEvent(CONNECTED_EVENT);
+        } catch (Exception e) {
+            LOG.error("Can not open push channel of DolphinContext " + context.getId(), e);
+            closePushChannel(context, pushChannel);
+            return;
+        } finally {
+            pushChannel.unlock();
+        }
+        LOG.trace("Opened push channel of DolphinContext {}", context.getId());
+
+        request.setAttribute(PUSH_CHANNEL_ATTRIBUTE, pushChannel);
+        parkPushChannel(request, response, context, pushChannel);
+    }
+
+    private void resumePushChannel(final HttpServletRequest request, final HttpServletResponse response, final DolphinContext context, final PushChannel pushChannel) {
+        pushChannel.lock();
+        try {
+            if (!pushChannel.isOpen() || context.getPushChannel() != pushChannel) {
+                LOG.trace("Closing push channel of DolphinContext {}", context.getId());
+                pushChannel.close();
+                return;
+            }
+            final List<Command> results = context.handleResumedLongPoll(Collections.<Command>singletonList(new StartLongPollCommand()));
+            if (results.isEmpty()) {
+                pushChannel.sendHeartbeat();
+            } else {
+                LOG.trace("Pushing {} commands to DolphinContext {}", results.size(), context.getId());
+                pushChannel.sendCommands(PUSH_EVENT, results);
+            }
+        } catch (Exception e) {
+            LOG.debug("Push channel of DolphinContext " + context.getId() + " is broken", e);
+            closePushChannel(context, pushChannel);
+            return;
+        } finally {
+            pushChannel.unlock();
+        }
+        parkPushChannel(request, response, context, pushChannel);
+    }
+
+    private void parkPushChannel(final HttpServletRequest request, final HttpServletResponse response, final DolphinContext context, final PushChannel pushChannel) {
+        final Runnable resume = startParkedRequest(request, response, context, new Runnable() {
+            @Override
+            public void run() {
+                closePushChannel(context, pushChannel);
+            }
+        });
+        pushChannel.setWakeUp(resume);
+        if (!pushChannel.isOpen() || !context.parkLongPoll(resume)) {
+            resume.run();
+        }
+    }
+
+    private void closePushChannel(final DolphinContext context, final PushChannel pushChannel) {
+        pushChannel.close();
+        if (context.getPushChannel() == pushChannel) {
+            context.setPushChannel(null);
+        }
+    }
+
+    private void handleWithPushChannel(final HttpServletRequest request, final HttpServletResponse response, final DolphinContext context, final PushChannel pushChannel, final List<Command> commands, final boolean binary) {
+        //The client only waits for a response event if it defined a response id, otherwise it reads the response body
+        final String responseId = request.getParameter(RESPONSE_ID_PARAM);
+        final List<Command> results = new ArrayList<>();
+        pushChannel.lock();
+        try {
+            final boolean pushResults = !binary && responseId != null && pushChannel.isOpen() && !containsLifecycleCommand(commands);
+            results.addAll(handle(context, commands));
+            if (pushResults) {
+                try {
+                    pushChannel.sendResponse(responseId, results);
+                    return;
+                } catch (IOException e) {
+                    LOG.debug("Push channel of DolphinContext " + context.getId() + " is broken, the response is sent in the response body", e);
+                    closePushChannel(context, pushChannel);
+                }
+            }
+        } catch (Exception e) {
+            response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            LOG.error("Can not withoutResult the the received commands (DolphinContext " + context.getId() + ")", e);
+            return;
+        } finally {
+            pushChannel.unlock();
+        }
+
+        try {
+            writeCommands(results, request, response, binary);
+        } catch (Exception e) {
+            response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            LOG.error("Can not write response!", e);
+        }
+    }
+
+    private Runnable startParkedRequest(final HttpServletRequest request, final HttpServletResponse response, final DolphinContext context, final Runnable onError) {
+        final AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(maxPollTime);
+
+        final AtomicBoolean resumed = new AtomicBoolean(false);
+        final Runnable resume = new Runnable() {
+            @Override
+            public void run() {
+                if (resumed.compareAndSet(false, true)) {
+                    asyncContext.dispatch();
+                }
+            }
+        };
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(final AsyncEvent event) throws IOException {
+                context.unparkLongPoll();
+            }
+
+            @Override
+            public void onTimeout(final AsyncEvent event) throws IOException {
+                context.unparkLongPoll();
+                resume.run();
+            }
+
+            @Override
+            public void onError(final AsyncEvent event) throws IOException {
+                context.unparkLongPoll();
+                if (onError != null) {
+                    onError.run();
+                }
+                LOG.error("Error in parked request of DolphinContext " + context.getId(), event.getThrowable());
+                if (resumed.compareAndSet(false, true)) {
+                    asyncContext.complete();
+                }
+            }
+
+            @Override
+            public void onStartAsync(final AsyncEvent event) throws IOException {
+            }
+        });
+        return resume;
+    }
+
     private boolean containsInitCommand(final List<Command> commands) {
         for (Command command : commands) {
             if (command instanceof CreateContextCommand) {
@@ -162,22 +466,97 @@ public class DolphinContextCommunicationHandler {
         return false;
     }
 
-    private List<Command> readCommands(final HttpServletRequest request) throws IOException {
-        final List<Command> commands = new ArrayList<>();
-        final StringBuilder requestJson = new StringBuilder();
-        String line;
-        while ((line = request.getReader().readLine()) != null) {
-            requestJson.append(line).append("\n");
+    private boolean containsLifecycleCommand(final List<Command> commands) {
+        for (Command command : commands) {
+            if (command instanceof CreateContextCommand || command instanceof DestroyContextCommand) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isBinaryRequest(final HttpServletRequest request) {
+        final String contentType = request.getContentType();
+        return contentType != null && contentType.startsWith(BINARY_MIME_TYPE);
+    }
+
+    private List<Command> readCommands(final HttpServletRequest request, final boolean binary) throws IOException {
+        if (binary) {
+            return BinaryCodec.getInstance().decode(getRequestInputStream(request));
+        }
+        final Charset charset = getCharset(request);
+        try (final Reader reader = new PooledInputStreamReader(getRequestInputStream(request), charset, bufferPool)) {
+            if (codec instanceof StreamingCodec) {
+                return ((StreamingCodec) codec).decode(reader);
+            }
+            final StringBuilder requestJson = new StringBuilder();
+            final char[] buffer = bufferPool.acquireCharBuffer();
+            try {
+                int read;
+                while ((read = reader.read(buffer)) != -1) {
+                    requestJson.append(buffer, 0, read);
+                }
+            } finally {
+                bufferPool.releaseCharBuffer(buffer);
+            }
+            return codec.decode(requestJson.toString());
         }
-        commands.addAll(codec.decode(requestJson.toString()));
-        return commands;
     }
 
-    private void writeCommands(final List<Command> commands, final HttpServletResponse response) throws IOException {
+    private void writeCommands(final List<Command> commands, final HttpServletRequest request, final HttpServletResponse response, final boolean binary) throws IOException {
+        if (binary) {
+            response.setHeader("Content-Type", BINARY_MIME_TYPE);
+            try (final OutputStream responseStream = getResponseOutputStream(request, response);
+                 final OutputStream outputStream = new PooledBufferedOutputStream(responseStream, bufferPool)) {
+                BinaryCodec.getInstance().encode(commands, outputStream);
+            }
+            return;
+        }
         response.setHeader("Content-Type", "application/json");
         response.setCharacterEncoding("UTF-8");
-        final String jsonResponse = codec.encode(commands);
-        response.getWriter().print(jsonResponse);
+        try (final OutputStream responseStream = getResponseOutputStream(request, response);
+             final Writer writer = new PooledOutputStreamWriter(responseStream, UTF_8, bufferPool)) {
+            if (codec instanceof StreamingCodec) {
+                ((StreamingCodec) codec).encode(commands, writer);
+            } else {
+                writer.write(codec.encode(commands));
+            }
+        }
+    }
+
+    private InputStream getRequestInputStream(final HttpServletRequest request) throws IOException {
+        final InputStream inputStream = request.getInputStream();
+        final String contentEncoding = request.getHeader(CONTENT_ENCODING_HEADER);
+        if (contentEncoding == null || "identity".equalsIgnoreCase(contentEncoding.trim())) {
+            return inputStream;
+        }
+        if (GZIP_ENCODING.equalsIgnoreCase(contentEncoding.trim())) {
+            return new GZIPInputStream(inputStream, bufferPool.getBufferSize());
+        }
+        if (DEFLATE_ENCODING.equalsIgnoreCase(contentEncoding.trim())) {
+            return new InflaterInputStream(inputStream);
+        }
+        throw new IOException("Unsupported content encoding " + contentEncoding);
+    }
+
+    private OutputStream getResponseOutputStream(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+        if (compressionActive) {
+            //The content of the response depends on the Accept-Encoding header even if it is not compressed
+            response.addHeader(VARY_HEADER, ACCEPT_ENCODING_HEADER);
+            final String encoding = CompressingResponseOutputStream.selectEncoding(request.getHeader(ACCEPT_ENCODING_HEADER));
+            if (encoding != null) {
+                return new CompressingResponseOutputStream(response, encoding, compressionThreshold, bufferPool);
+            }
+        }
+        return response.getOutputStream();
+    }
+
+    private Charset getCharset(final HttpServletRequest request) {
+        final String encoding = request.getCharacterEncoding();
+        if (encoding == null) {
+            return UTF_8;
+        }
+        return Charset.forName(encoding);
     }
 
     private List<Command> handle(final DolphinContext context, List<Command> commands) {
@@ -22,8 +22,16 @@ import com.google.common.util.concurrent.SettableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.*;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -31,12 +39,19 @@ import java.util.concurrent.locks.ReentrantLock;
 /**
  * Internal class to call tasks (see {@link Runnable}) in a Dolphin Platform context
  * (see {@link DolphinContext}). Tasks can come from an "invokeLater" call or the event bus.
+ *
+ * The queue can be bounded. If a bounded queue is full the {@link TaskQueueOverflowPolicy} of the queue defines how a
+ * new task is handled. Since tasks are only executed while the client polls, a client that stops polling can not
+ * fill the memory of the server with pending tasks. The queue collects metrics like the queue depth, the time a task
+ * waits in the queue and the execution time of tasks.
  */
 public class DolphinContextTaskQueue {
 
     private static final Logger LOG = LoggerFactory.getLogger(DolphinContextTaskQueue.class);
 
-    private final BlockingQueue<Runnable> tasks;
+    private final Deque<TaskEntry> tasks = new ArrayDeque<>();
+
+    private final Map<Object, TaskEntry> keyedTasks = new HashMap<>();
 
     private final String dolphinSessionId;
 
@@ -44,6 +59,10 @@ public class DolphinContextTaskQueue {
 
     private final TimeUnit maxExecutionTimeUnit;
 
+    private final int capacity;
+
+    private final TaskQueueOverflowPolicy overflowPolicy;
+
     private final ClientSessionProvider sessionProvider;
 
     private final CommunicationManager communicationManager;
@@ -54,19 +73,65 @@ public class DolphinContextTaskQueue {
 
     private final AtomicBoolean interrupted = new AtomicBoolean(false);
 
+    private final AtomicLong executedTaskCount = new AtomicLong();
+
+    private final AtomicLong rejectedTaskCount = new AtomicLong();
+
+    private final AtomicLong droppedTaskCount = new AtomicLong();
+
+    private final AtomicLong coalescedTaskCount = new AtomicLong();
+
+    private final AtomicLong totalWaitTime = new AtomicLong();
+
+    private final AtomicLong maxWaitTime = new AtomicLong();
+
+    private final AtomicLong totalExecutionTime = new AtomicLong();
+
+    private final AtomicLong maxExecutionTimeOfTask = new AtomicLong();
+
+    private Runnable wakeUpListener;
+
     public DolphinContextTaskQueue(final String dolphinSessionId, final ClientSessionProvider sessionProvider, final CommunicationManager communicationManager, final long maxExecutionTime, final TimeUnit maxExecutionTimeUnit) {
+        this(dolphinSessionId, sessionProvider, communicationManager, maxExecutionTime, maxExecutionTimeUnit, -1, TaskQueueOverflowPolicy.REJECT);
+    }
+
+    /**
+     * Constructor
+     * @param dolphinSessionId the id of the client session
+     * @param sessionProvider the session provider
+     * @param communicationManager the communication manager
+     * @param maxExecutionTime the max time that {@link #executeTasks()} waits for tasks
+     * @param maxExecutionTimeUnit the unit of the max execution time
+     * @param capacity the max number of pending tasks. A value lower than 1 defines an unbounded queue
+     * @param overflowPolicy defines how a new task is handled if the queue is full
+     */
+    public DolphinContextTaskQueue(final String dolphinSessionId, final ClientSessionProvider sessionProvider, final CommunicationManager communicationManager, final long maxExecutionTime, final TimeUnit maxExecutionTimeUnit, final int capacity, final TaskQueueOverflowPolicy overflowPolicy) {
         this.dolphinSessionId = Assert.requireNonBlank(dolphinSessionId, "dolphinSessionId");
-        this.tasks = new LinkedBlockingQueue<>();
-        this.communicationManager = Assert.requireNonNull(communicationManager, "communicationManager");;
+        this.communicationManager = Assert.requireNonNull(communicationManager, "communicationManager");
         this.sessionProvider = Assert.requireNonNull(sessionProvider, "sessionProvider");
         this.maxExecutionTime = maxExecutionTime;
         this.maxExecutionTimeUnit = Assert.requireNonNull(maxExecutionTimeUnit, "maxExecutionTimeUnit");
+        this.capacity = capacity;
+        this.overflowPolicy = Assert.requireNonNull(overflowPolicy, "overflowPolicy");
     }
 
     public <T> Future<T> addTask(final Callable<T> task) {
+        return addTask(null, task);
+    }
+
+    /**
+     * Adds a task to the queue. If a task with the same key is pending it will be replaced by the new task and the
+     * future of the replaced task will be cancelled. The new task takes the position of the replaced task in the
+     * queue. By doing so only the latest state of frequently changing values will be computed and sent to the client.
+     * @param key the key of the task or {@code null} if the task should not be coalesced
+     * @param task the task
+     * @param <T> type of the result
+     * @return the future of the task
+     */
+    public <T> Future<T> addTask(final Object key, final Callable<T> task) {
         Assert.requireNonNull(task, "task");
         final SettableFuture<T> future = SettableFuture.<T>create();
-        tasks.offer(new Runnable() {
+        final TaskEntry entry = new TaskEntry(key, new Runnable() {
             @Override
             public void run() {
                 try {
@@ -76,14 +141,24 @@ public class DolphinContextTaskQueue {
                     future.setException(e);
                 }
             }
-        });
-        LOG.trace("Tasks added to Dolphin Platform context {}", dolphinSessionId);
+        }, future);
+
+        final Runnable listener;
         taskLock.lock();
         try {
+            if (!offer(entry)) {
+                rejectedTaskCount.incrementAndGet();
+                LOG.warn("Task queue of Dolphin Platform context {} is full. Task rejected.", dolphinSessionId);
+                future.setException(new DolphinTaskException("Task queue of Dolphin Platform context " + dolphinSessionId + " is full"));
+                return future;
+            }
+            LOG.trace("Tasks added to Dolphin Platform context {}", dolphinSessionId);
             taskCondition.signal();
+            listener = removeWakeUpListener();
         } finally {
             taskLock.unlock();
         }
+        wakeUp(listener);
         return future;
     }
 
@@ -98,24 +173,153 @@ public class DolphinContextTaskQueue {
         });
     }
 
+    private boolean offer(final TaskEntry entry) {
+        if (entry.getKey() != null) {
+            final TaskEntry pending = keyedTasks.get(entry.getKey());
+            if (pending != null) {
+                pending.getFuture().cancel(false);
+                pending.replace(entry);
+                coalescedTaskCount.incrementAndGet();
+                return true;
+            }
+        }
+        if (capacity > 0 && tasks.size() >= capacity) {
+            final TaskEntry dropped;
+            if (overflowPolicy == TaskQueueOverflowPolicy.DROP_OLDEST) {
+                dropped = tasks.poll();
+            } else if (overflowPolicy == TaskQueueOverflowPolicy.COALESCE) {
+                dropped = removeOldestKeyedTask();
+            } else {
+                dropped = null;
+            }
+            if (dropped == null) {
+                return false;
+            }
+            removeKey(dropped);
+            dropped.getFuture().cancel(false);
+            droppedTaskCount.incrementAndGet();
+            LOG.debug("Task queue of Dolphin Platform context {} is full. Pending task dropped.", dolphinSessionId);
+        }
+        tasks.offer(entry);
+        if (entry.getKey() != null) {
+            keyedTasks.put(entry.getKey(), entry);
+        }
+        return true;
+    }
+
+    private TaskEntry removeOldestKeyedTask() {
+        final Iterator<TaskEntry> iterator = tasks.iterator();
+        while (iterator.hasNext()) {
+            final TaskEntry entry = iterator.next();
+            if (entry.getKey() != null) {
+                iterator.remove();
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private TaskEntry poll() {
+        taskLock.lock();
+        try {
+            final TaskEntry entry = tasks.poll();
+            removeKey(entry);
+            return entry;
+        } finally {
+            taskLock.unlock();
+        }
+    }
+
+    private void removeKey(final TaskEntry entry) {
+        if (entry != null && entry.getKey() != null && keyedTasks.get(entry.getKey()) == entry) {
+            keyedTasks.remove(entry.getKey());
+        }
+    }
+
+    private boolean hasTasks() {
+        taskLock.lock();
+        try {
+            return !tasks.isEmpty();
+        } finally {
+            taskLock.unlock();
+        }
+    }
+
     public void interrupt() {
+        final Runnable listener;
         taskLock.lock();
         try {
             interrupted.set(true);
             LOG.trace("Tasks in Dolphin Platform context {} interrupted", dolphinSessionId);
             taskCondition.signal();
+            listener = removeWakeUpListener();
+        } finally {
+            taskLock.unlock();
+        }
+        wakeUp(listener);
+    }
+    /**
+     * Parks a long poll without blocking the current thread. The given listener will be called once as soon as a task
+     * is added or the queue is interrupted. If tasks or response commands are already available the poll is not parked.
+     * @param listener the listener that resumes the long poll
+     * @return true if the long poll was parked, false if it should be executed directly
+     */
+    public boolean park(final Runnable listener) {
+        Assert.requireNonNull(listener, "listener");
+        taskLock.lock();
+        try {
+            if (!tasks.isEmpty() || interrupted.get() || communicationManager.hasResponseCommands()) {
+                return false;
+            }
+            wakeUpListener = listener;
+            LOG.trace("Long poll in Dolphin Platform context {} parked", dolphinSessionId);
+            return true;
+        } finally {
+            taskLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the listener of a parked long poll (see {@link #park(Runnable)}) without calling it.
+     */
+    public void unpark() {
+        taskLock.lock();
+        try {
+            removeWakeUpListener();
         } finally {
             taskLock.unlock();
         }
     }
 
+    private Runnable removeWakeUpListener() {
+        final Runnable listener = wakeUpListener;
+        wakeUpListener = null;
+        return listener;
+    }
+
+    private void wakeUp(final Runnable listener) {
+        if (listener != null) {
+            LOG.trace("Resuming parked long poll in Dolphin Platform context {}", dolphinSessionId);
+            listener.run();
+        }
+    }
+
     public void executeTasks() {
+        executeTasks(true);
+    }
+
+    /**
+     * Executes the tasks of the queue in the current thread.
+     * @param waitForTasks if true the call blocks until a task is available, the queue is interrupted or the max
+     *                     execution time is reached. If false only the tasks that are already in the queue are executed.
+     */
+    public void executeTasks(final boolean waitForTasks) {
         final ClientSession currentSession = sessionProvider.getCurrentClientSession();
         if (currentSession == null || !dolphinSessionId.equals(currentSession.getId())) {
             throw new IllegalStateException("Not in Dolphin Platform session " + dolphinSessionId);
         }
 
-        LOG.trace("Running {} tasks in Dolphin Platform session {}", tasks.size(), dolphinSessionId);
+        LOG.trace("Running {} tasks in Dolphin Platform session {}", getQueueDepth(), dolphinSessionId);
         final long startTime = System.currentTimeMillis();
         final long endTime = startTime + maxExecutionTimeUnit.toMillis(maxExecutionTime);
 
@@ -124,8 +328,11 @@ public class DolphinContextTaskQueue {
                 interrupted.set(false);
                 break;
             }
-            final Runnable task = tasks.poll();
-            if (task == null) {
+            final TaskEntry task = poll();
+            if (task == null && !waitForTasks) {
+                interrupted.set(false);
+                break;
+            } else if (task == null) {
                 try {
                     taskLock.lock();
                     try {
@@ -136,7 +343,7 @@ public class DolphinContextTaskQueue {
                     } finally {
                         taskLock.unlock();
                     }
-                    if (tasks.isEmpty()) {
+                    if (!hasTasks()) {
                         break;
                     }
                 } catch (InterruptedException e) {
@@ -144,15 +351,136 @@ public class DolphinContextTaskQueue {
                     throw new IllegalStateException("Concurrency error in task executor for Dolphin Platform session " + dolphinSessionId);
                 }
             } else {
+                final long executionStartTime = System.nanoTime();
+                recordTime(executionStartTime - task.getEnqueueTime(), totalWaitTime, maxWaitTime);
                 try {
-                    task.run();
+                    task.getTask().run();
                     LOG.trace("Task executor executed task in Dolphin Platform session {}", dolphinSessionId);
                 } catch (Exception e) {
                     throw new DolphinTaskException("Error in running task in Dolphin Platform session " + dolphinSessionId, e);
+                } finally {
+                    executedTaskCount.incrementAndGet();
+                    recordTime(System.nanoTime() - executionStartTime, totalExecutionTime, maxExecutionTimeOfTask);
                 }
             }
         }
         final long runTime = System.currentTimeMillis() - startTime;
-        LOG.trace("Task executor for Dolphin Platform session {} ended after {} seconds with {} task still open", dolphinSessionId, maxExecutionTimeUnit.toSeconds(runTime), tasks.size());
+        LOG.trace("Task executor for Dolphin Platform session {} ended after {} seconds with {} task still open", dolphinSessionId, TimeUnit.MILLISECONDS.toSeconds(runTime), getQueueDepth());
+    }
+
+    private void recordTime(final long time, final AtomicLong total, final AtomicLong max) {
+        total.addAndGet(time);
+        long currentMax = max.get();
+        while (time > currentMax && !max.compareAndSet(currentMax, time)) {
+            currentMax = max.get();
+        }
+    }
+
+    public int getQueueDepth() {
+        taskLock.lock();
+        try {
+            return tasks.size();
+        } finally {
+            taskLock.unlock();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public TaskQueueOverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public long getExecutedTaskCount() {
+        return executedTaskCount.get();
+    }
+
+    public long getRejectedTaskCount() {
+        return rejectedTaskCount.get();
+    }
+
+    public long getDroppedTaskCount() {
+        return droppedTaskCount.get();
+    }
+
+    public long getCoalescedTaskCount() {
+        return coalescedTaskCount.get();
+    }
+
+    /**
+     * Returns the average time in milliseconds that an executed task waited in the queue.
+     * @return the average wait time
+     */
+    public double getAverageTaskWaitTime() {
+        return average(totalWaitTime.get());
+    }
+
+    public double getMaxTaskWaitTime() {
+        return toMillis(maxWaitTime.get());
+    }
+
+    /**
+     * Returns the average execution time of a task in milliseconds.
+     * @return the average execution time
+     */
+    public double getAverageTaskExecutionTime() {
+        return average(totalExecutionTime.get());
+    }
+
+    public double getMaxTaskExecutionTime() {
+        return toMillis(maxExecutionTimeOfTask.get());
+    }
+
+    private double average(final long totalTime) {
+        final long count = executedTaskCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        return toMillis(totalTime) / count;
+    }
+
+    private static double toMillis(final long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static class TaskEntry {
+
+        private final Object key;
+
+        private Runnable task;
+
+        private Future<?> future;
+
+        private final long enqueueTime;
+
+        private TaskEntry(final Object key, final Runnable task, final Future<?> future) {
+            this.key = key;
+            this.task = task;
+            this.future = future;
+            this.enqueueTime = System.nanoTime();
+        }
+
+        private void replace(final TaskEntry newEntry) {
+            this.task = newEntry.task;
+            this.future = newEntry.future;
+        }
+
+        public Object getKey() {
+            return key;
+        }
+
+        public Runnable getTask() {
+            return task;
+        }
+
+        public Future<?> getFuture() {
+            return future;
+        }
+
+        public long getEnqueueTime() {
+            return enqueueTime;
+        }
     }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.context;
+
+import com.canoo.dp.impl.platform.core.Assert;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of fixed size buffers that are used to read and write the commands of a request. By doing so the memory that
+ * is needed for an in-flight request is bounded by the buffer size and not by the size of the transferred payload.
+ * Buffers that are released while the pool is full are left to the garbage collector.
+ */
+final class IoBufferPool {
+
+    static final int DEFAULT_BUFFER_SIZE = 8 * 1024;
+
+    static final int DEFAULT_MAX_POOLED_BUFFERS = 64;
+
+    private static final IoBufferPool INSTANCE = new IoBufferPool(DEFAULT_BUFFER_SIZE, DEFAULT_MAX_POOLED_BUFFERS);
+
+    private final int bufferSize;
+
+    private final int maxPooledBuffers;
+
+    private final Queue<byte[]> byteBuffers = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger pooledByteBuffers = new AtomicInteger(0);
+
+    private final Queue<char[]> charBuffers = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger pooledCharBuffers = new AtomicInteger(0);
+
+    IoBufferPool(final int bufferSize, final int maxPooledBuffers) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be > 0");
+        }
+        if (maxPooledBuffers < 0) {
+            throw new IllegalArgumentException("maxPooledBuffers must be >= 0");
+        }
+        this.bufferSize = bufferSize;
+        this.maxPooledBuffers = maxPooledBuffers;
+    }
+
+    int getBufferSize() {
+        return bufferSize;
+    }
+
+    byte[] acquireByteBuffer() {
+        final byte[] buffer = byteBuffers.poll();
+        if (buffer == null) {
+            return new byte[bufferSize];
+        }
+        pooledByteBuffers.decrementAndGet();
+        return buffer;
+    }
+
+    void releaseByteBuffer(final byte[] buffer) {
+        Assert.requireNonNull(buffer, "buffer");
+        if (buffer.length == bufferSize && pooledByteBuffers.incrementAndGet() <= maxPooledBuffers) {
+            byteBuffers.offer(buffer);
+        } else {
+            pooledByteBuffers.decrementAndGet();
+        }
+    }
+
+    char[] acquireCharBuffer() {
+        final char[] buffer = charBuffers.poll();
+        if (buffer == null) {
+            return new char[bufferSize];
+        }
+        pooledCharBuffers.decrementAndGet();
+        return buffer;
+    }
+
+    void releaseCharBuffer(final char[] buffer) {
+        Assert.requireNonNull(buffer, "buffer");
+        if (buffer.length == bufferSize && pooledCharBuffers.incrementAndGet() <= maxPooledBuffers) {
+            charBuffers.offer(buffer);
+        } else {
+            pooledCharBuffers.decrementAndGet();
+        }
+    }
+
+    static IoBufferPool getInstance() {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.context;
+
+import com.canoo.dp.impl.platform.core.Assert;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Buffered {@link OutputStream} that uses a buffer of an {@link IoBufferPool}. The buffer is returned to the pool
+ * when the stream is closed. Closing the stream flushes but does not close the wrapped stream.
+ */
+final class PooledBufferedOutputStream extends OutputStream {
+
+    private final OutputStream outputStream;
+
+    private final IoBufferPool pool;
+
+    private byte[] buffer;
+
+    private int count = 0;
+
+    PooledBufferedOutputStream(final OutputStream outputStream, final IoBufferPool pool) {
+        this.outputStream = Assert.requireNonNull(outputStream, "outputStream");
+        this.pool = Assert.requireNonNull(pool, "pool");
+        this.buffer = pool.acquireByteBuffer();
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        ensureOpen();
+        if (count == buffer.length) {
+            drain();
+        }
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        ensureOpen();
+        if (len >= buffer.length) {
+            drain();
+            outputStream.write(b, off, len);
+            return;
+        }
+        if (len > buffer.length - count) {
+            drain();
+        }
+        System.arraycopy(b, off, buffer, count, len);
+        count += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        drain();
+        outputStream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+        try {
+            drain();
+            outputStream.flush();
+        } finally {
+            pool.releaseByteBuffer(buffer);
+            buffer = null;
+        }
+    }
+
+    private void drain() throws IOException {
+        if (count > 0) {
+            outputStream.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (buffer == null) {
+            throw new IOException("Stream already closed");
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.context;
+
+import com.canoo.dp.impl.platform.core.Assert;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * {@link Reader} that decodes the content of an {@link InputStream} directly into the buffer of the caller by using
+ * a byte buffer of an {@link IoBufferPool}. The buffer is returned to the pool when the reader is closed. Closing the
+ * reader does not close the wrapped stream.
+ */
+final class PooledInputStreamReader extends Reader {
+
+    private final InputStream inputStream;
+
+    private final IoBufferPool pool;
+
+    private final CharsetDecoder decoder;
+
+    private byte[] byteArray;
+
+    private ByteBuffer bytes;
+
+    private boolean endOfStream = false;
+
+    private boolean inputDecoded = false;
+
+    private boolean decoderFlushed = false;
+
+    PooledInputStreamReader(final InputStream inputStream, final Charset charset, final IoBufferPool pool) {
+        this.inputStream = Assert.requireNonNull(inputStream, "inputStream");
+        this.pool = Assert.requireNonNull(pool, "pool");
+        this.decoder = Assert.requireNonNull(charset, "charset").newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.byteArray = pool.acquireByteBuffer();
+        this.bytes = ByteBuffer.wrap(byteArray);
+        this.bytes.flip();
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len) throws IOException {
+        if (bytes == null) {
+            throw new IOException("Reader already closed");
+        }
+        if (len == 0) {
+            return 0;
+        }
+        final CharBuffer target = CharBuffer.wrap(cbuf, off, len);
+        while (true) {
+            if (!inputDecoded) {
+                final CoderResult result = decoder.decode(bytes, target, endOfStream);
+                if (result.isError()) {
+                    result.throwException();
+                }
+                inputDecoded = endOfStream && result.isUnderflow();
+            }
+            if (inputDecoded && !decoderFlushed) {
+                decoderFlushed = decoder.flush(target).isUnderflow();
+            }
+            if (target.position() > off) {
+                return target.position() - off;
+            }
+            if (decoderFlushed) {
+                return -1;
+            }
+            fillBytes();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (bytes == null) {
+            return;
+        }
+        pool.releaseByteBuffer(byteArray);
+        byteArray = null;
+        bytes = null;
+    }
+
+    private void fillBytes() throws IOException {
+        bytes.compact();
+        try {
+            final int read = inputStream.read(byteArray, bytes.position(), bytes.remaining());
+            if (read < 0) {
+                endOfStream = true;
+            } else {
+                bytes.position(bytes.position() + read);
+            }
+        } finally {
+            bytes.flip();
+        }
+    }
+}
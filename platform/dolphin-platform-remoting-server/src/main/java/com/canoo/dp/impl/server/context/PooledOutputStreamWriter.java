@@ -0,0 +1,163 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.context;
+
+import com.canoo.dp.impl.platform.core.Assert;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * {@link Writer} that encodes characters directly into an {@link OutputStream} by using buffers of an
+ * {@link IoBufferPool}. The buffers are returned to the pool when the writer is closed. Closing the writer
+ * flushes but does not close the wrapped stream.
+ */
+final class PooledOutputStreamWriter extends Writer {
+
+    private final OutputStream outputStream;
+
+    private final IoBufferPool pool;
+
+    private final CharsetEncoder encoder;
+
+    private char[] charArray;
+
+    private byte[] byteArray;
+
+    private CharBuffer chars;
+
+    private ByteBuffer bytes;
+
+    PooledOutputStreamWriter(final OutputStream outputStream, final Charset charset, final IoBufferPool pool) {
+        this.outputStream = Assert.requireNonNull(outputStream, "outputStream");
+        this.pool = Assert.requireNonNull(pool, "pool");
+        this.encoder = Assert.requireNonNull(charset, "charset").newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.charArray = pool.acquireCharBuffer();
+        this.byteArray = pool.acquireByteBuffer();
+        this.chars = CharBuffer.wrap(charArray);
+        this.bytes = ByteBuffer.wrap(byteArray);
+    }
+
+    @Override
+    public void write(final int c) throws IOException {
+        ensureOpen();
+        if (!chars.hasRemaining()) {
+            encode(false);
+        }
+        chars.put((char) c);
+    }
+
+    @Override
+    public void write(final char[] cbuf, final int off, final int len) throws IOException {
+        ensureOpen();
+        int offset = off;
+        int remaining = len;
+        while (remaining > 0) {
+            if (!chars.hasRemaining()) {
+                encode(false);
+            }
+            final int count = Math.min(remaining, chars.remaining());
+            chars.put(cbuf, offset, count);
+            offset += count;
+            remaining -= count;
+        }
+    }
+
+    @Override
+    public void write(final String str, final int off, final int len) throws IOException {
+        ensureOpen();
+        int offset = off;
+        int remaining = len;
+        while (remaining > 0) {
+            if (!chars.hasRemaining()) {
+                encode(false);
+            }
+            final int count = Math.min(remaining, chars.remaining());
+            final int position = chars.position();
+            str.getChars(offset, offset + count, charArray, position);
+            chars.position(position + count);
+            offset += count;
+            remaining -= count;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        encode(false);
+        drainBytes();
+        outputStream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (chars == null) {
+            return;
+        }
+        try {
+            encode(true);
+            CoderResult result = encoder.flush(bytes);
+            while (result.isOverflow()) {
+                drainBytes();
+                result = encoder.flush(bytes);
+            }
+            drainBytes();
+            outputStream.flush();
+        } finally {
+            pool.releaseCharBuffer(charArray);
+            pool.releaseByteBuffer(byteArray);
+            charArray = null;
+            byteArray = null;
+            chars = null;
+            bytes = null;
+        }
+    }
+
+    private void encode(final boolean endOfInput) throws IOException {
+        chars.flip();
+        CoderResult result = encoder.encode(chars, bytes, endOfInput);
+        while (result.isOverflow()) {
+            drainBytes();
+            result = encoder.encode(chars, bytes, endOfInput);
+        }
+        if (result.isError()) {
+            result.throwException();
+        }
+        chars.compact();
+    }
+
+    private void drainBytes() throws IOException {
+        if (bytes.position() > 0) {
+            outputStream.write(byteArray, 0, bytes.position());
+            bytes.clear();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (chars == null) {
+            throw new IOException("Writer already closed");
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.context;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.legacy.communication.Codec;
+import com.canoo.dp.impl.remoting.legacy.communication.Command;
+import com.canoo.dp.impl.remoting.push.ServerSentEvent;
+import com.canoo.dp.impl.remoting.push.ServerSentEventWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.canoo.dp.impl.remoting.push.PushConstants.RESPONSE_EVENT;
+
+/**
+ * A server push channel of a {@link DolphinContext}. All commands that are sent to the client while the channel is
+ * open must be written while the lock of the channel is held. By doing so the commands of the push events and the
+ * responses of client requests reach the client in the order in which they were created.
+ */
+public class PushChannel {
+
+    private final Lock lock = new ReentrantLock();
+
+    private final ServerSentEventWriter eventWriter;
+
+    private final Codec codec;
+
+    private final AtomicReference<Runnable> wakeUp = new AtomicReference<>();
+
+    private volatile boolean open = true;
+
+    public PushChannel(final Writer writer, final Codec codec) {
+        this.eventWriter = new ServerSentEventWriter(Assert.requireNonNull(writer, "writer"));
+        this.codec = Assert.requireNonNull(codec, "codec");
+    }
+
+    public void lock() {
+        lock.lock();
+    }
+
+    public void unlock() {
+        lock.unlock();
+    }
+
+    public boolean isOpen() {
+        return open;
+    }
+
+    public void sendEvent(final String name) throws IOException {
+        eventWriter.writeEvent(new ServerSentEvent(name, ""));
+    }
+
+    public void sendCommands(final String name, final List<Command> commands) throws IOException {
+        Assert.requireNonNull(commands, "commands");
+        eventWriter.writeEvent(new ServerSentEvent(name, codec.encode(commands)));
+    }
+
+    /**
+     * Sends the response commands of a client request. The client assigns the response to its request by the id.
+     * @param responseId the id of the response that was defined by the request
+     * @param commands the response commands
+     * @throws IOException if the event can not be written
+     */
+    public void sendResponse(final String responseId, final List<Command> commands) throws IOException {
+        Assert.requireNonBlank(responseId, "responseId");
+        Assert.requireNonNull(commands, "commands");
+        eventWriter.writeEvent(new ServerSentEvent(RESPONSE_EVENT, codec.encode(commands), responseId));
+    }
+
+    public void sendHeartbeat() throws IOException {
+        eventWriter.writeHeartbeat();
+    }
+
+    /**
+     * Defines the action that resumes the parked request of the channel. The action is called once if the channel
+     * is closed.
+     * @param wakeUp the action
+     */
+    public void setWakeUp(final Runnable wakeUp) {
+        this.wakeUp.set(wakeUp);
+    }
+
+    public void close() {
+        open = false;
+        final Runnable currentWakeUp = wakeUp.getAndSet(null);
+        if (currentWakeUp != null) {
+            currentWakeUp.run();
+        }
+    }
+}
@@ -18,13 +18,17 @@ package com.canoo.dp.impl.server.context;
 import com.canoo.platform.remoting.BeanManager;
 import com.canoo.dp.impl.platform.core.Assert;
 import com.canoo.dp.impl.server.binding.PropertyBinderImpl;
+import com.canoo.dp.impl.server.binding.VirtualListBinderImpl;
 import com.canoo.platform.remoting.server.ClientSessionExecutor;
 import com.canoo.platform.remoting.server.RemotingContext;
 import com.canoo.platform.remoting.server.binding.PropertyBinder;
+import com.canoo.platform.remoting.server.binding.VirtualListBinder;
 import com.canoo.platform.server.client.ClientSession;
 import com.canoo.platform.remoting.server.event.DolphinEventBus;
 
+import java.util.concurrent.Callable;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 public class RemotingContextImpl implements RemotingContext {
 
@@ -34,6 +38,8 @@ public class RemotingContextImpl implements RemotingContext {
 
     private final PropertyBinder propertyBinder = new PropertyBinderImpl();
 
+    private final VirtualListBinder virtualListBinder = new VirtualListBinderImpl();
+
     private final ClientSessionExecutor clientSessionExecutor;
 
     public RemotingContextImpl(final DolphinContext dolphinContext, DolphinEventBus eventBus) {
@@ -44,6 +50,11 @@ public class RemotingContextImpl implements RemotingContext {
             public void execute(Runnable command) {
                 dolphinContext.runLater(command);
             }
+        }, new KeyedExecutor() {
+            @Override
+            public <T> Future<T> execute(Object key, Callable<T> task) {
+                return dolphinContext.callLater(key, task);
+            }
         });
     }
 
@@ -62,6 +73,11 @@ public class RemotingContextImpl implements RemotingContext {
         return propertyBinder;
     }
 
+    @Override
+    public VirtualListBinder getVirtualListBinder() {
+        return virtualListBinder;
+    }
+
     @Override
     public BeanManager getBeanManager() {
         return dolphinContext.getBeanManager();
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.context;
+
+import com.canoo.dp.impl.remoting.legacy.communication.Command;
+
+/**
+ * Server internal replacement of a {@link com.canoo.dp.impl.remoting.legacy.commands.StartLongPollCommand} that
+ * was parked before. Since the client already waited for the poll the available tasks are executed without waiting
+ * for new tasks. This command is never sent over the wire.
+ */
+final class ResumedLongPollCommand extends Command {
+
+    ResumedLongPollCommand() {
+        super("ResumedLongPoll");
+    }
+}
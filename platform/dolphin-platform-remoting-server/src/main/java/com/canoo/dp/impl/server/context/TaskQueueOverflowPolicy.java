@@ -0,0 +1,40 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.context;
+
+/**
+ * Defines how a {@link DolphinContextTaskQueue} handles a new task if the queue has reached its capacity.
+ */
+public enum TaskQueueOverflowPolicy {
+
+    /**
+     * The new task is rejected. The future of the task fails with a {@link DolphinTaskException}.
+     */
+    REJECT,
+
+    /**
+     * The oldest pending task is removed from the queue and cancelled to make room for the new task.
+     */
+    DROP_OLDEST,
+
+    /**
+     * The oldest pending task that was added with a key (see {@link DolphinContextTaskQueue#addTask(Object, java.util.concurrent.Callable)})
+     * is removed from the queue and cancelled. Keyed tasks describe the latest state of a value and are replaced by
+     * newer tasks with the same key anyway, while tasks without a key (like events) are never dropped. If no keyed
+     * task is pending the new task is rejected.
+     */
+    COALESCE
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.controller;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.platform.core.ReflectionHelper;
+import com.canoo.dp.impl.remoting.Converters;
+import com.canoo.platform.remoting.server.DolphinAction;
+import com.canoo.platform.remoting.server.Param;
+import com.canoo.platform.remoting.spi.converter.ValueConverterException;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dispatch table for all actions of a controller class. The table is created only once per controller class and
+ * shared by all contexts. For each action the parameter names and types are extracted when the table is created and
+ * the method is wrapped by a {@link MethodHandle}. By doing so invoking an action is a map lookup followed by the
+ * conversion of the params and a direct invocation of the handle.
+ */
+final class ControllerActionTable {
+
+    private static final ClassValue<ControllerActionTable> TABLES = new ClassValue<ControllerActionTable>() {
+        @Override
+        protected ControllerActionTable computeValue(final Class<?> type) {
+            return new ControllerActionTable(type);
+        }
+    };
+
+    private final Class<?> controllerClass;
+
+    private final Map<String, ControllerAction> actions;
+
+    private final Set<String> ambiguousActionNames;
+
+    private ControllerActionTable(final Class<?> controllerClass) {
+        this.controllerClass = Assert.requireNonNull(controllerClass, "controllerClass");
+        final Map<String, ControllerAction> foundActions = new HashMap<>();
+        final Set<String> foundAmbiguousActionNames = new HashSet<>();
+        for (final Method method : ReflectionHelper.getInheritedDeclaredMethods(controllerClass)) {
+            final DolphinAction actionAnnotation = method.getAnnotation(DolphinAction.class);
+            if (actionAnnotation != null) {
+                final String actionName = getActionName(method, actionAnnotation);
+                if (foundActions.containsKey(actionName)) {
+                    foundAmbiguousActionNames.add(actionName);
+                } else {
+                    foundActions.put(actionName, new ControllerAction(actionName, method));
+                }
+            }
+        }
+        this.actions = Collections.unmodifiableMap(foundActions);
+        this.ambiguousActionNames = Collections.unmodifiableSet(foundAmbiguousActionNames);
+    }
+
+    /**
+     * Returns the dispatch table for the given controller class
+     *
+     * @param controllerClass the controller class
+     * @return the dispatch table
+     */
+    static ControllerActionTable of(final Class<?> controllerClass) {
+        Assert.requireNonNull(controllerClass, "controllerClass");
+        return TABLES.get(controllerClass);
+    }
+
+    /**
+     * Returns the action with the given name or {@code null} if the controller class does not define such an action
+     *
+     * @param actionName the name of the action
+     * @return the action or {@code null}
+     */
+    ControllerAction getAction(final String actionName) {
+        Assert.requireNonNull(actionName, "actionName");
+        if (ambiguousActionNames.contains(actionName)) {
+            throw new RuntimeException("More than one method for action " + actionName + " found in " + controllerClass);
+        }
+        return actions.get(actionName);
+    }
+
+    private static String getActionName(final Method method, final DolphinAction actionAnnotation) {
+        if (actionAnnotation.value() != null && !actionAnnotation.value().trim().isEmpty()) {
+            return actionAnnotation.value();
+        }
+        return method.getName();
+    }
+
+    /**
+     * A single action of a controller class
+     */
+    static final class ControllerAction {
+
+        private final String name;
+
+        private final Method method;
+
+        private final String[] paramNames;
+
+        private final Class<?>[] paramTypes;
+
+        private final MethodHandle handle;
+
+        private ControllerAction(final String name, final Method method) {
+            this.name = Assert.requireNonBlank(name, "name");
+            this.method = Assert.requireNonNull(method, "method");
+            this.paramTypes = method.getParameterTypes();
+            this.paramNames = new String[paramTypes.length];
+            final Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+            for (int i = 0; i < paramTypes.length; i++) {
+                paramNames[i] = getParamName(i, parameterAnnotations[i]);
+            }
+            this.handle = createHandle(method);
+        }
+
+        String getName() {
+            return name;
+        }
+
+        Method getMethod() {
+            return method;
+        }
+
+        String getParamName(final int index) {
+            return paramNames[index];
+        }
+
+        Class<?> getParamType(final int index) {
+            return paramTypes[index];
+        }
+
+        int getParamCount() {
+            return paramTypes.length;
+        }
+
+        /**
+         * Converts the given params to the arguments of the action method
+         *
+         * @param params the params of the action call
+         * @param converters the converters of the context
+         * @return the arguments
+         * @throws ValueConverterException if a param can not be converted
+         */
+        Object[] bindArguments(final Map<String, Object> params, final Converters converters) throws ValueConverterException {
+            Assert.requireNonNull(params, "params");
+            Assert.requireNonNull(converters, "converters");
+            final Object[] args = new Object[paramTypes.length];
+            for (int i = 0; i < paramTypes.length; i++) {
+                final String paramName = paramNames[i];
+                final Object value = params.get(paramName);
+                if (value != null) {
+                    args[i] = converters.getConverter(paramTypes[i]).convertFromDolphin(value);
+                } else {
+                    if (!params.containsKey(paramName)) {
+                        throw new IllegalArgumentException("No value for param " + paramName + " specified!");
+                    }
+                    if (paramTypes[i].isPrimitive()) {
+                        throw new IllegalArgumentException("Can not use 'null' for primitive type of parameter '" + paramName + "'");
+                    }
+                }
+            }
+            return args;
+        }
+
+        /**
+         * Invokes the action method on the given controller
+         *
+         * @param controller the controller
+         * @param args the arguments as created by {@link #bindArguments(Map, Converters)}
+         * @throws Exception if the action method throws an exception
+         */
+        void invoke(final Object controller, final Object[] args) throws Exception {
+            Assert.requireNonNull(controller, "controller");
+            Assert.requireNonNull(args, "args");
+            try {
+                handle.invokeExact(controller, args);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Cannot invoke action '" + name + "' on instance of type '" + controller.getClass() + "'", t);
+            }
+        }
+
+        private static String getParamName(final int index, final Annotation[] annotations) {
+            for (final Annotation annotation : annotations) {
+                if (annotation.annotationType().equals(Param.class)) {
+                    final Param param = (Param) annotation;
+                    if (param.value() != null && !param.value().isEmpty()) {
+                        return param.value();
+                    }
+                }
+            }
+            return Integer.toString(index);
+        }
+
+        /**
+         * Creates a handle of the type {@code (Object, Object[])void}. Arguments will be unboxed and widened like
+         * it is done by {@link Method#invoke(Object, Object...)}.
+         */
+        private static MethodHandle createHandle(final Method method) {
+            makeAccessible(method);
+            try {
+                final int paramCount = method.getParameterTypes().length;
+                MethodHandle handle = MethodHandles.lookup().unreflect(method);
+                if (Modifier.isStatic(method.getModifiers())) {
+                    handle = MethodHandles.dropArguments(handle, 0, Object.class);
+                }
+                return handle.asType(MethodType.genericMethodType(paramCount + 1).changeReturnType(void.class))
+                        .asSpreader(Object[].class, paramCount);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot access action method " + method, e);
+            }
+        }
+
+        //Current JDKs deprecate doPrivileged for removal. It is kept so non public actions work under a security manager.
+        @SuppressWarnings({"deprecation", "removal"})
+        private static void makeAccessible(final Method method) {
+            AccessController.doPrivileged(new PrivilegedAction<Void>() {
+                @Override
+                public Void run() {
+                    method.setAccessible(true);
+                    return null;
+                }
+            });
+        }
+    }
+}
@@ -15,7 +15,6 @@
  */
 package com.canoo.dp.impl.server.controller;
 
-import com.canoo.platform.remoting.spi.converter.ValueConverterException;
 import com.canoo.dp.impl.remoting.Converters;
 import com.canoo.dp.impl.remoting.BeanRepository;
 import com.canoo.dp.impl.platform.core.Assert;
@@ -26,16 +25,13 @@ import com.canoo.dp.impl.server.mbean.DolphinContextMBeanRegistry;
 import com.canoo.dp.impl.server.mbean.beans.ModelProvider;
 import com.canoo.dp.impl.server.model.ServerBeanBuilder;
 import com.canoo.platform.core.functional.Subscription;
-import com.canoo.platform.remoting.server.DolphinAction;
 import com.canoo.platform.remoting.server.DolphinModel;
-import com.canoo.platform.remoting.server.Param;
 import com.canoo.platform.remoting.server.ParentController;
 import com.canoo.platform.remoting.server.PostChildCreated;
 import com.canoo.platform.remoting.server.PreChildDestroyed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -269,24 +265,23 @@ public class ControllerHandler {
             if(controllerClass == null) {
                 throw new InvokeActionException("No controllerClass for id " + controllerId + " found");
             }
-            final Method actionMethod = getActionMethod(controllerClass, actionName);
-            if(actionMethod == null) {
+            final ControllerActionTable.ControllerAction action = ControllerActionTable.of(controllerClass).getAction(actionName);
+            if(action == null) {
                 throw new InvokeActionException("No actionMethod with name " + actionName + " in controller class " + controllerClass.getName() + " found");
             }
-            final List<Object> args = getArgs(actionMethod, params);
-            LOG.debug("Will call {} action for controller {} ({}.{}) with {} params.", actionName, controllerId, controllerClass, actionMethod.getName(), args.size());
+            final Object[] args = action.bindArguments(params, converters);
+            LOG.debug("Will call {} action for controller {} ({}.{}) with {} params.", actionName, controllerId, controllerClass, action.getMethod().getName(), args.length);
             if(LOG.isTraceEnabled()) {
-                int index = 1;
-                for(Object param : args) {
+                for(int i = 0; i < args.length; i++) {
+                    final Object param = args[i];
                     if(param != null) {
-                        LOG.trace("Action param {}: {} with type {} is called with value \"{}\" and type {}", index, actionMethod.getParameters()[index - 1].getName(), actionMethod.getParameters()[index - 1].getType().getSimpleName(), param, param.getClass());
+                        LOG.trace("Action param {}: {} with type {} is called with value \"{}\" and type {}", i + 1, action.getParamName(i), action.getParamType(i).getSimpleName(), param, param.getClass());
                     } else {
-                        LOG.trace("Action param {}: {} with type {} is called with value null", index, actionMethod.getParameters()[index - 1].getName(), actionMethod.getParameters()[index - 1].getType().getSimpleName());
+                        LOG.trace("Action param {}: {} with type {} is called with value null", i + 1, action.getParamName(i), action.getParamType(i).getSimpleName());
                     }
-                    index++;
                 }
             }
-            ReflectionHelper.invokePrivileged(actionMethod, controller, args.toArray());
+            action.invoke(controller, args);
         } catch (InvokeActionException e) {
           throw e;
         } catch (Exception e) {
@@ -294,69 +289,10 @@ public class ControllerHandler {
         }
     }
 
-    private List<Object> getArgs(final Method method, final Map<String, Object> params) throws ValueConverterException {
-        Assert.requireNonNull(method, "method");
-        Assert.requireNonNull(params, "params");
-
-        final int n = method.getParameterTypes().length;
-        final List<Object> args = new ArrayList<>(n);
-
-        for (int i = 0; i < n; i++) {
-            String paramName = Integer.toString(i);
-            for (Annotation annotation : method.getParameterAnnotations()[i]) {
-                if (annotation.annotationType().equals(Param.class)) {
-                    final Param param = (Param) annotation;
-                    if (param.value() != null && !param.value().isEmpty()) {
-                        paramName = param.value();
-                    }
-                }
-            }
-            if(!params.containsKey(paramName)) {
-                throw new IllegalArgumentException("No value for param " + paramName + " specified!");
-            }
-            Object value = params.get(paramName);
-            Class<?> type = method.getParameters()[i].getType();
-            if(value != null) {
-                LOG.trace("Param check of value {} with type {} for param with type {}", value, value.getClass(), type);
-                args.add(converters.getConverter(type).convertFromDolphin(value));
-            } else {
-                if(type.isPrimitive()) {
-                    throw new IllegalArgumentException("Can not use 'null' for primitive type of parameter '" + paramName + "'");
-                }
-                args.add(null);
-            }
-        }
-        return args;
-    }
-
     public Set<String> getAllControllerIds() {
         return Collections.unmodifiableSet(controllers.keySet());
     }
 
-    private <T> Method getActionMethod(Class<T> controllerClass, String actionName) {
-        Assert.requireNonNull(controllerClass, "controllerClass");
-        Assert.requireNonNull(actionName, "actionName");
-
-        List<Method> allMethods = ReflectionHelper.getInheritedDeclaredMethods(controllerClass);
-        Method foundMethod = null;
-        for (Method method : allMethods) {
-            if (method.isAnnotationPresent(DolphinAction.class)) {
-                DolphinAction actionAnnotation = method.getAnnotation(DolphinAction.class);
-                String currentActionName = method.getName();
-                if (actionAnnotation.value() != null && !actionAnnotation.value().trim().isEmpty()) {
-                    currentActionName = actionAnnotation.value();
-                }
-                if (currentActionName.equals(actionName)) {
-                    if (foundMethod != null) {
-                        throw new RuntimeException("More than one method for action " + actionName + " found in " + controllerClass);
-                    }
-                    foundMethod = method;
-                }
-            }
-        }
-        return foundMethod;
-    }
-
     @SuppressWarnings("unchecked")
     public <T> List<? extends T> getAllControllersThatImplement(Class<T> cls) {
         final List<T> ret = new ArrayList<>();
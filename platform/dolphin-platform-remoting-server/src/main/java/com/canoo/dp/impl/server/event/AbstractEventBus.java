@@ -30,23 +30,30 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Base class of the event bus. Listeners are stored by topic and Dolphin Platform session. For each session the
+ * listeners of a topic are stored in an array that is replaced whenever a listener is added or removed. By doing so
+ * publishing an event only needs one lookup for the listeners of the current session and one task per session
+ * (see {@link DolphinContext#runLater(Runnable)}) that calls all listeners of the session. As for the listeners of
+ * the publishing session an exception of a listener is not caught: the listeners of the session that follow the
+ * failing listener will not be called.
+ */
 public abstract class AbstractEventBus implements DolphinEventBus {
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractEventBus.class);
 
-    private DolphinContextProvider contextProvider;
+    private static final MessageListener<?>[] NO_LISTENERS = new MessageListener<?>[0];
 
-    private final Map<Topic<?>, List<MessageListener<?>>> topicToListenerMap = new ConcurrentHashMap<>();
+    private DolphinContextProvider contextProvider;
 
-    private final Map<MessageListener<?>, String> listenerToSessionMap = new ConcurrentHashMap<>();
+    private final Map<Topic<?>, Map<String, MessageListener<?>[]>> topicToListenerMap = new ConcurrentHashMap<>();
 
     private final Map<String, List<Subscription>> sessionStore = new ConcurrentHashMap<>();
 
@@ -86,22 +93,12 @@ public abstract class AbstractEventBus implements DolphinEventBus {
         }
         final String subscriptionSessionId = subscriptionContext.getId();
         LOG.trace("Adding subscription for topic {} in Dolphin Platform context {}", topic.getName(), subscriptionSessionId);
-        List<MessageListener<?>> listeners = topicToListenerMap.get(topic);
-        if (listeners == null) {
-            listeners = new CopyOnWriteArrayList<>();
-            topicToListenerMap.put(topic, listeners);
-        }
-        listeners.add(listener);
-        listenerToSessionMap.put(listener, subscriptionSessionId);
+        addListener(topic, subscriptionSessionId, listener);
         final Subscription subscription = new Subscription() {
             @Override
             public void unsubscribe() {
                 LOG.trace("Removing subscription for topic {} in Dolphin Platform context {}", topic.getName(), subscriptionSessionId);
-                final List<MessageListener<?>> listeners = topicToListenerMap.get(topic);
-                if (listeners != null) {
-                    listeners.remove(listener);
-                }
-                listenerToSessionMap.remove(listener);
+                removeListener(topic, subscriptionSessionId, listener);
                 removeSubscriptionForSession(this, subscriptionSessionId);
             }
         };
@@ -114,32 +111,36 @@ public abstract class AbstractEventBus implements DolphinEventBus {
 
         final Topic<T> topic = event.getTopic();
         LOG.trace("Handling data for topic {}", topic.getName());
-        final List<MessageListener<?>> listeners = topicToListenerMap.get(topic);
-        if (listeners != null) {
-            for (final MessageListener<?> listener : listeners) {
-                final String sessionId = listenerToSessionMap.get(listener);
-                if (sessionId == null) {
-                    throw new RuntimeException("Internal Error! No session id defined for event bus listener!");
-                }
-                if (sessionId.equals(event.getSenderSessionId())) {
-                    // This listener was already called at the publish call
-                    // since the event was called from the same session
-                    LOG.trace("Event listener for topic {} was already called in Dolphin Platform context {}", topic.getName(), sessionId);
-                } else {
-                    LOG.trace("Event listener for topic {} must be called later in Dolphin Platform context {}", topic.getName(), sessionId);
-                    contextProvider.getContextById(sessionId).runLater(new Runnable() {
-
-                        @Override
-                        public void run() {
-                            LOG.trace("Calling event listener for topic {} in Dolphin Platform context {}", topic.getName(), sessionId);
-                            final EventSessionFilter sessionFilter = event.getSessionFilter();
-                            if(sessionFilter == null || sessionFilter.shouldHandleEvent(sessionId)) {
-                                ((MessageListener<T>) listener).onMessage(event.getMessage());
-                            }
-                        }
-                    });
-                }
+        final Map<String, MessageListener<?>[]> sessionToListeners = topicToListenerMap.get(topic);
+        if (sessionToListeners == null) {
+            return;
+        }
+        for (final Map.Entry<String, MessageListener<?>[]> entry : sessionToListeners.entrySet()) {
+            final String sessionId = entry.getKey();
+            final MessageListener<?>[] listeners = entry.getValue();
+            if (sessionId.equals(event.getSenderSessionId())) {
+                // The listeners were already called at the publish call
+                // since the event was called from the same session
+                LOG.trace("Event listeners for topic {} were already called in Dolphin Platform context {}", topic.getName(), sessionId);
+                continue;
+            }
+            final DolphinContext context = contextProvider.getContextById(sessionId);
+            if (context == null) {
+                LOG.trace("Dolphin Platform context {} is not available, event for topic {} will be ignored", sessionId, topic.getName());
+                continue;
             }
+            LOG.trace("{} event listeners for topic {} must be called later in Dolphin Platform context {}", listeners.length, topic.getName(), sessionId);
+            context.runLater(new Runnable() {
+
+                @Override
+                public void run() {
+                    LOG.trace("Calling event listeners for topic {} in Dolphin Platform context {}", topic.getName(), sessionId);
+                    final EventSessionFilter sessionFilter = event.getSessionFilter();
+                    if (sessionFilter == null || sessionFilter.shouldHandleEvent(sessionId)) {
+                        callListeners(listeners, event);
+                    }
+                }
+            });
         }
     }
 
@@ -151,35 +152,76 @@ public abstract class AbstractEventBus implements DolphinEventBus {
         }
     }
 
-    private <T extends Serializable> List<MessageListener<T>> getListenersForSessionAndTopic(final String sessionId, final Topic<T> topic) {
+    private MessageListener<?>[] getListenersForSessionAndTopic(final String sessionId, final Topic<?> topic) {
         Assert.requireNonBlank(sessionId, "sessionId");
         Assert.requireNonNull(topic, "topic");
 
-        final List<MessageListener<?>> handlers = topicToListenerMap.get(topic);
-        if (handlers == null) {
-            return Collections.emptyList();
+        final Map<String, MessageListener<?>[]> sessionToListeners = topicToListenerMap.get(topic);
+        if (sessionToListeners == null) {
+            return NO_LISTENERS;
+        }
+        final MessageListener<?>[] listeners = sessionToListeners.get(sessionId);
+        return listeners != null ? listeners : NO_LISTENERS;
+    }
+
+    private synchronized void addListener(final Topic<?> topic, final String sessionId, final MessageListener<?> listener) {
+        Map<String, MessageListener<?>[]> sessionToListeners = topicToListenerMap.get(topic);
+        if (sessionToListeners == null) {
+            sessionToListeners = new ConcurrentHashMap<>();
+            topicToListenerMap.put(topic, sessionToListeners);
+        }
+        final MessageListener<?>[] listeners = sessionToListeners.get(sessionId);
+        if (listeners == null) {
+            sessionToListeners.put(sessionId, new MessageListener<?>[]{listener});
+        } else {
+            final MessageListener<?>[] newListeners = Arrays.copyOf(listeners, listeners.length + 1);
+            newListeners[listeners.length] = listener;
+            sessionToListeners.put(sessionId, newListeners);
         }
+    }
 
-        final List<MessageListener<T>> ret = new ArrayList<>();
-        for (MessageListener<?> listener : handlers) {
-            if (sessionId.equals(listenerToSessionMap.get(listener))) {
-                ret.add((MessageListener<T>) listener);
+    private synchronized void removeListener(final Topic<?> topic, final String sessionId, final MessageListener<?> listener) {
+        final Map<String, MessageListener<?>[]> sessionToListeners = topicToListenerMap.get(topic);
+        if (sessionToListeners == null) {
+            return;
+        }
+        final MessageListener<?>[] listeners = sessionToListeners.get(sessionId);
+        if (listeners == null) {
+            return;
+        }
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i].equals(listener)) {
+                if (listeners.length == 1) {
+                    sessionToListeners.remove(sessionId);
+                    if (sessionToListeners.isEmpty()) {
+                        topicToListenerMap.remove(topic);
+                    }
+                } else {
+                    final MessageListener<?>[] newListeners = new MessageListener<?>[listeners.length - 1];
+                    System.arraycopy(listeners, 0, newListeners, 0, i);
+                    System.arraycopy(listeners, i + 1, newListeners, i, listeners.length - i - 1);
+                    sessionToListeners.put(sessionId, newListeners);
+                }
+                return;
             }
         }
-        return ret;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Serializable> void callListeners(final MessageListener<?>[] listeners, final DolphinEvent<T> event) {
+        for (final MessageListener<?> listener : listeners) {
+            ((MessageListener<T>) listener).onMessage(event.getMessage());
+        }
     }
 
     private <T extends Serializable> void publishData(final Topic<T> topic, final T data, final EventSessionFilter filter) {
         final DolphinContext currentContext = getCurrentContext();
-        final DolphinEvent event = new DolphinEvent(currentContext != null ? currentContext.getId() : null, new DefaultMessage(topic, data, System.currentTimeMillis()), filter);
+        final DolphinEvent<T> event = new DolphinEvent<>(currentContext != null ? currentContext.getId() : null, new DefaultMessage<>(topic, data, System.currentTimeMillis()), filter);
 
         //Handle listener in same session
         if (currentContext != null) {
             if (filter == null || filter.shouldHandleEvent(currentContext.getId())) {
-                final List<MessageListener<T>> listenersInCurrentSession = getListenersForSessionAndTopic(currentContext.getId(), topic);
-                for (MessageListener<T> listener : listenersInCurrentSession) {
-                    listener.onMessage(event.getMessage());
-                }
+                callListeners(getListenersForSessionAndTopic(currentContext.getId(), topic), event);
             }
         }
 
@@ -204,7 +246,7 @@ public abstract class AbstractEventBus implements DolphinEventBus {
 
     private void onSessionEnds(final String dolphinSessionId) {
         Assert.requireNonBlank(dolphinSessionId, "dolphinSessionId");
-        final List<Subscription> subscriptions = sessionStore.get(dolphinSessionId);
+        final List<Subscription> subscriptions = sessionStore.remove(dolphinSessionId);
         if (subscriptions != null) {
             for (Subscription subscription : subscriptions) {
                 subscription.unsubscribe();
@@ -21,30 +21,54 @@ import com.canoo.platform.remoting.DolphinBean;
 import com.canoo.platform.remoting.Property;
 import com.canoo.dp.impl.platform.core.Assert;
 import com.canoo.dp.impl.platform.core.IdentitySet;
-import com.canoo.dp.impl.platform.core.ReflectionHelper;
+import com.canoo.dp.impl.remoting.info.BeanMetadata;
+import com.canoo.dp.impl.remoting.info.FieldMetadata;
 import com.canoo.dp.impl.server.config.RemotingConfiguration;
 import com.canoo.platform.remoting.BeanManager;
 import com.canoo.platform.remoting.server.DolphinModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The garbage collection for Dolphin Platform models. Whenever a new Dolphin bean {@link DolphinBean}
  * has been created or the hierarchy in a Dolphin model changes the GC will check if the mutated models are still
  * referenced by a root model. In this case a root model is a model as it's defined as a model for a MVC group in
  * Dolphin Platform (see {@link DolphinModel}).
+ *
+ * Mutations only update the direct references between beans: a bean that loses its last reference is stored as a
+ * candidate. All reachability checks are deferred to {@link #gc()} that starts at the candidates, walks the parent
+ * references iteratively and memoizes the result for each visited bean. By doing so each bean is checked at most
+ * once per run and deep hierarchies can not overflow the stack.
+ *
+ * Changes of properties and lists are called from the setters of the beans. A change that only removes a reference
+ * is not synchronized: it is appended to a change log that is applied to the internal reference graph whenever the
+ * graph is accessed (bean creation and removal, {@link #gc()}). A change that adds a reference applies the log and
+ * the new reference under the lock of the GC, since it must throw a {@link CircularDependencyException} in the
+ * setter if the reference would define a cycle in the model.
+ *
+ * Next to a full collection by {@link #gc()} the GC can be triggered by {@link #gcIfRequired()}. In that case the
+ * GC only runs if the configured number of candidates is reached and the last run is older than the configured
+ * interval. A triggered run can be limited in time: if the time is over the remaining candidates will be checked by
+ * the next triggered run.
  */
 public class GarbageCollector {
 
     private static final Logger LOG = LoggerFactory.getLogger(GarbageCollector.class);
 
-    private final IdentityHashMap<Instance, Object> removeOnGC = new IdentityHashMap<>();
+    private final Queue<Change> changeLog = new ConcurrentLinkedQueue<>();
+
+    private final IdentitySet<Instance> candidates = new IdentitySet<>();
 
     private final IdentityHashMap<Object, Instance> allInstances = new IdentityHashMap<>();
 
@@ -52,15 +76,23 @@ public class GarbageCollector {
 
     private final IdentityHashMap<ObservableList, Instance> listToParent = new IdentityHashMap<>();
 
-    private final IdentityHashMap<Class, List<Field>> propertyFieldCache = new IdentityHashMap<>();
+    private final GarbageCollectionCallback onRemoveCallback;
+
+    private volatile long gcCalls = 0;
 
-    private final IdentityHashMap<Class, List<Field>> listFieldCache = new IdentityHashMap<>();
+    private volatile long removedBeansCount = 0;
 
-    private final GarbageCollectionCallback onRemoveCallback;
+    private long lastRunEnd = 0;
+
+    private boolean sweepPending = false;
+
+    private volatile long totalPauseTime = 0;
+
+    private volatile long maxPauseTime = 0;
 
-    private long gcCalls = 0;
+    private volatile int lastRemovedBeansCount = 0;
 
-    private long removedBeansCount = 0;
+    private volatile int maxRemovedBeansPerRun = 0;
 
     private final RemotingConfiguration configuration;
 
@@ -86,12 +118,13 @@ public class GarbageCollector {
             return;
         }
         Assert.requireNonNull(bean, "bean");
+        applyChanges();
         if (allInstances.containsKey(bean)) {
             throw new IllegalArgumentException("Bean instance is already managed!");
         }
 
-        IdentitySet<Property> properties = getAllProperties(bean);
-        IdentitySet<ObservableList> lists = getAllLists(bean);
+        IdentitySet<Property> properties = getBeanReferenceProperties(bean);
+        IdentitySet<ObservableList> lists = getBeanReferenceLists(bean);
         Instance instance = new Instance(bean, rootBean, properties, lists);
         allInstances.put(bean, instance);
         for (Property property : properties) {
@@ -103,7 +136,7 @@ public class GarbageCollector {
 
         if (!rootBean) {
             //Until the bean isn't referenced in another bean it will be removed at gc
-            addToGC(instance, bean);
+            addCandidate(instance);
         }
     }
 
@@ -112,85 +145,84 @@ public class GarbageCollector {
             return;
         }
         Assert.requireNonNull(bean, "bean");
+        applyChanges();
         if (!allInstances.containsKey(bean)) {
             throw new IllegalArgumentException("Bean is not managed by GC");
         }
 
         Instance instance = allInstances.remove(bean);
-        removeOnGC.remove(instance);
+        candidates.remove(instance);
 
-        IdentitySet<Property> properties = getAllProperties(bean);
-        IdentitySet<ObservableList> lists = getAllLists(bean);
-
-        for (Property property : properties) {
+        for (Property property : instance.getProperties()) {
             propertyToParent.remove(property);
-            removeReferenceAndCheckForGC(property, property.get());
+            removeReference(property, property.get());
         }
 
-        for (ObservableList list : lists) {
+        for (ObservableList list : instance.getLists()) {
             listToParent.remove(list);
             for (Object item : list) {
-                removeReferenceAndCheckForGC(list, item);
+                removeReference(list, item);
             }
         }
     }
 
     /**
-     * This method must be called for each value change of a {@link Property}
+     * This method must be called for each value change of a {@link Property}. If the new value is not a bean the
+     * method does not block: the change will be applied to the reference graph at the next access of the graph.
      *
      * @param property the property
      * @param oldValue the old value
      * @param newValue the new value
+     * @throws CircularDependencyException if the new value would define a cycle in the model
      */
-    public synchronized void onPropertyValueChanged(Property property, Object oldValue, Object newValue) {
+    public void onPropertyValueChanged(Property property, Object oldValue, Object newValue) {
         if (!configuration.isUseGc()) {
             return;
         }
-        removeReferenceAndCheckForGC(property, oldValue);
-
-        if (newValue != null && DolphinUtils.isDolphinBean(newValue.getClass())) {
-            Instance instance = getInstance(newValue);
-            Reference reference = new PropertyReference(propertyToParent.get(property), property, instance);
-            if (reference.hasCircularReference()) {
-                throw new CircularDependencyException("Circular dependency detected!");
-            }
-            instance.getReferences().add(reference);
-            removeFromGC(instance);
+        Assert.requireNonNull(property, "property");
+        final boolean newValueIsBean = isBean(newValue);
+        if (!newValueIsBean && !isBean(oldValue)) {
+            return;
+        }
+        if (newValueIsBean) {
+            onPropertyReferenceChanged(property, oldValue, newValue);
+        } else {
+            changeLog.add(new Change(ChangeType.PROPERTY_CLEARED, property, oldValue));
         }
     }
 
     /**
-     * This method must be called for each item that is added to a {@link ObservableList} that is part of a Dolphin bean (see {@link DolphinBean})
+     * This method must be called for each item that is added to a {@link ObservableList} that is part of a Dolphin bean (see {@link DolphinBean}).
      *
      * @param list  the list
      * @param value the added item
+     * @throws CircularDependencyException if the item would define a cycle in the model
      */
-    public synchronized void onAddedToList(ObservableList list, Object value) {
+    public void onAddedToList(ObservableList list, Object value) {
         if (!configuration.isUseGc()) {
             return;
         }
-        if (value != null && DolphinUtils.isDolphinBean(value.getClass())) {
-            Instance instance = getInstance(value);
-            Reference reference = new ListReference(listToParent.get(list), list, instance);
-            if (reference.hasCircularReference()) {
-                throw new CircularDependencyException("Circular dependency detected!");
-            }
-            instance.getReferences().add(reference);
-            removeFromGC(instance);
+        Assert.requireNonNull(list, "list");
+        if (isBean(value)) {
+            onListReferenceAdded(list, value);
         }
     }
 
     /**
-     * This method must be called for each item that is removed to a {@link ObservableList} that is part of a Dolphin bean (see {@link DolphinBean})
+     * This method must be called for each item that is removed to a {@link ObservableList} that is part of a Dolphin bean (see {@link DolphinBean}).
+     * The method does not block: the change will be applied to the reference graph at the next access of the graph.
      *
      * @param list  the list
      * @param value the removed item
      */
-    public synchronized void onRemovedFromList(ObservableList list, Object value) {
+    public void onRemovedFromList(ObservableList list, Object value) {
         if (!configuration.isUseGc()) {
             return;
         }
-        removeReferenceAndCheckForGC(list, value);
+        Assert.requireNonNull(list, "list");
+        if (isBean(value)) {
+            changeLog.add(new Change(ChangeType.REMOVED_FROM_LIST, list, value));
+        }
     }
 
     /**
@@ -203,178 +235,305 @@ public class GarbageCollector {
             LOG.trace("GC deactivated, no beans will be removed!");
             return;
         }
+        run(0);
+    }
 
-        LOG.trace("Garbage collection started! GC will remove {} beans!", removeOnGC.size());
+    /**
+     * Triggers the garbage collection if it is required based on the configuration (see
+     * {@link RemotingConfiguration#getGarbageCollectionCandidateThreshold()},
+     * {@link RemotingConfiguration#getGarbageCollectionMinInterval()}). The run ends after the configured max run time
+     * (see {@link RemotingConfiguration#getGarbageCollectionMaxRunTime()}). If not all candidates have been checked
+     * the next call of this method will continue the run without checking the threshold and the interval.
+     *
+     * @return true if the garbage collection was executed
+     */
+    public synchronized boolean gcIfRequired() {
+        if (!configuration.isUseGc()) {
+            return false;
+        }
+        applyChanges();
+        if (!sweepPending) {
+            if (candidates.isEmpty() || candidates.size() < configuration.getGarbageCollectionCandidateThreshold()) {
+                return false;
+            }
+            final long minInterval = TimeUnit.MILLISECONDS.toNanos(configuration.getGarbageCollectionMinInterval());
+            if (gcCalls > 0 && System.nanoTime() - lastRunEnd < minInterval) {
+                return false;
+            }
+        }
+        run(TimeUnit.MILLISECONDS.toNanos(configuration.getGarbageCollectionMaxRunTime()));
+        return true;
+    }
+
+    /**
+     * Executes a garbage collection run
+     *
+     * @param maxRunTime the max time in nanoseconds that is used to check the candidates, 0 or lower for no limit
+     */
+    synchronized void run(long maxRunTime) {
+        final long startTime = System.nanoTime();
+        applyChanges();
 
-        onRemoveCallback.onReject(removeOnGC.keySet());
+        LOG.trace("Garbage collection started! GC will check {} candidates!", candidates.size());
 
-        for (Map.Entry<Instance, Object> entry : removeOnGC.entrySet()) {
-            Instance removedInstance = entry.getKey();
+        final IdentitySet<Instance> removed = findUnreachableInstances(maxRunTime > 0 ? startTime + maxRunTime : 0);
+
+        onRemoveCallback.onReject(removed);
+
+        for (Instance removedInstance : removed) {
             for (Property property : removedInstance.getProperties()) {
                 propertyToParent.remove(property);
+                unlinkFromRemovedParent(removedInstance, property.get(), removed);
             }
             for (ObservableList list : removedInstance.getLists()) {
                 listToParent.remove(list);
+                for (Object item : list) {
+                    unlinkFromRemovedParent(removedInstance, item, removed);
+                }
             }
-            allInstances.remove(entry.getValue());
+            allInstances.remove(removedInstance.getBean());
         }
 
-        removedBeansCount = removedBeansCount + removeOnGC.size();
-        removeOnGC.clear();
+        lastRunEnd = System.nanoTime();
+        final long pauseTime = lastRunEnd - startTime;
+        removedBeansCount = removedBeansCount + removed.size();
         gcCalls = gcCalls + 1;
-
-        LOG.trace("Garbage collection done! GC currently manages {} referenced beans!", allInstances.size());
+        totalPauseTime = totalPauseTime + pauseTime;
+        maxPauseTime = Math.max(maxPauseTime, pauseTime);
+        lastRemovedBeansCount = removed.size();
+        maxRemovedBeansPerRun = Math.max(maxRemovedBeansPerRun, removed.size());
+
+        LOG.trace("Garbage collection done! GC removed {} beans and currently manages {} referenced beans!", removed.size(), allInstances.size());
+        if (sweepPending) {
+            LOG.debug("Garbage collection stopped after {} ms, {} candidates will be checked by the next run", TimeUnit.NANOSECONDS.toMillis(pauseTime), candidates.size());
+        }
     }
 
     public synchronized int getManagedInstancesCount() {
+        applyChanges();
         return allInstances.size();
     }
 
-    private void removeReferenceAndCheckForGC(ObservableList list, Object value) {
-        Assert.requireNonNull(list, "list");
-        if (value != null && DolphinUtils.isDolphinBean(value.getClass())) {
-            Instance instance = getInstance(value);
-            Reference toRemove = null;
-            for (Reference reference : instance.getReferences()) {
-                if (reference instanceof ListReference && list == ((ListReference) reference).getList()) {
-                    toRemove = reference;
+    private synchronized void onPropertyReferenceChanged(Property property, Object oldValue, Object newValue) {
+        applyChanges();
+        removeReference(property, oldValue);
+        addReference(propertyToParent.get(property), property, newValue);
+    }
+
+    private synchronized void onListReferenceAdded(ObservableList list, Object value) {
+        applyChanges();
+        addReference(listToParent.get(list), list, value);
+    }
+
+    private void applyChanges() {
+        Change change;
+        while ((change = changeLog.poll()) != null) {
+            switch (change.type) {
+                case PROPERTY_CLEARED:
+                    removeReference((Property) change.source, change.value);
                     break;
-                }
+                case REMOVED_FROM_LIST:
+                    removeReference((ObservableList) change.source, change.value);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown change type " + change.type);
+            }
+        }
+    }
+
+    private boolean isBean(Object value) {
+        return value != null && DolphinUtils.isDolphinBean(value.getClass());
+    }
+
+    private IdentitySet<Instance> findUnreachableInstances(long deadline) {
+        final IdentitySet<Instance> removed = new IdentitySet<>();
+        final IdentityHashMap<Instance, Boolean> alive = new IdentityHashMap<>();
+        final Deque<Instance> toCheck = new ArrayDeque<>(candidates);
+        candidates.clear();
+        int checkedCount = 0;
+        while (!toCheck.isEmpty()) {
+            //At least one instance is checked in each run to guarantee progress
+            if (deadline != 0 && checkedCount > 0 && System.nanoTime() - deadline > 0) {
+                break;
+            }
+            checkedCount++;
+            final Instance instance = toCheck.poll();
+            if (removed.contains(instance) || isAlive(instance, alive)) {
+                continue;
             }
-            if (toRemove == null) {
-                throw new RuntimeException("REFERENCE NOT FOUND! ERROR IN GC!!");
-            } else {
-                instance.getReferences().remove(toRemove);
-                if (instance.getReferences().isEmpty()) {
-                    addToGC(instance, value);
+            removed.add(instance);
+            for (Property property : instance.getProperties()) {
+                addManagedInstance(property.get(), toCheck);
+            }
+            for (ObservableList list : instance.getLists()) {
+                for (Object item : list) {
+                    addManagedInstance(item, toCheck);
                 }
             }
         }
+        //All instances that have not been checked will be checked by the next run
+        for (Instance instance : toCheck) {
+            if (!removed.contains(instance)) {
+                candidates.add(instance);
+            }
+        }
+        sweepPending = !candidates.isEmpty();
+        return removed;
     }
 
-    private void removeReferenceAndCheckForGC(Property property, Object value) {
-        Assert.requireNonNull(property, "property");
-        if (value != null && DolphinUtils.isDolphinBean(value.getClass())) {
-            Instance instance = getInstance(value);
-            Reference toRemove = null;
-            for (Reference reference : instance.getReferences()) {
-                if (reference instanceof PropertyReference && property == ((PropertyReference) reference).getProperty()) {
-                    toRemove = reference;
-                    break;
-                }
+    private boolean isAlive(Instance instance, IdentityHashMap<Instance, Boolean> alive) {
+        final Boolean known = alive.get(instance);
+        if (known != null) {
+            return known;
+        }
+        final List<Instance> visited = new ArrayList<>();
+        final IdentitySet<Instance> seen = new IdentitySet<>();
+        final Deque<Instance> toVisit = new ArrayDeque<>();
+        seen.add(instance);
+        toVisit.add(instance);
+        while (!toVisit.isEmpty()) {
+            final Instance current = toVisit.poll();
+            final Boolean currentState = alive.get(current);
+            if (current.isRootBean() || Boolean.TRUE.equals(currentState)) {
+                alive.put(instance, Boolean.TRUE);
+                return true;
             }
-            if (toRemove == null) {
-                throw new RuntimeException("REFERENCE NOT FOUND! ERROR IN GC!!");
-            } else {
-                instance.getReferences().remove(toRemove);
-                if (instance.getReferences().isEmpty()) {
-                    addToGC(instance, value);
+            if (currentState != null) {
+                continue;
+            }
+            visited.add(current);
+            for (Reference reference : current.getReferences()) {
+                final Instance parent = reference.getParent();
+                if (!seen.contains(parent)) {
+                    seen.add(parent);
+                    toVisit.add(parent);
                 }
             }
         }
+        //No path to a root bean: all visited beans are only referenced by beans that can be removed
+        for (Instance unreachable : visited) {
+            alive.put(unreachable, Boolean.FALSE);
+        }
+        return false;
     }
 
-    private void addToGC(Instance instance, Object value) {
-
-        LOG.trace("Bean of type {} added to GC and will be removed on next GC run", value.getClass());
-
-        removeOnGC.put(instance, value);
-
-        LOG.trace("GC will remove {} beans at next GC run", removeOnGC.size());
-
-
-        for (Property property : instance.getProperties()) {
-            Object propertyValue = property.get();
-            if (propertyValue != null && DolphinUtils.isDolphinBean(propertyValue.getClass())) {
-                Instance childInstance = getInstance(propertyValue);
-                if (!childInstance.isReferencedByRoot()) {
-                    addToGC(childInstance, propertyValue);
-                }
+    private void addManagedInstance(Object value, Deque<Instance> toCheck) {
+        if (value != null && DolphinUtils.isDolphinBean(value.getClass())) {
+            Instance instance = allInstances.get(value);
+            if (instance != null) {
+                toCheck.add(instance);
             }
         }
-        for (ObservableList list : instance.getLists()) {
-            for (Object listValue : list) {
-                if (listValue != null && DolphinUtils.isDolphinBean(listValue.getClass())) {
-                    Instance childInstance = getInstance(listValue);
-                    if (!childInstance.isReferencedByRoot()) {
-                        addToGC(childInstance, listValue);
-                    }
+    }
+
+    private void unlinkFromRemovedParent(Instance parent, Object value, Set<Instance> removed) {
+        if (value != null && DolphinUtils.isDolphinBean(value.getClass())) {
+            Instance child = allInstances.get(value);
+            if (child == null || removed.contains(child)) {
+                return;
+            }
+            Iterator<Reference> iterator = child.getReferences().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().getParent() == parent) {
+                    iterator.remove();
                 }
             }
+            if (child.getReferences().isEmpty() && !child.isRootBean()) {
+                addCandidate(child);
+            }
         }
     }
 
-    private void removeFromGC(Instance instance) {
-        LOG.trace("Bean of type {} removed from GC and will not be removed on next GC run", instance.getBean().getClass());
-
-        Object removed = removeOnGC.remove(instance);
-
-        LOG.trace("GC will remove {} beans at next GC run", removeOnGC.size());
-
+    private void addReference(Instance parent, Object propertyOrList, Object value) {
+        final Instance instance = allInstances.get(value);
+        if (parent == null || instance == null) {
+            //One of the beans was removed or collected before the change was applied
+            LOG.warn("Bean of type {} is not managed by the GC anymore and will be ignored", value.getClass());
+            return;
+        }
+        final Reference reference;
+        if (propertyOrList instanceof Property) {
+            reference = new PropertyReference(parent, (Property) propertyOrList, instance);
+        } else {
+            reference = new ListReference(parent, (ObservableList) propertyOrList, instance);
+        }
+        if (reference.hasCircularReference()) {
+            throw new CircularDependencyException("Circular dependency detected! Bean of type " + value.getClass()
+                    + " can not be referenced by bean of type " + parent.getBean().getClass());
+        }
+        instance.getReferences().add(reference);
+        parent.onChildReferenceAdded();
+        candidates.remove(instance);
+    }
 
-        if (removed != null) {
-            for (Property property : instance.getProperties()) {
-                Object value = property.get();
-                if (value != null && DolphinUtils.isDolphinBean(value.getClass())) {
-                    Instance childInstance = getInstance(value);
-                    removeFromGC(childInstance);
-                }
+    private void removeReference(ObservableList list, Object value) {
+        Assert.requireNonNull(list, "list");
+        if (isBean(value)) {
+            Instance instance = allInstances.get(value);
+            if (instance == null) {
+                return;
             }
-            for (ObservableList list : instance.getLists()) {
-                for (Object value : list) {
-                    if (value != null && DolphinUtils.isDolphinBean(value.getClass())) {
-                        Instance childInstance = getInstance(value);
-                        removeFromGC(childInstance);
-                    }
+            Reference toRemove = null;
+            for (Reference reference : instance.getReferences()) {
+                if (reference instanceof ListReference && list == ((ListReference) reference).getList()) {
+                    toRemove = reference;
+                    break;
                 }
             }
+            removeReference(instance, toRemove);
         }
     }
 
-    private IdentitySet<Property> getAllProperties(Object bean) {
-        IdentitySet<Property> ret = new IdentitySet<>();
-
-        List<Field> fields = propertyFieldCache.get(bean.getClass());
-        if (fields == null) {
-            fields = new ArrayList<>();
-            for (Field field : ReflectionHelper.getInheritedDeclaredFields(bean.getClass())) {
-                if (Property.class.isAssignableFrom(field.getType())) {
-                    fields.add(field);
+    private void removeReference(Property property, Object value) {
+        Assert.requireNonNull(property, "property");
+        if (isBean(value)) {
+            Instance instance = allInstances.get(value);
+            if (instance == null) {
+                return;
+            }
+            Reference toRemove = null;
+            for (Reference reference : instance.getReferences()) {
+                if (reference instanceof PropertyReference && property == ((PropertyReference) reference).getProperty()) {
+                    toRemove = reference;
+                    break;
                 }
             }
-            propertyFieldCache.put(bean.getClass(), fields);
+            removeReference(instance, toRemove);
+        }
+    }
+
+    private void removeReference(Instance instance, Reference toRemove) {
+        if (toRemove == null) {
+            //The reference was already unlinked (parent collected) or never added (circular dependency)
+            LOG.debug("Reference to bean of type {} is not part of the GC anymore and will be ignored", instance.getBean().getClass());
+            return;
         }
-        for (Field field : fields) {
-            ret.add((Property) ReflectionHelper.getPrivileged(field, bean));
+        instance.getReferences().remove(toRemove);
+        toRemove.getParent().onChildReferenceRemoved();
+        if (instance.getReferences().isEmpty() && !instance.isRootBean()) {
+            addCandidate(instance);
         }
-        return ret;
     }
 
-    private IdentitySet<ObservableList> getAllLists(Object bean) {
-        IdentitySet<ObservableList> ret = new IdentitySet<>();
+    private void addCandidate(Instance instance) {
+        LOG.trace("Bean of type {} lost its last reference and will be checked on next GC run", instance.getBean().getClass());
+        candidates.add(instance);
+    }
 
-        List<Field> fields = listFieldCache.get(bean.getClass());
-        if (fields == null) {
-            fields = new ArrayList<>();
-            for (Field field : ReflectionHelper.getInheritedDeclaredFields(bean.getClass())) {
-                if (ObservableList.class.isAssignableFrom(field.getType())) {
-                    fields.add(field);
-                }
-            }
-            listFieldCache.put(bean.getClass(), fields);
-        }
-        for (Field field : fields) {
-            ret.add((ObservableList) ReflectionHelper.getPrivileged(field, bean));
+    private IdentitySet<Property> getBeanReferenceProperties(Object bean) {
+        IdentitySet<Property> ret = new IdentitySet<>();
+        for (FieldMetadata fieldMetadata : BeanMetadata.of(bean.getClass()).getBeanReferenceProperties()) {
+            ret.add((Property) fieldMetadata.get(bean));
         }
         return ret;
     }
 
-    private Instance getInstance(Object bean) {
-        Instance instance = allInstances.get(bean);
-        if (instance == null) {
-            throw new IllegalArgumentException("Can't find reference for " + bean);
+    private IdentitySet<ObservableList> getBeanReferenceLists(Object bean) {
+        IdentitySet<ObservableList> ret = new IdentitySet<>();
+        for (FieldMetadata fieldMetadata : BeanMetadata.of(bean.getClass()).getBeanReferenceObservableLists()) {
+            ret.add((ObservableList) fieldMetadata.get(bean));
         }
-        return instance;
+        return ret;
     }
 
     public long getGcCalls() {
@@ -384,4 +543,49 @@ public class GarbageCollector {
     public long getRemovedBeansCount() {
         return removedBeansCount;
     }
+
+    /**
+     * Returns the average time in milliseconds of a garbage collection run
+     * @return the average pause time
+     */
+    public double getAveragePauseTime() {
+        final long calls = gcCalls;
+        if (calls == 0) {
+            return 0;
+        }
+        return toMillis(totalPauseTime) / calls;
+    }
+
+    public double getMaxPauseTime() {
+        return toMillis(maxPauseTime);
+    }
+
+    public int getLastRemovedBeansCount() {
+        return lastRemovedBeansCount;
+    }
+
+    public int getMaxRemovedBeansPerRun() {
+        return maxRemovedBeansPerRun;
+    }
+
+    private static double toMillis(final long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private enum ChangeType {PROPERTY_CLEARED, REMOVED_FROM_LIST}
+
+    private static class Change {
+
+        private final ChangeType type;
+
+        private final Object source;
+
+        private final Object value;
+
+        private Change(ChangeType type, Object source, Object value) {
+            this.type = type;
+            this.source = source;
+            this.value = value;
+        }
+    }
 }
@@ -21,7 +21,9 @@ import com.canoo.platform.remoting.DolphinBean;
 import com.canoo.platform.remoting.Property;
 import com.canoo.platform.remoting.server.DolphinModel;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 
 /**
@@ -39,12 +41,14 @@ public class Instance {
 
     private List<Reference> references;
 
+    private int childReferenceCount;
+
     /**
      * Constructor
      * @param bean the dolphin bean
      * @param rootBean if true this is a root bean as defined by {@link DolphinModel}
-     * @param properties a set that contains all properties of the given bean
-     * @param lists a list that contains all lists of the given bean
+     * @param properties a set that contains all properties of the given bean that can reference another dolphin bean
+     * @param lists a set that contains all lists of the given bean that can reference another dolphin bean
      */
     public Instance(Object bean, boolean rootBean, IdentitySet<Property> properties, IdentitySet<ObservableList> lists) {
         this.bean = bean;
@@ -71,16 +75,16 @@ public class Instance {
     }
 
     /**
-     * Returns a set that contains all properties of the dolphin bean
-     * @return a set that contains all properties of the dolphin bean
+     * Returns a set that contains all properties of the dolphin bean that can reference another dolphin bean
+     * @return a set that contains all properties of the dolphin bean that can reference another dolphin bean
      */
     public IdentitySet<Property> getProperties() {
         return properties;
     }
 
     /**
-     * Returns a set that contains all observable lists of the dolphin bean
-     * @return a set that contains all observable lists of the dolphin bean
+     * Returns a set that contains all observable lists of the dolphin bean that can reference another dolphin bean
+     * @return a set that contains all observable lists of the dolphin bean that can reference another dolphin bean
      */
     public IdentitySet<ObservableList> getLists() {
         return lists;
@@ -102,12 +106,40 @@ public class Instance {
         if(rootBean) {
             return true;
         }
-        for(Reference reference : references) {
-            Instance parent = reference.getParent();
-            if(parent.isReferencedByRoot()) {
-                return true;
+        final IdentitySet<Instance> visited = new IdentitySet<>();
+        final Deque<Instance> toVisit = new ArrayDeque<>();
+        visited.add(this);
+        toVisit.add(this);
+        while(!toVisit.isEmpty()) {
+            for(Reference reference : toVisit.poll().getReferences()) {
+                final Instance parent = reference.getParent();
+                if(parent.isRootBean()) {
+                    return true;
+                }
+                if(!visited.contains(parent)) {
+                    visited.add(parent);
+                    toVisit.add(parent);
+                }
             }
         }
         return false;
     }
+
+    /**
+     * Returns the number of references in that this instance is the parent. The value is only used as a hint: if it
+     * is 0 the instance can not be part of a circular reference.
+     */
+    int getChildReferenceCount() {
+        return childReferenceCount;
+    }
+
+    void onChildReferenceAdded() {
+        childReferenceCount++;
+    }
+
+    void onChildReferenceRemoved() {
+        if(childReferenceCount > 0) {
+            childReferenceCount--;
+        }
+    }
 }
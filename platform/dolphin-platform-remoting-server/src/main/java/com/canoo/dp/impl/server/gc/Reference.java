@@ -15,8 +15,12 @@
  */
 package com.canoo.dp.impl.server.gc;
 
+import com.canoo.dp.impl.platform.core.IdentitySet;
 import com.canoo.platform.remoting.DolphinBean;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+
 /**
  * Describes a direct reference between 2 dolphin beans (see {@link DolphinBean}). In each
  * reference one dolphin bean must be the parent that holds the reference to the other dolphin bean that is defined as child.
@@ -47,20 +51,39 @@ public abstract class Reference {
     }
 
     /**
-     * Returns true if this reference is part of a circular reference.
-     * @return true if this reference is part of a circular reference.
+     * Returns the child dolphin bean
+     * @return the child dolphin bean
      */
-    public boolean hasCircularReference() {
-        return recursiveCircularReferenceCheck(parent);
+    public Instance getChild() {
+        return child;
     }
 
-    private boolean recursiveCircularReferenceCheck(Instance currentInstance) {
-        if(currentInstance == this.child) {
+    /**
+     * Returns true if this reference is part of a circular reference. The check walks all transitive parents of the
+     * parent instance iteratively and visits each instance only once.
+     * @return true if this reference is part of a circular reference.
+     */
+    public boolean hasCircularReference() {
+        if(parent == child) {
             return true;
         }
-        for(Reference reference : currentInstance.getReferences()) {
-            if(recursiveCircularReferenceCheck(reference.getParent())) {
-                return true;
+        if(child.getChildReferenceCount() == 0) {
+            return false;
+        }
+        final IdentitySet<Instance> visited = new IdentitySet<>();
+        final Deque<Instance> toVisit = new ArrayDeque<>();
+        visited.add(parent);
+        toVisit.add(parent);
+        while(!toVisit.isEmpty()) {
+            for(Reference reference : toVisit.poll().getReferences()) {
+                final Instance ancestor = reference.getParent();
+                if(ancestor == child) {
+                    return true;
+                }
+                if(!visited.contains(ancestor)) {
+                    visited.add(ancestor);
+                    toVisit.add(ancestor);
+                }
             }
         }
         return false;
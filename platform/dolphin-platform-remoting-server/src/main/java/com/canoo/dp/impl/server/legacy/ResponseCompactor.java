@@ -0,0 +1,146 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.legacy;
+
+import com.canoo.dp.impl.remoting.PlatformRemotingConstants;
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.Command;
+import com.canoo.dp.impl.remoting.legacy.communication.CreatePresentationModelCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.DeletePresentationModelCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.ValueChangedCommand;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Removes redundant commands from the response of a request before it is sent to the client:
+ * <ul>
+ *     <li>Several {@link ValueChangedCommand}s for the same attribute are collapsed into the last one since the client
+ *     only needs the final value.</li>
+ *     <li>A presentation model that is created and deleted in the same response never reaches the client. The
+ *     {@link CreatePresentationModelCommand}, the {@link DeletePresentationModelCommand} and all commands for the
+ *     attributes of the model are removed. This is only done if the id of the model is not used as a value in the
+ *     response (like a reference of another bean or an element of a list splice) and the model is not an event (like a list splice).</li>
+ * </ul>
+ * The order of the remaining commands is not changed. A collapsed value change is sent at the position of the last
+ * change.
+ */
+public final class ResponseCompactor {
+
+    private ResponseCompactor() {
+    }
+
+    /**
+     * Compacts the given response in place.
+     * @param response the response
+     */
+    public static void compact(final List<Command> response) {
+        if (response == null || response.size() < 2) {
+            return;
+        }
+
+        final Map<String, Integer> lastValueChange = new HashMap<>();
+        final Map<String, CreatePresentationModelCommand> openCreates = new HashMap<>();
+        final Map<CreatePresentationModelCommand, DeletePresentationModelCommand> transientModels = new IdentityHashMap<>();
+        final Set<Object> usedValues = new HashSet<>();
+        boolean compactable = false;
+
+        int index = 0;
+        for (final Command command : response) {
+            if (command instanceof ValueChangedCommand) {
+                final ValueChangedCommand valueChangedCommand = (ValueChangedCommand) command;
+                if (lastValueChange.put(valueChangedCommand.getAttributeId(), index) != null) {
+                    compactable = true;
+                }
+                addUsedValue(usedValues, valueChangedCommand.getNewValue());
+            } else if (command instanceof CreatePresentationModelCommand) {
+                final CreatePresentationModelCommand createCommand = (CreatePresentationModelCommand) command;
+                if (!PlatformRemotingConstants.LIST_SPLICE.equals(createCommand.getPmType())) {
+                    openCreates.put(createCommand.getPmId(), createCommand);
+                }
+                for (final Map<String, Object> attribute : createCommand.getAttributes()) {
+                    addUsedValue(usedValues, attribute.get("value"));
+                }
+            } else if (command instanceof DeletePresentationModelCommand) {
+                final CreatePresentationModelCommand createCommand = openCreates.remove(((DeletePresentationModelCommand) command).getPmId());
+                if (createCommand != null) {
+                    transientModels.put(createCommand, (DeletePresentationModelCommand) command);
+                }
+            } else if (command instanceof ListSpliceCommand) {
+                for (final Object value : ((ListSpliceCommand) command).getValues()) {
+                    addUsedValue(usedValues, value);
+                }
+            }
+            index++;
+        }
+
+        final Set<Command> removedCommands = Collections.newSetFromMap(new IdentityHashMap<Command, Boolean>());
+        final Set<String> removedAttributes = new HashSet<>();
+        for (final Map.Entry<CreatePresentationModelCommand, DeletePresentationModelCommand> transientModel : transientModels.entrySet()) {
+            final CreatePresentationModelCommand createCommand = transientModel.getKey();
+            if (!usedValues.contains(createCommand.getPmId())) {
+                removedCommands.add(createCommand);
+                removedCommands.add(transientModel.getValue());
+                for (final Map<String, Object> attribute : createCommand.getAttributes()) {
+                    final Object attributeId = attribute.get("id");
+                    if (attributeId != null) {
+                        removedAttributes.add(attributeId.toString());
+                    }
+                }
+            }
+        }
+
+        if (!compactable && removedCommands.isEmpty()) {
+            return;
+        }
+
+        final List<Command> compacted = new ArrayList<>(response.size());
+        index = 0;
+        for (final Command command : response) {
+            if (command instanceof ValueChangedCommand) {
+                final String attributeId = ((ValueChangedCommand) command).getAttributeId();
+                if (!removedAttributes.contains(attributeId) && lastValueChange.get(attributeId) == index) {
+                    compacted.add(command);
+                }
+            } else if (!removedCommands.contains(command) && !isMetadataChangeOfRemovedAttribute(command, removedAttributes)) {
+                compacted.add(command);
+            }
+            index++;
+        }
+
+        response.clear();
+        response.addAll(compacted);
+    }
+
+    //The metadata command is deprecated only because it should be renamed, there is no replacement the server could send
+    @SuppressWarnings("deprecation")
+    private static boolean isMetadataChangeOfRemovedAttribute(final Command command, final Set<String> removedAttributes) {
+        return command instanceof com.canoo.dp.impl.remoting.legacy.communication.AttributeMetadataChangedCommand
+                && removedAttributes.contains(((com.canoo.dp.impl.remoting.legacy.communication.AttributeMetadataChangedCommand) command).getAttributeId());
+    }
+
+    private static void addUsedValue(final Set<Object> usedValues, final Object value) {
+        if (value instanceof String) {
+            usedValues.add(value);
+        }
+    }
+}
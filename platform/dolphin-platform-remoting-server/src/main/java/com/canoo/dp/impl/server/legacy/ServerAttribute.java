@@ -119,13 +119,17 @@ public class ServerAttribute extends BaseAttribute {
      */
     @Override
     protected void firePropertyChange(final String propertyName, final Object oldValue, final Object newValue) {
-        verbosely(new Runnable() {
-            @Override
-            public void run() {
-                ServerAttribute.super.firePropertyChange(propertyName, oldValue, newValue);
-            }
-
-        });
+        if (!hasListeners(propertyName)) {
+            return;
+        }
+        // same as verbosely(...) but without creating a Runnable for each change
+        boolean temp = notifyClient;
+        notifyClient = true;
+        try {
+            super.firePropertyChange(propertyName, oldValue, newValue);
+        } finally {
+            notifyClient = temp;
+        }
     }
 
 }
@@ -86,6 +86,7 @@ public class ServerConnector {
             throw exception;
         }
 
+        ResponseCompactor.compact(response);
         return response;
     }
 
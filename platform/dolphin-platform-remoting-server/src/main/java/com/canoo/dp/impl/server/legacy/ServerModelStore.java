@@ -79,6 +79,13 @@ public class ServerModelStore extends ModelStore<ServerAttribute, ServerPresenta
         return false;
     }
 
+    /**
+     * Adds a command that is not bound to a presentation model (like a list splice) to the current response
+     */
+    public void addResponseCommand(final Command command) {
+        getCurrentResponse().add(command);
+    }
+
     /**
      * A shared mutable state that is safe to use since we are thread-confined
      */
@@ -16,6 +16,7 @@
 package com.canoo.dp.impl.server.mbean.beans;
 
 import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.server.context.DolphinContextTaskQueue;
 import com.canoo.dp.impl.server.gc.GarbageCollector;
 import com.canoo.platform.server.client.ClientSession;
 
@@ -31,9 +32,12 @@ public class DolphinSessionInfo implements DolphinSessionInfoMBean {
 
     private final WeakReference<GarbageCollector> garbageCollectionRef;
 
-    public DolphinSessionInfo(ClientSession dolphinSession, GarbageCollector garbageCollector) {
+    private final WeakReference<DolphinContextTaskQueue> taskQueueRef;
+
+    public DolphinSessionInfo(ClientSession dolphinSession, GarbageCollector garbageCollector, DolphinContextTaskQueue taskQueue) {
         this.dolphinSessionRef = new WeakReference<>(dolphinSession);
         this.garbageCollectionRef = new WeakReference<>(garbageCollector);
+        this.taskQueueRef = new WeakReference<>(taskQueue);
     }
 
     private ClientSession getSession() {
@@ -48,6 +52,12 @@ public class DolphinSessionInfo implements DolphinSessionInfoMBean {
         return garbageCollector;
     }
 
+    private DolphinContextTaskQueue getTaskQueue() {
+        DolphinContextTaskQueue taskQueue = taskQueueRef.get();
+        Assert.requireNonNull(taskQueue, "taskQueue");
+        return taskQueue;
+    }
+
     @Override
     public String getDolphinSessionId() {
         return getSession().getId();
@@ -77,4 +87,74 @@ public class DolphinSessionInfo implements DolphinSessionInfoMBean {
     public int getGarbageCollectionCurrentManagedBeansCount() {
         return getGarbageCollection().getManagedInstancesCount();
     }
+
+    @Override
+    public double getGarbageCollectionAveragePauseTime() {
+        return getGarbageCollection().getAveragePauseTime();
+    }
+
+    @Override
+    public double getGarbageCollectionMaxPauseTime() {
+        return getGarbageCollection().getMaxPauseTime();
+    }
+
+    @Override
+    public int getGarbageCollectionLastRemovedBeansCount() {
+        return getGarbageCollection().getLastRemovedBeansCount();
+    }
+
+    @Override
+    public int getGarbageCollectionMaxRemovedBeansPerRun() {
+        return getGarbageCollection().getMaxRemovedBeansPerRun();
+    }
+
+    @Override
+    public int getTaskQueueDepth() {
+        return getTaskQueue().getQueueDepth();
+    }
+
+    @Override
+    public int getTaskQueueCapacity() {
+        return getTaskQueue().getCapacity();
+    }
+
+    @Override
+    public long getTaskQueueExecutedTasks() {
+        return getTaskQueue().getExecutedTaskCount();
+    }
+
+    @Override
+    public long getTaskQueueRejectedTasks() {
+        return getTaskQueue().getRejectedTaskCount();
+    }
+
+    @Override
+    public long getTaskQueueDroppedTasks() {
+        return getTaskQueue().getDroppedTaskCount();
+    }
+
+    @Override
+    public long getTaskQueueCoalescedTasks() {
+        return getTaskQueue().getCoalescedTaskCount();
+    }
+
+    @Override
+    public double getTaskQueueAverageWaitTime() {
+        return getTaskQueue().getAverageTaskWaitTime();
+    }
+
+    @Override
+    public double getTaskQueueMaxWaitTime() {
+        return getTaskQueue().getMaxTaskWaitTime();
+    }
+
+    @Override
+    public double getTaskQueueAverageExecutionTime() {
+        return getTaskQueue().getAverageTaskExecutionTime();
+    }
+
+    @Override
+    public double getTaskQueueMaxExecutionTime() {
+        return getTaskQueue().getMaxTaskExecutionTime();
+    }
 }
@@ -33,4 +33,32 @@ public interface DolphinSessionInfoMBean {
     long getGarbageCollectionRemovedBeansTotal();
 
     int getGarbageCollectionCurrentManagedBeansCount();
+
+    double getGarbageCollectionAveragePauseTime();
+
+    double getGarbageCollectionMaxPauseTime();
+
+    int getGarbageCollectionLastRemovedBeansCount();
+
+    int getGarbageCollectionMaxRemovedBeansPerRun();
+
+    int getTaskQueueDepth();
+
+    int getTaskQueueCapacity();
+
+    long getTaskQueueExecutedTasks();
+
+    long getTaskQueueRejectedTasks();
+
+    long getTaskQueueDroppedTasks();
+
+    long getTaskQueueCoalescedTasks();
+
+    double getTaskQueueAverageWaitTime();
+
+    double getTaskQueueMaxWaitTime();
+
+    double getTaskQueueAverageExecutionTime();
+
+    double getTaskQueueMaxExecutionTime();
 }
@@ -70,19 +70,16 @@ public class ServerBeanBuilderImpl extends AbstractBeanBuilder implements Server
             @Override
             public void listChanged(ListChangeEvent<? extends T> event) {
                 for(ListChangeEvent.Change<? extends T> c : event.getChanges()) {
-                    if(c.isAdded()) {
+                    if(c.isAdded() || c.isReplaced()) {
                         for(Object added : list.subList(c.getFrom(), c.getTo())) {
                             garbageCollector.onAddedToList(list, added);
                         }
                     }
-                    if(c.isRemoved()) {
+                    if(c.isRemoved() || c.isReplaced()) {
                         for(Object removed : c.getRemovedElements()) {
                             garbageCollector.onRemovedFromList(list, removed);
                         }
                     }
-                    if(c.isReplaced()) {
-                        //??? TODO
-                    }
                 }
             }
         });
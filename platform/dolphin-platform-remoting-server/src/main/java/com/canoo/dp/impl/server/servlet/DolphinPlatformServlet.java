@@ -38,4 +38,9 @@ public class DolphinPlatformServlet extends HttpServlet {
     protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
         communicationHandler.handle(req, resp);
     }
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
+        communicationHandler.handlePush(req, resp);
+    }
 }
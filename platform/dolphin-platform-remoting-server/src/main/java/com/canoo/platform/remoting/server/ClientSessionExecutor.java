@@ -40,4 +40,24 @@ public interface ClientSessionExecutor {
      */
     <T> Future<T> callLaterInClientSession(final Callable<T> callable);
 
+    /**
+     * Executes the given task later in the given client session. If a task with the same key is still pending it will
+     * be replaced by the given task and the future of the replaced task will be cancelled. This can be used to send
+     * only the latest state of a frequently changing value to the client.
+     * @param key the key of the task
+     * @param runnable the task
+     * @return a future that is finished once the task is finished.
+     */
+    Future<Void> runLaterInClientSession(final Object key, final Runnable runnable);
+
+    /**
+     * Executes the given task later in the given client session. If a task with the same key is still pending it will
+     * be replaced by the given task and the future of the replaced task will be cancelled.
+     * @param key the key of the task
+     * @param callable the task
+     * @param <T> the return type of the task
+     * @return a future that can be used to check the result of the task
+     */
+    <T> Future<T> callLaterInClientSession(final Object key, final Callable<T> callable);
+
 }
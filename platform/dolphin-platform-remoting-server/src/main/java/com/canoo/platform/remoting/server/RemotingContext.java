@@ -17,6 +17,7 @@ package com.canoo.platform.remoting.server;
 
 import com.canoo.platform.remoting.BeanManager;
 import com.canoo.platform.remoting.server.binding.PropertyBinder;
+import com.canoo.platform.remoting.server.binding.VirtualListBinder;
 import com.canoo.platform.server.client.ClientSession;
 import com.canoo.platform.remoting.server.event.DolphinEventBus;
 
@@ -47,6 +48,12 @@ public interface RemotingContext {
      */
     PropertyBinder getBinder();
 
+    /**
+     * Return the binder for virtual lists of the context
+     * @return the binder
+     */
+    VirtualListBinder getVirtualListBinder();
+
     /**
      * Returns the bean manager for the context
      * @return the bean manager
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.platform.remoting.server.binding;
+
+import com.canoo.platform.remoting.VirtualList;
+
+/**
+ * A component that binds a {@link VirtualList} to a {@link VirtualListDataSource}. Once a list is bound the binder
+ * loads the window of the list that is requested by the client. Elements are always loaded in pages and a new page
+ * is only loaded if the requested window is not part of the loaded pages.
+ */
+public interface VirtualListBinder {
+
+    /**
+     * Binds the given list to the given data source by using a default page size
+     *
+     * @param list the list
+     * @param dataSource the data source
+     * @param <T> type of the elements
+     * @return a binding that can be used to refresh or unbind the list
+     */
+    <T> VirtualListBinding bind(VirtualList<T> list, VirtualListDataSource<T> dataSource);
+
+    /**
+     * Binds the given list to the given data source
+     *
+     * @param list the list
+     * @param dataSource the data source
+     * @param pageSize number of elements in a page
+     * @param <T> type of the elements
+     * @return a binding that can be used to refresh or unbind the list
+     */
+    <T> VirtualListBinding bind(VirtualList<T> list, VirtualListDataSource<T> dataSource, int pageSize);
+}
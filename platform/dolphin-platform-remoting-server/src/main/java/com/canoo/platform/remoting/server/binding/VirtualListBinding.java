@@ -0,0 +1,45 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.platform.remoting.server.binding;
+
+import com.canoo.platform.core.functional.Binding;
+import com.canoo.platform.remoting.VirtualList;
+
+/**
+ * A binding between a {@link VirtualList} and a {@link VirtualListDataSource}. Whenever the content of the data
+ * source changes the binding must be refreshed. Like all other mutations of the model a refresh must be done in the
+ * thread of the client session.
+ *
+ * @see VirtualListBinder
+ */
+public interface VirtualListBinding extends Binding {
+
+    /**
+     * Reloads the size and the loaded elements of the list. Only elements that changed will be synchronized with the
+     * client.
+     */
+    void refresh();
+
+    /**
+     * Reloads the size of the list and the loaded elements if the given range is part of the loaded elements. This
+     * should be called if only the elements between {@code from} (inclusive) and {@code to} (exclusive) of the data
+     * source changed.
+     *
+     * @param from index of the first changed element
+     * @param to index after the last changed element
+     */
+    void refresh(int from, int to);
+}
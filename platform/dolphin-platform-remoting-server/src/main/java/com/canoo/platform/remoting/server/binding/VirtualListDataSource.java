@@ -0,0 +1,48 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.platform.remoting.server.binding;
+
+import com.canoo.platform.remoting.VirtualList;
+
+import java.util.List;
+
+/**
+ * Provides the content of a {@link VirtualList}. Only the elements of the window that is requested by the client will
+ * be loaded from the data source.
+ *
+ * @param <T> type of the elements
+ * @see VirtualListBinder
+ */
+public interface VirtualListDataSource<T> {
+
+    /**
+     * Returns the size of the complete list
+     *
+     * @return the size
+     */
+    int size();
+
+    /**
+     * Loads the elements between {@code from} (inclusive) and {@code to} (exclusive). Since a reload only synchronizes
+     * the elements that changed, elements that have not changed should be equal to the elements that have been
+     * returned before. For Dolphin Platform beans this means that the same bean instances should be returned.
+     *
+     * @param from index of the first element
+     * @param to index after the last element
+     * @return the elements
+     */
+    List<T> load(int from, int to);
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.binding;
+
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
+import com.canoo.dp.impl.server.legacy.ServerModelStore;
+import com.canoo.impl.server.util.AbstractDolphinBasedTest;
+import com.canoo.impl.server.util.StringVirtualList;
+import com.canoo.platform.remoting.BeanManager;
+import com.canoo.platform.remoting.ListChangeEvent;
+import com.canoo.platform.remoting.ListChangeListener;
+import com.canoo.platform.remoting.server.binding.VirtualListBinding;
+import com.canoo.platform.remoting.server.binding.VirtualListDataSource;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class TestVirtualListBinder extends AbstractDolphinBasedTest {
+
+    @Test
+    public void testBindDefinesSize() {
+        final ServerModelStore serverModelStore = createServerModelStore();
+        final BeanManager manager = createBeanManager(serverModelStore);
+        final StringVirtualList list = manager.create(StringVirtualList.class);
+        final TestDataSource dataSource = new TestDataSource(1000);
+
+        new VirtualListBinderImpl().bind(list, dataSource, 50);
+
+        Assert.assertEquals(list.size(), 1000);
+        Assert.assertTrue(list.getLoadedElements().isEmpty());
+        Assert.assertTrue(dataSource.loadedRanges.isEmpty());
+    }
+
+    @Test
+    public void testRequestedWindowIsLoadedInPages() {
+        final ServerModelStore serverModelStore = createServerModelStore();
+        final BeanManager manager = createBeanManager(serverModelStore);
+        final StringVirtualList list = manager.create(StringVirtualList.class);
+        final TestDataSource dataSource = new TestDataSource(1000);
+        new VirtualListBinderImpl().bind(list, dataSource, 50);
+
+        list.requestWindow(120, 30);
+
+        Assert.assertEquals(list.getLoadedStart(), 100);
+        Assert.assertEquals(list.getLoadedEnd(), 150);
+        Assert.assertEquals(list.get(120), "120");
+        Assert.assertNull(list.get(150));
+        Assert.assertEquals(dataSource.loadedRanges, Arrays.asList(Arrays.asList(100, 150)));
+
+        list.requestWindow(110, 30);
+        Assert.assertEquals(dataSource.loadedRanges.size(), 1);
+
+        list.requestWindow(140, 30);
+        Assert.assertEquals(list.getLoadedStart(), 100);
+        Assert.assertEquals(list.getLoadedEnd(), 200);
+        Assert.assertEquals(dataSource.loadedRanges.get(1), Arrays.asList(100, 200));
+    }
+
+    @Test
+    public void testWindowAtEndOfList() {
+        final ServerModelStore serverModelStore = createServerModelStore();
+        final BeanManager manager = createBeanManager(serverModelStore);
+        final StringVirtualList list = manager.create(StringVirtualList.class);
+        final TestDataSource dataSource = new TestDataSource(120);
+        new VirtualListBinderImpl().bind(list, dataSource, 50);
+
+        list.requestWindow(110, 30);
+
+        Assert.assertEquals(list.getLoadedStart(), 100);
+        Assert.assertEquals(list.getLoadedEnd(), 120);
+        Assert.assertEquals(list.get(119), "119");
+    }
+
+    @Test
+    public void testMovedWindowIsLoadedOnce() {
+        final ServerModelStore serverModelStore = createServerModelStore();
+        final BeanManager manager = createBeanManager(serverModelStore);
+        final StringVirtualList list = manager.create(StringVirtualList.class);
+        final TestDataSource dataSource = new TestDataSource(1000);
+        new VirtualListBinderImpl().bind(list, dataSource, 50);
+        list.requestWindow(0, 100);
+        dataSource.loadedRanges.clear();
+
+        list.requestWindow(500, 20);
+
+        Assert.assertEquals(dataSource.loadedRanges, Arrays.asList(Arrays.asList(500, 550)));
+        Assert.assertEquals(list.getLoadedStart(), 500);
+        Assert.assertEquals(list.getLoadedEnd(), 550);
+    }
+
+    @Test
+    public void testLoadedStartIsDefinedBeforeElements() {
+        final ServerModelStore serverModelStore = createServerModelStore();
+        final BeanManager manager = createBeanManager(serverModelStore);
+        final StringVirtualList list = manager.create(StringVirtualList.class);
+        final TestDataSource dataSource = new TestDataSource(1000);
+        new VirtualListBinderImpl().bind(list, dataSource, 50);
+        list.requestWindow(0, 20);
+        final List<Integer> startsOnChange = new ArrayList<>();
+        list.getLoadedElements().onChanged(new ListChangeListener<String>() {
+            @Override
+            public void listChanged(final ListChangeEvent<? extends String> evt) {
+                startsOnChange.add(list.getLoadedStart());
+            }
+        });
+
+        list.requestWindow(200, 20);
+
+        Assert.assertFalse(startsOnChange.isEmpty());
+        for (final Integer start : startsOnChange) {
+            Assert.assertEquals(start.intValue(), 200);
+        }
+    }
+
+    @Test
+    public void testRefreshOnlySendsChangedElements() {
+        final ServerModelStore serverModelStore = createServerModelStore();
+        final BeanManager manager = createBeanManager(serverModelStore);
+        final StringVirtualList list = manager.create(StringVirtualList.class);
+        final TestDataSource dataSource = new TestDataSource(1000);
+        final VirtualListBinding binding = new VirtualListBinderImpl().bind(list, dataSource, 50);
+        list.requestWindow(0, 20);
+        clearListSpliceCommands(serverModelStore);
+        dataSource.loadedRanges.clear();
+
+        dataSource.elements.set(500, "changed");
+        binding.refresh(500, 501);
+        Assert.assertTrue(dataSource.loadedRanges.isEmpty());
+        Assert.assertTrue(getListSpliceCommands(serverModelStore).isEmpty());
+
+        dataSource.elements.set(10, "changed");
+        binding.refresh(10, 11);
+        Assert.assertEquals(list.get(10), "changed");
+        final List<ListSpliceCommand> commands = getListSpliceCommands(serverModelStore);
+        Assert.assertEquals(commands.size(), 1);
+        Assert.assertEquals(commands.get(0).getFrom(), 10);
+        Assert.assertEquals(commands.get(0).getTo(), 11);
+    }
+
+    @Test
+    public void testUnbind() {
+        final ServerModelStore serverModelStore = createServerModelStore();
+        final BeanManager manager = createBeanManager(serverModelStore);
+        final StringVirtualList list = manager.create(StringVirtualList.class);
+        final TestDataSource dataSource = new TestDataSource(1000);
+        final VirtualListBinding binding = new VirtualListBinderImpl().bind(list, dataSource, 50);
+
+        binding.unbind();
+        list.requestWindow(0, 20);
+
+        Assert.assertTrue(list.getLoadedElements().isEmpty());
+        Assert.assertTrue(dataSource.loadedRanges.isEmpty());
+    }
+
+    private static class TestDataSource implements VirtualListDataSource<String> {
+
+        private final List<String> elements = new ArrayList<>();
+
+        private final List<List<Integer>> loadedRanges = new ArrayList<>();
+
+        private TestDataSource(final int size) {
+            for (int i = 0; i < size; i++) {
+                elements.add(Integer.toString(i));
+            }
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        @Override
+        public List<String> load(final int from, final int to) {
+            loadedRanges.add(Arrays.asList(from, to));
+            return new ArrayList<>(elements.subList(from, to));
+        }
+    }
+}
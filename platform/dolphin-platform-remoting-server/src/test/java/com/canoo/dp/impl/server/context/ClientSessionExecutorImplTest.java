@@ -19,7 +19,11 @@ import com.canoo.platform.remoting.server.ClientSessionExecutor;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class ClientSessionExecutorImplTest {
 
@@ -70,4 +74,33 @@ public class ClientSessionExecutorImplTest {
         }
     }
 
+    @Test
+    public void testPassingKeyedTask() {
+        //given:
+        final AtomicReference<Object> usedKey = new AtomicReference<>();
+        ClientSessionExecutor executor = new ClientSessionExecutorImpl(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                Assert.fail("Keyed task should be passed to keyed executor");
+            }
+        }, new KeyedExecutor() {
+            @Override
+            public <T> Future<T> execute(Object key, Callable<T> task) {
+                usedKey.set(key);
+                return null;
+            }
+        });
+
+        //when:
+        executor.runLaterInClientSession("key", new Runnable() {
+            @Override
+            public void run() {
+
+            }
+        });
+
+        //then:
+        Assert.assertEquals(usedKey.get(), "key");
+    }
+
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.context;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+public class CompressingResponseOutputStreamTest {
+
+    @Test
+    public void testSelectEncoding() {
+        Assert.assertEquals(CompressingResponseOutputStream.selectEncoding("gzip, deflate"), "gzip");
+        Assert.assertEquals(CompressingResponseOutputStream.selectEncoding("deflate, gzip"), "gzip");
+        Assert.assertEquals(CompressingResponseOutputStream.selectEncoding("deflate"), "deflate");
+        Assert.assertEquals(CompressingResponseOutputStream.selectEncoding("gzip;q=0, deflate;q=0.5"), "deflate");
+        Assert.assertNull(CompressingResponseOutputStream.selectEncoding("br, identity"));
+        Assert.assertNull(CompressingResponseOutputStream.selectEncoding(null));
+    }
+
+    @Test
+    public void testSmallContentIsNotCompressed() throws Exception {
+        //given:
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        final Map<String, String> headers = new HashMap<>();
+        final HttpServletResponse response = createResponse(body, headers);
+
+        //when:
+        try (final OutputStream outputStream = new CompressingResponseOutputStream(response, "gzip", 16, new IoBufferPool(32, 1))) {
+            outputStream.write("Hello".getBytes("UTF-8"));
+        }
+
+        //then:
+        Assert.assertFalse(headers.containsKey("Content-Encoding"));
+        Assert.assertEquals(new String(body.toByteArray(), "UTF-8"), "Hello");
+    }
+
+    @Test
+    public void testGzipCompression() throws Exception {
+        //given:
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        final Map<String, String> headers = new HashMap<>();
+        final HttpServletResponse response = createResponse(body, headers);
+        final String content = createContent();
+
+        //when:
+        try (final OutputStream outputStream = new CompressingResponseOutputStream(response, "gzip", 16, new IoBufferPool(32, 1))) {
+            outputStream.write(content.getBytes("UTF-8"));
+        }
+
+        //then:
+        Assert.assertEquals(headers.get("Content-Encoding"), "gzip");
+        Assert.assertTrue(body.size() < content.length());
+        Assert.assertEquals(read(new GZIPInputStream(new ByteArrayInputStream(body.toByteArray()))), content);
+    }
+
+    @Test
+    public void testDeflateCompressionWithThresholdBiggerThanPooledBuffer() throws Exception {
+        //given:
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        final Map<String, String> headers = new HashMap<>();
+        final HttpServletResponse response = createResponse(body, headers);
+        final String content = createContent();
+
+        //when:
+        try (final OutputStream outputStream = new CompressingResponseOutputStream(response, "deflate", 64, new IoBufferPool(32, 1))) {
+            for (final byte b : content.getBytes("UTF-8")) {
+                outputStream.write(b);
+            }
+        }
+
+        //then:
+        Assert.assertEquals(headers.get("Content-Encoding"), "deflate");
+        Assert.assertEquals(read(new InflaterInputStream(new ByteArrayInputStream(body.toByteArray()))), content);
+    }
+
+    @Test
+    public void testThresholdIsReducedToPooledBufferSize() throws Exception {
+        //given:
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        final Map<String, String> headers = new HashMap<>();
+        final HttpServletResponse response = createResponse(body, headers);
+        final String content = "{\"id\":\"ValueChanged\",\"a_id\":\"1S\"}";
+
+        //when:
+        try (final OutputStream outputStream = new CompressingResponseOutputStream(response, "gzip", 1024, new IoBufferPool(32, 1))) {
+            outputStream.write(content.getBytes("UTF-8"));
+        }
+
+        //then:
+        Assert.assertEquals(headers.get("Content-Encoding"), "gzip");
+        Assert.assertFalse(headers.containsKey("Vary"));
+        Assert.assertEquals(read(new GZIPInputStream(new ByteArrayInputStream(body.toByteArray()))), content);
+    }
+
+    private String createContent() {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            builder.append("{\"id\":\"ValueChanged\",\"a_id\":\"").append(i).append("S\"}");
+        }
+        return builder.toString();
+    }
+
+    private String read(final InputStream inputStream) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[128];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        return new String(outputStream.toByteArray(), "UTF-8");
+    }
+
+    private HttpServletResponse createResponse(final ByteArrayOutputStream body, final Map<String, String> headers) {
+        final ServletOutputStream servletOutputStream = new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                body.write(b);
+            }
+        };
+        return (HttpServletResponse) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{HttpServletResponse.class}, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                if (method.getName().equals("getOutputStream")) {
+                    return servletOutputStream;
+                }
+                if (method.getName().equals("setHeader") || method.getName().equals("addHeader")) {
+                    headers.put((String) args[0], (String) args[1]);
+                }
+                return null;
+            }
+        });
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.context;
+
+import com.canoo.dp.impl.server.client.ClientSessionProvider;
+import com.canoo.dp.impl.server.client.HttpClientSessionImpl;
+import com.canoo.impl.server.util.HttpSessionMock;
+import com.canoo.platform.server.client.ClientSession;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DolphinContextTaskQueueTest {
+
+    @Test
+    public void testParkedLongPollIsResumedByTask() {
+        //given:
+        final DolphinContextTaskQueue queue = createQueue(false);
+        final AtomicInteger wakeUpCount = new AtomicInteger(0);
+
+        //when:
+        final boolean parked = queue.park(new CountingRunnable(wakeUpCount));
+        queue.addTask(new CountingRunnable(new AtomicInteger()));
+        queue.addTask(new CountingRunnable(new AtomicInteger()));
+
+        //then:
+        Assert.assertTrue(parked);
+        Assert.assertEquals(wakeUpCount.get(), 1);
+    }
+
+    @Test
+    public void testParkedLongPollIsResumedByInterrupt() {
+        //given:
+        final DolphinContextTaskQueue queue = createQueue(false);
+        final AtomicInteger wakeUpCount = new AtomicInteger(0);
+
+        //when:
+        queue.park(new CountingRunnable(wakeUpCount));
+        queue.interrupt();
+
+        //then:
+        Assert.assertEquals(wakeUpCount.get(), 1);
+    }
+
+    @Test
+    public void testNoParkingIfTasksAreAvailable() {
+        //given:
+        final DolphinContextTaskQueue queue = createQueue(false);
+        queue.addTask(new CountingRunnable(new AtomicInteger()));
+        final AtomicInteger wakeUpCount = new AtomicInteger(0);
+
+        //when:
+        final boolean parked = queue.park(new CountingRunnable(wakeUpCount));
+
+        //then:
+        Assert.assertFalse(parked);
+        Assert.assertEquals(wakeUpCount.get(), 0);
+    }
+
+    @Test
+    public void testNoParkingIfResponseCommandsAreAvailable() {
+        //given:
+        final DolphinContextTaskQueue queue = createQueue(true);
+
+        //then:
+        Assert.assertFalse(queue.park(new CountingRunnable(new AtomicInteger())));
+    }
+
+    @Test
+    public void testUnparkedLongPollIsNotResumed() {
+        //given:
+        final DolphinContextTaskQueue queue = createQueue(false);
+        final AtomicInteger wakeUpCount = new AtomicInteger(0);
+
+        //when:
+        queue.park(new CountingRunnable(wakeUpCount));
+        queue.unpark();
+        queue.addTask(new CountingRunnable(new AtomicInteger()));
+
+        //then:
+        Assert.assertEquals(wakeUpCount.get(), 0);
+    }
+
+    @Test
+    public void testExecuteTasksWithoutWaiting() {
+        //given:
+        final DolphinContextTaskQueue queue = createQueue(false);
+        final AtomicInteger executionCount = new AtomicInteger(0);
+        queue.addTask(new CountingRunnable(executionCount));
+        queue.addTask(new CountingRunnable(executionCount));
+
+        //when:
+        final long start = System.currentTimeMillis();
+        queue.executeTasks(false);
+
+        //then:
+        Assert.assertEquals(executionCount.get(), 2);
+        Assert.assertTrue(System.currentTimeMillis() - start < 10_000);
+    }
+
+    @Test
+    public void testRejectIfQueueIsFull() throws Exception {
+        //given:
+        final DolphinContextTaskQueue queue = createQueue(2, TaskQueueOverflowPolicy.REJECT);
+        final AtomicInteger executionCount = new AtomicInteger(0);
+
+        //when:
+        queue.addTask(new CountingRunnable(executionCount));
+        queue.addTask(new CountingRunnable(executionCount));
+        final Future<Void> rejected = queue.addTask(new CountingRunnable(executionCount));
+        queue.executeTasks(false);
+
+        //then:
+        Assert.assertEquals(executionCount.get(), 2);
+        Assert.assertEquals(queue.getRejectedTaskCount(), 1);
+        Assert.assertTrue(rejected.isDone());
+        try {
+            rejected.get();
+            Assert.fail("Rejected task should fail");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof DolphinTaskException);
+        }
+    }
+
+    @Test
+    public void testDropOldestIfQueueIsFull() {
+        //given:
+        final DolphinContextTaskQueue queue = createQueue(2, TaskQueueOverflowPolicy.DROP_OLDEST);
+        final AtomicInteger oldestCount = new AtomicInteger(0);
+        final AtomicInteger executionCount = new AtomicInteger(0);
+
+        //when:
+        final Future<Void> oldest = queue.addTask(new CountingRunnable(oldestCount));
+        queue.addTask(new CountingRunnable(executionCount));
+        queue.addTask(new CountingRunnable(executionCount));
+        queue.executeTasks(false);
+
+        //then:
+        Assert.assertEquals(oldestCount.get(), 0);
+        Assert.assertEquals(executionCount.get(), 2);
+        Assert.assertTrue(oldest.isCancelled());
+        Assert.assertEquals(queue.getDroppedTaskCount(), 1);
+    }
+
+    @Test
+    public void testKeyedTaskReplacesPendingTask() throws Exception {
+        //given:
+        final DolphinContextTaskQueue queue = createQueue(false);
+        final List<String> executed = new ArrayList<>();
+
+        //when:
+        final Future<String> replaced = queue.addTask("key", new ValueCallable("first", executed));
+        queue.addTask(new ValueCallable("other", executed));
+        final Future<String> latest = queue.addTask("key", new ValueCallable("second", executed));
+        queue.addTask("otherKey", new ValueCallable("third", executed));
+        queue.executeTasks(false);
+
+        //then:
+        Assert.assertEquals(executed, Arrays.asList("second", "other", "third"));
+        Assert.assertTrue(replaced.isCancelled());
+        Assert.assertEquals(latest.get(), "second");
+        Assert.assertEquals(queue.getCoalescedTaskCount(), 1);
+    }
+
+    @Test
+    public void testKeyedTaskCanBeAddedAfterExecution() throws Exception {
+        //given:
+        final DolphinContextTaskQueue queue = createQueue(false);
+        final List<String> executed = new ArrayList<>();
+        queue.addTask("key", new ValueCallable("first", executed));
+        queue.executeTasks(false);
+
+        //when:
+        queue.addTask("key", new ValueCallable("second", executed));
+        queue.executeTasks(false);
+
+        //then:
+        Assert.assertEquals(executed, Arrays.asList("first", "second"));
+        Assert.assertEquals(queue.getCoalescedTaskCount(), 0);
+    }
+
+    @Test
+    public void testCoalesceDropsOldestKeyedTaskIfQueueIsFull() throws Exception {
+        //given:
+        final DolphinContextTaskQueue queue = createQueue(2, TaskQueueOverflowPolicy.COALESCE);
+        final List<String> executed = new ArrayList<>();
+
+        //when:
+        queue.addTask(new ValueCallable("event", executed));
+        final Future<String> dropped = queue.addTask("key", new ValueCallable("state", executed));
+        queue.addTask(new ValueCallable("otherEvent", executed));
+        final Future<String> rejected = queue.addTask(new ValueCallable("rejected", executed));
+        queue.executeTasks(false);
+
+        //then:
+        Assert.assertEquals(executed, Arrays.asList("event", "otherEvent"));
+        Assert.assertTrue(dropped.isCancelled());
+        Assert.assertEquals(queue.getDroppedTaskCount(), 1);
+        Assert.assertEquals(queue.getRejectedTaskCount(), 1);
+        Assert.assertTrue(rejected.isDone());
+    }
+
+    @Test
+    public void testMetrics() {
+        //given:
+        final DolphinContextTaskQueue queue = createQueue(10, TaskQueueOverflowPolicy.REJECT);
+        final AtomicInteger executionCount = new AtomicInteger(0);
+        queue.addTask(new CountingRunnable(executionCount));
+        queue.addTask(new CountingRunnable(executionCount));
+
+        //then:
+        Assert.assertEquals(queue.getQueueDepth(), 2);
+        Assert.assertEquals(queue.getCapacity(), 10);
+
+        //when:
+        queue.executeTasks(false);
+
+        //then:
+        Assert.assertEquals(queue.getQueueDepth(), 0);
+        Assert.assertEquals(queue.getExecutedTaskCount(), 2);
+        Assert.assertTrue(queue.getAverageTaskWaitTime() >= 0);
+        Assert.assertTrue(queue.getMaxTaskWaitTime() >= queue.getAverageTaskWaitTime());
+        Assert.assertTrue(queue.getMaxTaskExecutionTime() >= queue.getAverageTaskExecutionTime());
+    }
+
+    private DolphinContextTaskQueue createQueue(final int capacity, final TaskQueueOverflowPolicy overflowPolicy) {
+        final ClientSession session = new HttpClientSessionImpl(new HttpSessionMock());
+        return new DolphinContextTaskQueue(session.getId(), new ClientSessionProvider() {
+            @Override
+            public ClientSession getCurrentClientSession() {
+                return session;
+            }
+        }, new CommunicationManager() {
+            @Override
+            public boolean hasResponseCommands() {
+                return false;
+            }
+        }, 1, TimeUnit.MINUTES, capacity, overflowPolicy);
+    }
+
+    private DolphinContextTaskQueue createQueue(final boolean hasResponseCommands) {
+        final ClientSession session = new HttpClientSessionImpl(new HttpSessionMock());
+        return new DolphinContextTaskQueue(session.getId(), new ClientSessionProvider() {
+            @Override
+            public ClientSession getCurrentClientSession() {
+                return session;
+            }
+        }, new CommunicationManager() {
+            @Override
+            public boolean hasResponseCommands() {
+                return hasResponseCommands;
+            }
+        }, 1, TimeUnit.MINUTES);
+    }
+
+    private static class ValueCallable implements Callable<String> {
+
+        private final String value;
+
+        private final List<String> executed;
+
+        private ValueCallable(final String value, final List<String> executed) {
+            this.value = value;
+            this.executed = executed;
+        }
+
+        @Override
+        public String call() throws Exception {
+            executed.add(value);
+            return value;
+        }
+    }
+
+    private static class CountingRunnable implements Runnable {
+
+        private final AtomicInteger counter;
+
+        private CountingRunnable(final AtomicInteger counter) {
+            this.counter = counter;
+        }
+
+        @Override
+        public void run() {
+            counter.incrementAndGet();
+        }
+    }
+}
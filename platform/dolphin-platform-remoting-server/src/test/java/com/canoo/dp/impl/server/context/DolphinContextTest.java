@@ -39,6 +39,7 @@ import org.testng.annotations.Test;
 
 import javax.servlet.ServletContext;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -149,6 +150,18 @@ public class DolphinContextTest {
         assertNotNull(dolphinActions.containsKey(InterruptLongPollCommand.class));
     }
 
+    @Test(timeOut = 2_000)
+    public void testResumedLongPollDoesNotWaitForTasks() throws ControllerValidationException {
+        //given:
+        DolphinContext dolphinContext = createContext();
+
+        //when:
+        List<Command> results = dolphinContext.handleResumedLongPoll(Collections.<Command>singletonList(new StartLongPollCommand()));
+
+        //then:
+        assertNotNull(results);
+    }
+
     private final DefaultClasspathScanner classpathScanner = new DefaultClasspathScanner("com.canoo.dolphin");
 
     private DolphinContext createContext() throws ControllerValidationException {
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.context;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+
+public class PooledInputStreamReaderTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    @Test
+    public void testReadContentLargerThanBuffer() throws Exception {
+        //given:
+        final StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            expected.append("Hällo 😀 ").append(i);
+        }
+        final InputStream inputStream = new ByteArrayInputStream(expected.toString().getBytes(UTF_8));
+
+        //when:
+        final StringBuilder actual = new StringBuilder();
+        try (final Reader reader = new PooledInputStreamReader(inputStream, UTF_8, new IoBufferPool(16, 1))) {
+            final char[] buffer = new char[7];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                actual.append(buffer, 0, read);
+            }
+        }
+
+        //then:
+        Assert.assertEquals(actual.toString(), expected.toString());
+    }
+
+    @Test
+    public void testReadEmptyStream() throws Exception {
+        //given:
+        final Reader reader = new PooledInputStreamReader(new ByteArrayInputStream(new byte[0]), UTF_8, new IoBufferPool(16, 1));
+
+        //then:
+        Assert.assertEquals(reader.read(), -1);
+        Assert.assertEquals(reader.read(), -1);
+        reader.close();
+    }
+
+    @Test
+    public void testBufferIsReleased() throws Exception {
+        //given:
+        final IoBufferPool pool = new IoBufferPool(16, 1);
+        final Reader reader = new PooledInputStreamReader(new ByteArrayInputStream(new byte[0]), UTF_8, pool);
+        final byte[] byteBuffer = pool.acquireByteBuffer();
+        pool.releaseByteBuffer(byteBuffer);
+
+        //when:
+        reader.close();
+
+        //then:
+        Assert.assertSame(pool.acquireByteBuffer(), byteBuffer);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.context;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+public class PooledOutputStreamWriterTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    @Test
+    public void testWriteContentLargerThanBuffer() throws Exception {
+        //given:
+        final IoBufferPool pool = new IoBufferPool(16, 1);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            expected.append("Hällo 😀 ").append(i);
+        }
+
+        //when:
+        try (final Writer writer = new PooledOutputStreamWriter(outputStream, UTF_8, pool)) {
+            writer.write(expected.toString());
+            writer.write('!');
+            writer.write(new char[]{'a', 'b', 'c'}, 1, 2);
+        }
+
+        //then:
+        Assert.assertEquals(new String(outputStream.toByteArray(), UTF_8), expected.toString() + "!bc");
+    }
+
+    @Test
+    public void testBuffersAreReused() throws Exception {
+        //given:
+        final IoBufferPool pool = new IoBufferPool(16, 1);
+        final Writer writer = new PooledOutputStreamWriter(new ByteArrayOutputStream(), UTF_8, pool);
+        writer.write("test");
+        writer.close();
+        final char[] charBuffer = pool.acquireCharBuffer();
+        final byte[] byteBuffer = pool.acquireByteBuffer();
+        pool.releaseCharBuffer(charBuffer);
+        pool.releaseByteBuffer(byteBuffer);
+
+        //when:
+        final Writer secondWriter = new PooledOutputStreamWriter(new ByteArrayOutputStream(), UTF_8, pool);
+
+        //then:
+        Assert.assertNotSame(pool.acquireCharBuffer(), charBuffer);
+        secondWriter.close();
+        Assert.assertSame(pool.acquireCharBuffer(), charBuffer);
+        Assert.assertSame(pool.acquireByteBuffer(), byteBuffer);
+    }
+
+    @Test
+    public void testWriteAfterClose() throws Exception {
+        //given:
+        final Writer writer = new PooledOutputStreamWriter(new ByteArrayOutputStream(), UTF_8, new IoBufferPool(16, 1));
+        writer.close();
+
+        //then:
+        try {
+            writer.write("test");
+            Assert.fail("Writing to a closed writer should not be possible!");
+        } catch (IOException e) {
+
+        }
+    }
+}
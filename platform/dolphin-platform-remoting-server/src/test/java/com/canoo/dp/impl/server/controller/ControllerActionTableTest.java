@@ -0,0 +1,131 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.controller;
+
+import com.canoo.dp.impl.remoting.Converters;
+import com.canoo.platform.remoting.server.DolphinAction;
+import com.canoo.platform.remoting.server.Param;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ControllerActionTableTest {
+
+    @Test
+    public void testTableIsShared() {
+        Assert.assertSame(ControllerActionTable.of(ActionController.class), ControllerActionTable.of(ActionController.class));
+    }
+
+    @Test
+    public void testActionLookup() {
+        final ControllerActionTable table = ControllerActionTable.of(ActionController.class);
+        Assert.assertNotNull(table.getAction("simpleAction"));
+        Assert.assertNotNull(table.getAction("renamed"));
+        Assert.assertNotNull(table.getAction("inheritedAction"));
+        Assert.assertNull(table.getAction("namedAction"));
+        Assert.assertNull(table.getAction("noAction"));
+    }
+
+    @Test(expectedExceptions = RuntimeException.class)
+    public void testAmbiguousAction() {
+        ControllerActionTable.of(ActionController.class).getAction("duplicate");
+    }
+
+    @Test
+    public void testInvokeWithParams() throws Exception {
+        final ControllerActionTable.ControllerAction action = ControllerActionTable.of(ActionController.class).getAction("renamed");
+        Assert.assertEquals(action.getParamCount(), 2);
+        Assert.assertEquals(action.getParamName(0), "text");
+        Assert.assertEquals(action.getParamName(1), "1");
+
+        final Map<String, Object> params = new HashMap<>();
+        params.put("text", "Hello");
+        params.put("1", 3);
+        final ActionController controller = new ActionController();
+        action.invoke(controller, action.bindArguments(params, new Converters(null)));
+        Assert.assertEquals(controller.value, "Hello3");
+    }
+
+    @Test
+    public void testInvokeWithoutParams() throws Exception {
+        final ControllerActionTable.ControllerAction action = ControllerActionTable.of(ActionController.class).getAction("inheritedAction");
+        final ActionController controller = new ActionController();
+        action.invoke(controller, action.bindArguments(Collections.<String, Object>emptyMap(), new Converters(null)));
+        Assert.assertEquals(controller.value, "inherited");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testMissingParam() throws Exception {
+        final ControllerActionTable.ControllerAction action = ControllerActionTable.of(ActionController.class).getAction("renamed");
+        action.bindArguments(Collections.<String, Object>singletonMap("text", "Hello"), new Converters(null));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testNullForPrimitiveParam() throws Exception {
+        final ControllerActionTable.ControllerAction action = ControllerActionTable.of(ActionController.class).getAction("renamed");
+        final Map<String, Object> params = new HashMap<>();
+        params.put("text", "Hello");
+        params.put("1", null);
+        action.bindArguments(params, new Converters(null));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testExceptionOfActionIsThrown() throws Exception {
+        final ControllerActionTable.ControllerAction action = ControllerActionTable.of(ActionController.class).getAction("failingAction");
+        action.invoke(new ActionController(), new Object[0]);
+    }
+
+    private static class ParentController {
+
+        protected String value;
+
+        @DolphinAction
+        private void inheritedAction() {
+            value = "inherited";
+        }
+    }
+
+    private static class ActionController extends ParentController {
+
+        @DolphinAction
+        public void simpleAction() {
+        }
+
+        @DolphinAction("renamed")
+        private void namedAction(@Param("text") final String text, final int count) {
+            value = text + count;
+        }
+
+        @DolphinAction("duplicate")
+        public void duplicate1() {
+        }
+
+        @DolphinAction("duplicate")
+        public void duplicate2() {
+        }
+
+        @DolphinAction
+        public void failingAction() {
+            throw new IllegalStateException("failed");
+        }
+
+        public void noAction() {
+        }
+    }
+}
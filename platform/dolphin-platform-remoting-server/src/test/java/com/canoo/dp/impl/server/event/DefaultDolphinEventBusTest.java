@@ -22,7 +22,12 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import javax.servlet.ServletContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class DefaultDolphinEventBusTest {
 
@@ -91,7 +96,160 @@ public class DefaultDolphinEventBusTest {
         Assert.assertFalse(calledCheck.get());
     }
 
+    @Test
+    public void TestPublishInOtherSessionUsesOneTaskPerSession() {
+        //given
+        final List<Runnable> tasksOfReceiver = new ArrayList<>();
+        final DolphinContext receiverContext = createContext(tasksOfReceiver);
+        final DolphinContext senderContext = createContext(new ArrayList<Runnable>());
+        final AtomicReference<DolphinContext> currentContext = new AtomicReference<>(receiverContext);
+        final AtomicInteger callCount = new AtomicInteger(0);
+        DolphinEventBus eventBus = create(currentContext, receiverContext, senderContext);
+        for (int i = 0; i < 3; i++) {
+            eventBus.subscribe(TEST_TOPIC, new MessageListener<String>() {
+                @Override
+                public void onMessage(Message<String> message) {
+                    callCount.incrementAndGet();
+                }
+            });
+        }
+
+        //when
+        currentContext.set(senderContext);
+        eventBus.publish(TEST_TOPIC, "huhu");
+
+        //then
+        Assert.assertEquals(callCount.get(), 0);
+        Assert.assertEquals(tasksOfReceiver.size(), 1);
+        tasksOfReceiver.get(0).run();
+        Assert.assertEquals(callCount.get(), 3);
+    }
+
+    @Test
+    public void TestPublishInsideSessionStopsAtFailingListener() {
+        //given
+        final AtomicBoolean calledCheck = new AtomicBoolean(false);
+        DolphinEventBus eventBus = create(createContext());
+        eventBus.subscribe(TEST_TOPIC, new MessageListener<String>() {
+            @Override
+            public void onMessage(Message<String> message) {
+                throw new IllegalStateException("listener failed");
+            }
+        });
+        eventBus.subscribe(TEST_TOPIC, new MessageListener<String>() {
+            @Override
+            public void onMessage(Message<String> message) {
+                calledCheck.set(true);
+            }
+        });
+
+        //when
+        try {
+            eventBus.publish(TEST_TOPIC, "huhu");
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            Assert.assertEquals(e.getMessage(), "listener failed");
+        }
+
+        //then
+        Assert.assertFalse(calledCheck.get());
+    }
+
+    @Test
+    public void TestRemoveSubscriptionInOtherSession() {
+        //given
+        final List<Runnable> tasksOfReceiver = new ArrayList<>();
+        final DolphinContext receiverContext = createContext(tasksOfReceiver);
+        final DolphinContext senderContext = createContext(new ArrayList<Runnable>());
+        final AtomicReference<DolphinContext> currentContext = new AtomicReference<>(receiverContext);
+        final AtomicInteger firstCallCount = new AtomicInteger(0);
+        final AtomicInteger secondCallCount = new AtomicInteger(0);
+        DolphinEventBus eventBus = create(currentContext, receiverContext, senderContext);
+        Subscription firstSubscription = eventBus.subscribe(TEST_TOPIC, new MessageListener<String>() {
+            @Override
+            public void onMessage(Message<String> message) {
+                firstCallCount.incrementAndGet();
+            }
+        });
+        Subscription secondSubscription = eventBus.subscribe(TEST_TOPIC, new MessageListener<String>() {
+            @Override
+            public void onMessage(Message<String> message) {
+                secondCallCount.incrementAndGet();
+            }
+        });
+
+        //when
+        firstSubscription.unsubscribe();
+        currentContext.set(senderContext);
+        eventBus.publish(TEST_TOPIC, "huhu");
+
+        //then
+        Assert.assertEquals(tasksOfReceiver.size(), 1);
+        tasksOfReceiver.remove(0).run();
+        Assert.assertEquals(firstCallCount.get(), 0);
+        Assert.assertEquals(secondCallCount.get(), 1);
+
+        //when
+        currentContext.set(receiverContext);
+        secondSubscription.unsubscribe();
+        currentContext.set(senderContext);
+        eventBus.publish(TEST_TOPIC, "huhu");
+
+        //then
+        Assert.assertTrue(tasksOfReceiver.isEmpty());
+        Assert.assertEquals(secondCallCount.get(), 1);
+    }
+
+    @Test
+    public void TestSessionFilterSkipsAllListenersOfSession() {
+        //given
+        final List<Runnable> tasksOfReceiver = new ArrayList<>();
+        final List<Runnable> tasksOfOtherReceiver = new ArrayList<>();
+        final DolphinContext receiverContext = createContext(tasksOfReceiver);
+        final DolphinContext otherReceiverContext = createContext(tasksOfOtherReceiver);
+        final DolphinContext senderContext = createContext(new ArrayList<Runnable>());
+        final AtomicReference<DolphinContext> currentContext = new AtomicReference<>(receiverContext);
+        final AtomicInteger callCount = new AtomicInteger(0);
+        final AtomicInteger otherCallCount = new AtomicInteger(0);
+        DolphinEventBus eventBus = create(currentContext, receiverContext, otherReceiverContext, senderContext);
+        for (int i = 0; i < 3; i++) {
+            eventBus.subscribe(TEST_TOPIC, new MessageListener<String>() {
+                @Override
+                public void onMessage(Message<String> message) {
+                    callCount.incrementAndGet();
+                }
+            });
+        }
+        currentContext.set(otherReceiverContext);
+        eventBus.subscribe(TEST_TOPIC, new MessageListener<String>() {
+            @Override
+            public void onMessage(Message<String> message) {
+                otherCallCount.incrementAndGet();
+            }
+        });
+
+        //when
+        currentContext.set(senderContext);
+        eventBus.publish(TEST_TOPIC, "huhu", new ListEventSessionFilter(otherReceiverContext.getId()));
+
+        //then
+        Assert.assertEquals(tasksOfReceiver.size(), 1);
+        tasksOfReceiver.get(0).run();
+        Assert.assertEquals(callCount.get(), 0);
+        Assert.assertEquals(tasksOfOtherReceiver.size(), 1);
+        tasksOfOtherReceiver.get(0).run();
+        Assert.assertEquals(otherCallCount.get(), 1);
+    }
+
     private DefaultDolphinEventBus create(final DolphinContext context) {
+        final AtomicReference<DolphinContext> currentContext = new AtomicReference<>(context);
+        if (context == null) {
+            return create(currentContext);
+        }
+        return create(currentContext, context);
+    }
+
+    private DefaultDolphinEventBus create(final AtomicReference<DolphinContext> currentContext, final DolphinContext... contexts) {
         DefaultDolphinEventBus eventBus = new DefaultDolphinEventBus();
         eventBus.init(new DolphinContextProvider() {
             @Override
@@ -101,15 +259,17 @@ public class DefaultDolphinEventBusTest {
 
             @Override
             public DolphinContext getContextById(String clientSessionId) {
-                if (context != null && context.getId().equals(clientSessionId)) {
-                    return context;
+                for (DolphinContext context : contexts) {
+                    if (context.getId().equals(clientSessionId)) {
+                        return context;
+                    }
                 }
                 return null;
             }
 
             @Override
             public DolphinContext getCurrentDolphinContext() {
-                return context;
+                return currentContext.get();
             }
         }, new ClientSessionLifecycleHandlerImpl());
         return eventBus;
@@ -131,6 +291,26 @@ public class DefaultDolphinEventBusTest {
         }
     }
 
+    private DolphinContext createContext(final List<Runnable> tasks) {
+        try {
+            final ClientSession session = new HttpClientSessionImpl(new HttpSessionMock());
+            return new DolphinContext(new RemotingConfiguration(), session, new ClientSessionProvider() {
+                @Override
+                public ClientSession getCurrentClientSession() {
+                    return session;
+                }
+            }, new ManagedBeanFactoryMock(), new ControllerRepository(classpathScanner), new DestroyCallbackMock()) {
+                @Override
+                public Future<Void> runLater(Runnable runnable) {
+                    tasks.add(runnable);
+                    return null;
+                }
+            };
+        } catch (Exception e) {
+            throw new RuntimeException("FAIL", e);
+        }
+    }
+
     private class DestroyCallbackMock implements Callback<DolphinContext> {
 
         @Override
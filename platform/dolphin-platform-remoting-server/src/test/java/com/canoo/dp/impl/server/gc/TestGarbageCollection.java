@@ -24,6 +24,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
@@ -758,6 +760,348 @@ public class TestGarbageCollection {
         removedObjects.clear();
     }
 
+    @Test
+    public void testDeepHierarchy() {
+        final List<Object> removedObjects = new ArrayList<>();
+        GarbageCollectionCallback gcConsumer = new GarbageCollectionCallback() {
+            @Override
+            public void onReject(Set<Instance> instances) {
+                for (Instance instance : instances) {
+                    removedObjects.add(instance.getBean());
+                }
+            }
+        };
+        GarbageCollector garbageCollector = createGarbageCollection(gcConsumer);
+
+        BeanWithProperties rootBean = new BeanWithProperties(garbageCollector);
+        garbageCollector.onBeanCreated(rootBean, true);
+
+        BeanWithProperties parent = rootBean;
+        for (int i = 0; i < 20000; i++) {
+            BeanWithProperties child = new BeanWithProperties(garbageCollector);
+            garbageCollector.onBeanCreated(child, false);
+            parent.beanProperty().set(child);
+            parent = child;
+        }
+
+        assertEquals(garbageCollector.getManagedInstancesCount(), 20001);
+        garbageCollector.gc();
+        assertThat(removedObjects, hasSize(0));
+        assertEquals(garbageCollector.getManagedInstancesCount(), 20001);
+
+        rootBean.beanProperty().set(null);
+        garbageCollector.gc();
+        assertThat(removedObjects, hasSize(20000));
+        assertEquals(garbageCollector.getManagedInstancesCount(), 1);
+    }
+
+    @Test
+    public void testChildOfRemovedParentIsRemovedLater() {
+        final List<Object> removedObjects = new ArrayList<>();
+        GarbageCollectionCallback gcConsumer = new GarbageCollectionCallback() {
+            @Override
+            public void onReject(Set<Instance> instances) {
+                for (Instance instance : instances) {
+                    removedObjects.add(instance.getBean());
+                }
+            }
+        };
+        GarbageCollector garbageCollector = createGarbageCollection(gcConsumer);
+
+        BeanWithLists rootBean = new BeanWithLists(garbageCollector);
+        garbageCollector.onBeanCreated(rootBean, true);
+
+        BeanWithProperties parentBean = new BeanWithProperties(garbageCollector);
+        garbageCollector.onBeanCreated(parentBean, false);
+
+        BeanWithProperties childBean = new BeanWithProperties(garbageCollector);
+        garbageCollector.onBeanCreated(childBean, false);
+
+        rootBean.getBeansList2().add(parentBean);
+        rootBean.getBeansList2().add(childBean);
+        parentBean.beanProperty().set(childBean);
+
+        rootBean.getBeansList2().remove(parentBean);
+        garbageCollector.gc();
+        assertThat(removedObjects, hasSize(1));
+        assertTrue(removedObjects.get(0) == parentBean);
+        assertEquals(garbageCollector.getManagedInstancesCount(), 2);
+        removedObjects.clear();
+
+        rootBean.getBeansList2().remove(childBean);
+        garbageCollector.gc();
+        assertThat(removedObjects, hasSize(1));
+        assertTrue(removedObjects.get(0) == childBean);
+        assertEquals(garbageCollector.getManagedInstancesCount(), 1);
+    }
+
+    @Test
+    public void testConcurrentPropertyChanges() throws Exception {
+        final List<Object> removedObjects = new CopyOnWriteArrayList<>();
+        GarbageCollectionCallback gcConsumer = new GarbageCollectionCallback() {
+            @Override
+            public void onReject(Set<Instance> instances) {
+                for (Instance instance : instances) {
+                    removedObjects.add(instance.getBean());
+                }
+            }
+        };
+        final GarbageCollector garbageCollector = createGarbageCollection(gcConsumer);
+
+        final BeanWithLists rootBean = new BeanWithLists(garbageCollector);
+        garbageCollector.onBeanCreated(rootBean, true);
+
+        final int threadCount = 4;
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        final List<Throwable> errors = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            final BeanWithProperties parentBean = new BeanWithProperties(garbageCollector);
+            final BeanWithProperties childBeanA = new BeanWithProperties(garbageCollector);
+            final BeanWithProperties childBeanB = new BeanWithProperties(garbageCollector);
+            garbageCollector.onBeanCreated(parentBean, false);
+            garbageCollector.onBeanCreated(childBeanA, false);
+            garbageCollector.onBeanCreated(childBeanB, false);
+            rootBean.getBeansList2().add(parentBean);
+            rootBean.getBeansList2().add(childBeanA);
+            rootBean.getBeansList2().add(childBeanB);
+
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        startLatch.await();
+                        for (int j = 0; j < 10000; j++) {
+                            if (j % 2 == 0) {
+                                childBeanA.beanProperty().set(null);
+                                childBeanB.beanProperty().set(childBeanA);
+                                parentBean.beanProperty().set(childBeanB);
+                            } else {
+                                childBeanB.beanProperty().set(null);
+                                childBeanA.beanProperty().set(childBeanB);
+                                parentBean.beanProperty().set(childBeanA);
+                            }
+                            childBeanB.stringProperty().set("Value " + j);
+                        }
+                    } catch (Throwable e) {
+                        errors.add(e);
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        startLatch.countDown();
+        for (Thread thread : threads) {
+            while (thread.isAlive()) {
+                garbageCollector.gc();
+                thread.join(1);
+            }
+        }
+        garbageCollector.gc();
+
+        assertTrue(errors.isEmpty(), errors.toString());
+        assertThat(removedObjects, hasSize(0));
+        assertEquals(garbageCollector.getManagedInstancesCount(), 1 + 3 * threadCount);
+
+        rootBean.getBeansList2().clear();
+        garbageCollector.gc();
+        assertThat(removedObjects, hasSize(3 * threadCount));
+        assertEquals(garbageCollector.getManagedInstancesCount(), 1);
+    }
+
+    @Test
+    public void testChangeOfRemovedBeanWithinOneRun() {
+        final List<Object> removedObjects = new ArrayList<>();
+        GarbageCollectionCallback gcConsumer = new GarbageCollectionCallback() {
+            @Override
+            public void onReject(Set<Instance> instances) {
+                for (Instance instance : instances) {
+                    removedObjects.add(instance.getBean());
+                }
+            }
+        };
+        GarbageCollector garbageCollector = createGarbageCollection(gcConsumer);
+
+        BeanWithLists rootBean = new BeanWithLists(garbageCollector);
+        garbageCollector.onBeanCreated(rootBean, true);
+
+        BeanWithProperties parentBean = new BeanWithProperties(garbageCollector);
+        garbageCollector.onBeanCreated(parentBean, false);
+
+        BeanWithProperties childBean = new BeanWithProperties(garbageCollector);
+        garbageCollector.onBeanCreated(childBean, false);
+        rootBean.getBeansList2().add(childBean);
+
+        parentBean.beanProperty().set(childBean);
+        garbageCollector.gc();
+        assertThat(removedObjects, hasSize(1));
+        assertTrue(removedObjects.get(0) == parentBean);
+        removedObjects.clear();
+
+        //The reference of the collected parent was already unlinked by the GC
+        parentBean.beanProperty().set(null);
+        garbageCollector.gc();
+        assertThat(removedObjects, hasSize(0));
+        assertEquals(garbageCollector.getManagedInstancesCount(), 2);
+
+        rootBean.getBeansList2().clear();
+        garbageCollector.gc();
+        assertThat(removedObjects, hasSize(1));
+        assertTrue(removedObjects.get(0) == childBean);
+    }
+
+    @Test
+    public void testGcAfterCircularDependency() {
+        final List<Object> removedObjects = new ArrayList<>();
+        GarbageCollectionCallback gcConsumer = new GarbageCollectionCallback() {
+            @Override
+            public void onReject(Set<Instance> instances) {
+                for (Instance instance : instances) {
+                    removedObjects.add(instance.getBean());
+                }
+            }
+        };
+        GarbageCollector garbageCollector = createGarbageCollection(gcConsumer);
+
+        BeanWithProperties parentBean = new BeanWithProperties(garbageCollector);
+        garbageCollector.onBeanCreated(parentBean, true);
+
+        BeanWithProperties childBean = new BeanWithProperties(garbageCollector);
+        garbageCollector.onBeanCreated(childBean, false);
+
+        parentBean.beanProperty().set(childBean);
+        try {
+            childBean.beanProperty().set(parentBean);
+            fail("Circular dependency not detected");
+        } catch (CircularDependencyException expected) {
+            //The rejected reference is not part of the GC and clearing the property must not fail
+        }
+
+        childBean.beanProperty().set(null);
+        garbageCollector.gc();
+        assertThat(removedObjects, hasSize(0));
+
+        parentBean.beanProperty().set(null);
+        garbageCollector.gc();
+        assertThat(removedObjects, hasSize(1));
+        assertTrue(removedObjects.get(0) == childBean);
+    }
+
+    @Test
+    public void testCandidateThreshold() {
+        final List<Object> removedObjects = new ArrayList<>();
+        GarbageCollectionCallback gcConsumer = new GarbageCollectionCallback() {
+            @Override
+            public void onReject(Set<Instance> instances) {
+                for (Instance instance : instances) {
+                    removedObjects.add(instance.getBean());
+                }
+            }
+        };
+        Properties properties = new Properties();
+        properties.setProperty(RemotingConfiguration.GARBAGE_COLLECTION_CANDIDATE_THRESHOLD, "3");
+        GarbageCollector garbageCollector = createGarbageCollection(gcConsumer, properties);
+
+        BeanWithProperties parentBean = new BeanWithProperties(garbageCollector);
+        garbageCollector.onBeanCreated(parentBean, true);
+
+        assertFalse(garbageCollector.gcIfRequired());
+
+        for (int i = 0; i < 2; i++) {
+            garbageCollector.onBeanCreated(new BeanWithProperties(garbageCollector), false);
+        }
+        assertFalse(garbageCollector.gcIfRequired());
+        assertThat(removedObjects, hasSize(0));
+        assertEquals(garbageCollector.getGcCalls(), 0);
+
+        garbageCollector.onBeanCreated(new BeanWithProperties(garbageCollector), false);
+        assertTrue(garbageCollector.gcIfRequired());
+        assertThat(removedObjects, hasSize(3));
+        assertEquals(garbageCollector.getManagedInstancesCount(), 1);
+        assertEquals(garbageCollector.getGcCalls(), 1);
+        assertEquals(garbageCollector.getLastRemovedBeansCount(), 3);
+        assertEquals(garbageCollector.getMaxRemovedBeansPerRun(), 3);
+    }
+
+    @Test
+    public void testMinInterval() {
+        final List<Object> removedObjects = new ArrayList<>();
+        GarbageCollectionCallback gcConsumer = new GarbageCollectionCallback() {
+            @Override
+            public void onReject(Set<Instance> instances) {
+                for (Instance instance : instances) {
+                    removedObjects.add(instance.getBean());
+                }
+            }
+        };
+        Properties properties = new Properties();
+        properties.setProperty(RemotingConfiguration.GARBAGE_COLLECTION_MIN_INTERVAL, "3600000");
+        GarbageCollector garbageCollector = createGarbageCollection(gcConsumer, properties);
+
+        garbageCollector.onBeanCreated(new BeanWithProperties(garbageCollector), false);
+        assertTrue(garbageCollector.gcIfRequired());
+        assertThat(removedObjects, hasSize(1));
+        removedObjects.clear();
+
+        garbageCollector.onBeanCreated(new BeanWithProperties(garbageCollector), false);
+        assertFalse(garbageCollector.gcIfRequired());
+        assertThat(removedObjects, hasSize(0));
+
+        garbageCollector.gc();
+        assertThat(removedObjects, hasSize(1));
+        assertEquals(garbageCollector.getGcCalls(), 2);
+    }
+
+    @Test
+    public void testTimeLimitedRun() {
+        final List<Object> removedObjects = new ArrayList<>();
+        GarbageCollectionCallback gcConsumer = new GarbageCollectionCallback() {
+            @Override
+            public void onReject(Set<Instance> instances) {
+                for (Instance instance : instances) {
+                    removedObjects.add(instance.getBean());
+                }
+            }
+        };
+        Properties properties = new Properties();
+        properties.setProperty(RemotingConfiguration.GARBAGE_COLLECTION_CANDIDATE_THRESHOLD, "100");
+        GarbageCollector garbageCollector = createGarbageCollection(gcConsumer, properties);
+
+        BeanWithLists parentBean = new BeanWithLists(garbageCollector);
+        garbageCollector.onBeanCreated(parentBean, true);
+
+        BeanWithLists wrapperBean = new BeanWithLists(garbageCollector);
+        garbageCollector.onBeanCreated(wrapperBean, false);
+        parentBean.getBeansList().add(wrapperBean);
+        for (int i = 0; i < 10; i++) {
+            BeanWithProperties childBean = new BeanWithProperties(garbageCollector);
+            garbageCollector.onBeanCreated(childBean, false);
+            wrapperBean.getBeansList2().add(childBean);
+        }
+        parentBean.getBeansList().clear();
+
+        //Each run with the minimal time limit only checks one instance
+        garbageCollector.run(1);
+        assertThat(removedObjects, hasSize(1));
+        assertTrue(removedObjects.get(0) == wrapperBean);
+
+        garbageCollector.run(1);
+        assertThat(removedObjects, hasSize(2));
+        assertEquals(garbageCollector.getMaxRemovedBeansPerRun(), 1);
+
+        //The pending run will be continued even if the threshold is not reached
+        assertTrue(garbageCollector.gcIfRequired());
+        assertThat(removedObjects, hasSize(11));
+        assertEquals(garbageCollector.getLastRemovedBeansCount(), 9);
+        assertEquals(garbageCollector.getManagedInstancesCount(), 1);
+        assertEquals(garbageCollector.getGcCalls(), 3);
+        assertTrue(garbageCollector.getMaxPauseTime() >= garbageCollector.getAveragePauseTime());
+
+        assertFalse(garbageCollector.gcIfRequired());
+    }
+
     @Test
     public void testDeactivatedGC() {
         GarbageCollectionCallback gcConsumer = new GarbageCollectionCallback() {
@@ -850,4 +1194,11 @@ public class TestGarbageCollection {
         final RemotingConfiguration configuration = new RemotingConfiguration();
         return new GarbageCollector(configuration, gcConsumer);
     }
+
+    private GarbageCollector createGarbageCollection(final GarbageCollectionCallback gcConsumer, final Properties properties) {
+        Assert.requireNonNull(gcConsumer, "gcConsumer");
+
+        final RemotingConfiguration configuration = new RemotingConfiguration(new DefaultPlatformConfiguration(properties));
+        return new GarbageCollector(configuration, gcConsumer);
+    }
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2015-2017 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.legacy;
+
+import com.canoo.dp.impl.remoting.PlatformRemotingConstants;
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.AttributeMetadataChangedCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.Command;
+import com.canoo.dp.impl.remoting.legacy.communication.CreatePresentationModelCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.DeletePresentationModelCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.ValueChangedCommand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+public class ResponseCompactorTest {
+
+    @Test
+    public void testCollapseValueChanges() {
+        //given:
+        final ValueChangedCommand otherChange = new ValueChangedCommand("2S", "x");
+        final ValueChangedCommand lastChange = new ValueChangedCommand("1S", 3);
+        final List<Command> response = new LinkedList<>();
+        response.add(new ValueChangedCommand("1S", 1));
+        response.add(otherChange);
+        response.add(new ValueChangedCommand("1S", 2));
+        response.add(lastChange);
+
+        //when:
+        ResponseCompactor.compact(response);
+
+        //then:
+        Assert.assertEquals(response.size(), 2);
+        Assert.assertSame(response.get(0), otherChange);
+        Assert.assertSame(response.get(1), lastChange);
+    }
+
+    @Test
+    public void testRemoveTransientModel() {
+        //given:
+        final CreatePresentationModelCommand otherModel = createModel("pm2", "type", "2S");
+        final List<Command> response = new ArrayList<>();
+        response.add(createModel("pm1", "type", "1S"));
+        response.add(otherModel);
+        response.add(new ValueChangedCommand("1S", "value"));
+        response.add(new AttributeMetadataChangedCommand("1S", "qualifier", "q"));
+        response.add(new DeletePresentationModelCommand("pm1"));
+
+        //when:
+        ResponseCompactor.compact(response);
+
+        //then:
+        Assert.assertEquals(response, Collections.<Command>singletonList(otherModel));
+    }
+
+    @Test
+    public void testKeepReferencedModel() {
+        //given:
+        final List<Command> response = new ArrayList<>();
+        response.add(createModel("pm1", "type", "1S"));
+        response.add(new ValueChangedCommand("2S", "pm1"));
+        response.add(new DeletePresentationModelCommand("pm1"));
+
+        //when:
+        ResponseCompactor.compact(response);
+
+        //then:
+        Assert.assertEquals(response.size(), 3);
+    }
+
+    @Test
+    public void testKeepModelReferencedByListSplice() {
+        //given:
+        final ListSpliceCommand listSpliceCommand = new ListSpliceCommand();
+        listSpliceCommand.setSourceId("pm2");
+        listSpliceCommand.setAttributeName("items");
+        listSpliceCommand.addValue("pm1");
+
+        final List<Command> response = new ArrayList<>();
+        response.add(createModel("pm1", "type", "1S"));
+        response.add(listSpliceCommand);
+        response.add(new DeletePresentationModelCommand("pm1"));
+
+        //when:
+        ResponseCompactor.compact(response);
+
+        //then:
+        Assert.assertEquals(response.size(), 3);
+    }
+
+    @Test
+    public void testKeepListSpliceModel() {
+        //given:
+        final List<Command> response = new ArrayList<>();
+        response.add(createModel("pm1", PlatformRemotingConstants.LIST_SPLICE, "1S"));
+        response.add(new DeletePresentationModelCommand("pm1"));
+
+        //when:
+        ResponseCompactor.compact(response);
+
+        //then:
+        Assert.assertEquals(response.size(), 2);
+    }
+
+    @Test
+    public void testKeepModelThatWasCreatedBefore() {
+        //given:
+        final List<Command> response = new ArrayList<>();
+        response.add(new ValueChangedCommand("1S", "value"));
+        response.add(new DeletePresentationModelCommand("pm1"));
+
+        //when:
+        ResponseCompactor.compact(response);
+
+        //then:
+        Assert.assertEquals(response.size(), 2);
+    }
+
+    private CreatePresentationModelCommand createModel(final String pmId, final String pmType, final String attributeId) {
+        final Map<String, Object> attribute = new HashMap<>();
+        attribute.put("propertyName", "property");
+        attribute.put("id", attributeId);
+        attribute.put("value", null);
+        final List<Map<String, Object>> attributes = new ArrayList<>();
+        attributes.add(attribute);
+        return new CreatePresentationModelCommand(pmId, pmType, attributes);
+    }
+}
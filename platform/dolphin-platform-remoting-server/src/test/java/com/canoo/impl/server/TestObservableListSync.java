@@ -16,6 +16,7 @@
 package com.canoo.impl.server;
 
 import com.canoo.dp.impl.remoting.PlatformRemotingConstants;
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
 import com.canoo.dp.impl.remoting.converters.DolphinBeanConverterFactory;
 import com.canoo.dp.impl.remoting.legacy.RemotingConstants;
 import com.canoo.dp.impl.remoting.legacy.core.PresentationModel;
@@ -26,7 +27,9 @@ import com.canoo.dp.impl.server.legacy.Slot;
 import com.canoo.impl.server.util.AbstractDolphinBasedTest;
 import com.canoo.impl.server.util.ListReferenceModel;
 import com.canoo.impl.server.util.SimpleTestModel;
+import com.canoo.platform.core.functional.Callback;
 import com.canoo.platform.remoting.BeanManager;
+import com.canoo.platform.remoting.ObservableList;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
@@ -86,16 +89,16 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         model.getObjectList().add(object);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) objectModel.getId())));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), allOf(instanceOf(String.class), is((Object) objectModel.getId())));
     }
 
     @Test
@@ -111,16 +114,16 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         model.getObjectList().add(null);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), nullValue());
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), nullValue());
     }
 
     @Test
@@ -137,16 +140,16 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         model.getPrimitiveList().add(value);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) value)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), allOf(instanceOf(String.class), is((Object) value)));
     }
 
     @Test
@@ -162,16 +165,16 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         model.getPrimitiveList().add(null);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), nullValue());
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), nullValue());
     }
 
     @Test
@@ -185,21 +188,21 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final SimpleTestModel object = manager.create(SimpleTestModel.class);
 
         model.getObjectList().add(object);
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         model.getObjectList().remove(0);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     @Test
@@ -212,21 +215,21 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getObjectList().add(null);
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         model.getObjectList().remove(0);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     @Test
@@ -239,21 +242,21 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().add("Hello");
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         model.getPrimitiveList().remove(0);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     @Test
@@ -266,21 +269,21 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().add(null);
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         model.getPrimitiveList().remove(0);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     @Test
@@ -296,22 +299,22 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final SimpleTestModel oldObject = manager.create(SimpleTestModel.class);
 
         model.getObjectList().add(oldObject);
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         model.getObjectList().set(0, newObject);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newObjectModel.getId())));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), allOf(instanceOf(String.class), is((Object) newObjectModel.getId())));
     }
 
     @Test
@@ -325,22 +328,22 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final SimpleTestModel oldObject = manager.create(SimpleTestModel.class);
 
         model.getObjectList().add(oldObject);
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         model.getObjectList().set(0, null);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), nullValue());
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), nullValue());
     }
 
     @Test
@@ -355,22 +358,22 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel newObjectModel = serverModelStore.findAllPresentationModelsByType(SimpleTestModel.class.getName()).get(0);
 
         model.getObjectList().add(null);
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         model.getObjectList().set(0, newObject);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newObjectModel.getId())));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), allOf(instanceOf(String.class), is((Object) newObjectModel.getId())));
     }
 
     @Test
@@ -384,22 +387,22 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newValue = "Goodbye World";
 
         model.getPrimitiveList().add("Hello World");
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         model.getPrimitiveList().set(0, newValue);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newValue)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), allOf(instanceOf(String.class), is((Object) newValue)));
     }
 
     @Test
@@ -412,22 +415,22 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().add("Hello World");
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         model.getPrimitiveList().set(0, null);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), nullValue());
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), nullValue());
     }
 
     @Test
@@ -441,22 +444,22 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newValue = "Goodbye World";
 
         model.getPrimitiveList().add(null);
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         model.getPrimitiveList().set(0, newValue);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newValue)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), allOf(instanceOf(String.class), is((Object) newValue)));
     }
 
 
@@ -477,18 +480,18 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         model.getPrimitiveList().addAll(0, Arrays.asList(newElement));
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) "42"));
-        assertThat(change.getAttribute("1").getValue(), is((Object) "4711"));
-        assertThat(change.getAttribute("2").getValue(), is((Object) "Hello World"));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(change.getValues().get(0), is((Object) "42"));
+        assertThat(change.getValues().get(1), is((Object) "4711"));
+        assertThat(change.getValues().get(2), is((Object) "Hello World"));
     }
 
     @Test
@@ -502,22 +505,22 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newElement = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         model.getPrimitiveList().add(0, newElement);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) newElement));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), is((Object) newElement));
     }
 
     @Test
@@ -531,24 +534,24 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String[] newElement = new String[]{"42", "4711", "Hello World"};
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         model.getPrimitiveList().addAll(0, Arrays.asList(newElement));
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) "42"));
-        assertThat(change.getAttribute("1").getValue(), is((Object) "4711"));
-        assertThat(change.getAttribute("2").getValue(), is((Object) "Hello World"));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(change.getValues().get(0), is((Object) "42"));
+        assertThat(change.getValues().get(1), is((Object) "4711"));
+        assertThat(change.getValues().get(2), is((Object) "Hello World"));
     }
 
     @Test
@@ -562,22 +565,22 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newElement = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         model.getPrimitiveList().add(1, newElement);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) newElement));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), is((Object) newElement));
     }
 
     @Test
@@ -591,24 +594,24 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String[] newElement = new String[]{"42", "4711", "Hello World"};
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         model.getPrimitiveList().addAll(1, Arrays.asList(newElement));
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) "42"));
-        assertThat(change.getAttribute("1").getValue(), is((Object) "4711"));
-        assertThat(change.getAttribute("2").getValue(), is((Object) "Hello World"));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(change.getValues().get(0), is((Object) "42"));
+        assertThat(change.getValues().get(1), is((Object) "4711"));
+        assertThat(change.getValues().get(2), is((Object) "Hello World"));
     }
 
     @Test
@@ -622,22 +625,22 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newElement = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         model.getPrimitiveList().add(newElement);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) newElement));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), is((Object) newElement));
     }
 
     @Test
@@ -651,34 +654,85 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String[] newElement = new String[]{"42", "4711", "Hello World"};
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         model.getPrimitiveList().addAll(Arrays.asList(newElement));
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) "42"));
-        assertThat(change.getAttribute("1").getValue(), is((Object) "4711"));
-        assertThat(change.getAttribute("2").getValue(), is((Object) "Hello World"));
-    }
-
-    private void removeAllPresentationModelsOfType(ServerModelStore serverModelStore, String type) {
-        List<ServerPresentationModel> toRemove = new ArrayList<>();
-        for(ServerPresentationModel model : serverModelStore.findAllPresentationModelsByType(type)) {
-            toRemove.add(model);
-        }
-        for(ServerPresentationModel model : toRemove) {
-            serverModelStore.remove(model);
-        }
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(change.getValues().get(0), is((Object) "42"));
+        assertThat(change.getValues().get(1), is((Object) "4711"));
+        assertThat(change.getValues().get(2), is((Object) "Hello World"));
+    }
+
+
+    @Test
+    public void batchMutationsAsUser_shouldSendSingleSplice() {
+        // given :
+        final ServerModelStore serverModelStore = createServerModelStore();
+        final BeanManager manager = createBeanManager(serverModelStore);
+
+        final ListReferenceModel model = manager.create(ListReferenceModel.class);
+        final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
+        model.getPrimitiveList().addAll("1", "2", "3", "4");
+        clearListSpliceCommands(serverModelStore);
+
+        // when :
+        model.getPrimitiveList().batch(new Callback<ObservableList<String>>() {
+            @Override
+            public void call(final ObservableList<String> list) {
+                list.remove(1);
+                list.add(1, "42");
+                list.add(2, "4711");
+                list.remove(3);
+            }
+        });
+
+        // then :
+        assertThat(model.getPrimitiveList(), is(Arrays.asList("1", "42", "4711", "4")));
+
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
+        assertThat(changes, hasSize(1));
+
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), is(sourceModel.getId()));
+        assertThat(change.getAttributeName(), is("primitiveList"));
+        assertThat(change.getFrom(), is(1));
+        assertThat(change.getTo(), is(3));
+        assertThat(change.getValues(), is(Arrays.<Object>asList("42", "4711")));
+    }
+
+
+    @Test
+    public void setAllAsUser_shouldOnlySendChangedElements() {
+        // given :
+        final ServerModelStore serverModelStore = createServerModelStore();
+        final BeanManager manager = createBeanManager(serverModelStore);
+
+        final ListReferenceModel model = manager.create(ListReferenceModel.class);
+        model.getPrimitiveList().addAll("1", "2", "3", "4", "5");
+        clearListSpliceCommands(serverModelStore);
+
+        // when :
+        model.getPrimitiveList().setAll("1", "2", "42", "4", "5");
+
+        // then :
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
+        assertThat(changes, hasSize(1));
+
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getFrom(), is(2));
+        assertThat(change.getTo(), is(3));
+        assertThat(change.getValues(), is(Collections.<Object>singletonList("42")));
     }
 
 
@@ -695,21 +749,21 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         model.getPrimitiveList().remove(0);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     // TODO: Enable once ObservableArrayList.sublist() was implemented completely
@@ -723,21 +777,21 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4", "5", "6"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         model.getPrimitiveList().subList(0, 3).clear();
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     @Test
@@ -750,21 +804,21 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         model.getPrimitiveList().remove(1);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 2)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 2)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     // TODO: Enable once ObservableArrayList.sublist() was implemented completely
@@ -778,21 +832,21 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4", "5", "6"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         model.getPrimitiveList().subList(1, 4).clear();
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 4)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 4)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     @Test
@@ -805,21 +859,21 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         model.getPrimitiveList().remove(2);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 2)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 2)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     // TODO: Enable once ObservableArrayList.sublist() was implemented completely
@@ -833,21 +887,21 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4", "5", "6"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         model.getPrimitiveList().subList(3, 6).clear();
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 6)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 6)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
 
@@ -865,22 +919,22 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newValue = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         model.getPrimitiveList().set(0, newValue);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newValue)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), allOf(instanceOf(String.class), is((Object) newValue)));
     }
 
     @Test
@@ -894,22 +948,22 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newValue = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         model.getPrimitiveList().set(1, newValue);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 2)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newValue)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 2)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), allOf(instanceOf(String.class), is((Object) newValue)));
     }
 
     @Test
@@ -923,22 +977,22 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newValue = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         model.getPrimitiveList().set(2, newValue);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands(serverModelStore);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 2)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newValue)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(change.getFrom(), allOf(instanceOf(Integer.class), is((Object) 2)));
+        assertThat(change.getTo(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(change.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(change.getValues().get(0), allOf(instanceOf(String.class), is((Object) newValue)));
     }
 
 
@@ -1448,7 +1502,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newElement = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         new PresentationModelBuilder(serverModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1475,7 +1529,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         new PresentationModelBuilder(serverModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1505,7 +1559,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newElement = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         new PresentationModelBuilder(serverModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1532,7 +1586,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         new PresentationModelBuilder(serverModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1562,7 +1616,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newElement = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         new PresentationModelBuilder(serverModelStore, PlatformRemotingConstants.LIST_SPLICE)
                 .withAttribute("source", sourceModel.getId())
@@ -1587,7 +1641,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         new PresentationModelBuilder(serverModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1620,7 +1674,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         new PresentationModelBuilder(serverModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1646,7 +1700,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4", "5", "6"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         new PresentationModelBuilder(serverModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1672,7 +1726,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         new PresentationModelBuilder(serverModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1698,7 +1752,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4", "5", "6"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         new PresentationModelBuilder(serverModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1724,7 +1778,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         new PresentationModelBuilder(serverModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1750,7 +1804,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4", "5", "6"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         new PresentationModelBuilder(serverModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1781,7 +1835,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newValue = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         new PresentationModelBuilder(serverModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1807,7 +1861,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         new PresentationModelBuilder(serverModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1836,7 +1890,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newValue = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         new PresentationModelBuilder(serverModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1863,7 +1917,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         new PresentationModelBuilder(serverModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1892,7 +1946,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final String newValue = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         new PresentationModelBuilder(serverModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -1920,7 +1974,7 @@ public class TestObservableListSync extends AbstractDolphinBasedTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4"));
-        removeAllPresentationModelsOfType(serverModelStore, PlatformRemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands(serverModelStore);
 
         // when :
         new PresentationModelBuilder(serverModelStore, PlatformRemotingConstants.LIST_SPLICE)
@@ -15,9 +15,13 @@
  */
 package com.canoo.impl.server;
 
+import com.canoo.dp.impl.remoting.DoublePropertyImpl;
+import com.canoo.dp.impl.remoting.IntegerPropertyImpl;
+import com.canoo.dp.impl.server.binding.PropertyBinderImpl;
 import com.canoo.dp.impl.server.legacy.ServerModelStore;
 import com.canoo.impl.server.util.AbstractDolphinBasedTest;
 import com.canoo.impl.server.util.ChildModel;
+import com.canoo.impl.server.util.PrimitiveDataTypesModel;
 import com.canoo.impl.server.util.SimpleAnnotatedTestModel;
 import com.canoo.impl.server.util.SimpleTestModel;
 import com.canoo.impl.server.util.SingleReferenceModel;
@@ -26,9 +30,11 @@ import com.canoo.platform.remoting.BeanManager;
 import com.canoo.platform.remoting.Property;
 import com.canoo.platform.remoting.ValueChangeEvent;
 import com.canoo.platform.remoting.ValueChangeListener;
+import com.canoo.platform.remoting.server.binding.Qualifier;
 import org.testng.annotations.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 
@@ -227,6 +233,67 @@ public class TestPropertyChange extends AbstractDolphinBasedTest {
         assertThat(parentResults.oldValue, nullValue());
     }
 
+    @Test
+    public void testWithPrimitiveModel() {
+        ServerModelStore serverModelStore = createServerModelStore();
+        final BeanManager manager = createBeanManager(serverModelStore);
+
+        final PrimitiveDataTypesModel model = manager.create(PrimitiveDataTypesModel.class);
+        assertThat(model.getDoubleProperty(), instanceOf(DoublePropertyImpl.class));
+        assertThat(model.getIntegerProperty(), instanceOf(IntegerPropertyImpl.class));
+
+        final ListerResults<Double> results = new ListerResults<>();
+        model.getDoubleProperty().onChanged(new ValueChangeListener<Double>() {
+            @Override
+            public void valueChanged(ValueChangeEvent<? extends Double> evt) {
+                results.newValue = evt.getNewValue();
+                results.oldValue = evt.getOldValue();
+                results.listenerCalls++;
+            }
+        });
+
+        model.getDoubleProperty().set(1.5);
+        assertThat(results.listenerCalls, is(1));
+        assertThat(results.newValue, is(1.5));
+        assertThat(results.oldValue, nullValue());
+
+        results.listenerCalls = 0;
+        model.getDoubleProperty().set(Double.valueOf(1.5));
+        assertThat(results.listenerCalls, is(0));
+
+        final DoublePropertyImpl doubleProperty = (DoublePropertyImpl) model.getDoubleProperty();
+        doubleProperty.set(2.5);
+        assertThat(results.listenerCalls, is(1));
+        assertThat(results.newValue, is(2.5));
+        assertThat(results.oldValue, is(1.5));
+        assertThat(doubleProperty.getAsDouble(), is(2.5));
+        assertThat(model.getDoubleProperty().get(), is(2.5));
+
+        results.listenerCalls = 0;
+        model.getDoubleProperty().set(null);
+        assertThat(results.listenerCalls, is(1));
+        assertThat(results.newValue, nullValue());
+        assertThat(results.oldValue, is(2.5));
+        assertThat(doubleProperty.isNull(), is(true));
+        assertThat(doubleProperty.getAsDouble(), is(0.0));
+    }
+
+    @Test
+    public void testQualifierWithPrimitiveModel() {
+        ServerModelStore serverModelStore = createServerModelStore();
+        final BeanManager manager = createBeanManager(serverModelStore);
+
+        final PrimitiveDataTypesModel model1 = manager.create(PrimitiveDataTypesModel.class);
+        final PrimitiveDataTypesModel model2 = manager.create(PrimitiveDataTypesModel.class);
+        final Qualifier<Integer> qualifier = Qualifier.create();
+        final PropertyBinderImpl binder = new PropertyBinderImpl();
+        binder.bind(model1.getIntegerProperty(), qualifier);
+        binder.bind(model2.getIntegerProperty(), qualifier);
+
+        model1.getIntegerProperty().set(42);
+        assertThat(model2.getIntegerProperty().get(), is(42));
+    }
+
     private static class ListerResults<T> {
         public T newValue;
         public T oldValue;
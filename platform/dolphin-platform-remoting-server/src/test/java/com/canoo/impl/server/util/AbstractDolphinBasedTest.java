@@ -26,6 +26,7 @@ import com.canoo.dp.impl.remoting.EventDispatcher;
 import com.canoo.dp.impl.remoting.ListMapper;
 import com.canoo.dp.impl.remoting.PresentationModelBuilderFactory;
 import com.canoo.dp.impl.remoting.collections.ListMapperImpl;
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
 import com.canoo.dp.impl.remoting.legacy.communication.Command;
 import com.canoo.dp.impl.remoting.legacy.util.DirectExecutor;
 import com.canoo.dp.impl.server.config.RemotingConfiguration;
@@ -36,14 +37,20 @@ import com.canoo.dp.impl.server.legacy.ServerModelStore;
 import com.canoo.dp.impl.server.model.ServerBeanBuilderImpl;
 import com.canoo.dp.impl.server.model.ServerEventDispatcher;
 import com.canoo.dp.impl.server.model.ServerPresentationModelBuilderFactory;
+import com.canoo.platform.core.functional.Callback;
 import com.canoo.platform.remoting.BeanManager;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public abstract class AbstractDolphinBasedTest {
 
+    private final Map<ServerModelStore, List<Command>> responses = new IdentityHashMap<>();
+
     protected ServerModelStore createServerModelStore() {
         DefaultInMemoryConfig config = new DefaultInMemoryConfig(DirectExecutor.getInstance());
         config.getServerConnector().registerDefaultActions();
@@ -51,10 +58,39 @@ public abstract class AbstractDolphinBasedTest {
         ServerModelStore store = config.getServerModelStore();
         List<Command> commands = new ArrayList<>();
         store.setCurrentResponse(commands);
+        responses.put(store, commands);
 
         return store;
     }
 
+    protected List<ListSpliceCommand> getListSpliceCommands(final ServerModelStore serverModelStore) {
+        final List<ListSpliceCommand> listSpliceCommands = new ArrayList<>();
+        for (final Command command : responses.get(serverModelStore)) {
+            if (command instanceof ListSpliceCommand) {
+                listSpliceCommands.add((ListSpliceCommand) command);
+            }
+        }
+        return listSpliceCommands;
+    }
+
+    protected void clearListSpliceCommands(final ServerModelStore serverModelStore) {
+        final Iterator<Command> iterator = responses.get(serverModelStore).iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() instanceof ListSpliceCommand) {
+                iterator.remove();
+            }
+        }
+    }
+
+    protected ListMapper createListMapper(final ServerModelStore serverModelStore, final ClassRepository classRepository, final BeanRepository beanRepository, final PresentationModelBuilderFactory builderFactory, final EventDispatcher dispatcher) {
+        return new ListMapperImpl(serverModelStore, classRepository, beanRepository, builderFactory, dispatcher, new Callback<ListSpliceCommand>() {
+            @Override
+            public void call(final ListSpliceCommand listSpliceCommand) {
+                serverModelStore.addResponseCommand(listSpliceCommand);
+            }
+        });
+    }
+
     protected EventDispatcher createEventDispatcher(ServerModelStore serverModelStore) {
         return new ServerEventDispatcher(serverModelStore);
     }
@@ -67,7 +103,7 @@ public abstract class AbstractDolphinBasedTest {
         final Converters converters = new Converters(beanRepository);
         final PresentationModelBuilderFactory builderFactory = new ServerPresentationModelBuilderFactory(serverModelStore);
         final ClassRepository classRepository = new ClassRepositoryImpl(serverModelStore, converters, builderFactory);
-        final ListMapper listMapper = new ListMapperImpl(serverModelStore, classRepository, beanRepository, builderFactory, dispatcher);
+        final ListMapper listMapper = createListMapper(serverModelStore, classRepository, beanRepository, builderFactory, dispatcher);
         final RemotingConfiguration configurationForGc = new RemotingConfiguration();
         final GarbageCollector garbageCollector = new GarbageCollector(configurationForGc, new GarbageCollectionCallback() {
             @Override
@@ -86,7 +122,7 @@ public abstract class AbstractDolphinBasedTest {
         final Converters converters = new Converters(beanRepository);
         final PresentationModelBuilderFactory builderFactory = new ServerPresentationModelBuilderFactory(serverModelStore);
         final ClassRepository classRepository = new ClassRepositoryImpl(serverModelStore, converters, builderFactory);
-        final ListMapper listMapper = new ListMapperImpl(serverModelStore, classRepository, beanRepository, builderFactory, dispatcher);
+        final ListMapper listMapper = createListMapper(serverModelStore, classRepository, beanRepository, builderFactory, dispatcher);
         final RemotingConfiguration configurationForGc = new RemotingConfiguration();
         final GarbageCollector garbageCollector = new GarbageCollector(configurationForGc, new GarbageCollectionCallback() {
             @Override
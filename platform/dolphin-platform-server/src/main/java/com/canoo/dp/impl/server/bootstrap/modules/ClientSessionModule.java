@@ -76,6 +76,7 @@ public class ClientSessionModule extends AbstractBaseModule {
         final String[] endpoints = endpointList.toArray(new String[endpointList.size()]);
         final ClientSessionFilter filter = new ClientSessionFilter(clientSessionManager);
         final FilterRegistration.Dynamic createdFilter = servletContext.addFilter(DOLPHIN_CLIENT_ID_FILTER_NAME, filter);
+        createdFilter.setAsyncSupported(true);
         createdFilter.addMappingForUrlPatterns(EnumSet.allOf(DispatcherType.class), true, endpoints);
 
         final HttpSessionCleanerListener sessionCleaner = new HttpSessionCleanerListener(clientSessionManager);
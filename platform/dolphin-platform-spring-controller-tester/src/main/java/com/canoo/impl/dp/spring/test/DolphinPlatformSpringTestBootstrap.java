@@ -18,10 +18,12 @@ package com.canoo.impl.dp.spring.test;
 import com.canoo.dp.impl.platform.core.Assert;
 import com.canoo.dp.impl.remoting.BeanManagerImpl;
 import com.canoo.dp.impl.server.binding.PropertyBinderImpl;
+import com.canoo.dp.impl.server.binding.VirtualListBinderImpl;
 import com.canoo.dp.impl.server.client.ClientSessionLifecycleHandlerImpl;
 import com.canoo.dp.impl.server.context.ClientSessionExecutorImpl;
 import com.canoo.dp.impl.server.context.DolphinContext;
 import com.canoo.dp.impl.server.context.DolphinContextProvider;
+import com.canoo.dp.impl.server.context.KeyedExecutor;
 import com.canoo.dp.impl.server.event.DefaultDolphinEventBus;
 import com.canoo.dp.impl.server.spring.ClientScopeImpl;
 import com.canoo.platform.remoting.BeanManager;
@@ -29,6 +31,7 @@ import com.canoo.platform.remoting.client.ClientContext;
 import com.canoo.platform.remoting.server.ClientSessionExecutor;
 import com.canoo.platform.remoting.server.RemotingContext;
 import com.canoo.platform.remoting.server.binding.PropertyBinder;
+import com.canoo.platform.remoting.server.binding.VirtualListBinder;
 import com.canoo.platform.remoting.server.event.DolphinEventBus;
 import com.canoo.platform.server.client.ClientSession;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
@@ -39,7 +42,9 @@ import org.springframework.context.annotation.Scope;
 import org.springframework.web.context.WebApplicationContext;
 
 import javax.servlet.http.HttpSession;
+import java.util.concurrent.Callable;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 @Configuration
 public class DolphinPlatformSpringTestBootstrap {
@@ -90,9 +95,10 @@ public class DolphinPlatformSpringTestBootstrap {
 
     @Bean(name = "remotingContext")
     @Scope(ConfigurableBeanFactory.SCOPE_SINGLETON)
-    protected RemotingContext createRemotingContext(final TestConfiguration testConfiguration, final PropertyBinder propertyBinder, final DolphinEventBus eventBus) {
+    protected RemotingContext createRemotingContext(final TestConfiguration testConfiguration, final PropertyBinder propertyBinder, final VirtualListBinder virtualListBinder, final DolphinEventBus eventBus) {
         Assert.requireNonNull(testConfiguration, "testConfiguration");
         Assert.requireNonNull(propertyBinder, "propertyBinder");
+        Assert.requireNonNull(virtualListBinder, "virtualListBinder");
         Assert.requireNonNull(eventBus, "eventBus");
         return new RemotingContext() {
             @Override
@@ -107,6 +113,11 @@ public class DolphinPlatformSpringTestBootstrap {
                     public void execute(Runnable command) {
                         testConfiguration.getDolphinTestContext().runLater(command);
                     }
+                }, new KeyedExecutor() {
+                    @Override
+                    public <T> Future<T> execute(Object key, Callable<T> task) {
+                        return testConfiguration.getDolphinTestContext().callLater(key, task);
+                    }
                 });
             }
 
@@ -115,6 +126,11 @@ public class DolphinPlatformSpringTestBootstrap {
                 return propertyBinder;
             }
 
+            @Override
+            public VirtualListBinder getVirtualListBinder() {
+                return virtualListBinder;
+            }
+
             @Override
             public BeanManager getBeanManager() {
                 return testConfiguration.getDolphinTestContext().getBeanManager();
@@ -170,6 +186,12 @@ public class DolphinPlatformSpringTestBootstrap {
         return new PropertyBinderImpl();
     }
 
+    @Bean(name = "virtualListBinder")
+    @Scope(ConfigurableBeanFactory.SCOPE_SINGLETON)
+    protected VirtualListBinder createVirtualListBinder() {
+        return new VirtualListBinderImpl();
+    }
+
     @Bean(name = "customScopeConfigurer")
     public static CustomScopeConfigurer createClientScope(final ClientSession clientSession) {
         Assert.requireNonNull(clientSession, "clientSession");